@@ -0,0 +1,63 @@
+// Comparación hilos de plataforma vs hilos virtuales (ver BACKEND_DOCUMENTATION.md, sección 4.5).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e PROFESOR_EMAIL=... -e PROFESOR_PASSWORD=... \
+//          -e ANO_ESCOLAR_ID=... -e BLOQUE_ID=... -e FECHA=2026-03-10 \
+//          --summary-export=target/k6-plataforma.json loadtest/hilos-virtuales.js
+//
+// Se corre dos veces contra la misma base y el mismo DB_POOL_MAX: una con el perfil del ambiente y otra
+// agregando ",virtual". El resumen exportado trae p95/p99 por endpoint (tag "endpoint") y la tasa de 503.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS_MAX = parseInt(__ENV.VUS_MAX || '400', 10);
+
+export const options = {
+    scenarios: {
+        rampa: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS_MAX / 4 },
+                { duration: '1m', target: VUS_MAX },
+                { duration: '2m', target: VUS_MAX },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        'http_req_duration{endpoint:mis-clases-hoy}': ['p(95)<500'],
+        'http_req_duration{endpoint:asistencia-clase}': ['p(95)<500'],
+        'checks': ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    const respuesta = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({
+        identificador: __ENV.PROFESOR_EMAIL,
+        password: __ENV.PROFESOR_PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(respuesta, { 'login 200': (r) => r.status === 200 });
+    return { token: respuesta.json('accessToken') };
+}
+
+export default function (datos) {
+    const headers = {
+        Authorization: `Bearer ${datos.token}`,
+        'X-Ano-Escolar-Id': __ENV.ANO_ESCOLAR_ID,
+    };
+
+    const clases = http.get(`${BASE_URL}/api/profesor/mis-clases-hoy`, {
+        headers,
+        tags: { endpoint: 'mis-clases-hoy' },
+    });
+    check(clases, { 'mis-clases-hoy 200': (r) => r.status === 200 });
+
+    const asistencia = http.get(
+        `${BASE_URL}/api/asistencia/clase?bloqueHorarioId=${__ENV.BLOQUE_ID}&fecha=${__ENV.FECHA}`,
+        { headers, tags: { endpoint: 'asistencia-clase' } },
+    );
+    // 404 es válido: el bloque puede no tener asistencia tomada en esa fecha.
+    check(asistencia, { 'asistencia-clase 200/404': (r) => r.status === 200 || r.status === 404 });
+}
@@ -0,0 +1,165 @@
+package com.schoolmate.api.benchmark;
+
+import com.schoolmate.api.common.cumplimiento.BloqueCumplimiento;
+import com.schoolmate.api.common.jornada.OcupacionProfesor;
+import com.schoolmate.api.common.rut.RutNormalizer;
+import com.schoolmate.api.entity.Alumno;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Fixtures con el tamaño de un colegio de ~2.000 alumnos: 45 cursos de 45 alumnos, 60 profesores y 8 bloques
+ * de clase diarios por curso. Todo se genera con semilla fija para que las corridas sean comparables entre
+ * commits.
+ */
+public final class ColegioSintetico {
+
+    public static final int CURSOS = 45;
+    public static final int ALUMNOS_POR_CURSO = 45;
+    public static final int PROFESORES = 60;
+    public static final int BLOQUES_POR_DIA = 8;
+    public static final int DURACION_BLOQUE_MINUTOS = 45;
+    public static final LocalDate HOY = LocalDate.of(2026, 6, 10);
+    public static final LocalTime INICIO_JORNADA = LocalTime.of(8, 0);
+
+    private static final long SEMILLA = 2026L;
+    private static final String[] NOMBRES = {"Sofía", "Mateo", "Isidora", "Benjamín", "Florencia", "Vicente"};
+    private static final String[] APELLIDOS = {"González", "Muñoz", "Rojas", "Díaz", "Pérez", "Soto", "Contreras"};
+    private static final String[] MATERIAS = {"Lenguaje", "Matemática", "Historia", "Ciencias", "Inglés", "Artes"};
+
+    private ColegioSintetico() {
+    }
+
+    public static UUID uuid(String tipo, int indice) {
+        return UUID.nameUUIDFromBytes((tipo + ":" + indice).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Bloques de clase de un día hábil para todos los cursos, ordenados por curso y número de bloque.
+     */
+    public static List<BloqueCumplimiento> bloquesDelDia() {
+        List<BloqueCumplimiento> bloques = new ArrayList<>(CURSOS * BLOQUES_POR_DIA);
+        for (int curso = 0; curso < CURSOS; curso++) {
+            for (int numero = 0; numero < BLOQUES_POR_DIA; numero++) {
+                int profesor = (curso * BLOQUES_POR_DIA + numero) % PROFESORES;
+                LocalTime inicio = INICIO_JORNADA.plusMinutes((long) numero * DURACION_BLOQUE_MINUTOS);
+                bloques.add(new BloqueCumplimiento(
+                    uuid("bloque", curso * BLOQUES_POR_DIA + numero),
+                    uuid("curso", curso),
+                    (curso / 5 + 1) + "° " + (char) ('A' + curso % 5),
+                    MATERIAS[numero % MATERIAS.length],
+                    uuid("profesor", profesor),
+                    NOMBRES[profesor % NOMBRES.length],
+                    APELLIDOS[profesor % APELLIDOS.length] + " " + profesor,
+                    inicio,
+                    inicio.plusMinutes(DURACION_BLOQUE_MINUTOS)
+                ));
+            }
+        }
+        return bloques;
+    }
+
+    /**
+     * Bloques de clase con profesor de una semana (lunes a viernes) para {@code cursos} cursos. En cada bloque
+     * los cursos reciben profesores distintos, así que ningún profesor queda con choques si
+     * {@code profesores >= cursos}.
+     */
+    public static List<OcupacionProfesor> ocupacionesSemana(int cursos, int profesores) {
+        List<OcupacionProfesor> ocupaciones = new ArrayList<>(cursos * BLOQUES_POR_DIA * 5);
+        for (int dia = 1; dia <= 5; dia++) {
+            for (int curso = 0; curso < cursos; curso++) {
+                for (int numero = 0; numero < BLOQUES_POR_DIA; numero++) {
+                    int profesor = (curso + numero * 7 + dia * 13) % profesores;
+                    LocalTime inicio = INICIO_JORNADA.plusMinutes((long) numero * DURACION_BLOQUE_MINUTOS);
+                    ocupaciones.add(new OcupacionProfesor(
+                        uuid("bloque-semana", (dia * cursos + curso) * BLOQUES_POR_DIA + numero),
+                        uuid("curso", curso),
+                        (curso / 5 + 1) + "° " + (char) ('A' + curso % 5),
+                        MATERIAS[numero % MATERIAS.length],
+                        uuid("profesor", profesor),
+                        dia,
+                        inicio,
+                        inicio.plusMinutes(DURACION_BLOQUE_MINUTOS)
+                    ));
+                }
+            }
+        }
+        return ocupaciones;
+    }
+
+    /**
+     * Asistencia tomada para una fracción de los bloques que ya comenzaron a la hora indicada.
+     */
+    public static Map<UUID, LocalDateTime> asistenciaTomada(
+        List<BloqueCumplimiento> bloques,
+        LocalTime ahora,
+        double fraccionTomada
+    ) {
+        Random random = new Random(SEMILLA);
+        Map<UUID, LocalDateTime> tomadas = new HashMap<>();
+        for (BloqueCumplimiento bloque : bloques) {
+            if (!bloque.horaInicio().isAfter(ahora) && random.nextDouble() < fraccionTomada) {
+                tomadas.put(bloque.bloqueId(), HOY.atTime(bloque.horaInicio().plusMinutes(5)));
+            }
+        }
+        return tomadas;
+    }
+
+    public static List<Alumno> alumnosDeCurso(int curso) {
+        List<Alumno> alumnos = new ArrayList<>(ALUMNOS_POR_CURSO);
+        List<String> ruts = ruts(ALUMNOS_POR_CURSO, SEMILLA + curso);
+        for (int i = 0; i < ALUMNOS_POR_CURSO; i++) {
+            int indice = curso * ALUMNOS_POR_CURSO + i;
+            alumnos.add(Alumno.builder()
+                .id(uuid("alumno", indice))
+                .rut(RutNormalizer.normalize(ruts.get(i)))
+                .nombre(NOMBRES[indice % NOMBRES.length])
+                .apellido(APELLIDOS[indice % APELLIDOS.length])
+                .fechaNacimiento(LocalDate.of(2012 + curso / 5, 1 + indice % 12, 1 + indice % 28))
+                .activo(true)
+                .build());
+        }
+        return alumnos;
+    }
+
+    /**
+     * RUTs válidos con el formato que llega desde el frontend ({@code 12.345.678-K}).
+     */
+    public static List<String> ruts(int cantidad) {
+        return ruts(cantidad, SEMILLA);
+    }
+
+    private static List<String> ruts(int cantidad, long semilla) {
+        Random random = new Random(semilla);
+        List<String> ruts = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            int cuerpo = 5_000_000 + random.nextInt(20_000_000);
+            ruts.add(String.format(Locale.ROOT, "%,d", cuerpo).replace(',', '.') + "-" + digitoVerificador(cuerpo));
+        }
+        return ruts;
+    }
+
+    static char digitoVerificador(int cuerpo) {
+        int suma = 0;
+        int factor = 2;
+        for (int resto = cuerpo; resto > 0; resto /= 10) {
+            suma += (resto % 10) * factor;
+            factor = factor == 7 ? 2 : factor + 1;
+        }
+        int dv = 11 - (suma % 11);
+        if (dv == 11) {
+            return '0';
+        }
+        return dv == 10 ? 'K' : (char) ('0' + dv);
+    }
+}
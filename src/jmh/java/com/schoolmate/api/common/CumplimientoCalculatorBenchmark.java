@@ -0,0 +1,77 @@
+package com.schoolmate.api.common;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import com.schoolmate.api.common.cumplimiento.BloqueCumplimiento;
+import com.schoolmate.api.enums.EstadoCumplimiento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CumplimientoCalculator#calcularEstado} sobre todos los bloques de un día (45 cursos x 8 bloques), tal
+ * como lo recorre el dashboard admin. {@code ahora} fija la mezcla de estados: antes de la jornada, a media
+ * mañana y al cierre.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ColegioSintetico.CURSOS * ColegioSintetico.BLOQUES_POR_DIA)
+public class CumplimientoCalculatorBenchmark {
+
+    @Param({"07:30", "11:10", "16:00"})
+    public String ahora;
+
+    private LocalDate hoy;
+    private LocalTime horaActual;
+    private LocalTime[] inicios;
+    private LocalTime[] fines;
+    private boolean[] tomadas;
+
+    @Setup
+    public void setUp() {
+        hoy = ColegioSintetico.HOY;
+        horaActual = LocalTime.parse(ahora);
+        List<BloqueCumplimiento> bloques = ColegioSintetico.bloquesDelDia();
+        Map<UUID, ?> asistencia = ColegioSintetico.asistenciaTomada(bloques, horaActual, 0.85);
+
+        inicios = new LocalTime[bloques.size()];
+        fines = new LocalTime[bloques.size()];
+        tomadas = new boolean[bloques.size()];
+        for (int i = 0; i < bloques.size(); i++) {
+            BloqueCumplimiento bloque = bloques.get(i);
+            inicios[i] = bloque.horaInicio();
+            fines[i] = bloque.horaFin();
+            tomadas[i] = asistencia.containsKey(bloque.bloqueId());
+        }
+    }
+
+    @Benchmark
+    public void calcularEstado(Blackhole blackhole) {
+        for (int i = 0; i < inicios.length; i++) {
+            EstadoCumplimiento estado = CumplimientoCalculator.calcularEstado(
+                hoy, hoy, horaActual, inicios[i], fines[i], tomadas[i]
+            );
+            blackhole.consume(estado);
+        }
+    }
+}
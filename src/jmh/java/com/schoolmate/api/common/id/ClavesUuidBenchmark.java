@@ -0,0 +1,150 @@
+package com.schoolmate.api.common.id;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserción de asistencia con claves v4 (aleatorias) y v7 ({@link UuidV7}) sobre una tabla con la forma de
+ * {@code registro_asistencia}: PK por id y única por (clase, alumno), con la clase también generada con el tipo
+ * de clave medido. Antes de medir se cargan {@code filasIniciales} filas para que los índices ya no quepan en
+ * caché; cada operación inserta una sesión de clase completa ({@link ColegioSintetico#ALUMNOS_POR_CURSO} filas)
+ * en una transacción, y los valores reportados son por fila. Al terminar se imprime el tamaño de la tabla y sus
+ * índices.
+ * <p>
+ * Por defecto usa un H2 en archivo bajo {@code target/}, que sirve para comparar tendencias. Para números de
+ * producción se apunta a un PostgreSQL de prueba con las variables de entorno {@code BENCHMARK_JDBC_URL},
+ * {@code BENCHMARK_JDBC_USUARIO} y {@code BENCHMARK_JDBC_CLAVE} (el fork de JMH las hereda, a diferencia de
+ * las propiedades {@code -D} de Maven); la tabla se crea y se elimina.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@OperationsPerInvocation(ColegioSintetico.ALUMNOS_POR_CURSO)
+public class ClavesUuidBenchmark {
+
+    private static final String TABLA = "bench_registro_asistencia";
+
+    private static final String INSERTAR_SQL =
+        "INSERT INTO " + TABLA + " (id, asistencia_clase_id, alumno_id, estado) VALUES (?, ?, ?, ?)";
+
+    @Param({"V4", "V7"})
+    public String tipoClave;
+
+    @Param({"2000000"})
+    public int filasIniciales;
+
+    private Connection conexion;
+    private PreparedStatement insertar;
+    private UUID[] alumnos;
+    private boolean postgres;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = entorno("BENCHMARK_JDBC_URL",
+            "jdbc:h2:file:./target/benchmark-claves-uuid-" + tipoClave + ";MODE=PostgreSQL");
+        conexion = DriverManager.getConnection(url,
+            entorno("BENCHMARK_JDBC_USUARIO", "sa"),
+            entorno("BENCHMARK_JDBC_CLAVE", ""));
+        postgres = new MotorBaseDatos(new JdbcTemplate(new SingleConnectionDataSource(conexion, true))).esPostgres();
+
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLA);
+            statement.execute("""
+                CREATE TABLE %s (
+                    id                    uuid NOT NULL,
+                    asistencia_clase_id   uuid NOT NULL,
+                    alumno_id             uuid NOT NULL,
+                    estado                varchar(20) NOT NULL,
+                    CONSTRAINT %s_pkey PRIMARY KEY (id),
+                    CONSTRAINT uk_%s_clase_alumno UNIQUE (asistencia_clase_id, alumno_id)
+                )
+                """.formatted(TABLA, TABLA, TABLA));
+        }
+
+        alumnos = new UUID[ColegioSintetico.ALUMNOS_POR_CURSO];
+        for (int i = 0; i < alumnos.length; i++) {
+            alumnos[i] = ColegioSintetico.uuid("alumno", i);
+        }
+
+        conexion.setAutoCommit(false);
+        insertar = conexion.prepareStatement(INSERTAR_SQL);
+        for (int filas = 0; filas < filasIniciales; filas += alumnos.length) {
+            insertarSesion();
+        }
+    }
+
+    @Benchmark
+    public void insertarSesion() throws SQLException {
+        UUID claseId = clave();
+        for (int i = 0; i < alumnos.length; i++) {
+            insertar.setObject(1, clave());
+            insertar.setObject(2, claseId);
+            insertar.setObject(3, alumnos[i]);
+            insertar.setString(4, i % 10 == 0 ? "AUSENTE" : "PRESENTE");
+            insertar.addBatch();
+        }
+        insertar.executeBatch();
+        conexion.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = conexion.createStatement()) {
+            if (postgres) {
+                imprimirTamano(statement, "tabla", "SELECT pg_relation_size('" + TABLA + "')");
+                imprimirTamano(statement, "pk", "SELECT pg_relation_size('" + TABLA + "_pkey')");
+                imprimirTamano(statement, "unica", "SELECT pg_relation_size('uk_" + TABLA + "_clase_alumno')");
+            } else {
+                imprimirTamano(statement, "tabla+indices", "SELECT DISK_SPACE_USED('" + TABLA + "')");
+            }
+            statement.execute("DROP TABLE " + TABLA);
+            conexion.commit();
+        } finally {
+            conexion.close();
+        }
+    }
+
+    private UUID clave() {
+        return "V7".equals(tipoClave) ? UuidV7.generar() : UUID.randomUUID();
+    }
+
+    private static String entorno(String nombre, String porDefecto) {
+        String valor = System.getenv(nombre);
+        return valor == null || valor.isBlank() ? porDefecto : valor;
+    }
+
+    private void imprimirTamano(Statement statement, String nombre, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            System.out.printf("%n[%s] %s: %,d bytes%n", tipoClave, nombre, rs.getLong(1));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.schoolmate.api.common.jornada;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Choques y carga horaria de 100 profesores para un bloque, en un colegio de 60 cursos (2.400 bloques con
+ * profesor en la semana), como lo necesita {@code ObtenerProfesoresDisponibles}.
+ * <ul>
+ *     <li>{@code conIndice}: consultas sobre {@link HorarioProfesoresAno} ya cargado (el caso habitual).</li>
+ *     <li>{@code recorriendoBloques}: lo que hacía el caso de uso con las filas de sus dos consultas: agrupar
+ *     minutos y filtrar choques. No incluye las idas a la base ni la hidratación de las entidades, así que es una
+ *     cota inferior del costo anterior.</li>
+ *     <li>{@code construirIndice}: carga en frío, una vez por año escolar y por {@link IndiceHorarioProfesores#VIGENCIA_MAXIMA}.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HorarioProfesoresBenchmark {
+
+    private static final int CURSOS = 60;
+    private static final int PROFESORES = 100;
+
+    private List<OcupacionProfesor> ocupaciones;
+    private List<UUID> profesorIds;
+    private HorarioProfesoresAno horario;
+    private OcupacionProfesor consultado;
+
+    @Setup
+    public void setUp() {
+        ocupaciones = ColegioSintetico.ocupacionesSemana(CURSOS, PROFESORES);
+        profesorIds = ocupaciones.stream().map(OcupacionProfesor::profesorId).distinct().toList();
+        horario = HorarioProfesoresAno.de(ocupaciones);
+        consultado = ocupaciones.get(ocupaciones.size() / 2);
+    }
+
+    @Benchmark
+    public void conIndice(Blackhole blackhole) {
+        for (UUID profesorId : profesorIds) {
+            blackhole.consume(horario.colisiones(profesorId, consultado.diaSemana(), consultado.horaInicio(),
+                consultado.horaFin(), consultado.bloqueId()));
+            blackhole.consume(horario.minutosAsignados(profesorId));
+        }
+    }
+
+    @Benchmark
+    public void recorriendoBloques(Blackhole blackhole) {
+        Map<UUID, Long> minutos = ocupaciones.stream()
+            .collect(Collectors.groupingBy(
+                OcupacionProfesor::profesorId,
+                Collectors.summingLong(o -> Duration.between(o.horaInicio(), o.horaFin()).toMinutes())));
+        Map<UUID, List<OcupacionProfesor>> colisiones = ocupaciones.stream()
+            .filter(o -> o.diaSemana().equals(consultado.diaSemana())
+                && o.horaInicio().isBefore(consultado.horaFin())
+                && o.horaFin().isAfter(consultado.horaInicio())
+                && !o.bloqueId().equals(consultado.bloqueId()))
+            .collect(Collectors.groupingBy(OcupacionProfesor::profesorId));
+        for (UUID profesorId : profesorIds) {
+            blackhole.consume(colisiones.getOrDefault(profesorId, List.of()));
+            blackhole.consume(minutos.getOrDefault(profesorId, 0L));
+        }
+    }
+
+    @Benchmark
+    public HorarioProfesoresAno construirIndice() {
+        return HorarioProfesoresAno.de(ocupaciones);
+    }
+}
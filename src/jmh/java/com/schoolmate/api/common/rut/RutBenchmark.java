@@ -0,0 +1,68 @@
+package com.schoolmate.api.common.rut;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Normalización y validación de formato de los RUT de un colegio completo (p. ej. una importación masiva de
+ * alumnos). Los valores reportados son por RUT.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(RutBenchmark.RUTS)
+public class RutBenchmark {
+
+    static final int RUTS = 2_000;
+
+    private String[] conFormato;
+    private String[] normalizados;
+    private RutValidationService rutValidationService;
+
+    @Setup
+    public void setUp() {
+        List<String> ruts = ColegioSintetico.ruts(RUTS);
+        conFormato = ruts.toArray(String[]::new);
+        normalizados = ruts.stream().map(RutNormalizer::normalize).toArray(String[]::new);
+        // validarFormatoRut no consulta repositorios.
+        rutValidationService = new RutValidationService(null, null, null);
+    }
+
+    @Benchmark
+    public void normalizar(Blackhole blackhole) {
+        for (String rut : conFormato) {
+            blackhole.consume(RutNormalizer.normalize(rut));
+        }
+    }
+
+    @Benchmark
+    public void validarFormato() {
+        for (String rut : normalizados) {
+            rutValidationService.validarFormatoRut(rut);
+        }
+    }
+
+    @Benchmark
+    public void normalizarYValidar() {
+        for (String rut : conFormato) {
+            rutValidationService.validarFormatoRut(RutNormalizer.normalize(rut));
+        }
+    }
+}
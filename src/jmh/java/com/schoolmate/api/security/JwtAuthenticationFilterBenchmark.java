@@ -0,0 +1,125 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.common.time.FixedClockProvider;
+import com.schoolmate.api.enums.Rol;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de {@link JwtAuthenticationFilter} con el mismo access token repetido: cada operación pasa por el
+ * filtro completo (extracción de claims, principal y {@code Authentication} en el contexto de seguridad).
+ * <ul>
+ *     <li>{@code variante=legacy}: clave y parser construidos en cada request (comportamiento anterior).</li>
+ *     <li>{@code variante=sinCache}: clave y parser compartidos, sin cache de principal.</li>
+ *     <li>{@code variante=conCache}: token ya verificado se resuelve desde la cache.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            "c2Nob29sbWF0ZS1kZXYtc2VjcmV0LWtleS1xdWUtZGViZS10ZW5lci1hbC1tZW5vcy0yNTYtYml0cy1wYXJhLWJhc2U2NC1lbmNvZGluZw==";
+
+    @Param({"legacy", "sinCache", "conCache"})
+    public String variante;
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(3_600_000L);
+        JwtTokenProvider provider = switch (variante) {
+            case "legacy" -> new ProveedorLegacy(config);
+            case "sinCache" -> new JwtTokenProvider(config, 0);
+            default -> new JwtTokenProvider(config, 10_000);
+        };
+        token = provider.generateToken(new UserPrincipal(
+                UUID.randomUUID(),
+                "profesor@schoolmate.cl",
+                "",
+                Rol.PROFESOR,
+                UUID.randomUUID(),
+                null,
+                "Carla",
+                "Rojas"
+        ));
+        filter = new JwtAuthenticationFilter(
+                provider,
+                new SecurityErrorResponseWriter(new FixedClockProvider(), new StaticMessageSource())
+        );
+    }
+
+    @Benchmark
+    public void filtro(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profesor/mis-clases-hoy");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * {@link JwtTokenProvider#getUserPrincipalFromToken} como era antes: decodifica la clave y arma el parser en
+     * cada llamada, sin cache.
+     */
+    private static final class ProveedorLegacy extends JwtTokenProvider {
+
+        private ProveedorLegacy(JwtConfig config) {
+            super(config, 0);
+        }
+
+        @Override
+        public UserPrincipal getUserPrincipalFromToken(String token) {
+            Claims claims = Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            return new UserPrincipal(
+                    uuid(claims.get("id", String.class)),
+                    claims.getSubject(),
+                    "",
+                    Rol.valueOf(claims.get("rol", String.class)),
+                    uuid(claims.get("profesorId", String.class)),
+                    uuid(claims.get("apoderadoId", String.class)),
+                    claims.get("nombre", String.class),
+                    claims.get("apellido", String.class)
+            );
+        }
+
+        private static UUID uuid(String valor) {
+            return valor == null || valor.isBlank() ? null : UUID.fromString(valor);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import com.schoolmate.api.enums.Rol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación y lectura de access tokens con {@link JwtTokenProvider} para la comunidad de un colegio de ~2.000
+ * alumnos (un usuario por apoderado más el personal). La lectura rota entre todos los tokens para que
+ * {@code cacheEntries} compare el parseo completo contra la cache de principales en régimen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "c2Nob29sbWF0ZS1kZXYtc2VjcmV0LWtleS1xdWUtZGViZS10ZW5lci1hbC1tZW5vcy0yNTYtYml0cy1wYXJhLWJhc2U2NC1lbmNvZGluZw==";
+    private static final int USUARIOS = 2_100;
+
+    @Param({"0", "10000"})
+    public int cacheEntries;
+
+    private JwtTokenProvider provider;
+    private UserPrincipal[] usuarios;
+    private String[] tokens;
+    private int siguiente;
+
+    @Setup
+    public void setUp() {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(3_600_000L);
+        provider = new JwtTokenProvider(config, cacheEntries);
+
+        usuarios = new UserPrincipal[USUARIOS];
+        tokens = new String[USUARIOS];
+        for (int i = 0; i < USUARIOS; i++) {
+            boolean profesor = i % 21 == 0;
+            usuarios[i] = new UserPrincipal(
+                    ColegioSintetico.uuid("usuario", i),
+                    "usuario" + i + "@schoolmate.cl",
+                    "",
+                    profesor ? Rol.PROFESOR : Rol.APODERADO,
+                    profesor ? ColegioSintetico.uuid("profesor", i) : null,
+                    profesor ? null : ColegioSintetico.uuid("apoderado", i),
+                    "Nombre" + i,
+                    "Apellido" + i
+            );
+            tokens[i] = provider.generateToken(usuarios[i]);
+        }
+    }
+
+    @Benchmark
+    public String generar() {
+        return provider.generateToken(usuarios[avanzar()]);
+    }
+
+    @Benchmark
+    public UserPrincipal leerPrincipal() {
+        return provider.getUserPrincipalFromToken(tokens[avanzar()]);
+    }
+
+    private int avanzar() {
+        int actual = siguiente;
+        siguiente = actual + 1 == USUARIOS ? 0 : actual + 1;
+        return actual;
+    }
+}
@@ -0,0 +1,97 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import com.schoolmate.api.dto.request.RegistroAlumnoRequest;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.AsistenciaClase;
+import com.schoolmate.api.enums.EstadoAsistencia;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@code conciliarRegistros} para un curso de 45 alumnos, usado por el guardado individual y en lote.
+ * <ul>
+ *     <li>{@code primeraToma}: asistencia nueva, se crean los 45 registros.</li>
+ *     <li>{@code edicion}: la asistencia ya existe y el request alterna entre dos versiones que cambian el estado
+ *     de 6 alumnos y quitan/agregan uno, como al corregir una lista durante la ventana de edición.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConciliarRegistrosBenchmark {
+
+    private static final LocalDateTime AHORA = ColegioSintetico.HOY.atTime(10, 5);
+
+    private Map<UUID, Alumno> alumnosActivosById;
+    private List<RegistroAlumnoRequest> todosPresentes;
+    private List<RegistroAlumnoRequest> conCorrecciones;
+    private AsistenciaClase asistenciaEnEdicion;
+    private boolean alternar;
+
+    @Setup
+    public void setUp() {
+        List<Alumno> alumnos = ColegioSintetico.alumnosDeCurso(0);
+        alumnosActivosById = alumnos.stream().collect(Collectors.toMap(Alumno::getId, Function.identity()));
+
+        todosPresentes = new ArrayList<>();
+        conCorrecciones = new ArrayList<>();
+        for (int i = 0; i < alumnos.size(); i++) {
+            UUID alumnoId = alumnos.get(i).getId();
+            todosPresentes.add(registro(alumnoId, EstadoAsistencia.PRESENTE));
+            if (i == 0) {
+                continue;
+            }
+            conCorrecciones.add(registro(alumnoId, i % 7 == 0 ? EstadoAsistencia.AUSENTE : EstadoAsistencia.PRESENTE));
+        }
+
+        asistenciaEnEdicion = AsistenciaClase.builder().fecha(ColegioSintetico.HOY).build();
+        AsistenciaClaseOperaciones.conciliarRegistros(asistenciaEnEdicion, todosPresentes, alumnosActivosById, AHORA);
+    }
+
+    @Benchmark
+    public AsistenciaClase primeraToma() {
+        AsistenciaClase asistencia = AsistenciaClase.builder().fecha(ColegioSintetico.HOY).build();
+        AsistenciaClaseOperaciones.conciliarRegistros(asistencia, todosPresentes, alumnosActivosById, AHORA);
+        return asistencia;
+    }
+
+    @Benchmark
+    public AsistenciaClase edicion() {
+        alternar = !alternar;
+        AsistenciaClaseOperaciones.conciliarRegistros(
+            asistenciaEnEdicion,
+            alternar ? conCorrecciones : todosPresentes,
+            alumnosActivosById,
+            AHORA
+        );
+        return asistenciaEnEdicion;
+    }
+
+    private static RegistroAlumnoRequest registro(UUID alumnoId, EstadoAsistencia estado) {
+        RegistroAlumnoRequest request = new RegistroAlumnoRequest();
+        request.setAlumnoId(alumnoId);
+        request.setEstado(estado);
+        return request;
+    }
+}
@@ -0,0 +1,117 @@
+package com.schoolmate.api.usecase.dashboard;
+
+import com.schoolmate.api.benchmark.ColegioSintetico;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.cumplimiento.BloqueCumplimiento;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaSnapshot;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.response.DashboardAdminResponse;
+import com.schoolmate.api.repository.AsistenciaClaseRepository;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import com.schoolmate.api.repository.MatriculaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Agregación por profesor de {@link ObtenerDashboardAdmin} con el snapshot del día ya en
+ * {@link CumplimientoDiaCache} (el caso habitual: solo la primera consulta del día va a la base).
+ * <p>
+ * Los conteos de {@code stats} vienen de mocks {@code stubOnly}; su costo es constante y pequeño frente al
+ * recorrido de los 360 bloques del día.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObtenerDashboardAdminBenchmark {
+
+    private static final UUID ANO_ESCOLAR_ID = ColegioSintetico.uuid("ano-escolar", 2026);
+
+    @Param({"07:30", "11:10", "16:00"})
+    public String ahora;
+
+    private ObtenerDashboardAdmin useCase;
+
+    @Setup
+    public void setUp() {
+        LocalDate hoy = ColegioSintetico.HOY;
+        LocalDateTime momento = hoy.atTime(LocalTime.parse(ahora));
+        List<BloqueCumplimiento> bloques = ColegioSintetico.bloquesDelDia();
+        Map<UUID, LocalDateTime> tomadas = ColegioSintetico.asistenciaTomada(bloques, momento.toLocalTime(), 0.85);
+
+        MatriculaRepository matriculaRepository = mock(MatriculaRepository.class, withSettings().stubOnly());
+        CursoRepository cursoRepository = mock(CursoRepository.class, withSettings().stubOnly());
+        BloqueHorarioRepository bloqueHorarioRepository = mock(BloqueHorarioRepository.class, withSettings().stubOnly());
+        when(matriculaRepository.countActivasByAnoEscolarId(ANO_ESCOLAR_ID))
+            .thenReturn((long) ColegioSintetico.CURSOS * ColegioSintetico.ALUMNOS_POR_CURSO);
+        when(cursoRepository.countActivosByAnoEscolarId(ANO_ESCOLAR_ID)).thenReturn((long) ColegioSintetico.CURSOS);
+        when(bloqueHorarioRepository.countProfesoresActivosConBloques(ANO_ESCOLAR_ID))
+            .thenReturn((long) ColegioSintetico.PROFESORES);
+
+        CalendarioEscolar calendarioEscolar = mock(CalendarioEscolar.class, withSettings().stubOnly());
+        when(calendarioEscolar.obtener(ANO_ESCOLAR_ID)).thenReturn(CalendarioAnoEscolar.de(
+            LocalDate.of(hoy.getYear(), 3, 2), LocalDate.of(hoy.getYear(), 12, 18), List.of()));
+
+        CumplimientoDiaCache cache = new CumplimientoDiaCache();
+        cache.obtener(ANO_ESCOLAR_ID, hoy, () -> CumplimientoDiaSnapshot.diaLectivo(hoy, bloques, tomadas));
+
+        useCase = new ObtenerDashboardAdmin(
+            new RelojFijo(momento),
+            matriculaRepository,
+            cursoRepository,
+            bloqueHorarioRepository,
+            mock(AsistenciaClaseRepository.class, withSettings().stubOnly()),
+            calendarioEscolar,
+            cache
+        );
+    }
+
+    @Benchmark
+    public DashboardAdminResponse execute() {
+        return useCase.execute(ANO_ESCOLAR_ID);
+    }
+
+    private record RelojFijo(LocalDateTime momento) implements ClockProvider {
+
+        @Override
+        public LocalDateTime now() {
+            return momento;
+        }
+
+        @Override
+        public LocalDate today() {
+            return momento.toLocalDate();
+        }
+
+        @Override
+        public boolean isOverridden() {
+            return true;
+        }
+    }
+}
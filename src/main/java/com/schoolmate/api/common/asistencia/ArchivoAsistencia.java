@@ -0,0 +1,169 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.dto.projection.RegistroConFecha;
+import com.schoolmate.api.enums.EstadoAsistencia;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Archivo compacto de la asistencia de años cerrados (tablas {@code archivo_asistencia_*}). Un curso archivado
+ * guarda sus sesiones una vez y, por alumno, un {@link MarcasAsistencia}; sus filas de {@code asistencia_clase}
+ * y {@code registro_asistencia} se eliminan en la misma transacción, así que en todo momento cada clase está
+ * en un solo lado. Las observaciones se conservan aparte, indexadas por sesión.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchivoAsistencia {
+
+    private static final String SESIONES_SQL = """
+        SELECT ac.id, ac.fecha
+        FROM asistencia_clase ac
+        JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+        WHERE bh.curso_id = ?
+        ORDER BY ac.fecha, bh.hora_inicio, ac.id
+        """;
+
+    private static final String REGISTROS_SQL = """
+        SELECT ra.alumno_id, ra.asistencia_clase_id, ra.estado, ra.observacion
+        FROM registro_asistencia ra
+        JOIN asistencia_clase ac ON ac.id = ra.asistencia_clase_id
+        JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+        WHERE bh.curso_id = ?
+        """;
+
+    private static final String INSERTAR_CURSO_SQL = """
+        INSERT INTO archivo_asistencia_curso (curso_id, ano_escolar_id, fecha_base, total_sesiones, sesiones)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERTAR_ALUMNO_SQL = """
+        INSERT INTO archivo_asistencia_alumno
+            (alumno_id, curso_id, ano_escolar_id, estados, total_presente, total_ausente)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERTAR_OBSERVACION_SQL = """
+        INSERT INTO archivo_asistencia_observacion (alumno_id, curso_id, sesion, observacion)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private static final String ELIMINAR_REGISTROS_SQL = """
+        DELETE FROM registro_asistencia
+        WHERE asistencia_clase_id IN (
+            SELECT ac.id
+            FROM asistencia_clase ac
+            JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+            WHERE bh.curso_id = ?
+        )
+        """;
+
+    private static final String ELIMINAR_CLASES_SQL = """
+        DELETE FROM asistencia_clase
+        WHERE bloque_horario_id IN (SELECT bh.id FROM bloque_horario bh WHERE bh.curso_id = ?)
+        """;
+
+    private static final String CURSO_ARCHIVADO_SQL =
+        "SELECT COUNT(*) FROM archivo_asistencia_curso WHERE curso_id = ?";
+
+    private static final String LEER_ALUMNO_SQL = """
+        SELECT c.fecha_base, c.total_sesiones, c.sesiones, a.estados
+        FROM archivo_asistencia_alumno a
+        JOIN archivo_asistencia_curso c ON c.curso_id = a.curso_id
+        WHERE a.alumno_id = ?
+          AND c.fecha_base <= ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Archiva la asistencia de un curso y elimina sus filas. Debe ejecutarse dentro de una transacción; un curso
+     * ya archivado o sin clases registradas no se toca.
+     *
+     * @return cantidad de registros de asistencia archivados
+     */
+    public long archivarCurso(UUID anoEscolarId, UUID cursoId) {
+        Integer archivado = jdbcTemplate.queryForObject(CURSO_ARCHIVADO_SQL, Integer.class, cursoId);
+        if (archivado != null && archivado > 0) {
+            return 0;
+        }
+
+        List<LocalDate> fechas = new ArrayList<>();
+        Map<UUID, Integer> sesionPorClase = new HashMap<>();
+        jdbcTemplate.query(SESIONES_SQL, rs -> {
+            sesionPorClase.put(rs.getObject("id", UUID.class), fechas.size());
+            fechas.add(rs.getDate("fecha").toLocalDate());
+        }, cursoId);
+        if (fechas.isEmpty()) {
+            return 0;
+        }
+
+        int totalSesiones = fechas.size();
+        Map<UUID, MarcasAsistencia> marcasPorAlumno = new TreeMap<>();
+        List<Object[]> observaciones = new ArrayList<>();
+        long[] registros = {0};
+        jdbcTemplate.query(REGISTROS_SQL, rs -> {
+            UUID alumnoId = rs.getObject("alumno_id", UUID.class);
+            int sesion = sesionPorClase.get(rs.getObject("asistencia_clase_id", UUID.class));
+            marcasPorAlumno.computeIfAbsent(alumnoId, id -> new MarcasAsistencia(totalSesiones))
+                .marcar(sesion, EstadoAsistencia.valueOf(rs.getString("estado")));
+            String observacion = rs.getString("observacion");
+            if (observacion != null && !observacion.isBlank()) {
+                observaciones.add(new Object[] {alumnoId, cursoId, sesion, observacion});
+            }
+            registros[0]++;
+        }, cursoId);
+
+        LocalDate fechaBase = fechas.get(0);
+        jdbcTemplate.update(INSERTAR_CURSO_SQL,
+            cursoId, anoEscolarId, fechaBase, totalSesiones, MarcasAsistencia.codificarSesiones(fechaBase, fechas));
+
+        List<Object[]> alumnos = new ArrayList<>(marcasPorAlumno.size());
+        marcasPorAlumno.forEach((alumnoId, marcas) -> alumnos.add(new Object[] {
+            alumnoId, cursoId, anoEscolarId, marcas.bytes(),
+            marcas.contar(EstadoAsistencia.PRESENTE), marcas.contar(EstadoAsistencia.AUSENTE)
+        }));
+        if (!alumnos.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERTAR_ALUMNO_SQL, alumnos);
+        }
+        if (!observaciones.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERTAR_OBSERVACION_SQL, observaciones);
+        }
+
+        jdbcTemplate.update(ELIMINAR_REGISTROS_SQL, cursoId);
+        jdbcTemplate.update(ELIMINAR_CLASES_SQL, cursoId);
+        return registros[0];
+    }
+
+    /**
+     * Registros archivados del alumno con fecha entre {@code desde} y {@code hasta}, en el mismo formato que
+     * {@code RegistroAsistenciaRepository#findByAlumnoIdAndFechaEntre} pero sin id de registro.
+     */
+    public List<RegistroConFecha> registrosEntre(UUID alumnoId, LocalDate desde, LocalDate hasta) {
+        List<RegistroConFecha> resultado = new ArrayList<>();
+        jdbcTemplate.query(LEER_ALUMNO_SQL, rs -> {
+            LocalDate fechaBase = rs.getDate("fecha_base").toLocalDate();
+            List<LocalDate> fechas = MarcasAsistencia.decodificarSesiones(fechaBase, rs.getBytes("sesiones"));
+            MarcasAsistencia marcas = MarcasAsistencia.de(rs.getBytes("estados"), rs.getInt("total_sesiones"));
+            for (int sesion = 0; sesion < fechas.size(); sesion++) {
+                LocalDate fecha = fechas.get(sesion);
+                if (fecha.isBefore(desde) || fecha.isAfter(hasta)) {
+                    continue;
+                }
+                EstadoAsistencia estado = marcas.estado(sesion);
+                if (estado != null) {
+                    resultado.add(new RegistroConFecha(null, alumnoId, estado, fecha));
+                }
+            }
+        }, alumnoId, hasta);
+        return resultado;
+    }
+}
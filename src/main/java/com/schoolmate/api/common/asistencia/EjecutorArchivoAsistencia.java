@@ -0,0 +1,173 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import com.schoolmate.api.entity.ArchivoAsistenciaAno;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.enums.EstadoArchivoAsistencia;
+import com.schoolmate.api.repository.ArchivoAsistenciaAnoRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Archiva en segundo plano la asistencia de un año escolar cerrado, un curso por transacción con
+ * {@link ArchivoAsistencia#archivarCurso}. Sigue el esquema de {@code EjecutorPromocion}: la fila de
+ * {@link ArchivoAsistenciaAno} se bloquea en cada paso y guarda el curso como {@code ultimoCursoId}; un archivado
+ * interrumpido se retoma en los cursos con id mayor a ese, aunque entretanto cambien los cursos del año. Al
+ * iniciar la aplicación se retoman los archivados PENDIENTE y EN_CURSO.
+ */
+@Component
+public class EjecutorArchivoAsistencia {
+
+    private static final Logger log = LoggerFactory.getLogger(EjecutorArchivoAsistencia.class);
+
+    public static final List<EstadoArchivoAsistencia> ESTADOS_ACTIVOS =
+        List.of(EstadoArchivoAsistencia.PENDIENTE, EstadoArchivoAsistencia.EN_CURSO);
+
+    private final ArchivoAsistenciaAnoRepository archivoRepository;
+    private final CursoRepository cursoRepository;
+    private final ArchivoAsistencia archivoAsistencia;
+    private final ClockProvider clockProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("archivo-asistencia").daemon(true).factory());
+
+    public EjecutorArchivoAsistencia(
+        ArchivoAsistenciaAnoRepository archivoRepository,
+        CursoRepository cursoRepository,
+        ArchivoAsistencia archivoAsistencia,
+        ClockProvider clockProvider,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.archivoRepository = archivoRepository;
+        this.cursoRepository = cursoRepository;
+        this.archivoAsistencia = archivoAsistencia;
+        this.clockProvider = clockProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Cursos del año (activos o no) en orden estable por id.
+     */
+    public List<UUID> planificar(UUID anoEscolarId) {
+        return planificar(anoEscolarId, null);
+    }
+
+    /**
+     * Cursos del plan con id mayor a {@code despuesDe}, o todos si es {@code null}.
+     */
+    List<UUID> planificar(UUID anoEscolarId, UUID despuesDe) {
+        return cursoRepository.findByAnoEscolarIdOrderByNombreAsc(anoEscolarId).stream()
+            .map(Curso::getId)
+            .filter(id -> despuesDe == null || id.compareTo(despuesDe) > 0)
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * Encola el archivado. Dentro de una transacción se encola al confirmarla, para que el hilo de fondo vea la fila.
+     */
+    public void programar(UUID anoEscolarId) {
+        TrasConfirmar.ejecutar(() -> encolar(anoEscolarId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reanudarPendientes() {
+        List<ArchivoAsistenciaAno> pendientes = archivoRepository.findByEstadoInOrderByCreatedAtAsc(ESTADOS_ACTIVOS);
+        if (!pendientes.isEmpty()) {
+            log.info("Archivo asistencia: se retoman {} archivados pendientes", pendientes.size());
+        }
+        pendientes.forEach(archivo -> encolar(archivo.getAnoEscolarId()));
+    }
+
+    @PreDestroy
+    public void detener() {
+        executor.shutdownNow();
+    }
+
+    private void encolar(UUID anoEscolarId) {
+        try {
+            executor.execute(() -> procesar(anoEscolarId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Archivo asistencia {}: no se pudo encolar, se retomara al reiniciar", anoEscolarId);
+        }
+    }
+
+    void procesar(UUID anoEscolarId) {
+        try {
+            ArchivoAsistenciaAno archivo = archivoRepository.findById(anoEscolarId).orElse(null);
+            if (archivo == null || !archivo.estaActivo()) {
+                return;
+            }
+            UUID ultimo = archivo.getUltimoCursoId();
+            List<UUID> pendientes = planificar(anoEscolarId, ultimo);
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> iniciar(anoEscolarId, ultimo, pendientes.size())))) {
+                return;
+            }
+            UUID anterior = ultimo;
+            for (UUID cursoId : pendientes) {
+                UUID esperado = anterior;
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(
+                        status -> procesarCurso(anoEscolarId, esperado, cursoId)))) {
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Archivo asistencia {}: detenido, se retomara al reiniciar", anoEscolarId);
+                    return;
+                }
+                anterior = cursoId;
+            }
+            transactionTemplate.executeWithoutResult(status -> completar(anoEscolarId));
+        } catch (RuntimeException e) {
+            log.error("Archivo asistencia {}: fallo", anoEscolarId, e);
+            transactionTemplate.executeWithoutResult(status -> archivoRepository.findByIdForUpdate(anoEscolarId)
+                .ifPresent(archivo -> archivo.fallar(e.getMessage(), clockProvider.now())));
+        }
+    }
+
+    private boolean iniciar(UUID anoEscolarId, UUID ultimo, int pendientes) {
+        ArchivoAsistenciaAno archivo = archivoRepository.findByIdForUpdate(anoEscolarId).orElse(null);
+        if (archivo == null || !archivo.estaActivo() || !Objects.equals(archivo.getUltimoCursoId(), ultimo)) {
+            return false;
+        }
+        archivo.iniciar(archivo.getCursosProcesados() + pendientes);
+        return true;
+    }
+
+    /**
+     * {@code false} si el archivado ya no está en curso o si otra ejecución avanzó desde {@code esperado}.
+     */
+    private boolean procesarCurso(UUID anoEscolarId, UUID esperado, UUID cursoId) {
+        ArchivoAsistenciaAno archivo = archivoRepository.findByIdForUpdate(anoEscolarId).orElseThrow();
+        if (archivo.getEstado() != EstadoArchivoAsistencia.EN_CURSO
+            || !Objects.equals(archivo.getUltimoCursoId(), esperado)) {
+            return false;
+        }
+        archivo.registrarCurso(cursoId, archivoAsistencia.archivarCurso(anoEscolarId, cursoId));
+        return true;
+    }
+
+    private void completar(UUID anoEscolarId) {
+        ArchivoAsistenciaAno archivo = archivoRepository.findByIdForUpdate(anoEscolarId).orElseThrow();
+        if (archivo.getEstado() == EstadoArchivoAsistencia.EN_CURSO) {
+            archivo.completar(clockProvider.now());
+            log.info("Archivo asistencia {}: {} cursos, {} registros archivados",
+                anoEscolarId, archivo.getCursosProcesados(), archivo.getRegistrosArchivados());
+        }
+    }
+}
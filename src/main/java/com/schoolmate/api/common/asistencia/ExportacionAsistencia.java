@@ -0,0 +1,113 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.common.csv.EscritorCsv;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Escribe en CSV los registros de asistencia de un año escolar (o de un curso) entre dos fechas, leyendo con un
+ * cursor JDBC de solo avance: cada fila se escribe apenas llega y no se crea ninguna entidad, así que la memoria
+ * no depende del tamaño del rango.
+ * <p>
+ * La lectura va en una transacción de solo lectura propia porque el driver de PostgreSQL solo respeta el
+ * {@code fetchSize} con autocommit desactivado; fuera de una transacción traería el resultado completo.
+ */
+@Component
+public class ExportacionAsistencia {
+
+    static final String[] ENCABEZADO = {
+        "fecha", "curso", "bloque", "hora_inicio", "hora_fin", "materia",
+        "rut", "apellido", "nombre", "estado", "observacion"
+    };
+
+    private static final String CONSULTA = """
+        SELECT ac.fecha, c.nombre AS curso, bh.numero_bloque, bh.hora_inicio, bh.hora_fin, m.nombre AS materia,
+               a.rut, a.apellido, a.nombre, ra.estado, ra.observacion
+        FROM asistencia_clase ac
+        JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+        JOIN curso c ON c.id = bh.curso_id
+        JOIN registro_asistencia ra ON ra.asistencia_clase_id = ac.id
+        JOIN alumno a ON a.id = ra.alumno_id
+        LEFT JOIN materia m ON m.id = bh.materia_id
+        WHERE c.ano_escolar_id = ?
+          AND ac.fecha BETWEEN ? AND ?
+          %s
+        ORDER BY ac.fecha, c.nombre, bh.hora_inicio, a.apellido, a.nombre
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public ExportacionAsistencia(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.exportacion.asistencia.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Escribe encabezado y filas en {@code salida} (UTF-8 con BOM, separador {@code ;}) y retorna las filas
+     * escritas. Con {@code cursoId} nulo exporta todos los cursos del año.
+     */
+    public long escribirCsv(UUID anoEscolarId, UUID cursoId, LocalDate desde, LocalDate hasta, OutputStream salida) {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), 64 * 1024);
+        EscritorCsv csv = new EscritorCsv(writer, ';');
+        csv.escribirBom();
+        csv.registro(ENCABEZADO);
+
+        String sql = CONSULTA.formatted(cursoId != null ? "AND c.id = ?" : "");
+        long[] filas = {0};
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setObject(1, anoEscolarId);
+                ps.setDate(2, Date.valueOf(desde));
+                ps.setDate(3, Date.valueOf(hasta));
+                if (cursoId != null) {
+                    ps.setObject(4, cursoId);
+                }
+                return ps;
+            },
+            rs -> {
+                csv.campo(rs.getDate("fecha").toLocalDate().toString());
+                csv.campo(rs.getString("curso"));
+                csv.campo(rs.getString("numero_bloque"));
+                csv.campo(hora(rs.getString("hora_inicio")));
+                csv.campo(hora(rs.getString("hora_fin")));
+                csv.campo(rs.getString("materia"));
+                csv.campo(rs.getString("rut"));
+                csv.campo(rs.getString("apellido"));
+                csv.campo(rs.getString("nombre"));
+                csv.campo(rs.getString("estado"));
+                csv.campo(rs.getString("observacion"));
+                csv.finRegistro();
+                filas[0]++;
+            }));
+        csv.flush();
+        return filas[0];
+    }
+
+    private static String hora(String valor) {
+        // time se lee como HH:mm:ss; el resto de la API expone HH:mm.
+        return valor != null && valor.length() > 5 ? valor.substring(0, 5) : valor;
+    }
+}
@@ -0,0 +1,102 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.enums.EstadoAsistencia;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estados de asistencia de un alumno en las sesiones de un curso, con 2 bits por sesión: {@code 00} sin registro,
+ * {@code 01} presente y {@code 10} ausente. La sesión {@code i} ocupa los bits {@code 2*(i%4)} y siguiente del
+ * byte {@code i/4}, así que un año de clases de un curso (unas 1.600 sesiones) cabe en ~400 bytes por alumno.
+ * <p>
+ * Las sesiones del curso se guardan aparte con {@link #codificarSesiones}: 2 bytes por sesión con los días
+ * transcurridos desde una fecha base.
+ */
+public final class MarcasAsistencia {
+
+    private static final int SIN_REGISTRO = 0;
+    private static final int PRESENTE = 1;
+    private static final int AUSENTE = 2;
+
+    private final byte[] bytes;
+    private final int totalSesiones;
+
+    public MarcasAsistencia(int totalSesiones) {
+        this(new byte[(totalSesiones + 3) / 4], totalSesiones);
+    }
+
+    private MarcasAsistencia(byte[] bytes, int totalSesiones) {
+        this.bytes = bytes;
+        this.totalSesiones = totalSesiones;
+    }
+
+    public static MarcasAsistencia de(byte[] bytes, int totalSesiones) {
+        if (bytes.length != (totalSesiones + 3) / 4) {
+            throw new IllegalArgumentException(
+                "Largo de marcas inválido: " + bytes.length + " bytes para " + totalSesiones + " sesiones");
+        }
+        return new MarcasAsistencia(bytes.clone(), totalSesiones);
+    }
+
+    public void marcar(int sesion, EstadoAsistencia estado) {
+        int valor = estado == EstadoAsistencia.PRESENTE ? PRESENTE : AUSENTE;
+        int desplazamiento = (sesion & 3) << 1;
+        bytes[sesion >> 2] = (byte) ((bytes[sesion >> 2] & ~(3 << desplazamiento)) | (valor << desplazamiento));
+    }
+
+    /**
+     * @return el estado de la sesión, o {@code null} si el alumno no tiene registro en ella
+     */
+    public EstadoAsistencia estado(int sesion) {
+        int valor = (bytes[sesion >> 2] >> ((sesion & 3) << 1)) & 3;
+        return switch (valor) {
+            case SIN_REGISTRO -> null;
+            case PRESENTE -> EstadoAsistencia.PRESENTE;
+            case AUSENTE -> EstadoAsistencia.AUSENTE;
+            default -> throw new IllegalStateException("Marca de asistencia inválida en sesión " + sesion);
+        };
+    }
+
+    public int contar(EstadoAsistencia estado) {
+        int buscado = estado == EstadoAsistencia.PRESENTE ? PRESENTE : AUSENTE;
+        int total = 0;
+        for (int sesion = 0; sesion < totalSesiones; sesion++) {
+            if (((bytes[sesion >> 2] >> ((sesion & 3) << 1)) & 3) == buscado) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    public int totalSesiones() {
+        return totalSesiones;
+    }
+
+    public byte[] bytes() {
+        return bytes.clone();
+    }
+
+    public static byte[] codificarSesiones(LocalDate fechaBase, List<LocalDate> fechas) {
+        byte[] salida = new byte[fechas.size() * 2];
+        for (int i = 0; i < fechas.size(); i++) {
+            long dias = fechas.get(i).toEpochDay() - fechaBase.toEpochDay();
+            if (dias < 0 || dias > 0xFFFF) {
+                throw new IllegalArgumentException("Fecha de sesión fuera de rango: " + fechas.get(i));
+            }
+            salida[2 * i] = (byte) (dias >> 8);
+            salida[2 * i + 1] = (byte) dias;
+        }
+        return salida;
+    }
+
+    public static List<LocalDate> decodificarSesiones(LocalDate fechaBase, byte[] sesiones) {
+        List<LocalDate> fechas = new ArrayList<>(sesiones.length / 2);
+        for (int i = 0; i + 1 < sesiones.length; i += 2) {
+            int dias = ((sesiones[i] & 0xFF) << 8) | (sesiones[i + 1] & 0xFF);
+            fechas.add(fechaBase.plusDays(dias));
+        }
+        return fechas;
+    }
+}
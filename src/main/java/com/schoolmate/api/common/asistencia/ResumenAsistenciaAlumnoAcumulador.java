@@ -0,0 +1,153 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.enums.EstadoAsistencia;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mantiene {@code resumen_asistencia_alumno}: contadores de presentes y ausentes por alumno y año escolar.
+ * <p>
+ * Los casos de uso que modifican registros de asistencia calculan la diferencia entre el estado previo y el
+ * nuevo de cada alumno y la aplican aquí, dentro de la misma transacción, con un upsert por alumno afectado
+ * enviado en un único batch JDBC. {@link #reconstruir(UUID)} recalcula un año completo desde
+ * {@code registro_asistencia} más lo archivado del año (backfill o corrección de desvíos).
+ */
+@Component
+@RequiredArgsConstructor
+public class ResumenAsistenciaAlumnoAcumulador {
+
+    private static final String ACUMULAR_SQL = """
+        INSERT INTO resumen_asistencia_alumno (alumno_id, ano_escolar_id, total_presente, total_ausente)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (alumno_id, ano_escolar_id) DO UPDATE SET
+            total_presente = resumen_asistencia_alumno.total_presente + EXCLUDED.total_presente,
+            total_ausente = resumen_asistencia_alumno.total_ausente + EXCLUDED.total_ausente
+        """;
+
+    // Bloquea los upserts concurrentes hasta terminar, para no perder ni duplicar deltas en curso.
+    private static final String BLOQUEAR_SQL =
+        "LOCK TABLE resumen_asistencia_alumno IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final String LIMPIAR_SQL =
+        "DELETE FROM resumen_asistencia_alumno WHERE ano_escolar_id = ?";
+
+    private static final String RECONSTRUIR_SQL = """
+        INSERT INTO resumen_asistencia_alumno (alumno_id, ano_escolar_id, total_presente, total_ausente)
+        SELECT ra.alumno_id,
+               c.ano_escolar_id,
+               COUNT(*) FILTER (WHERE ra.estado = 'PRESENTE'),
+               COUNT(*) FILTER (WHERE ra.estado = 'AUSENTE')
+        FROM registro_asistencia ra
+        JOIN asistencia_clase ac ON ac.id = ra.asistencia_clase_id
+        JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+        JOIN curso c ON c.id = bh.curso_id
+        WHERE c.ano_escolar_id = ?
+        GROUP BY ra.alumno_id, c.ano_escolar_id
+        """;
+
+    // Suma lo archivado (ver ArchivoAsistencia) a lo reconstruido desde las filas vivas.
+    private static final String SUMAR_ARCHIVO_SQL = """
+        INSERT INTO resumen_asistencia_alumno (alumno_id, ano_escolar_id, total_presente, total_ausente)
+        SELECT a.alumno_id, a.ano_escolar_id, SUM(a.total_presente), SUM(a.total_ausente)
+        FROM archivo_asistencia_alumno a
+        WHERE a.ano_escolar_id = ?
+        GROUP BY a.alumno_id, a.ano_escolar_id
+        ON CONFLICT (alumno_id, ano_escolar_id) DO UPDATE SET
+            total_presente = resumen_asistencia_alumno.total_presente + EXCLUDED.total_presente,
+            total_ausente = resumen_asistencia_alumno.total_ausente + EXCLUDED.total_ausente
+        """;
+
+    private static final String CONTAR_SQL =
+        "SELECT COUNT(*) FROM resumen_asistencia_alumno WHERE ano_escolar_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Diferencia de contadores entre el estado previo y el nuevo de cada alumno de una asistencia de clase.
+     * Un alumno quitado de la asistencia aparece solo en {@code antes}; uno agregado, solo en {@code despues}.
+     */
+    public static List<Delta> calcularDeltas(
+        UUID anoEscolarId,
+        Map<UUID, EstadoAsistencia> antes,
+        Map<UUID, EstadoAsistencia> despues
+    ) {
+        Set<UUID> alumnos = new HashSet<>(antes.keySet());
+        alumnos.addAll(despues.keySet());
+
+        List<Delta> deltas = new ArrayList<>();
+        for (UUID alumnoId : alumnos) {
+            EstadoAsistencia previo = antes.get(alumnoId);
+            EstadoAsistencia nuevo = despues.get(alumnoId);
+            int presentes = contar(nuevo, EstadoAsistencia.PRESENTE) - contar(previo, EstadoAsistencia.PRESENTE);
+            int ausentes = contar(nuevo, EstadoAsistencia.AUSENTE) - contar(previo, EstadoAsistencia.AUSENTE);
+            if (presentes != 0 || ausentes != 0) {
+                deltas.add(new Delta(alumnoId, anoEscolarId, presentes, ausentes));
+            }
+        }
+        return deltas;
+    }
+
+    public void acumular(Collection<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Orden estable por clave para que transacciones concurrentes tomen los locks de fila en el mismo orden.
+        Map<Clave, int[]> porClave = new LinkedHashMap<>();
+        deltas.stream()
+            .sorted((a, b) -> {
+                int cmp = a.anoEscolarId().compareTo(b.anoEscolarId());
+                return cmp != 0 ? cmp : a.alumnoId().compareTo(b.alumnoId());
+            })
+            .forEach(d -> {
+                int[] total = porClave.computeIfAbsent(new Clave(d.alumnoId(), d.anoEscolarId()), k -> new int[2]);
+                total[0] += d.presentes();
+                total[1] += d.ausentes();
+            });
+
+        List<Object[]> filas = new ArrayList<>(porClave.size());
+        porClave.forEach((clave, total) -> {
+            if (total[0] != 0 || total[1] != 0) {
+                filas.add(new Object[] {clave.alumnoId(), clave.anoEscolarId(), total[0], total[1]});
+            }
+        });
+        if (!filas.isEmpty()) {
+            jdbcTemplate.batchUpdate(ACUMULAR_SQL, filas);
+        }
+    }
+
+    /**
+     * Recalcula los contadores de un año escolar. Debe ejecutarse dentro de una transacción.
+     *
+     * @return cantidad de alumnos con resumen tras la reconstrucción
+     */
+    public int reconstruir(UUID anoEscolarId) {
+        jdbcTemplate.execute(BLOQUEAR_SQL);
+        jdbcTemplate.update(LIMPIAR_SQL, anoEscolarId);
+        int alumnos = jdbcTemplate.update(RECONSTRUIR_SQL, anoEscolarId);
+        if (jdbcTemplate.update(SUMAR_ARCHIVO_SQL, anoEscolarId) == 0) {
+            return alumnos;
+        }
+        Integer total = jdbcTemplate.queryForObject(CONTAR_SQL, Integer.class, anoEscolarId);
+        return total != null ? total : alumnos;
+    }
+
+    private static int contar(EstadoAsistencia estado, EstadoAsistencia buscado) {
+        return estado == buscado ? 1 : 0;
+    }
+
+    public record Delta(UUID alumnoId, UUID anoEscolarId, int presentes, int ausentes) {
+    }
+
+    private record Clave(UUID alumnoId, UUID anoEscolarId) {
+    }
+}
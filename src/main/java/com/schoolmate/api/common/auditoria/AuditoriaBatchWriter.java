@@ -0,0 +1,242 @@
+package com.schoolmate.api.common.auditoria;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import com.schoolmate.api.common.id.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persiste los eventos de auditoría fuera del hilo del request.
+ * <p>
+ * Los eventos entran a una cola acotada y un único hilo escritor los inserta en lotes JDBC de hasta
+ * {@code app.auditoria.lote.tamano} filas o cada {@code app.auditoria.lote.intervalo-ms}. Si la cola está llena,
+ * el request espera como máximo {@code app.auditoria.cola.espera-ms} y luego el evento se descarta y se cuenta.
+ * Al detener el contexto se vacía la cola antes de cerrar el pool de conexiones. Un lote que falla por cualquier
+ * motivo se cuenta como fallido y el hilo escritor sigue atendiendo la cola.
+ */
+@Component
+public class AuditoriaBatchWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditoriaBatchWriter.class);
+
+    // Se detiene después del servidor web, para no perder eventos de requests en curso.
+    static final int FASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long ESPERA_DETENCION_MS = 10_000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO evento_auditoria (id, usuario_id, usuario_email, usuario_rol, metodo_http, endpoint,
+                request_body, response_status, ip_address, ano_escolar_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, %s, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MotorBaseDatos motorBaseDatos;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<EventoAuditoriaPendiente> cola;
+    private final int capacidad;
+    private final int tamanoLote;
+    private final long intervaloMs;
+    private final long esperaEncolarMs;
+
+    private final AtomicLong encolados = new AtomicLong();
+    private final AtomicLong escritos = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong fallidos = new AtomicLong();
+    private final AtomicLong lotes = new AtomicLong();
+
+    private volatile boolean corriendo;
+    private volatile Thread escritor;
+    private volatile String insertSql = INSERT_SQL.formatted("CAST(? AS jsonb)");
+
+    public AuditoriaBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            MotorBaseDatos motorBaseDatos,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.auditoria.cola.capacidad:10000}") int capacidad,
+            @Value("${app.auditoria.lote.tamano:100}") int tamanoLote,
+            @Value("${app.auditoria.lote.intervalo-ms:200}") long intervaloMs,
+            @Value("${app.auditoria.cola.espera-ms:20}") long esperaEncolarMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.motorBaseDatos = motorBaseDatos;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cola = new ArrayBlockingQueue<>(capacidad);
+        this.capacidad = capacidad;
+        this.tamanoLote = tamanoLote;
+        this.intervaloMs = intervaloMs;
+        this.esperaEncolarMs = esperaEncolarMs;
+    }
+
+    public void registrar(EventoAuditoriaPendiente evento) {
+        if (!corriendo) {
+            escribirLote(List.of(evento));
+            return;
+        }
+        try {
+            if (cola.offer(evento, esperaEncolarMs, TimeUnit.MILLISECONDS)) {
+                encolados.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long total = descartados.incrementAndGet();
+        if (total == 1 || total % 1000 == 0) {
+            log.warn("Auditoria: cola llena ({} eventos), descartados acumulados: {}", capacidad, total);
+        }
+    }
+
+    public Estadisticas estadisticas() {
+        return new Estadisticas(
+                encolados.get(),
+                escritos.get(),
+                descartados.get(),
+                fallidos.get(),
+                lotes.get(),
+                cola.size(),
+                capacidad
+        );
+    }
+
+    @Override
+    public void start() {
+        insertSql = INSERT_SQL.formatted(placeholderJson());
+        corriendo = true;
+        escritor = Thread.ofPlatform()
+                .name("auditoria-writer")
+                .daemon(true)
+                .start(this::drenar);
+    }
+
+    @Override
+    public void stop() {
+        corriendo = false;
+        Thread hilo = escritor;
+        if (hilo != null) {
+            try {
+                hilo.join(ESPERA_DETENCION_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<EventoAuditoriaPendiente> restantes = new ArrayList<>();
+        cola.drainTo(restantes);
+        for (int desde = 0; desde < restantes.size(); desde += tamanoLote) {
+            escribirLote(restantes.subList(desde, Math.min(desde + tamanoLote, restantes.size())));
+        }
+        log.info("Auditoria: writer detenido. {}", estadisticas());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return corriendo;
+    }
+
+    @Override
+    public int getPhase() {
+        return FASE;
+    }
+
+    void drenar() {
+        List<EventoAuditoriaPendiente> lote = new ArrayList<>(tamanoLote);
+        while (corriendo) {
+            try {
+                EventoAuditoriaPendiente primero = cola.poll(intervaloMs, TimeUnit.MILLISECONDS);
+                if (primero == null) {
+                    continue;
+                }
+                lote.add(primero);
+                completarLote(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                corriendo = false;
+            } finally {
+                escribirLote(lote);
+                lote.clear();
+            }
+        }
+    }
+
+    private void completarLote(List<EventoAuditoriaPendiente> lote) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+        while (lote.size() < tamanoLote) {
+            cola.drainTo(lote, tamanoLote - lote.size());
+            long restante = limite - System.nanoTime();
+            if (lote.size() >= tamanoLote || restante <= 0 || !corriendo) {
+                return;
+            }
+            EventoAuditoriaPendiente siguiente = cola.poll(restante, TimeUnit.NANOSECONDS);
+            if (siguiente == null) {
+                return;
+            }
+            lote.add(siguiente);
+        }
+    }
+
+    void escribirLote(List<EventoAuditoriaPendiente> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            List<Object[]> filas = lote.stream().map(this::toFila).toList();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(insertSql, filas));
+            escritos.addAndGet(filas.size());
+            lotes.incrementAndGet();
+        } catch (DataAccessException | TransactionException e) {
+            fallidos.addAndGet(lote.size());
+            log.warn("Auditoria: no se pudo persistir un lote de {} eventos: {}", lote.size(), e.getMessage(), e);
+        } catch (RuntimeException e) {
+            // Cualquier otro error no debe terminar el hilo escritor: el lote se pierde y la cola sigue drenando.
+            fallidos.addAndGet(lote.size());
+            log.error("Auditoria: error inesperado al persistir un lote de {} eventos", lote.size(), e);
+        }
+    }
+
+    private Object[] toFila(EventoAuditoriaPendiente evento) {
+        return new Object[] {
+                UuidV7.generar(),
+                evento.usuarioId(),
+                evento.usuarioEmail(),
+                evento.usuarioRol(),
+                evento.metodoHttp(),
+                evento.endpoint(),
+                evento.requestBody(),
+                evento.responseStatus(),
+                evento.ipAddress(),
+                evento.anoEscolarId(),
+                evento.createdAt()
+        };
+    }
+
+    private String placeholderJson() {
+        // H2 (tests) no acepta el cast a jsonb; si no se pudo detectar la base se asume PostgreSQL.
+        return motorBaseDatos.esH2() ? "? FORMAT JSON" : "CAST(? AS jsonb)";
+    }
+
+    public record Estadisticas(
+            long encolados,
+            long escritos,
+            long descartados,
+            long fallidos,
+            long lotes,
+            int pendientes,
+            int capacidad
+    ) {
+    }
+}
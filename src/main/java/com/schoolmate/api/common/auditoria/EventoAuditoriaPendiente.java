@@ -0,0 +1,22 @@
+package com.schoolmate.api.common.auditoria;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento capturado en el hilo del request y pendiente de persistir por {@link AuditoriaBatchWriter}.
+ * El body ya viene serializado a JSON: el DTO del request no se retiene ni se lee fuera de su hilo.
+ */
+public record EventoAuditoriaPendiente(
+    UUID usuarioId,
+    String usuarioEmail,
+    String usuarioRol,
+    String metodoHttp,
+    String endpoint,
+    String requestBody,
+    int responseStatus,
+    String ipAddress,
+    UUID anoEscolarId,
+    LocalDateTime createdAt
+) {
+}
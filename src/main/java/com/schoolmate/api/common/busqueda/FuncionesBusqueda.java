@@ -0,0 +1,27 @@
+package com.schoolmate.api.common.busqueda;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Expone a Criteria el operador {@code <%} de pg_trgm ({@code coincide_trigramas(q, columna)} se traduce a
+ * {@code q <% columna}). Escrito como operador, y no como llamada a {@code word_similarity}, PostgreSQL puede
+ * resolverlo con el índice GIN {@code gin_trgm_ops}.
+ * <p>
+ * Se registra vía {@code META-INF/services}; en bases sin pg_trgm el registro es inocuo mientras nadie lo use
+ * (ver {@link SoporteTrigramas}).
+ */
+public class FuncionesBusqueda implements FunctionContributor {
+
+    public static final String COINCIDE_TRIGRAMAS = "coincide_trigramas";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+            COINCIDE_TRIGRAMAS,
+            "(?1 <% ?2)",
+            functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN)
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.schoolmate.api.common.busqueda;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indica si la base tiene pg_trgm y unaccent (PostgreSQL migrado con V7). En H2, o si la detección falla, las
+ * búsquedas usan el filtro LIKE sin índice. Se detecta en la primera búsqueda.
+ */
+@Component
+public class SoporteTrigramas {
+
+    private static final Logger log = LoggerFactory.getLogger(SoporteTrigramas.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MotorBaseDatos motorBaseDatos;
+    private volatile Boolean disponible;
+
+    public SoporteTrigramas(JdbcTemplate jdbcTemplate, MotorBaseDatos motorBaseDatos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.motorBaseDatos = motorBaseDatos;
+    }
+
+    public boolean disponible() {
+        Boolean actual = disponible;
+        if (actual == null) {
+            actual = detectar();
+            if (actual == null) {
+                return false;
+            }
+            disponible = actual;
+        }
+        return actual;
+    }
+
+    /**
+     * {@code null} si no se pudo consultar: no se guarda y se vuelve a intentar en la siguiente búsqueda.
+     */
+    private Boolean detectar() {
+        MotorBaseDatos.Motor motor = motorBaseDatos.motor().orElse(null);
+        if (motor == null) {
+            return null;
+        }
+        if (motor != MotorBaseDatos.Motor.POSTGRESQL) {
+            return false;
+        }
+        try {
+            Integer extensiones = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_extension WHERE extname IN ('pg_trgm', 'unaccent')", Integer.class);
+            boolean instaladas = extensiones != null && extensiones == 2;
+            if (!instaladas) {
+                log.warn("Busqueda: PostgreSQL sin pg_trgm/unaccent, se usa el filtro LIKE sin indice");
+            }
+            return instaladas;
+        } catch (DataAccessException e) {
+            log.warn("Busqueda: no se pudo detectar soporte de trigramas: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.schoolmate.api.common.busqueda;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización del texto buscado, equivalente a {@code normalizar_busqueda()} de la base (V7): minúsculas y
+ * sin tildes ni diéresis, con la ñ como n ("Muñoz" y "munoz" quedan iguales).
+ */
+public final class TextoBusqueda {
+
+    /** Vocales con tilde/diéresis y ñ que {@code translate} reemplaza en el filtro sin índice. */
+    public static final String CON_TILDE = "áéíóúàèìòùäëïöüâêîôûñç";
+    public static final String SIN_TILDE = "aeiouaeiouaeiouaeiounc";
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    private TextoBusqueda() {
+    }
+
+    public static String normalizar(String texto) {
+        String sinMarcas = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACIOS.matcher(sinMarcas.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,164 @@
+package com.schoolmate.api.common.calendario;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Días lectivos de un año escolar: un bit por fecha entre {@code fechaInicio} y {@code fechaFin} (lunes a viernes
+ * que no son día no lectivo) y el detalle de cada día no lectivo. Es inmutable; los cambios producen una copia.
+ */
+public final class CalendarioAnoEscolar {
+
+    private final LocalDate fechaInicio;
+    private final LocalDate fechaFin;
+    private final long[] lectivos;
+    private final NavigableMap<LocalDate, DiaNoLectivoCalendario> diasNoLectivos;
+    private final long construidoEnNanos;
+
+    private CalendarioAnoEscolar(
+        LocalDate fechaInicio,
+        LocalDate fechaFin,
+        long[] lectivos,
+        NavigableMap<LocalDate, DiaNoLectivoCalendario> diasNoLectivos,
+        long construidoEnNanos
+    ) {
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+        this.lectivos = lectivos;
+        this.diasNoLectivos = diasNoLectivos;
+        this.construidoEnNanos = construidoEnNanos;
+    }
+
+    public static CalendarioAnoEscolar de(
+        LocalDate fechaInicio,
+        LocalDate fechaFin,
+        Collection<DiaNoLectivoCalendario> diasNoLectivos
+    ) {
+        int totalDias = (int) ChronoUnit.DAYS.between(fechaInicio, fechaFin) + 1;
+        long[] lectivos = new long[Math.max(1, (totalDias + 63) >>> 6)];
+        LocalDate fecha = fechaInicio;
+        for (int i = 0; i < totalDias; i++, fecha = fecha.plusDays(1)) {
+            if (!esFinDeSemana(fecha)) {
+                lectivos[i >>> 6] |= 1L << i;
+            }
+        }
+        CalendarioAnoEscolar base = new CalendarioAnoEscolar(
+            fechaInicio, fechaFin, lectivos, Collections.emptyNavigableMap(), System.nanoTime());
+        return diasNoLectivos.isEmpty() ? base : base.conDiasNoLectivos(diasNoLectivos);
+    }
+
+    public static boolean esFinDeSemana(LocalDate fecha) {
+        DayOfWeek dia = fecha.getDayOfWeek();
+        return dia == DayOfWeek.SATURDAY || dia == DayOfWeek.SUNDAY;
+    }
+
+    public LocalDate fechaInicio() {
+        return fechaInicio;
+    }
+
+    public LocalDate fechaFin() {
+        return fechaFin;
+    }
+
+    public boolean contiene(LocalDate fecha) {
+        return !fecha.isBefore(fechaInicio) && !fecha.isAfter(fechaFin);
+    }
+
+    /**
+     * Día de lunes a viernes, dentro del año escolar y sin día no lectivo registrado.
+     */
+    public boolean esDiaLectivo(LocalDate fecha) {
+        if (!contiene(fecha)) {
+            return false;
+        }
+        int indice = indice(fecha);
+        return (lectivos[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+    public boolean esDiaNoLectivo(LocalDate fecha) {
+        return diasNoLectivos.containsKey(fecha);
+    }
+
+    public Optional<DiaNoLectivoCalendario> diaNoLectivo(LocalDate fecha) {
+        return Optional.ofNullable(diasNoLectivos.get(fecha));
+    }
+
+    /**
+     * Días no lectivos entre ambas fechas (inclusive), ordenados por fecha.
+     */
+    public List<DiaNoLectivoCalendario> diasNoLectivosEntre(LocalDate desde, LocalDate hasta) {
+        if (hasta.isBefore(desde)) {
+            return List.of();
+        }
+        return List.copyOf(diasNoLectivos.subMap(desde, true, hasta, true).values());
+    }
+
+    /**
+     * Días lectivos entre ambas fechas (inclusive); lo que queda fuera del año escolar no cuenta.
+     */
+    public int contarDiasLectivos(LocalDate desde, LocalDate hasta) {
+        LocalDate inicio = desde.isBefore(fechaInicio) ? fechaInicio : desde;
+        LocalDate fin = hasta.isAfter(fechaFin) ? fechaFin : hasta;
+        if (fin.isBefore(inicio)) {
+            return 0;
+        }
+        int primero = indice(inicio);
+        int ultimo = indice(fin);
+        int palabraInicio = primero >>> 6;
+        int palabraFin = ultimo >>> 6;
+        long mascaraInicio = -1L << primero;
+        long mascaraFin = -1L >>> (63 - (ultimo & 63));
+        if (palabraInicio == palabraFin) {
+            return Long.bitCount(lectivos[palabraInicio] & mascaraInicio & mascaraFin);
+        }
+        int total = Long.bitCount(lectivos[palabraInicio] & mascaraInicio);
+        for (int i = palabraInicio + 1; i < palabraFin; i++) {
+            total += Long.bitCount(lectivos[i]);
+        }
+        return total + Long.bitCount(lectivos[palabraFin] & mascaraFin);
+    }
+
+    long construidoEnNanos() {
+        return construidoEnNanos;
+    }
+
+    CalendarioAnoEscolar conDiasNoLectivos(Collection<DiaNoLectivoCalendario> nuevos) {
+        long[] copia = lectivos.clone();
+        NavigableMap<LocalDate, DiaNoLectivoCalendario> dias = new TreeMap<>(diasNoLectivos);
+        for (DiaNoLectivoCalendario dia : nuevos) {
+            dias.put(dia.fecha(), dia);
+            if (contiene(dia.fecha())) {
+                int indice = indice(dia.fecha());
+                copia[indice >>> 6] &= ~(1L << indice);
+            }
+        }
+        return new CalendarioAnoEscolar(
+            fechaInicio, fechaFin, copia, Collections.unmodifiableNavigableMap(dias), construidoEnNanos);
+    }
+
+    CalendarioAnoEscolar sinDiaNoLectivo(LocalDate fecha) {
+        if (!diasNoLectivos.containsKey(fecha)) {
+            return this;
+        }
+        long[] copia = lectivos.clone();
+        NavigableMap<LocalDate, DiaNoLectivoCalendario> dias = new TreeMap<>(diasNoLectivos);
+        dias.remove(fecha);
+        if (contiene(fecha) && !esFinDeSemana(fecha)) {
+            int indice = indice(fecha);
+            copia[indice >>> 6] |= 1L << indice;
+        }
+        return new CalendarioAnoEscolar(
+            fechaInicio, fechaFin, copia, Collections.unmodifiableNavigableMap(dias), construidoEnNanos);
+    }
+
+    private int indice(LocalDate fecha) {
+        return (int) ChronoUnit.DAYS.between(fechaInicio, fecha);
+    }
+}
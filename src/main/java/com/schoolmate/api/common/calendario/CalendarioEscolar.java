@@ -0,0 +1,93 @@
+package com.schoolmate.api.common.calendario;
+
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.DiaNoLectivo;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.DiaNoLectivoRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link CalendarioAnoEscolar} por año escolar, cargado la primera vez que se consulta con el año y sus días no
+ * lectivos. Responde "¿es día lectivo?" y el detalle del día no lectivo sin ir a la base de datos.
+ * <p>
+ * Crear o eliminar días no lectivos publica un calendario nuevo al confirmar la transacción; cambiar las fechas
+ * del año lo descarta. Los cambios hechos en otra réplica quedan acotados por {@link #VIGENCIA_MAXIMA}.
+ */
+@Component
+public class CalendarioEscolar {
+
+    static final Duration VIGENCIA_MAXIMA = Duration.ofMinutes(10);
+
+    private final AnoEscolarRepository anoEscolarRepository;
+    private final DiaNoLectivoRepository diaNoLectivoRepository;
+    private final Map<UUID, CalendarioAnoEscolar> calendarios = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public CalendarioEscolar(
+        AnoEscolarRepository anoEscolarRepository,
+        DiaNoLectivoRepository diaNoLectivoRepository
+    ) {
+        this.anoEscolarRepository = anoEscolarRepository;
+        this.diaNoLectivoRepository = diaNoLectivoRepository;
+    }
+
+    public CalendarioAnoEscolar obtener(UUID anoEscolarId) {
+        CalendarioAnoEscolar actual = calendarios.get(anoEscolarId);
+        if (actual != null && vigente(actual)) {
+            return actual;
+        }
+
+        long versionLectura = version.get();
+        AnoEscolar anoEscolar = anoEscolarRepository.findById(anoEscolarId)
+            .orElseThrow(() -> new ResourceNotFoundException("Año escolar no encontrado"));
+        CalendarioAnoEscolar cargado = CalendarioAnoEscolar.de(
+            anoEscolar.getFechaInicio(),
+            anoEscolar.getFechaFin(),
+            diaNoLectivoRepository.findByAnoEscolarIdOrderByFechaAsc(anoEscolarId).stream()
+                .map(DiaNoLectivoCalendario::from)
+                .toList());
+        // Como en IndiceHorarioProfesores: si hubo un commit durante la lectura, se usa pero no se publica.
+        calendarios.compute(anoEscolarId, (k, existente) -> version.get() != versionLectura ? existente : cargado);
+        return cargado;
+    }
+
+    public void registrarDiasNoLectivos(UUID anoEscolarId, Collection<DiaNoLectivo> dias) {
+        List<DiaNoLectivoCalendario> nuevos = dias.stream().map(DiaNoLectivoCalendario::from).toList();
+        alConfirmar(anoEscolarId, calendario -> calendario.conDiasNoLectivos(nuevos));
+    }
+
+    public void quitarDiaNoLectivo(UUID anoEscolarId, LocalDate fecha) {
+        alConfirmar(anoEscolarId, calendario -> calendario.sinDiaNoLectivo(fecha));
+    }
+
+    /**
+     * Descarta el calendario del año; el próximo {@link #obtener} lo vuelve a cargar.
+     */
+    public void invalidar(UUID anoEscolarId) {
+        alConfirmar(anoEscolarId, calendario -> null);
+    }
+
+    private boolean vigente(CalendarioAnoEscolar calendario) {
+        return System.nanoTime() - calendario.construidoEnNanos() < VIGENCIA_MAXIMA.toNanos();
+    }
+
+    private void alConfirmar(UUID anoEscolarId, UnaryOperator<CalendarioAnoEscolar> cambio) {
+        Runnable accion = () -> {
+            version.incrementAndGet();
+            calendarios.computeIfPresent(anoEscolarId, (k, calendario) -> cambio.apply(calendario));
+        };
+        TrasConfirmar.ejecutar(accion);
+    }
+}
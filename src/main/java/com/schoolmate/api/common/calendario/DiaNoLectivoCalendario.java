@@ -0,0 +1,22 @@
+package com.schoolmate.api.common.calendario;
+
+import com.schoolmate.api.entity.DiaNoLectivo;
+import com.schoolmate.api.enums.TipoDiaNoLectivo;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Datos de un día no lectivo que exponen las respuestas, sin la referencia al año escolar.
+ */
+public record DiaNoLectivoCalendario(
+    UUID id,
+    LocalDate fecha,
+    TipoDiaNoLectivo tipo,
+    String descripcion
+) {
+
+    public static DiaNoLectivoCalendario from(DiaNoLectivo dia) {
+        return new DiaNoLectivoCalendario(dia.getId(), dia.getFecha(), dia.getTipo(), dia.getDescripcion());
+    }
+}
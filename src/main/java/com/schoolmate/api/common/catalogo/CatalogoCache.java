@@ -0,0 +1,126 @@
+package com.schoolmate.api.common.catalogo;
+
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import com.schoolmate.api.dto.response.GradoPageResponse;
+import com.schoolmate.api.dto.response.MallaCurricularPageResponse;
+import com.schoolmate.api.dto.response.MateriaPageResponse;
+import com.schoolmate.api.entity.AnoEscolar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache de datos de referencia que cambian pocas veces al año: años escolares (resolución del header
+ * {@code X-Ano-Escolar-Id}), grados, materias y malla curricular por año.
+ * <p>
+ * Cada región tiene tope de entradas y vigencia ({@code app.catalogo.cache.*}). Los casos de uso que modifican
+ * estos catálogos invalidan al confirmar su transacción; la vigencia acota cualquier cambio hecho por fuera.
+ */
+@Component
+public class CatalogoCache {
+
+    private final RegionCache<UUID, AnoEscolar> anosEscolares;
+    private final RegionCache<ConsultaPagina, GradoPageResponse> grados;
+    private final RegionCache<ConsultaPagina, MateriaPageResponse> materias;
+    private final RegionCache<ConsultaMalla, MallaCurricularPageResponse> mallaPorAnoEscolar;
+
+    public CatalogoCache(
+        @Value("${app.catalogo.cache.max-entradas:500}") int maxEntradas,
+        @Value("${app.catalogo.cache.vigencia-segundos:600}") long vigenciaSegundos
+    ) {
+        long vigenciaNanos = Duration.ofSeconds(vigenciaSegundos).toNanos();
+        this.anosEscolares = new RegionCache<>("anos-escolares", maxEntradas, vigenciaNanos, System::nanoTime);
+        this.grados = new RegionCache<>("grados", maxEntradas, vigenciaNanos, System::nanoTime);
+        this.materias = new RegionCache<>("materias", maxEntradas, vigenciaNanos, System::nanoTime);
+        this.mallaPorAnoEscolar = new RegionCache<>("malla-ano-escolar", maxEntradas, vigenciaNanos, System::nanoTime);
+    }
+
+    /**
+     * Retorna una copia del año escolar: quien la recibe puede modificarla sin afectar la cache.
+     */
+    public Optional<AnoEscolar> obtenerAnoEscolar(UUID anoEscolarId, Supplier<Optional<AnoEscolar>> cargador) {
+        AnoEscolar anoEscolar = anosEscolares.obtener(anoEscolarId, () -> cargador.get().orElse(null));
+        return Optional.ofNullable(anoEscolar).map(CatalogoCache::copiar);
+    }
+
+    public GradoPageResponse obtenerGrados(ConsultaPagina consulta, Supplier<GradoPageResponse> cargador) {
+        return grados.obtener(consulta, cargador);
+    }
+
+    public MateriaPageResponse obtenerMaterias(ConsultaPagina consulta, Supplier<MateriaPageResponse> cargador) {
+        return materias.obtener(consulta, cargador);
+    }
+
+    public MallaCurricularPageResponse obtenerMallaPorAnoEscolar(
+        UUID anoEscolarId,
+        int page,
+        int size,
+        Supplier<MallaCurricularPageResponse> cargador
+    ) {
+        return mallaPorAnoEscolar.obtener(new ConsultaMalla(anoEscolarId, page, size), cargador);
+    }
+
+    public void invalidarAnoEscolar(UUID anoEscolarId) {
+        TrasConfirmar.ejecutar(() -> {
+            anosEscolares.invalidar(anoEscolarId::equals);
+            // La malla expone el año (número) en cada registro.
+            mallaPorAnoEscolar.invalidar(c -> c.anoEscolarId().equals(anoEscolarId));
+        });
+    }
+
+    public void invalidarMaterias() {
+        TrasConfirmar.ejecutar(() -> {
+            materias.invalidarTodo();
+            // La malla expone nombre e ícono de la materia y se desactiva al eliminarla.
+            mallaPorAnoEscolar.invalidarTodo();
+        });
+    }
+
+    public void invalidarMalla(UUID anoEscolarId) {
+        TrasConfirmar.ejecutar(() -> mallaPorAnoEscolar.invalidar(c -> c.anoEscolarId().equals(anoEscolarId)));
+    }
+
+    public List<EstadisticasRegion> estadisticas() {
+        return List.of(
+            anosEscolares.estadisticas(),
+            grados.estadisticas(),
+            materias.estadisticas(),
+            mallaPorAnoEscolar.estadisticas()
+        );
+    }
+
+    private static AnoEscolar copiar(AnoEscolar original) {
+        return AnoEscolar.builder()
+            .id(original.getId())
+            .ano(original.getAno())
+            .fechaInicioPlanificacion(original.getFechaInicioPlanificacion())
+            .fechaInicio(original.getFechaInicio())
+            .fechaFin(original.getFechaFin())
+            .createdAt(original.getCreatedAt())
+            .updatedAt(original.getUpdatedAt())
+            .build();
+    }
+
+    public record ConsultaPagina(int page, int size, String sortBy, String sortDir) {
+    }
+
+    private record ConsultaMalla(UUID anoEscolarId, int page, int size) {
+    }
+
+    public record EstadisticasRegion(
+        String region,
+        long aciertos,
+        long fallos,
+        long desalojos,
+        long expiraciones,
+        long invalidaciones,
+        int entradas,
+        int maxEntradas
+    ) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.schoolmate.api.common.catalogo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache read-through acotada por cantidad de entradas y por vigencia. Al llenarse desaloja la entrada más
+ * antigua. Un valor leído de BD mientras se invalidaba la región se devuelve pero no se publica.
+ */
+final class RegionCache<K, V> {
+
+    private final String nombre;
+    private final int maxEntradas;
+    private final long vigenciaNanos;
+    private final LongSupplier reloj;
+    private final Map<K, Entrada<V>> entradas = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final AtomicLong aciertos = new AtomicLong();
+    private final AtomicLong fallos = new AtomicLong();
+    private final AtomicLong desalojos = new AtomicLong();
+    private final AtomicLong expiraciones = new AtomicLong();
+    private final AtomicLong invalidaciones = new AtomicLong();
+
+    RegionCache(String nombre, int maxEntradas, long vigenciaNanos, LongSupplier reloj) {
+        this.nombre = nombre;
+        this.maxEntradas = maxEntradas;
+        this.vigenciaNanos = vigenciaNanos;
+        this.reloj = reloj;
+    }
+
+    /**
+     * Retorna el valor vigente o lo carga. Un {@code null} del cargador no se guarda (p. ej. id inexistente).
+     */
+    V obtener(K clave, Supplier<V> cargador) {
+        Entrada<V> actual = entradas.get(clave);
+        if (actual != null) {
+            if (reloj.getAsLong() - actual.cargadaEnNanos() < vigenciaNanos) {
+                aciertos.incrementAndGet();
+                return actual.valor();
+            }
+            if (entradas.remove(clave, actual)) {
+                expiraciones.incrementAndGet();
+            }
+        }
+
+        fallos.incrementAndGet();
+        long versionLectura = version.get();
+        V cargado = cargador.get();
+        if (cargado == null || maxEntradas <= 0) {
+            return cargado;
+        }
+
+        if (!entradas.containsKey(clave) && entradas.size() >= maxEntradas) {
+            desalojarMasAntigua();
+        }
+        entradas.compute(clave, (k, existente) ->
+            version.get() == versionLectura ? new Entrada<>(cargado, reloj.getAsLong()) : existente);
+        return cargado;
+    }
+
+    void invalidar(Predicate<K> filtro) {
+        version.incrementAndGet();
+        entradas.keySet().removeIf(clave -> {
+            if (filtro.test(clave)) {
+                invalidaciones.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    void invalidarTodo() {
+        invalidar(clave -> true);
+    }
+
+    CatalogoCache.EstadisticasRegion estadisticas() {
+        return new CatalogoCache.EstadisticasRegion(
+            nombre,
+            aciertos.get(),
+            fallos.get(),
+            desalojos.get(),
+            expiraciones.get(),
+            invalidaciones.get(),
+            entradas.size(),
+            maxEntradas
+        );
+    }
+
+    private void desalojarMasAntigua() {
+        Map.Entry<K, Entrada<V>> masAntigua = null;
+        for (Map.Entry<K, Entrada<V>> entrada : entradas.entrySet()) {
+            if (masAntigua == null || entrada.getValue().cargadaEnNanos() < masAntigua.getValue().cargadaEnNanos()) {
+                masAntigua = entrada;
+            }
+        }
+        if (masAntigua != null && entradas.remove(masAntigua.getKey(), masAntigua.getValue())) {
+            desalojos.incrementAndGet();
+        }
+    }
+
+    private record Entrada<V>(V valor, long cargadaEnNanos) {
+    }
+}
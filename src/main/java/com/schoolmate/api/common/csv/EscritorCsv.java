@@ -0,0 +1,93 @@
+package com.schoolmate.api.common.csv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Escribe un CSV registro a registro sobre un {@link Writer}, con las mismas reglas que lee {@link LectorCsv}:
+ * un campo va entre comillas dobles solo si contiene el separador, comillas o saltos de línea, y las comillas
+ * internas se duplican. Los registros terminan en {@code \r\n}. Un campo {@code null} se escribe vacío.
+ * <p>
+ * Un campo que empieza con {@code =}, {@code +}, {@code -}, {@code @}, tabulador o retorno de carro se escribe
+ * precedido de {@code '}, para que Excel o LibreOffice lo muestren como texto y no lo evalúen como fórmula
+ * (p. ej. una observación {@code =HYPERLINK(...)} escrita por un apoderado).
+ */
+public class EscritorCsv {
+
+    private final Writer writer;
+    private final char separador;
+    private boolean inicioRegistro = true;
+
+    public EscritorCsv(Writer writer, char separador) {
+        this.writer = writer;
+        this.separador = separador;
+    }
+
+    /**
+     * Marca de orden de bytes UTF-8 al inicio del archivo, para que Excel no lo abra como Latin-1.
+     */
+    public void escribirBom() {
+        escribir("\uFEFF");
+    }
+
+    public void registro(String... campos) {
+        for (String campo : campos) {
+            campo(campo);
+        }
+        finRegistro();
+    }
+
+    public void campo(String valor) {
+        if (!inicioRegistro) {
+            escribir(String.valueOf(separador));
+        }
+        inicioRegistro = false;
+        if (valor == null || valor.isEmpty()) {
+            return;
+        }
+        if (iniciaFormula(valor.charAt(0))) {
+            valor = "'" + valor;
+        }
+        if (!requiereComillas(valor)) {
+            escribir(valor);
+            return;
+        }
+        escribir("\"" + valor.replace("\"", "\"\"") + "\"");
+    }
+
+    public void finRegistro() {
+        escribir("\r\n");
+        inicioRegistro = true;
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean iniciaFormula(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private boolean requiereComillas(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == separador || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void escribir(String texto) {
+        try {
+            writer.write(texto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
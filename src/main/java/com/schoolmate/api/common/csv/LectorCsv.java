@@ -0,0 +1,120 @@
+package com.schoolmate.api.common.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee un CSV registro a registro desde un {@link Reader}, sin cargar el archivo completo.
+ * <p>
+ * Separador configurable ({@code ,} o {@code ;}, el que exporta Excel en es-CL), campos entre comillas dobles
+ * con {@code ""} como comilla literal y saltos de línea dentro de comillas. Ignora el BOM UTF-8 inicial y las
+ * líneas vacías.
+ */
+public class LectorCsv {
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final char separador;
+    private long linea = 1;
+    private long lineaRegistro;
+    private boolean inicio = true;
+    private int pendiente = -2;
+
+    public LectorCsv(Reader reader, char separador) {
+        this.reader = reader;
+        this.separador = separador;
+    }
+
+    /**
+     * Siguiente registro, o {@code null} al terminar el archivo.
+     */
+    public List<String> siguiente() {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        boolean huboContenido = false;
+        lineaRegistro = linea;
+        int c;
+        while ((c = leer()) != -1) {
+            huboContenido = true;
+            if (entreComillas) {
+                if (c == '"') {
+                    int siguiente = leer();
+                    if (siguiente == '"') {
+                        campo.append('"');
+                    } else {
+                        entreComillas = false;
+                        devolver(siguiente);
+                    }
+                } else {
+                    if (c == '\n') {
+                        linea++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.isEmpty()) {
+                entreComillas = true;
+            } else if (c == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int siguiente = leer();
+                    if (siguiente != '\n') {
+                        devolver(siguiente);
+                    }
+                }
+                linea++;
+                if (campos.isEmpty() && campo.isEmpty()) {
+                    huboContenido = false;
+                    lineaRegistro = linea;
+                    continue;
+                }
+                campos.add(campo.toString());
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+        }
+        if (!huboContenido) {
+            return null;
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    /**
+     * Línea del archivo (desde 1) en que empezó el último registro devuelto por {@link #siguiente()}.
+     */
+    public long lineaRegistro() {
+        return lineaRegistro;
+    }
+
+    private int leer() {
+        if (pendiente != -2) {
+            int c = pendiente;
+            pendiente = -2;
+            return c;
+        }
+        try {
+            int c = reader.read();
+            if (inicio) {
+                inicio = false;
+                if (c == BOM) {
+                    c = reader.read();
+                }
+            }
+            return c;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void devolver(int c) {
+        pendiente = c;
+    }
+}
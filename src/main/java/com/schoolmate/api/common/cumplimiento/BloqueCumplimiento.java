@@ -0,0 +1,33 @@
+package com.schoolmate.api.common.cumplimiento;
+
+import com.schoolmate.api.entity.BloqueHorario;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record BloqueCumplimiento(
+    UUID bloqueId,
+    UUID cursoId,
+    String cursoNombre,
+    String materiaNombre,
+    UUID profesorId,
+    String profesorNombre,
+    String profesorApellido,
+    LocalTime horaInicio,
+    LocalTime horaFin
+) {
+
+    public static BloqueCumplimiento from(BloqueHorario bloque) {
+        return new BloqueCumplimiento(
+            bloque.getId(),
+            bloque.getCurso().getId(),
+            bloque.getCurso().getNombre(),
+            bloque.getMateria() != null ? bloque.getMateria().getNombre() : null,
+            bloque.getProfesor().getId(),
+            bloque.getProfesor().getNombre(),
+            bloque.getProfesor().getApellido(),
+            bloque.getHoraInicio(),
+            bloque.getHoraFin()
+        );
+    }
+}
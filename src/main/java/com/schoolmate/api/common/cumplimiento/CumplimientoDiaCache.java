@@ -0,0 +1,128 @@
+package com.schoolmate.api.common.cumplimiento;
+
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Snapshot en memoria del cumplimiento de asistencia por (año escolar, fecha) que consume el dashboard admin.
+ * <p>
+ * Los casos de uso que modifican bloques, asistencia o días no lectivos lo actualizan al confirmar su
+ * transacción. Las mutaciones que no pasan por aquí (p. ej. renombrar un curso o desactivar un profesor)
+ * quedan acotadas por {@link #VIGENCIA_MAXIMA}.
+ */
+@Component
+public class CumplimientoDiaCache {
+
+    static final Duration VIGENCIA_MAXIMA = Duration.ofMinutes(10);
+
+    private final Map<Clave, CumplimientoDiaSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public CumplimientoDiaSnapshot obtener(
+        UUID anoEscolarId,
+        LocalDate fecha,
+        Supplier<CumplimientoDiaSnapshot> cargador
+    ) {
+        Clave clave = new Clave(anoEscolarId, fecha);
+        CumplimientoDiaSnapshot actual = snapshots.get(clave);
+        if (actual != null && vigente(actual)) {
+            return actual;
+        }
+
+        long versionLectura = version.get();
+        CumplimientoDiaSnapshot cargado = cargador.get();
+        purgarFechasAnteriores(fecha);
+        // Si hubo un commit mientras se leía de BD, el resultado puede no incluirlo: se usa pero no se publica.
+        CumplimientoDiaSnapshot publicado = snapshots.compute(clave, (k, existente) -> {
+            if (version.get() != versionLectura) {
+                return existente;
+            }
+            return cargado;
+        });
+        return publicado != null && publicado != actual ? publicado : cargado;
+    }
+
+    public void registrarAsistencia(UUID anoEscolarId, LocalDate fecha, UUID bloqueId, LocalDateTime tomadaEn) {
+        TrasConfirmar.ejecutar(() ->
+            actualizar(new Clave(anoEscolarId, fecha), s -> s.conAsistencia(bloqueId, tomadaEn)));
+    }
+
+    public void quitarBloquesCurso(UUID anoEscolarId, UUID cursoId, int diaSemana) {
+        TrasConfirmar.ejecutar(() -> actualizarDia(anoEscolarId, diaSemana, s -> s.sinBloquesDeCurso(cursoId)));
+    }
+
+    public void quitarBloque(UUID anoEscolarId, int diaSemana, UUID bloqueId) {
+        TrasConfirmar.ejecutar(() -> actualizarDia(anoEscolarId, diaSemana, s -> s.sinBloque(bloqueId)));
+    }
+
+    public void asignarProfesor(UUID anoEscolarId, int diaSemana, BloqueCumplimiento bloque) {
+        // Si el bloque no figuraba, no sabemos si ya tenía asistencia tomada: se descarta el snapshot.
+        TrasConfirmar.ejecutar(() -> actualizarDia(anoEscolarId, diaSemana,
+            s -> {
+                if (s.esDiaNoLectivo()) {
+                    return s;
+                }
+                return s.contieneBloque(bloque.bloqueId()) ? s.conBloque(bloque) : null;
+            }));
+    }
+
+    public void registrarDiasNoLectivos(UUID anoEscolarId, List<CumplimientoDiaSnapshot> dias) {
+        TrasConfirmar.ejecutar(() -> {
+            version.incrementAndGet();
+            for (CumplimientoDiaSnapshot dia : dias) {
+                snapshots.put(new Clave(anoEscolarId, dia.getFecha()), dia);
+            }
+        });
+    }
+
+    public void invalidar(UUID anoEscolarId, LocalDate fecha) {
+        TrasConfirmar.ejecutar(() -> {
+            version.incrementAndGet();
+            snapshots.remove(new Clave(anoEscolarId, fecha));
+        });
+    }
+
+    public void invalidarAnoEscolar(UUID anoEscolarId) {
+        TrasConfirmar.ejecutar(() -> {
+            version.incrementAndGet();
+            snapshots.keySet().removeIf(clave -> clave.anoEscolarId().equals(anoEscolarId));
+        });
+    }
+
+    private void actualizar(Clave clave, UnaryOperator<CumplimientoDiaSnapshot> cambio) {
+        version.incrementAndGet();
+        snapshots.computeIfPresent(clave, (k, snapshot) -> cambio.apply(snapshot));
+    }
+
+    private void actualizarDia(UUID anoEscolarId, int diaSemana, UnaryOperator<CumplimientoDiaSnapshot> cambio) {
+        version.incrementAndGet();
+        for (Clave clave : snapshots.keySet()) {
+            if (clave.anoEscolarId().equals(anoEscolarId) && clave.fecha().getDayOfWeek().getValue() == diaSemana) {
+                snapshots.computeIfPresent(clave, (k, snapshot) -> cambio.apply(snapshot));
+            }
+        }
+    }
+
+    private boolean vigente(CumplimientoDiaSnapshot snapshot) {
+        return System.nanoTime() - snapshot.getConstruidoEnNanos() < VIGENCIA_MAXIMA.toNanos();
+    }
+
+    private void purgarFechasAnteriores(LocalDate fecha) {
+        LocalDate limite = fecha.minusDays(1);
+        snapshots.keySet().removeIf(clave -> clave.fecha().isBefore(limite));
+    }
+
+    private record Clave(UUID anoEscolarId, LocalDate fecha) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.schoolmate.api.common.cumplimiento;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Foto inmutable de los bloques CLASE con profesor de un día y de las asistencias ya tomadas.
+ * Cada modificación devuelve una copia nueva; los lectores nunca ven un estado a medio actualizar.
+ */
+public final class CumplimientoDiaSnapshot {
+
+    private static final Comparator<BloqueCumplimiento> ORDEN_BLOQUES = Comparator
+        .comparing(BloqueCumplimiento::profesorApellido)
+        .thenComparing(BloqueCumplimiento::profesorNombre)
+        .thenComparing(BloqueCumplimiento::horaInicio);
+
+    private final LocalDate fecha;
+    private final String diaNoLectivoTipo;
+    private final String diaNoLectivoDescripcion;
+    private final List<BloqueCumplimiento> bloques;
+    private final Map<UUID, LocalDateTime> asistenciaTomadaEn;
+    private final long construidoEnNanos;
+
+    private CumplimientoDiaSnapshot(
+        LocalDate fecha,
+        String diaNoLectivoTipo,
+        String diaNoLectivoDescripcion,
+        List<BloqueCumplimiento> bloques,
+        Map<UUID, LocalDateTime> asistenciaTomadaEn,
+        long construidoEnNanos
+    ) {
+        this.fecha = fecha;
+        this.diaNoLectivoTipo = diaNoLectivoTipo;
+        this.diaNoLectivoDescripcion = diaNoLectivoDescripcion;
+        this.bloques = Collections.unmodifiableList(bloques);
+        this.asistenciaTomadaEn = Collections.unmodifiableMap(asistenciaTomadaEn);
+        this.construidoEnNanos = construidoEnNanos;
+    }
+
+    public static CumplimientoDiaSnapshot diaLectivo(
+        LocalDate fecha,
+        List<BloqueCumplimiento> bloques,
+        Map<UUID, LocalDateTime> asistenciaTomadaEn
+    ) {
+        return new CumplimientoDiaSnapshot(
+            fecha, null, null, new ArrayList<>(bloques), new HashMap<>(asistenciaTomadaEn), System.nanoTime());
+    }
+
+    public static CumplimientoDiaSnapshot diaNoLectivo(LocalDate fecha, String tipo, String descripcion) {
+        return new CumplimientoDiaSnapshot(fecha, tipo, descripcion, List.of(), Map.of(), System.nanoTime());
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public boolean esDiaNoLectivo() {
+        return diaNoLectivoTipo != null;
+    }
+
+    public String getDiaNoLectivoTipo() {
+        return diaNoLectivoTipo;
+    }
+
+    public String getDiaNoLectivoDescripcion() {
+        return diaNoLectivoDescripcion;
+    }
+
+    public List<BloqueCumplimiento> getBloques() {
+        return bloques;
+    }
+
+    public LocalDateTime getAsistenciaTomadaEn(UUID bloqueId) {
+        return asistenciaTomadaEn.get(bloqueId);
+    }
+
+    public boolean contieneBloque(UUID bloqueId) {
+        return bloques.stream().anyMatch(b -> b.bloqueId().equals(bloqueId));
+    }
+
+    long getConstruidoEnNanos() {
+        return construidoEnNanos;
+    }
+
+    CumplimientoDiaSnapshot conAsistencia(UUID bloqueId, LocalDateTime tomadaEn) {
+        if (asistenciaTomadaEn.containsKey(bloqueId)) {
+            // La primera toma manda: AsistenciaClase.createdAt no cambia al editar.
+            return this;
+        }
+        Map<UUID, LocalDateTime> nuevas = new HashMap<>(asistenciaTomadaEn);
+        nuevas.put(bloqueId, tomadaEn);
+        return copiar(bloques, nuevas);
+    }
+
+    CumplimientoDiaSnapshot sinBloquesDeCurso(UUID cursoId) {
+        List<BloqueCumplimiento> restantes = bloques.stream()
+            .filter(b -> !b.cursoId().equals(cursoId))
+            .toList();
+        return restantes.size() == bloques.size() ? this : copiar(restantes, asistenciaTomadaEn);
+    }
+
+    CumplimientoDiaSnapshot sinBloque(UUID bloqueId) {
+        List<BloqueCumplimiento> restantes = bloques.stream()
+            .filter(b -> !b.bloqueId().equals(bloqueId))
+            .toList();
+        return restantes.size() == bloques.size() ? this : copiar(restantes, asistenciaTomadaEn);
+    }
+
+    CumplimientoDiaSnapshot conBloque(BloqueCumplimiento bloque) {
+        List<BloqueCumplimiento> nuevos = new ArrayList<>(bloques.size() + 1);
+        for (BloqueCumplimiento actual : bloques) {
+            if (!actual.bloqueId().equals(bloque.bloqueId())) {
+                nuevos.add(actual);
+            }
+        }
+        nuevos.add(bloque);
+        nuevos.sort(ORDEN_BLOQUES);
+        return copiar(nuevos, asistenciaTomadaEn);
+    }
+
+    private CumplimientoDiaSnapshot copiar(List<BloqueCumplimiento> nuevosBloques, Map<UUID, LocalDateTime> asistencias) {
+        return new CumplimientoDiaSnapshot(
+            fecha,
+            diaNoLectivoTipo,
+            diaNoLectivoDescripcion,
+            new ArrayList<>(nuevosBloques),
+            new HashMap<>(asistencias),
+            construidoEnNanos
+        );
+    }
+}
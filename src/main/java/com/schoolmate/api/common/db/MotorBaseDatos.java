@@ -0,0 +1,65 @@
+package com.schoolmate.api.common.db;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Motor de la base configurada (PostgreSQL en los ambientes, H2 en los tests), leído una sola vez de los metadatos
+ * de la conexión. Es el único punto donde el código decide SQL por dialecto. Si la consulta falla no se guarda
+ * nada y cada llamador aplica su valor por defecto; la siguiente llamada vuelve a intentar.
+ */
+@Component
+public class MotorBaseDatos {
+
+    private static final Logger log = LoggerFactory.getLogger(MotorBaseDatos.class);
+
+    public enum Motor {
+        POSTGRESQL,
+        H2,
+        OTRO
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Motor motor;
+
+    public MotorBaseDatos(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<Motor> motor() {
+        Motor actual = motor;
+        if (actual == null) {
+            actual = detectar();
+            motor = actual;
+        }
+        return Optional.ofNullable(actual);
+    }
+
+    public boolean esPostgres() {
+        return motor().orElse(null) == Motor.POSTGRESQL;
+    }
+
+    public boolean esH2() {
+        return motor().orElse(null) == Motor.H2;
+    }
+
+    private Motor detectar() {
+        try {
+            String producto = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(producto)) {
+                return Motor.POSTGRESQL;
+            }
+            return "H2".equalsIgnoreCase(producto) ? Motor.H2 : Motor.OTRO;
+        } catch (DataAccessException e) {
+            log.warn("Base de datos: no se pudo detectar el motor: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.schoolmate.api.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Generador de Hibernate detrás de {@link IdUuidV7}.
+ */
+public class GeneradorUuidV7 implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(
+        SharedSessionContractImplementor session,
+        Object owner,
+        Object currentValue,
+        EventType eventType
+    ) {
+        return UuidV7.generar();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,18 @@
+package com.schoolmate.api.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reemplaza a {@code @GeneratedValue(strategy = GenerationType.UUID)} en entidades de muchas inserciones: el id se
+ * genera con {@link UuidV7} antes del INSERT, igual que el v4, así que el resto del mapeo no cambia.
+ */
+@IdGeneratorType(GeneradorUuidV7.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface IdUuidV7 {
+}
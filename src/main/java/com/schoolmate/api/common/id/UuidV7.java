@@ -0,0 +1,52 @@
+package com.schoolmate.api.common.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID versión 7 (RFC 9562): los primeros 48 bits son el instante en milisegundos Unix, así que los ids
+ * generados uno tras otro quedan contiguos en los índices B-tree en vez de repartirse por todo el árbol como
+ * los v4. Los 12 bits {@code rand_a} son un contador dentro del mismo milisegundo (método 1 de la RFC), por lo
+ * que los ids de este proceso son estrictamente crecientes; los 62 bits finales son aleatorios.
+ * <p>
+ * El instante sale del reloj del sistema y no de {@code TimeContext}: el id ordena inserciones reales, no fechas
+ * de negocio (que en dev pueden estar fijadas).
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int BITS_CONTADOR = 12;
+
+    // Último (milisegundo << 12 | contador) entregado.
+    private static final AtomicLong ULTIMO = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generar() {
+        return desde(siguiente(ULTIMO, System.currentTimeMillis()), RANDOM.nextLong());
+    }
+
+    /**
+     * Milisegundos Unix codificados en el id.
+     */
+    public static long instante(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    static long siguiente(AtomicLong ultimoEntregado, long ahoraMs) {
+        long propuesto = ahoraMs << BITS_CONTADOR;
+        // Si el reloj no avanzó (o retrocedió) se sigue desde el último valor; al agotar los 4.096 del
+        // milisegundo el contador desborda al milisegundo siguiente, que sigue siendo mayor.
+        return ultimoEntregado.updateAndGet(ultimo -> Math.max(propuesto, ultimo + 1));
+    }
+
+    static UUID desde(long instanteYContador, long aleatorio) {
+        long ms = instanteYContador >>> BITS_CONTADOR;
+        long contador = instanteYContador & ((1L << BITS_CONTADOR) - 1);
+        long msb = (ms << 16) | (0x7L << 12) | contador;
+        long lsb = (aleatorio & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+}
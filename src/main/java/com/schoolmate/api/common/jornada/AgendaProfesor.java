@@ -0,0 +1,156 @@
+package com.schoolmate.api.common.jornada;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ocupaciones de un profesor en un año escolar, inmutable. Por día de semana guarda los bloques ordenados por
+ * hora de inicio junto al mayor {@code horaFin} acumulado hasta cada posición: la búsqueda de choques es una
+ * búsqueda binaria más un recorrido hacia atrás que se corta apenas ningún bloque anterior puede solaparse.
+ * Así también responde bien si hubiera bloques solapados ya guardados.
+ */
+final class AgendaProfesor {
+
+    private static final int DIAS = 8;
+    private static final Comparator<OcupacionProfesor> POR_INICIO = Comparator
+        .comparing(OcupacionProfesor::horaInicio)
+        .thenComparing(OcupacionProfesor::horaFin)
+        .thenComparing(OcupacionProfesor::bloqueId);
+
+    private final OcupacionProfesor[][] porDia;
+    private final LocalTime[][] finAcumulado;
+    private final long minutos;
+
+    private AgendaProfesor(OcupacionProfesor[][] porDia, long minutos) {
+        this.porDia = porDia;
+        this.finAcumulado = new LocalTime[DIAS][];
+        for (int dia = 0; dia < DIAS; dia++) {
+            OcupacionProfesor[] bloques = porDia[dia];
+            if (bloques == null) {
+                continue;
+            }
+            LocalTime[] fines = new LocalTime[bloques.length];
+            LocalTime maximo = LocalTime.MIN;
+            for (int i = 0; i < bloques.length; i++) {
+                if (bloques[i].horaFin().isAfter(maximo)) {
+                    maximo = bloques[i].horaFin();
+                }
+                fines[i] = maximo;
+            }
+            finAcumulado[dia] = fines;
+        }
+        this.minutos = minutos;
+    }
+
+    /**
+     * Devuelve {@code null} si no hay ocupaciones válidas.
+     */
+    static AgendaProfesor de(Collection<OcupacionProfesor> ocupaciones) {
+        List<List<OcupacionProfesor>> agrupadas = new ArrayList<>(DIAS);
+        for (int dia = 0; dia < DIAS; dia++) {
+            agrupadas.add(null);
+        }
+        long minutos = 0;
+        boolean vacia = true;
+        for (OcupacionProfesor ocupacion : ocupaciones) {
+            if (!diaValido(ocupacion.diaSemana())) {
+                continue;
+            }
+            List<OcupacionProfesor> dia = agrupadas.get(ocupacion.diaSemana());
+            if (dia == null) {
+                dia = new ArrayList<>();
+                agrupadas.set(ocupacion.diaSemana(), dia);
+            }
+            dia.add(ocupacion);
+            minutos += ocupacion.minutos();
+            vacia = false;
+        }
+        if (vacia) {
+            return null;
+        }
+        OcupacionProfesor[][] porDia = new OcupacionProfesor[DIAS][];
+        for (int dia = 0; dia < DIAS; dia++) {
+            List<OcupacionProfesor> bloques = agrupadas.get(dia);
+            if (bloques != null) {
+                porDia[dia] = bloques.toArray(OcupacionProfesor[]::new);
+                Arrays.sort(porDia[dia], POR_INICIO);
+            }
+        }
+        return new AgendaProfesor(porDia, minutos);
+    }
+
+    long minutos() {
+        return minutos;
+    }
+
+    /**
+     * Bloques del día que se solapan con {@code [inicio, fin)}, ordenados por hora de inicio.
+     */
+    List<OcupacionProfesor> colisiones(int diaSemana, LocalTime inicio, LocalTime fin, UUID bloqueExcluido) {
+        if (!diaValido(diaSemana) || porDia[diaSemana] == null) {
+            return List.of();
+        }
+        OcupacionProfesor[] bloques = porDia[diaSemana];
+        LocalTime[] fines = finAcumulado[diaSemana];
+
+        List<OcupacionProfesor> colisiones = null;
+        for (int i = primeroQueIniciaDesde(bloques, fin) - 1; i >= 0 && fines[i].isAfter(inicio); i--) {
+            OcupacionProfesor bloque = bloques[i];
+            if (bloque.horaFin().isAfter(inicio) && !bloque.bloqueId().equals(bloqueExcluido)) {
+                if (colisiones == null) {
+                    colisiones = new ArrayList<>(2);
+                }
+                colisiones.add(bloque);
+            }
+        }
+        if (colisiones == null) {
+            return List.of();
+        }
+        return colisiones.reversed();
+    }
+
+    AgendaProfesor con(OcupacionProfesor ocupacion) {
+        List<OcupacionProfesor> todas = todas();
+        todas.add(ocupacion);
+        return de(todas);
+    }
+
+    AgendaProfesor sin(UUID bloqueId) {
+        List<OcupacionProfesor> todas = todas();
+        todas.removeIf(ocupacion -> ocupacion.bloqueId().equals(bloqueId));
+        return de(todas);
+    }
+
+    private List<OcupacionProfesor> todas() {
+        List<OcupacionProfesor> todas = new ArrayList<>();
+        for (OcupacionProfesor[] bloques : porDia) {
+            if (bloques != null) {
+                todas.addAll(Arrays.asList(bloques));
+            }
+        }
+        return todas;
+    }
+
+    private static int primeroQueIniciaDesde(OcupacionProfesor[] bloques, LocalTime hora) {
+        int desde = 0;
+        int hasta = bloques.length;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (bloques[medio].horaInicio().isBefore(hora)) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+
+    private static boolean diaValido(Integer diaSemana) {
+        return diaSemana != null && diaSemana >= 1 && diaSemana < DIAS;
+    }
+}
@@ -0,0 +1,72 @@
+package com.schoolmate.api.common.jornada;
+
+import com.schoolmate.api.entity.BloqueHorario;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reemplaza la jornada completa de uno o más cursos: un {@code UPDATE} desactiva todos sus bloques activos y un
+ * batch JDBC inserta los nuevos. Los bloques recibidos quedan con id y fechas asignados, listos para armar la
+ * respuesta sin volver a consultar.
+ * <p>
+ * Los bloques desactivados se conservan, igual que en {@code desactivarBloquesDia}, porque la asistencia
+ * registrada los referencia.
+ */
+@Component
+public class EscrituraBloquesHorario {
+
+    private static final String DESACTIVAR_CURSOS = """
+        UPDATE bloque_horario
+        SET activo = false, updated_at = :ahora
+        WHERE curso_id IN (:cursoIds) AND activo = true
+        """;
+
+    private static final String INSERTAR = """
+        INSERT INTO bloque_horario (id, curso_id, dia_semana, numero_bloque, hora_inicio, hora_fin, tipo,
+            materia_id, profesor_id, activo, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, NULL, NULL, true, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public EscrituraBloquesHorario(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @param bloques bloques nuevos, sin materia ni profesor; cada uno debe pertenecer a uno de {@code cursoIds}
+     * @return bloques activos desactivados
+     */
+    public int reemplazar(Collection<UUID> cursoIds, List<BloqueHorario> bloques, LocalDateTime ahora) {
+        if (cursoIds.isEmpty()) {
+            return 0;
+        }
+        int desactivados = namedJdbcTemplate.update(DESACTIVAR_CURSOS, new MapSqlParameterSource()
+            .addValue("cursoIds", cursoIds)
+            .addValue("ahora", ahora));
+
+        List<Object[]> filas = new ArrayList<>(bloques.size());
+        for (BloqueHorario bloque : bloques) {
+            bloque.setId(UUID.randomUUID());
+            bloque.setActivo(true);
+            bloque.setCreatedAt(ahora);
+            bloque.setUpdatedAt(ahora);
+            filas.add(new Object[] {
+                bloque.getId(), bloque.getCurso().getId(), bloque.getDiaSemana(), bloque.getNumeroBloque(),
+                bloque.getHoraInicio(), bloque.getHoraFin(), bloque.getTipo().name(), ahora, ahora
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERTAR, filas);
+        return desactivados;
+    }
+}
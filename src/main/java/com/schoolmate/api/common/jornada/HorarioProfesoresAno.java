@@ -0,0 +1,102 @@
+package com.schoolmate.api.common.jornada;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Horario de todos los profesores de un año escolar: por profesor, sus bloques por día y sus minutos de clase
+ * asignados. Las lecturas no toman locks; los cambios reemplazan la agenda del profesor afectado.
+ */
+public final class HorarioProfesoresAno {
+
+    private final Map<UUID, AgendaProfesor> agendas;
+    private final Map<UUID, OcupacionProfesor> ocupaciones;
+    private final long construidoEnNanos;
+
+    private HorarioProfesoresAno(
+        Map<UUID, AgendaProfesor> agendas,
+        Map<UUID, OcupacionProfesor> ocupaciones,
+        long construidoEnNanos
+    ) {
+        this.agendas = agendas;
+        this.ocupaciones = ocupaciones;
+        this.construidoEnNanos = construidoEnNanos;
+    }
+
+    public static HorarioProfesoresAno de(Collection<OcupacionProfesor> bloques) {
+        Map<UUID, List<OcupacionProfesor>> porProfesor = new HashMap<>();
+        Map<UUID, OcupacionProfesor> ocupaciones = new ConcurrentHashMap<>();
+        for (OcupacionProfesor bloque : bloques) {
+            porProfesor.computeIfAbsent(bloque.profesorId(), k -> new ArrayList<>()).add(bloque);
+            ocupaciones.put(bloque.bloqueId(), bloque);
+        }
+        Map<UUID, AgendaProfesor> agendas = new ConcurrentHashMap<>();
+        porProfesor.forEach((profesorId, delProfesor) -> {
+            AgendaProfesor agenda = AgendaProfesor.de(delProfesor);
+            if (agenda != null) {
+                agendas.put(profesorId, agenda);
+            }
+        });
+        return new HorarioProfesoresAno(agendas, ocupaciones, System.nanoTime());
+    }
+
+    /**
+     * Bloques del profesor que se solapan con {@code [inicio, fin)} ese día, ordenados por hora de inicio.
+     */
+    public List<OcupacionProfesor> colisiones(
+        UUID profesorId,
+        int diaSemana,
+        LocalTime inicio,
+        LocalTime fin,
+        UUID bloqueExcluido
+    ) {
+        AgendaProfesor agenda = agendas.get(profesorId);
+        return agenda != null ? agenda.colisiones(diaSemana, inicio, fin, bloqueExcluido) : List.of();
+    }
+
+    public long minutosAsignados(UUID profesorId) {
+        AgendaProfesor agenda = agendas.get(profesorId);
+        return agenda != null ? agenda.minutos() : 0L;
+    }
+
+    long construidoEnNanos() {
+        return construidoEnNanos;
+    }
+
+    synchronized void poner(OcupacionProfesor ocupacion) {
+        quitar(ocupacion.bloqueId());
+        ocupaciones.put(ocupacion.bloqueId(), ocupacion);
+        AgendaProfesor actual = agendas.get(ocupacion.profesorId());
+        AgendaProfesor nueva = actual != null ? actual.con(ocupacion) : AgendaProfesor.de(List.of(ocupacion));
+        if (nueva != null) {
+            agendas.put(ocupacion.profesorId(), nueva);
+        }
+    }
+
+    synchronized void quitar(UUID bloqueId) {
+        OcupacionProfesor anterior = ocupaciones.remove(bloqueId);
+        if (anterior == null) {
+            return;
+        }
+        agendas.computeIfPresent(anterior.profesorId(), (profesorId, agenda) -> agenda.sin(bloqueId));
+    }
+
+    /**
+     * Quita los bloques de los cursos indicados; con {@code diaSemana} nulo, los de toda la semana.
+     */
+    synchronized void quitarCursos(Set<UUID> cursoIds, Integer diaSemana) {
+        List<UUID> bloqueIds = ocupaciones.values().stream()
+            .filter(ocupacion -> cursoIds.contains(ocupacion.cursoId()))
+            .filter(ocupacion -> diaSemana == null || diaSemana.equals(ocupacion.diaSemana()))
+            .map(OcupacionProfesor::bloqueId)
+            .toList();
+        bloqueIds.forEach(this::quitar);
+    }
+}
@@ -0,0 +1,96 @@
+package com.schoolmate.api.common.jornada;
+
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * {@link HorarioProfesoresAno} por año escolar, cargado la primera vez que se consulta con una sola lectura de
+ * los bloques de clase con profesor. Lo usan los choques de horario y la carga horaria al elegir profesor.
+ * <p>
+ * Los casos de uso que asignan o quitan profesor, o que reemplazan/eliminan bloques, lo actualizan al confirmar
+ * su transacción. Los cambios hechos en otra réplica quedan acotados por {@link #VIGENCIA_MAXIMA}; por eso la
+ * asignación de profesor sigue validando el choque contra la base de datos antes de escribir.
+ */
+@Component
+public class IndiceHorarioProfesores {
+
+    static final Duration VIGENCIA_MAXIMA = Duration.ofMinutes(10);
+
+    private final BloqueHorarioRepository bloqueHorarioRepository;
+    private final Map<UUID, HorarioProfesoresAno> horarios = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public IndiceHorarioProfesores(BloqueHorarioRepository bloqueHorarioRepository) {
+        this.bloqueHorarioRepository = bloqueHorarioRepository;
+    }
+
+    public HorarioProfesoresAno obtener(UUID anoEscolarId) {
+        HorarioProfesoresAno actual = horarios.get(anoEscolarId);
+        if (actual != null && vigente(actual)) {
+            return actual;
+        }
+
+        long versionLectura = version.get();
+        HorarioProfesoresAno cargado = HorarioProfesoresAno.de(
+            bloqueHorarioRepository.findOcupacionesProfesoresEnAnoEscolar(anoEscolarId));
+        // Igual que en CumplimientoDiaCache: si hubo un commit durante la lectura, se usa pero no se publica.
+        horarios.compute(anoEscolarId, (k, existente) -> version.get() != versionLectura ? existente : cargado);
+        return cargado;
+    }
+
+    /**
+     * Refleja el profesor actual del bloque: lo agrega, lo mueve o lo quita si el bloque quedó sin profesor.
+     */
+    public void actualizarBloque(UUID anoEscolarId, BloqueHorario bloque) {
+        UUID bloqueId = bloque.getId();
+        OcupacionProfesor ocupacion = bloque.getProfesor() != null && Boolean.TRUE.equals(bloque.getActivo())
+            ? OcupacionProfesor.from(bloque)
+            : null;
+        alConfirmar(anoEscolarId, horario -> {
+            if (ocupacion != null) {
+                horario.poner(ocupacion);
+            } else {
+                horario.quitar(bloqueId);
+            }
+        });
+    }
+
+    public void quitarBloque(UUID anoEscolarId, UUID bloqueId) {
+        alConfirmar(anoEscolarId, horario -> horario.quitar(bloqueId));
+    }
+
+    public void quitarBloquesCurso(UUID anoEscolarId, UUID cursoId, int diaSemana) {
+        alConfirmar(anoEscolarId, horario -> horario.quitarCursos(Set.of(cursoId), diaSemana));
+    }
+
+    public void quitarBloquesCursos(UUID anoEscolarId, Collection<UUID> cursoIds) {
+        Set<UUID> cursos = Set.copyOf(cursoIds);
+        alConfirmar(anoEscolarId, horario -> horario.quitarCursos(cursos, null));
+    }
+
+    private boolean vigente(HorarioProfesoresAno horario) {
+        return System.nanoTime() - horario.construidoEnNanos() < VIGENCIA_MAXIMA.toNanos();
+    }
+
+    private void alConfirmar(UUID anoEscolarId, Consumer<HorarioProfesoresAno> cambio) {
+        Runnable accion = () -> {
+            version.incrementAndGet();
+            HorarioProfesoresAno horario = horarios.get(anoEscolarId);
+            if (horario != null) {
+                cambio.accept(horario);
+            }
+        };
+        TrasConfirmar.ejecutar(accion);
+    }
+}
@@ -0,0 +1,39 @@
+package com.schoolmate.api.common.jornada;
+
+import com.schoolmate.api.entity.BloqueHorario;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Bloque activo con profesor asignado, con lo que necesitan las validaciones de choque de horario y carga.
+ */
+public record OcupacionProfesor(
+    UUID bloqueId,
+    UUID cursoId,
+    String cursoNombre,
+    String materiaNombre,
+    UUID profesorId,
+    Integer diaSemana,
+    LocalTime horaInicio,
+    LocalTime horaFin
+) {
+
+    public static OcupacionProfesor from(BloqueHorario bloque) {
+        return new OcupacionProfesor(
+            bloque.getId(),
+            bloque.getCurso().getId(),
+            bloque.getCurso().getNombre(),
+            bloque.getMateria() != null ? bloque.getMateria().getNombre() : null,
+            bloque.getProfesor().getId(),
+            bloque.getDiaSemana(),
+            bloque.getHoraInicio(),
+            bloque.getHoraFin()
+        );
+    }
+
+    public long minutos() {
+        return Duration.between(horaInicio, horaFin).toMinutes();
+    }
+}
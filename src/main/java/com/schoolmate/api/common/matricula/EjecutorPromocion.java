@@ -0,0 +1,249 @@
+package com.schoolmate.api.common.matricula;
+
+import com.schoolmate.api.common.revision.RevisionAgregados;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.Grado;
+import com.schoolmate.api.entity.PromocionAnoEscolar;
+import com.schoolmate.api.enums.EstadoPromocion;
+import com.schoolmate.api.repository.CursoRepository;
+import com.schoolmate.api.repository.GradoRepository;
+import com.schoolmate.api.repository.PromocionAnoEscolarRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Ejecuta en segundo plano la promoción de un año escolar: por cada curso activo del año origen matricula a sus
+ * alumnos en el curso activo del grado siguiente con la misma letra en el año destino.
+ * <p>
+ * Cada curso se procesa en su propia transacción, que bloquea la fila de {@link PromocionAnoEscolar}, inserta
+ * con {@link InsercionMatriculasLote#promoverCurso} y lo guarda como {@code ultimoCursoOrigenId}. Una promoción
+ * interrumpida (reinicio o falla) se retoma en el curso que sigue a ese en el orden del plan, aunque entretanto se
+ * hayan creado o desactivado cursos; como la inserción omite a quien ya está matriculado, repetir un curso no
+ * duplica matrículas. Al iniciar la aplicación se retoman las promociones PENDIENTE y EN_CURSO.
+ */
+@Component
+public class EjecutorPromocion {
+
+    private static final Logger log = LoggerFactory.getLogger(EjecutorPromocion.class);
+
+    public static final List<EstadoPromocion> ESTADOS_ACTIVOS =
+        List.of(EstadoPromocion.PENDIENTE, EstadoPromocion.EN_CURSO);
+
+    private static final Comparator<Curso> ORDEN_PLAN = Comparator
+        .comparing((Curso curso) -> curso.getGrado().getNivel())
+        .thenComparing(Curso::getLetra)
+        .thenComparing(Curso::getId);
+
+    private final PromocionAnoEscolarRepository promocionRepository;
+    private final CursoRepository cursoRepository;
+    private final GradoRepository gradoRepository;
+    private final InsercionMatriculasLote insercionMatriculas;
+    private final RevisionAgregados revisionAgregados;
+    private final ClockProvider clockProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("promocion-ano-escolar").daemon(true).factory());
+
+    public EjecutorPromocion(
+        PromocionAnoEscolarRepository promocionRepository,
+        CursoRepository cursoRepository,
+        GradoRepository gradoRepository,
+        InsercionMatriculasLote insercionMatriculas,
+        RevisionAgregados revisionAgregados,
+        ClockProvider clockProvider,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.promocionRepository = promocionRepository;
+        this.cursoRepository = cursoRepository;
+        this.gradoRepository = gradoRepository;
+        this.insercionMatriculas = insercionMatriculas;
+        this.revisionAgregados = revisionAgregados;
+        this.clockProvider = clockProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Pasos de la promoción en orden estable (nivel, letra, id del curso origen). El destino es {@code null}
+     * cuando el curso es del último grado (egreso) o cuando falta el curso equivalente en el año destino.
+     */
+    public List<Paso> planificar(UUID anoOrigenId, UUID anoDestinoId) {
+        return planificar(anoOrigenId, anoDestinoId, null);
+    }
+
+    /**
+     * Pasos que siguen a {@code despuesDe} en el orden del plan, o todos si es {@code null}. La posición se busca
+     * entre todos los cursos del año origen, activos o no, para que desactivar el último curso procesado no mueva
+     * el punto de reanudación; si el curso ya no existe se parte del inicio.
+     */
+    List<Paso> planificar(UUID anoOrigenId, UUID anoDestinoId, UUID despuesDe) {
+        List<Grado> grados = gradoRepository.findAllByOrderByNivelAsc();
+        Map<UUID, UUID> gradoSiguiente = new HashMap<>();
+        for (int i = 0; i + 1 < grados.size(); i++) {
+            gradoSiguiente.put(grados.get(i).getId(), grados.get(i + 1).getId());
+        }
+
+        Map<String, UUID> destinos = new HashMap<>();
+        for (Curso curso : cursoRepository.findByAnoEscolarIdOrderByNombreAscWithRelaciones(anoDestinoId)) {
+            if (Boolean.TRUE.equals(curso.getActivo())) {
+                destinos.putIfAbsent(claveDestino(curso.getGrado().getId(), curso.getLetra()), curso.getId());
+            }
+        }
+
+        List<Curso> origenes = new ArrayList<>(cursoRepository.findByAnoEscolarIdOrderByNombreAscWithRelaciones(anoOrigenId));
+        origenes.sort(ORDEN_PLAN);
+        int desde = 0;
+        for (int i = 0; despuesDe != null && i < origenes.size(); i++) {
+            if (origenes.get(i).getId().equals(despuesDe)) {
+                desde = i + 1;
+                break;
+            }
+        }
+
+        List<Paso> pasos = new ArrayList<>(origenes.size() - desde);
+        for (Curso origen : origenes.subList(desde, origenes.size())) {
+            if (!Boolean.TRUE.equals(origen.getActivo())) {
+                continue;
+            }
+            UUID siguiente = gradoSiguiente.get(origen.getGrado().getId());
+            UUID destino = siguiente != null ? destinos.get(claveDestino(siguiente, origen.getLetra())) : null;
+            pasos.add(new Paso(origen.getId(), destino, siguiente == null));
+        }
+        return pasos;
+    }
+
+    /**
+     * Encola la promoción. Dentro de una transacción se encola al confirmarla, para que el hilo de fondo vea la fila.
+     */
+    public void programar(UUID promocionId) {
+        TrasConfirmar.ejecutar(() -> encolar(promocionId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reanudarPendientes() {
+        List<PromocionAnoEscolar> pendientes = promocionRepository.findByEstadoInOrderByCreatedAtAsc(ESTADOS_ACTIVOS);
+        if (!pendientes.isEmpty()) {
+            log.info("Promocion: se retoman {} promociones pendientes", pendientes.size());
+        }
+        pendientes.forEach(promocion -> encolar(promocion.getId()));
+    }
+
+    @PreDestroy
+    public void detener() {
+        executor.shutdownNow();
+    }
+
+    private void encolar(UUID promocionId) {
+        try {
+            executor.execute(() -> procesar(promocionId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Promocion {}: no se pudo encolar, se retomara al reiniciar", promocionId);
+        }
+    }
+
+    void procesar(UUID promocionId) {
+        try {
+            PromocionAnoEscolar promocion = promocionRepository.findById(promocionId).orElse(null);
+            if (promocion == null || !promocion.estaActiva()) {
+                return;
+            }
+            UUID ultimo = promocion.getUltimoCursoOrigenId();
+            List<Paso> pendientes = planificar(promocion.getAnoOrigenId(), promocion.getAnoDestinoId(), ultimo);
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> iniciar(promocionId, ultimo, pendientes.size())))) {
+                return;
+            }
+            UUID anterior = ultimo;
+            for (Paso paso : pendientes) {
+                UUID esperado = anterior;
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(
+                        status -> procesarCurso(promocionId, esperado, paso)))) {
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Promocion {}: detenida, se retomara al reiniciar", promocionId);
+                    return;
+                }
+                anterior = paso.cursoOrigenId();
+            }
+            transactionTemplate.executeWithoutResult(status -> completar(promocionId));
+        } catch (RuntimeException e) {
+            log.error("Promocion {}: fallo", promocionId, e);
+            transactionTemplate.executeWithoutResult(status -> promocionRepository.findByIdForUpdate(promocionId)
+                .ifPresent(promocion -> promocion.fallar(e.getMessage(), clockProvider.now())));
+        }
+    }
+
+    private boolean iniciar(UUID promocionId, UUID ultimo, int pendientes) {
+        PromocionAnoEscolar promocion = promocionRepository.findByIdForUpdate(promocionId).orElse(null);
+        if (promocion == null || !promocion.estaActiva()
+            || !Objects.equals(promocion.getUltimoCursoOrigenId(), ultimo)) {
+            return false;
+        }
+        promocion.iniciar(promocion.getCursosProcesados() + pendientes);
+        return true;
+    }
+
+    /**
+     * {@code false} si la promoción ya no está en curso o si otra ejecución avanzó desde {@code esperado}.
+     */
+    private boolean procesarCurso(UUID promocionId, UUID esperado, Paso paso) {
+        PromocionAnoEscolar promocion = promocionRepository.findByIdForUpdate(promocionId).orElseThrow();
+        if (promocion.getEstado() != EstadoPromocion.EN_CURSO
+            || !Objects.equals(promocion.getUltimoCursoOrigenId(), esperado)) {
+            return false;
+        }
+        int creadas = 0;
+        if (paso.cursoDestinoId() != null) {
+            creadas = insercionMatriculas.promoverCurso(
+                paso.cursoOrigenId(),
+                paso.cursoDestinoId(),
+                promocion.getAnoDestinoId(),
+                promocion.getFechaMatricula(),
+                clockProvider.now());
+            if (creadas > 0) {
+                revisionAgregados.incrementar(RevisionAgregados.Agregado.MATRICULAS_CURSO, paso.cursoDestinoId());
+            }
+        }
+        promocion.registrarCurso(paso.cursoOrigenId(), creadas, paso.cursoDestinoId() == null && !paso.egreso());
+        return true;
+    }
+
+    private void completar(UUID promocionId) {
+        PromocionAnoEscolar promocion = promocionRepository.findByIdForUpdate(promocionId).orElseThrow();
+        if (promocion.getEstado() == EstadoPromocion.EN_CURSO) {
+            promocion.completar(clockProvider.now());
+            log.info("Promocion {}: {} cursos, {} matriculas creadas, {} cursos sin destino",
+                promocionId, promocion.getCursosProcesados(), promocion.getMatriculasCreadas(),
+                promocion.getCursosSinDestino());
+        }
+    }
+
+    private static String claveDestino(UUID gradoId, String letra) {
+        return gradoId + "|" + letra;
+    }
+
+    /**
+     * @param egreso el curso origen es del último grado; sus alumnos no se vuelven a matricular
+     */
+    public record Paso(UUID cursoOrigenId, UUID cursoDestinoId, boolean egreso) {
+    }
+}
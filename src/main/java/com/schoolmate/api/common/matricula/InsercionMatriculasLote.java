@@ -0,0 +1,133 @@
+package com.schoolmate.api.common.matricula;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Crea matrículas ACTIVA en bloque con {@code INSERT ... SELECT}, en una sentencia por curso destino.
+ * <p>
+ * Un alumno que ya tiene matrícula ACTIVA en el año destino se omite: el {@code NOT EXISTS} lo filtra y, en
+ * PostgreSQL, el {@code ON CONFLICT} sobre {@code uq_matricula_alumno_ano_activa} cubre a una matrícula creada
+ * en paralelo entre la lectura y la escritura. Por eso ambas operaciones se pueden repetir sin duplicar.
+ * Devuelven las filas insertadas.
+ */
+@Component
+public class InsercionMatriculasLote {
+
+    private static final String MATRICULAR_ALUMNOS = """
+        INSERT INTO matricula (id, alumno_id, curso_id, ano_escolar_id, fecha_matricula, estado, created_at, updated_at)
+        SELECT %s, a.id, :cursoId, :anoEscolarId, :fecha, 'ACTIVA', :ahora, :ahora
+        FROM alumno a
+        WHERE a.id IN (:alumnoIds)
+          AND a.activo = true
+          AND NOT EXISTS (
+              SELECT 1 FROM matricula d
+              WHERE d.alumno_id = a.id AND d.ano_escolar_id = :anoEscolarId AND d.estado = 'ACTIVA'
+          )
+        %s
+        """;
+
+    private static final String PROMOVER_CURSO = """
+        INSERT INTO matricula (id, alumno_id, curso_id, ano_escolar_id, fecha_matricula, estado, created_at, updated_at)
+        SELECT %s, a.id, :cursoId, :anoEscolarId, :fecha, 'ACTIVA', :ahora, :ahora
+        FROM matricula o
+        JOIN alumno a ON a.id = o.alumno_id
+        WHERE o.curso_id = :cursoOrigenId
+          AND o.estado = 'ACTIVA'
+          AND a.activo = true
+          AND NOT EXISTS (
+              SELECT 1 FROM matricula d
+              WHERE d.alumno_id = a.id AND d.ano_escolar_id = :anoEscolarId AND d.estado = 'ACTIVA'
+          )
+        %s
+        """;
+
+    private static final String ON_CONFLICT =
+        "ON CONFLICT (alumno_id, ano_escolar_id) WHERE estado = 'ACTIVA' DO NOTHING";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final MotorBaseDatos motorBaseDatos;
+
+    public InsercionMatriculasLote(JdbcTemplate jdbcTemplate, MotorBaseDatos motorBaseDatos) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.motorBaseDatos = motorBaseDatos;
+    }
+
+    public int matricularAlumnos(
+        Collection<UUID> alumnoIds,
+        UUID cursoId,
+        UUID anoEscolarId,
+        LocalDate fechaMatricula,
+        LocalDateTime ahora
+    ) {
+        if (alumnoIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource parametros = parametros(cursoId, anoEscolarId, fechaMatricula, ahora)
+            .addValue("alumnoIds", alumnoIds);
+        return namedJdbcTemplate.update(sql(MATRICULAR_ALUMNOS), parametros);
+    }
+
+    /**
+     * Matricula en {@code cursoDestinoId} a los alumnos activos con matrícula ACTIVA en {@code cursoOrigenId}.
+     */
+    public int promoverCurso(
+        UUID cursoOrigenId,
+        UUID cursoDestinoId,
+        UUID anoEscolarDestinoId,
+        LocalDate fechaMatricula,
+        LocalDateTime ahora
+    ) {
+        MapSqlParameterSource parametros = parametros(cursoDestinoId, anoEscolarDestinoId, fechaMatricula, ahora)
+            .addValue("cursoOrigenId", cursoOrigenId);
+        return namedJdbcTemplate.update(sql(PROMOVER_CURSO), parametros);
+    }
+
+    private static MapSqlParameterSource parametros(
+        UUID cursoId,
+        UUID anoEscolarId,
+        LocalDate fechaMatricula,
+        LocalDateTime ahora
+    ) {
+        return new MapSqlParameterSource()
+            .addValue("cursoId", cursoId)
+            .addValue("anoEscolarId", anoEscolarId)
+            .addValue("fecha", fechaMatricula)
+            .addValue("ahora", ahora);
+    }
+
+    private String sql(String plantilla) {
+        // H2 (tests) no admite ON CONFLICT con índice parcial ni gen_random_uuid().
+        Dialecto actual = motorBaseDatos.esH2() ? Dialecto.H2 : Dialecto.POSTGRESQL;
+        return plantilla.formatted(actual.nuevoUuid(), actual.conflicto());
+    }
+
+    private enum Dialecto {
+        POSTGRESQL("gen_random_uuid()", ON_CONFLICT),
+        H2("RANDOM_UUID()", "");
+
+        private final String nuevoUuid;
+        private final String conflicto;
+
+        Dialecto(String nuevoUuid, String conflicto) {
+            this.nuevoUuid = nuevoUuid;
+            this.conflicto = conflicto;
+        }
+
+        String nuevoUuid() {
+            return nuevoUuid;
+        }
+
+        String conflicto() {
+            return conflicto;
+        }
+    }
+}
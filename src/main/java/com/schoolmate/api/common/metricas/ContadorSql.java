@@ -0,0 +1,40 @@
+package com.schoolmate.api.common.metricas;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Cuenta, por hilo, las sentencias SQL que se ejecutan por JDBC y las entidades que Hibernate materializa.
+ * <p>
+ * Las estadísticas de Hibernate ({@code hibernate.generate_statistics}) son globales a la
+ * {@code SessionFactory} y con requests concurrentes no se pueden atribuir a una invocación. Estos contadores
+ * son acumulados del hilo: quien mide toma el valor antes y después y se queda con la diferencia.
+ * <p>
+ * Las sentencias las suma {@link DataSourceContadorSql}, así que incluyen las de {@code JdbcTemplate} y no solo
+ * las de Hibernate; las entidades las suma la instancia que {@link RegistroContadorSql} agrega como listener de
+ * {@code POST_LOAD}.
+ */
+public class ContadorSql implements PostLoadEventListener {
+
+    private static final int SENTENCIAS = 0;
+    private static final int ENTIDADES = 1;
+
+    private static final ThreadLocal<long[]> CONTADORES = ThreadLocal.withInitial(() -> new long[2]);
+
+    static void sumarSentencia() {
+        CONTADORES.get()[SENTENCIAS]++;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        CONTADORES.get()[ENTIDADES]++;
+    }
+
+    public static long sentencias() {
+        return CONTADORES.get()[SENTENCIAS];
+    }
+
+    public static long entidades() {
+        return CONTADORES.get()[ENTIDADES];
+    }
+}
@@ -0,0 +1,68 @@
+package com.schoolmate.api.common.metricas;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Envuelve el {@link DataSource} para que {@link ContadorSql} cuente cada ejecución de sentencia por JDBC, venga
+ * de Hibernate, de {@code JdbcTemplate} o de un {@code ConnectionCallback}. Cuenta una vez por {@code execute*},
+ * así que un {@code executeBatch} es una sola ida a la base aunque lleve muchas filas.
+ * <p>
+ * {@code unwrap}/{@code isWrapperFor} se delegan al pool y a la conexión física, así que las métricas del pool y
+ * el {@code COPY} de PostgreSQL siguen viendo los objetos reales.
+ */
+public class DataSourceContadorSql extends DelegatingDataSource {
+
+    public DataSourceContadorSql(DataSource destino) {
+        super(destino);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conContador(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conContador(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection conContador(Connection conexion) {
+        return (Connection) Proxy.newProxyInstance(
+            DataSourceContadorSql.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, metodo, args) -> {
+                Object resultado = invocar(conexion, metodo, args);
+                if (resultado instanceof Statement sentencia) {
+                    return conContador(sentencia, metodo.getReturnType());
+                }
+                return resultado;
+            });
+    }
+
+    private static Object conContador(Statement sentencia, Class<?> tipo) {
+        InvocationHandler contar = (proxy, metodo, args) -> {
+            if (metodo.getName().startsWith("execute")) {
+                ContadorSql.sumarSentencia();
+            }
+            return invocar(sentencia, metodo, args);
+        };
+        return Proxy.newProxyInstance(DataSourceContadorSql.class.getClassLoader(), new Class<?>[]{tipo}, contar);
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.schoolmate.api.common.metricas;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de buckets fijos, con el mismo modelo que un histograma de Prometheus: cada observación suma en
+ * el primer bucket cuyo límite superior la contiene, más un bucket final sin límite.
+ * <p>
+ * Los percentiles se estiman interpolando linealmente dentro del bucket, igual que {@code histogram_quantile};
+ * su precisión depende de qué tan finos sean los límites en el rango que interesa.
+ */
+public final class Histograma {
+
+    private final double[] limites;
+    private final LongAdder[] buckets;
+    private final LongAdder cantidad = new LongAdder();
+    private final DoubleAdder suma = new DoubleAdder();
+    private final LongAccumulator maximoBits = new LongAccumulator(Math::max, Double.doubleToLongBits(0.0));
+
+    public Histograma(double... limites) {
+        this.limites = limites.clone();
+        Arrays.sort(this.limites);
+        this.buckets = new LongAdder[this.limites.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void registrar(double valor) {
+        int indice = Arrays.binarySearch(limites, valor);
+        if (indice < 0) {
+            indice = -indice - 1;
+        }
+        buckets[indice].increment();
+        cantidad.increment();
+        suma.add(valor);
+        // Para dobles no negativos el orden de los bits coincide con el numérico.
+        maximoBits.accumulate(Double.doubleToLongBits(Math.max(valor, 0.0)));
+    }
+
+    public long cantidad() {
+        return cantidad.sum();
+    }
+
+    public double suma() {
+        return suma.sum();
+    }
+
+    public double maximo() {
+        return Double.longBitsToDouble(maximoBits.get());
+    }
+
+    public double[] limites() {
+        return limites.clone();
+    }
+
+    /**
+     * Conteos acumulados por límite (como los {@code _bucket{le=...}} de Prometheus); el último elemento
+     * corresponde a {@code +Inf}.
+     */
+    public long[] acumulados() {
+        long[] acumulados = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            total += buckets[i].sum();
+            acumulados[i] = total;
+        }
+        return acumulados;
+    }
+
+    /**
+     * Estimación del percentil {@code q} (entre 0 y 1), acotada por el máximo observado. Si cae en el bucket
+     * sin límite se informa el máximo.
+     */
+    public double percentil(double q) {
+        long[] acumulados = acumulados();
+        long total = acumulados[acumulados.length - 1];
+        if (total == 0) {
+            return 0.0;
+        }
+        double rango = q * total;
+        for (int i = 0; i < limites.length; i++) {
+            if (acumulados[i] >= rango) {
+                double inferior = i == 0 ? 0.0 : limites[i - 1];
+                long previos = i == 0 ? 0 : acumulados[i - 1];
+                long enBucket = acumulados[i] - previos;
+                if (enBucket == 0) {
+                    return inferior;
+                }
+                return Math.min(inferior + (limites[i] - inferior) * (rango - previos) / enBucket, maximo());
+            }
+        }
+        return maximo();
+    }
+}
@@ -0,0 +1,86 @@
+package com.schoolmate.api.common.metricas;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencia, sentencias SQL y entidades cargadas por método de use case, alimentado por
+ * {@code MetricasUseCaseAspect}. Las claves son {@code Clase.metodo}; hay a lo más una por método público de
+ * los use cases, así que el mapa no necesita límite.
+ */
+@Component
+public class MetricasUseCases {
+
+    static final double[] LIMITES_MS = {1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000};
+    static final double[] LIMITES_CONTEO = {0, 1, 2, 3, 5, 10, 20, 50, 100, 200, 500, 1_000};
+
+    private final Map<String, Metrica> metricas = new ConcurrentHashMap<>();
+
+    public void registrar(String useCase, long nanos, long sentencias, long entidades, boolean error) {
+        Metrica metrica = metricas.computeIfAbsent(useCase, clave -> new Metrica());
+        metrica.latenciaMs.registrar(nanos / 1_000_000.0);
+        metrica.sentencias.registrar(sentencias);
+        metrica.entidades.registrar(entidades);
+        if (error) {
+            metrica.errores.increment();
+        }
+    }
+
+    public List<Resumen> resumen() {
+        return metricas.entrySet().stream()
+            .map(entrada -> entrada.getValue().resumen(entrada.getKey()))
+            .sorted(Comparator.comparing(Resumen::useCase))
+            .toList();
+    }
+
+    Map<String, Metrica> metricas() {
+        return metricas;
+    }
+
+    static final class Metrica {
+
+        final Histograma latenciaMs = new Histograma(LIMITES_MS);
+        final Histograma sentencias = new Histograma(LIMITES_CONTEO);
+        final Histograma entidades = new Histograma(LIMITES_CONTEO);
+        final LongAdder errores = new LongAdder();
+
+        private Resumen resumen(String useCase) {
+            long invocaciones = latenciaMs.cantidad();
+            return new Resumen(
+                useCase,
+                invocaciones,
+                errores.sum(),
+                latenciaMs.percentil(0.50),
+                latenciaMs.percentil(0.95),
+                latenciaMs.percentil(0.99),
+                latenciaMs.maximo(),
+                invocaciones == 0 ? 0.0 : sentencias.suma() / invocaciones,
+                sentencias.percentil(0.95),
+                (long) sentencias.maximo(),
+                invocaciones == 0 ? 0.0 : entidades.suma() / invocaciones,
+                (long) entidades.maximo()
+            );
+        }
+    }
+
+    public record Resumen(
+            String useCase,
+            long invocaciones,
+            long errores,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            double sentenciasPromedio,
+            double sentenciasP95,
+            long sentenciasMax,
+            double entidadesPromedio,
+            long entidadesMax
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.schoolmate.api.common.metricas;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RegistroContadorSql {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void registrar() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, new ContadorSql());
+    }
+}
@@ -0,0 +1,22 @@
+package com.schoolmate.api.common.metricas;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Reemplaza cada {@link DataSource} del contexto por un {@link DataSourceContadorSql} antes de que lo tomen
+ * Hibernate, {@code JdbcTemplate} o Flyway.
+ */
+@Component
+public class RegistroDataSourceContadorSql implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceContadorSql)) {
+            return new DataSourceContadorSql(dataSource);
+        }
+        return bean;
+    }
+}
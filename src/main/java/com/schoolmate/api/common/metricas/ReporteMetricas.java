@@ -0,0 +1,155 @@
+package com.schoolmate.api.common.metricas;
+
+import com.schoolmate.api.common.auditoria.AuditoriaBatchWriter;
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.config.BulkheadFilter;
+import com.schoolmate.api.dto.response.MetricasSistemaResponse;
+import com.schoolmate.api.security.LimitadorLogin;
+import com.schoolmate.api.security.VerificadorPassword;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reúne las métricas de los use cases y las {@code estadisticas()} de los componentes con colas, caches y
+ * límites, en JSON para el panel admin y en el formato de texto de Prometheus (0.0.4) para el scraper.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReporteMetricas {
+
+    private static final String PREFIJO = "schoolmate_";
+
+    private final MetricasUseCases metricasUseCases;
+    private final AuditoriaBatchWriter auditoriaBatchWriter;
+    private final CatalogoCache catalogoCache;
+    private final VerificadorPassword verificadorPassword;
+    private final LimitadorLogin limitadorLogin;
+    private final BulkheadFilter bulkheadFilter;
+
+    public MetricasSistemaResponse resumen() {
+        return MetricasSistemaResponse.builder()
+            .useCases(metricasUseCases.resumen())
+            .auditoria(auditoriaBatchWriter.estadisticas())
+            .catalogo(catalogoCache.estadisticas())
+            .verificadorPassword(verificadorPassword.estadisticas())
+            .limitadorLogin(limitadorLogin.estadisticas())
+            .bulkhead(bulkheadFilter.estadisticas())
+            .build();
+    }
+
+    public String prometheus() {
+        StringBuilder salida = new StringBuilder(16_384);
+        escribirUseCases(salida);
+        escribirComponentes(salida);
+        return salida.toString();
+    }
+
+    private void escribirUseCases(StringBuilder salida) {
+        Map<String, MetricasUseCases.Metrica> metricas = new TreeMap<>(metricasUseCases.metricas());
+
+        encabezado(salida, "usecase_duracion_segundos", "histogram", "Latencia por metodo de use case");
+        metricas.forEach((useCase, metrica) -> histograma(salida, "usecase_duracion_segundos", useCase, metrica.latenciaMs, 0.001));
+        encabezado(salida, "usecase_sentencias_sql", "histogram", "Sentencias SQL preparadas por invocacion");
+        metricas.forEach((useCase, metrica) -> histograma(salida, "usecase_sentencias_sql", useCase, metrica.sentencias, 1));
+        encabezado(salida, "usecase_entidades_cargadas", "histogram", "Entidades materializadas por invocacion");
+        metricas.forEach((useCase, metrica) -> histograma(salida, "usecase_entidades_cargadas", useCase, metrica.entidades, 1));
+        encabezado(salida, "usecase_errores_total", "counter", "Invocaciones terminadas con excepcion");
+        metricas.forEach((useCase, metrica) ->
+            muestra(salida, "usecase_errores_total", "usecase=\"" + escapar(useCase) + "\"", metrica.errores.sum()));
+    }
+
+    private void escribirComponentes(StringBuilder salida) {
+        AuditoriaBatchWriter.Estadisticas auditoria = auditoriaBatchWriter.estadisticas();
+        encabezado(salida, "auditoria_eventos_total", "counter", "Eventos de auditoria por resultado");
+        muestra(salida, "auditoria_eventos_total", "resultado=\"encolados\"", auditoria.encolados());
+        muestra(salida, "auditoria_eventos_total", "resultado=\"escritos\"", auditoria.escritos());
+        muestra(salida, "auditoria_eventos_total", "resultado=\"descartados\"", auditoria.descartados());
+        muestra(salida, "auditoria_eventos_total", "resultado=\"fallidos\"", auditoria.fallidos());
+        encabezado(salida, "auditoria_lotes_total", "counter", "Lotes de auditoria escritos");
+        muestra(salida, "auditoria_lotes_total", null, auditoria.lotes());
+        encabezado(salida, "auditoria_pendientes", "gauge", "Eventos de auditoria en cola");
+        muestra(salida, "auditoria_pendientes", null, auditoria.pendientes());
+        encabezado(salida, "auditoria_capacidad", "gauge", "Capacidad de la cola de auditoria");
+        muestra(salida, "auditoria_capacidad", null, auditoria.capacidad());
+
+        List<CatalogoCache.EstadisticasRegion> regiones = catalogoCache.estadisticas();
+        encabezado(salida, "catalogo_cache_total", "counter", "Operaciones de la cache de catalogo por region");
+        for (CatalogoCache.EstadisticasRegion region : regiones) {
+            String etiqueta = "region=\"" + escapar(region.region()) + "\"";
+            muestra(salida, "catalogo_cache_total", etiqueta + ",resultado=\"acierto\"", region.aciertos());
+            muestra(salida, "catalogo_cache_total", etiqueta + ",resultado=\"fallo\"", region.fallos());
+            muestra(salida, "catalogo_cache_total", etiqueta + ",resultado=\"desalojo\"", region.desalojos());
+            muestra(salida, "catalogo_cache_total", etiqueta + ",resultado=\"expiracion\"", region.expiraciones());
+            muestra(salida, "catalogo_cache_total", etiqueta + ",resultado=\"invalidacion\"", region.invalidaciones());
+        }
+        encabezado(salida, "catalogo_cache_entradas", "gauge", "Entradas en la cache de catalogo por region");
+        for (CatalogoCache.EstadisticasRegion region : regiones) {
+            muestra(salida, "catalogo_cache_entradas", "region=\"" + escapar(region.region()) + "\"", region.entradas());
+        }
+
+        VerificadorPassword.Estadisticas hash = verificadorPassword.estadisticas();
+        encabezado(salida, "password_hash_total", "counter", "Verificaciones BCrypt por resultado");
+        muestra(salida, "password_hash_total", "resultado=\"completada\"", hash.completadas());
+        muestra(salida, "password_hash_total", "resultado=\"rechazada\"", hash.rechazadas());
+        encabezado(salida, "password_hash_en_cola", "gauge", "Verificaciones BCrypt esperando hilo");
+        muestra(salida, "password_hash_en_cola", null, hash.enCola());
+        encabezado(salida, "password_hash_activas", "gauge", "Verificaciones BCrypt en curso");
+        muestra(salida, "password_hash_activas", null, hash.activas());
+
+        LimitadorLogin.Estadisticas login = limitadorLogin.estadisticas();
+        encabezado(salida, "login_intentos_total", "counter", "Intentos de login por decision del limitador");
+        muestra(salida, "login_intentos_total", "resultado=\"permitido\"", login.permitidos());
+        muestra(salida, "login_intentos_total", "resultado=\"rechazado\"", login.rechazados());
+        encabezado(salida, "login_claves_activas", "gauge", "Identificadores con bucket en el limitador");
+        muestra(salida, "login_claves_activas", null, login.clavesActivas());
+
+        BulkheadFilter.Estadisticas bulkhead = bulkheadFilter.estadisticas();
+        encabezado(salida, "bulkhead_requests_total", "counter", "Requests por decision del bulkhead");
+        muestra(salida, "bulkhead_requests_total", "resultado=\"admitido\"", bulkhead.admitidos());
+        muestra(salida, "bulkhead_requests_total", "resultado=\"rechazado\"", bulkhead.rechazados());
+        encabezado(salida, "bulkhead_en_uso", "gauge", "Permisos del bulkhead en uso");
+        muestra(salida, "bulkhead_en_uso", null, bulkhead.enUso());
+        encabezado(salida, "bulkhead_en_espera", "gauge", "Requests esperando permiso del bulkhead");
+        muestra(salida, "bulkhead_en_espera", null, bulkhead.enEspera());
+    }
+
+    private static void histograma(StringBuilder salida, String nombre, String useCase, Histograma histograma, double escala) {
+        String etiqueta = "usecase=\"" + escapar(useCase) + "\"";
+        double[] limites = histograma.limites();
+        long[] acumulados = histograma.acumulados();
+        for (int i = 0; i < limites.length; i++) {
+            muestra(salida, nombre + "_bucket", etiqueta + ",le=\"" + limite(limites[i], escala) + "\"", acumulados[i]);
+        }
+        muestra(salida, nombre + "_bucket", etiqueta + ",le=\"+Inf\"", acumulados[limites.length]);
+        salida.append(PREFIJO).append(nombre).append("_sum{").append(etiqueta).append("} ")
+            .append(histograma.suma() * escala).append('\n');
+        // _count sale del mismo arreglo que los buckets para que coincida con le="+Inf".
+        muestra(salida, nombre + "_count", etiqueta, acumulados[limites.length]);
+    }
+
+    private static void encabezado(StringBuilder salida, String nombre, String tipo, String ayuda) {
+        salida.append("# HELP ").append(PREFIJO).append(nombre).append(' ').append(ayuda).append('\n');
+        salida.append("# TYPE ").append(PREFIJO).append(nombre).append(' ').append(tipo).append('\n');
+    }
+
+    private static void muestra(StringBuilder salida, String nombre, String etiquetas, long valor) {
+        salida.append(PREFIJO).append(nombre);
+        if (etiquetas != null) {
+            salida.append('{').append(etiquetas).append('}');
+        }
+        salida.append(' ').append(valor).append('\n');
+    }
+
+    private static String limite(double limite, double escala) {
+        return BigDecimal.valueOf(limite).multiply(BigDecimal.valueOf(escala)).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escapar(String valor) {
+        return valor.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,155 @@
+package com.schoolmate.api.common.particion;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import com.schoolmate.api.common.time.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantiene las particiones mensuales de {@code evento_auditoria} y {@code sesion_usuario} (ver V5).
+ * <p>
+ * Al iniciar y cada día en {@code app.particiones.cron} crea el mes actual y los
+ * {@code app.particiones.meses-adelante} siguientes, y desacopla las particiones más antiguas que la retención
+ * configurada moviéndolas al schema {@code archivo}, desde donde se respaldan o eliminan manualmente. Con el reloj
+ * de desarrollo sobrescrito no se archiva nada.
+ */
+@Component
+public class MantenimientoParticiones {
+
+    private static final Logger log = LoggerFactory.getLogger(MantenimientoParticiones.class);
+
+    static final String SCHEMA_ARCHIVO = "archivo";
+    private static final DateTimeFormatter SUFIJO = DateTimeFormatter.ofPattern("'_p'uuuu_MM");
+
+    private static final String PARTICIONES_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST(? AS regclass)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MotorBaseDatos motorBaseDatos;
+    private final ClockProvider clockProvider;
+    private final int mesesAdelante;
+    private final Map<String, Integer> retencionMeses = new LinkedHashMap<>();
+
+    public MantenimientoParticiones(
+            JdbcTemplate jdbcTemplate,
+            MotorBaseDatos motorBaseDatos,
+            ClockProvider clockProvider,
+            @Value("${app.particiones.meses-adelante:3}") int mesesAdelante,
+            @Value("${app.particiones.retencion-meses.evento-auditoria:24}") int retencionEventoAuditoria,
+            @Value("${app.particiones.retencion-meses.sesion-usuario:12}") int retencionSesionUsuario
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.motorBaseDatos = motorBaseDatos;
+        this.clockProvider = clockProvider;
+        this.mesesAdelante = mesesAdelante;
+        this.retencionMeses.put("evento_auditoria", retencionEventoAuditoria);
+        this.retencionMeses.put("sesion_usuario", retencionSesionUsuario);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alIniciar() {
+        if (!motorBaseDatos.esPostgres()) {
+            log.info("Particiones: base de datos sin particionamiento declarativo, se omite el mantenimiento");
+            return;
+        }
+        mantener();
+    }
+
+    @Scheduled(cron = "${app.particiones.cron:0 15 3 * * *}")
+    public void programado() {
+        if (motorBaseDatos.esPostgres()) {
+            mantener();
+        }
+    }
+
+    public Resultado mantener() {
+        YearMonth actual = YearMonth.from(clockProvider.today());
+        List<String> creadas = new ArrayList<>();
+        List<String> archivadas = new ArrayList<>();
+        retencionMeses.forEach((tabla, retencion) -> {
+            creadas.addAll(crearSiguientes(tabla, actual));
+            if (clockProvider.isOverridden()) {
+                return;
+            }
+            archivadas.addAll(archivarAnteriores(tabla, actual.minusMonths(retencion)));
+        });
+        Resultado resultado = new Resultado(creadas, archivadas);
+        if (!creadas.isEmpty() || !archivadas.isEmpty()) {
+            log.info("Particiones: {}", resultado);
+        }
+        return resultado;
+    }
+
+    private List<String> crearSiguientes(String tabla, YearMonth actual) {
+        List<String> creadas = new ArrayList<>();
+        for (int i = 0; i <= mesesAdelante; i++) {
+            LocalDate mes = actual.plusMonths(i).atDay(1);
+            try {
+                String creada = jdbcTemplate.queryForObject(
+                        "SELECT crear_particion_mensual(?, ?)", String.class, tabla, mes);
+                if (creada != null) {
+                    creadas.add(creada);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Particiones: no se pudo crear {} para {}: {}", tabla, mes, e.getMessage(), e);
+            }
+        }
+        return creadas;
+    }
+
+    private List<String> archivarAnteriores(String tabla, YearMonth limite) {
+        List<String> archivadas = new ArrayList<>();
+        for (String particion : jdbcTemplate.queryForList(PARTICIONES_SQL, String.class, tabla)) {
+            YearMonth mes = mesDeParticion(tabla, particion);
+            if (mes == null || !mes.isBefore(limite)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("ALTER TABLE " + tabla + " DETACH PARTITION " + particion);
+                jdbcTemplate.execute("ALTER TABLE " + particion + " SET SCHEMA " + SCHEMA_ARCHIVO);
+                archivadas.add(SCHEMA_ARCHIVO + "." + particion);
+            } catch (DataAccessException e) {
+                log.warn("Particiones: no se pudo archivar {}: {}", particion, e.getMessage(), e);
+            }
+        }
+        return archivadas;
+    }
+
+    /**
+     * Mes de una partición {@code <tabla>_pYYYY_MM}; {@code null} para la DEFAULT u otros nombres, que nunca se
+     * archivan.
+     */
+    static YearMonth mesDeParticion(String tabla, String particion) {
+        if (!particion.startsWith(tabla) || particion.length() != tabla.length() + 9) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(particion.substring(tabla.length()), SUFIJO);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public record Resultado(List<String> creadas, List<String> archivadas) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.schoolmate.api.common.revision;
+
+import com.schoolmate.api.common.transaccion.TrasConfirmar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Revisiones de los agregados que se sirven con ETag fuerte: jornada y matrículas por curso, malla y días no
+ * lectivos por año escolar. Los controllers comparan {@code If-None-Match} contra {@link #etag(Agregado, UUID)}
+ * antes de consultar la base de datos.
+ * <p>
+ * Los casos de uso que modifican un agregado llaman a {@link #incrementar(Agregado, UUID)} y los que renombran
+ * datos que esas respuestas embeben o validan (materias, profesores, cursos, alumnos, años) a
+ * {@link #incrementarReferencias()}; ambos se aplican al confirmar la transacción.
+ * <p>
+ * Los contadores viven en memoria: el ETag lleva un identificador de instancia, para no coincidir tras un
+ * reinicio ni entre réplicas, y una ventana de vigencia ({@code app.revision.vigencia-segundos}) que acota
+ * cuánto puede tardar en verse un cambio hecho en otra réplica.
+ */
+@Component
+public class RevisionAgregados {
+
+    private final ConcurrentHashMap<Clave, AtomicLong> revisiones = new ConcurrentHashMap<>();
+    private final AtomicLong referencias = new AtomicLong();
+    private final String instancia;
+    private final long ventanaMillis;
+    private final LongSupplier reloj;
+
+    @Autowired
+    public RevisionAgregados(@Value("${app.revision.vigencia-segundos:300}") long vigenciaSegundos) {
+        this(
+            Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36),
+            Duration.ofSeconds(vigenciaSegundos).toMillis(),
+            System::currentTimeMillis
+        );
+    }
+
+    RevisionAgregados(String instancia, long ventanaMillis, LongSupplier reloj) {
+        if (ventanaMillis <= 0) {
+            throw new IllegalArgumentException("La vigencia de las revisiones debe ser positiva");
+        }
+        this.instancia = instancia;
+        this.ventanaMillis = ventanaMillis;
+        this.reloj = reloj;
+    }
+
+    /**
+     * ETag fuerte (entre comillas) de la revisión vigente. Debe obtenerse antes de cargar la respuesta: si un
+     * cambio se confirma entre ambos pasos, el cliente recibe datos nuevos con el ETag viejo y solo recarga
+     * una vez más.
+     */
+    public String etag(Agregado agregado, UUID id) {
+        AtomicLong revision = revisiones.get(new Clave(agregado, id));
+        return new StringBuilder("\"")
+            .append(instancia).append('-')
+            .append(Long.toString(reloj.getAsLong() / ventanaMillis, 36)).append('-')
+            .append(agregado.prefijo)
+            .append(revision != null ? revision.get() : 0).append('.')
+            .append(referencias.get())
+            .append('"')
+            .toString();
+    }
+
+    public void incrementar(Agregado agregado, UUID id) {
+        TrasConfirmar.ejecutar(() ->
+            revisiones.computeIfAbsent(new Clave(agregado, id), k -> new AtomicLong()).incrementAndGet());
+    }
+
+    public void incrementarReferencias() {
+        TrasConfirmar.ejecutar(referencias::incrementAndGet);
+    }
+
+    public enum Agregado {
+        JORNADA_CURSO("j"),
+        MATRICULAS_CURSO("m"),
+        MALLA_ANO_ESCOLAR("c"),
+        DIAS_NO_LECTIVOS_ANO("d");
+
+        private final String prefijo;
+
+        Agregado(String prefijo) {
+            this.prefijo = prefijo;
+        }
+    }
+
+    private record Clave(Agregado agregado, UUID id) {
+    }
+}
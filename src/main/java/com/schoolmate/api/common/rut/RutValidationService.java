@@ -1,5 +1,6 @@
 package com.schoolmate.api.common.rut;
 
+import com.schoolmate.api.dto.projection.RutRegistrado;
 import com.schoolmate.api.enums.TipoPersona;
 import com.schoolmate.api.exception.BusinessException;
 import com.schoolmate.api.exception.ConflictException;
@@ -9,6 +10,11 @@ import com.schoolmate.api.repository.ProfesorRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -40,18 +46,55 @@ public class RutValidationService {
 
     public void validarRutDisponible(String rutNormalizado, TipoPersona tipoActual, UUID idEntidadActual) {
         if (tipoActual != TipoPersona.ALUMNO && alumnoRepository.existsByRut(rutNormalizado)) {
-            throw new ConflictException("Este RUT ya está registrado como alumno en el sistema.");
+            throw new ConflictException(mensajeRutRegistrado(TipoPersona.ALUMNO));
         }
 
         if (tipoActual != TipoPersona.PROFESOR && profesorRepository.existsByRut(rutNormalizado)) {
-            throw new ConflictException("Este RUT ya está registrado como profesor en el sistema.");
+            throw new ConflictException(mensajeRutRegistrado(TipoPersona.PROFESOR));
         }
 
         if (tipoActual != TipoPersona.APODERADO && apoderadoRepository.existsByRut(rutNormalizado)) {
-            throw new ConflictException("Este RUT ya está registrado como apoderado en el sistema.");
+            throw new ConflictException(mensajeRutRegistrado(TipoPersona.APODERADO));
         }
     }
 
+    /**
+     * Registros existentes de un conjunto de RUT normalizados, en una sola consulta sobre alumno, profesor y
+     * apoderado. Los RUT sin registro no aparecen en el mapa.
+     */
+    public Map<String, Map<TipoPersona, UUID>> buscarRegistrados(Collection<String> rutsNormalizados) {
+        if (rutsNormalizados.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<TipoPersona, UUID>> registrados = new HashMap<>();
+        for (RutRegistrado registro : alumnoRepository.findRutsRegistrados(rutsNormalizados)) {
+            registrados.computeIfAbsent(registro.getRut(), rut -> new EnumMap<>(TipoPersona.class))
+                .put(TipoPersona.valueOf(registro.getTipo()), registro.getId());
+        }
+        return registrados;
+    }
+
+    /**
+     * Equivalente en memoria de {@link #validarRutDisponible} sobre el resultado de {@link #buscarRegistrados}:
+     * el mensaje de conflicto, o vacío si el RUT está disponible para {@code tipoActual}.
+     */
+    public Optional<String> conflictoRut(Map<TipoPersona, UUID> registros, TipoPersona tipoActual) {
+        for (TipoPersona tipo : TipoPersona.values()) {
+            if (tipo != tipoActual && registros.containsKey(tipo)) {
+                return Optional.of(mensajeRutRegistrado(tipo));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String mensajeRutRegistrado(TipoPersona tipo) {
+        return switch (tipo) {
+            case ALUMNO -> "Este RUT ya está registrado como alumno en el sistema.";
+            case PROFESOR -> "Este RUT ya está registrado como profesor en el sistema.";
+            case APODERADO -> "Este RUT ya está registrado como apoderado en el sistema.";
+        };
+    }
+
     private char calcularDigitoVerificador(String cuerpo) {
         int suma = 0;
         int multiplicador = 2;
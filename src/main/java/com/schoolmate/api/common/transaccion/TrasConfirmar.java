@@ -0,0 +1,28 @@
+package com.schoolmate.api.common.transaccion;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ejecuta una acción cuando confirma la transacción en curso, o de inmediato si no hay una. Es el único punto
+ * donde cachés, revisiones y ejecutores de fondo se enganchan al commit: si la transacción se revierte la acción
+ * no corre, y lo que se encola o se invalida ya es visible para otras conexiones.
+ */
+public final class TrasConfirmar {
+
+    private TrasConfirmar() {
+    }
+
+    public static void ejecutar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.schoolmate.api.config;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.enums.EstadoAnoEscolar;
@@ -29,6 +30,7 @@ public class AnoEscolarHeaderInterceptor implements HandlerInterceptor {
 
     private final AnoEscolarRepository anoEscolarRepository;
     private final ClockProvider clockProvider;
+    private final CatalogoCache catalogoCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -47,7 +49,8 @@ public class AnoEscolarHeaderInterceptor implements HandlerInterceptor {
                     Map.of());
         }
 
-        AnoEscolar anoEscolar = anoEscolarRepository.findById(anoEscolarId)
+        AnoEscolar anoEscolar = catalogoCache
+                .obtenerAnoEscolar(anoEscolarId, () -> anoEscolarRepository.findById(anoEscolarId))
                 .orElseThrow(() -> new ResourceNotFoundException("Año escolar no encontrado: " + anoEscolarId));
 
         validarAccesoPorRol(anoEscolar);
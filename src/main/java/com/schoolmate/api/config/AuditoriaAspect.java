@@ -2,12 +2,10 @@ package com.schoolmate.api.config;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolmate.api.common.auditoria.AuditoriaBatchWriter;
+import com.schoolmate.api.common.auditoria.EventoAuditoriaPendiente;
 import com.schoolmate.api.common.time.ClockProvider;
-import com.schoolmate.api.entity.EventoAuditoria;
-import com.schoolmate.api.entity.Usuario;
-import com.schoolmate.api.repository.EventoAuditoriaRepository;
 import com.schoolmate.api.security.UserPrincipal;
-import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
@@ -16,13 +14,10 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataAccessException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -43,21 +38,18 @@ public class AuditoriaAspect {
             "/api/dev/"
     );
 
-    private final EventoAuditoriaRepository auditoriaRepository;
+    private final AuditoriaBatchWriter auditoriaBatchWriter;
     private final ObjectMapper objectMapper;
     private final ClockProvider clockProvider;
-    private final EntityManager entityManager;
 
     public AuditoriaAspect(
-            EventoAuditoriaRepository auditoriaRepository,
+            AuditoriaBatchWriter auditoriaBatchWriter,
             ObjectMapper objectMapper,
-            ClockProvider clockProvider,
-            EntityManager entityManager
+            ClockProvider clockProvider
     ) {
-        this.auditoriaRepository = auditoriaRepository;
+        this.auditoriaBatchWriter = auditoriaBatchWriter;
         this.objectMapper = objectMapper;
         this.clockProvider = clockProvider;
-        this.entityManager = entityManager;
     }
 
     @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
@@ -79,7 +71,6 @@ public class AuditoriaAspect {
     public void mutationMapping() {}
 
     @AfterReturning(pointcut = "inRestController() && mutationMapping()", returning = "result")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void auditarOperacion(JoinPoint joinPoint, Object result) {
         try {
             ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -105,23 +96,21 @@ public class AuditoriaAspect {
             String ipAddress = extraerIp(httpRequest);
             UUID anoEscolarId = parseUuidSafe(httpRequest.getHeader("X-Ano-Escolar-Id"));
             int responseStatus = extractResponseStatus(result);
-            String requestBodyJson = extractRequestBody(joinPoint);
-
-            EventoAuditoria evento = EventoAuditoria.builder()
-                    .usuario(entityManager.getReference(Usuario.class, principal.getId()))
-                    .usuarioEmail(principal.getEmail())
-                    .usuarioRol(principal.getRol().name())
-                    .metodoHttp(metodoHttp)
-                    .endpoint(requestUri)
-                    .requestBody(requestBodyJson)
-                    .responseStatus(responseStatus)
-                    .ipAddress(ipAddress)
-                    .anoEscolarId(anoEscolarId)
-                    .createdAt(clockProvider.now())
-                    .build();
-
-            auditoriaRepository.save(evento);
-        } catch (IllegalStateException | ClassCastException | DataAccessException e) {
+            String requestBody = extractRequestBody(joinPoint);
+
+            auditoriaBatchWriter.registrar(new EventoAuditoriaPendiente(
+                    principal.getId(),
+                    principal.getEmail(),
+                    principal.getRol().name(),
+                    metodoHttp,
+                    requestUri,
+                    requestBody,
+                    responseStatus,
+                    ipAddress,
+                    anoEscolarId,
+                    clockProvider.now()
+            ));
+        } catch (IllegalStateException | ClassCastException e) {
             log.warn("Error al registrar evento de auditoria: {}", e.getMessage(), e);
         }
     }
@@ -0,0 +1,34 @@
+package com.schoolmate.api.config;
+
+import com.schoolmate.api.security.SecurityErrorResponseWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkheadConfig {
+
+    // La cadena de Spring Security se registra con orden -100 (spring.security.filter.order).
+    private static final int ORDEN_DESPUES_DE_SECURITY = -99;
+
+    @Bean
+    public BulkheadFilter bulkheadFilter(
+            SecurityErrorResponseWriter errorResponseWriter,
+            @Value("${app.bulkhead.permisos:0}") int permisos,
+            @Value("${app.bulkhead.espera-ms:100}") long esperaMs
+    ) {
+        return new BulkheadFilter(permisos, esperaMs, errorResponseWriter);
+    }
+
+    /**
+     * Va después de la cadena de Spring Security: los requests sin token válido se rechazan sin ocupar permisos.
+     */
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilterRegistration(BulkheadFilter bulkheadFilter) {
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(bulkheadFilter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(ORDEN_DESPUES_DE_SECURITY);
+        return registration;
+    }
+}
@@ -0,0 +1,87 @@
+package com.schoolmate.api.config;
+
+import com.schoolmate.api.exception.ErrorCode;
+import com.schoolmate.api.security.SecurityErrorResponseWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limita cuántos requests de {@code /api} se atienden a la vez, para que el número de requests en curso no
+ * supere al de conexiones del pool de Hikari.
+ * <p>
+ * Con hilos de plataforma el pool de Tomcat ya acota la concurrencia; con hilos virtuales no hay ese techo y
+ * cientos de requests terminan esperando una conexión dentro de Hikari, cada uno con su transacción y su
+ * {@code connection-timeout} corriendo. Aquí el request espera a lo más {@code app.bulkhead.espera-ms} por un
+ * permiso y, si no lo obtiene, responde {@link ErrorCode#SERVICE_BUSY} sin haber tocado la base.
+ * Con {@code app.bulkhead.permisos = 0} el filtro no limita nada.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final int permisos;
+    private final long esperaMs;
+    private final Semaphore semaforo;
+    private final SecurityErrorResponseWriter errorResponseWriter;
+
+    private final AtomicLong admitidos = new AtomicLong();
+    private final AtomicLong rechazados = new AtomicLong();
+
+    public BulkheadFilter(int permisos, long esperaMs, SecurityErrorResponseWriter errorResponseWriter) {
+        this.permisos = permisos;
+        this.esperaMs = esperaMs;
+        this.semaforo = new Semaphore(Math.max(permisos, 0), true);
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return permisos <= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean adquirido;
+        try {
+            adquirido = semaforo.tryAcquire(esperaMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirido = false;
+        }
+        if (!adquirido) {
+            rechazados.incrementAndGet();
+            response.setHeader("Retry-After", "1");
+            errorResponseWriter.write(request, response, ErrorCode.SERVICE_BUSY, null);
+            return;
+        }
+
+        admitidos.incrementAndGet();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaforo.release();
+        }
+    }
+
+    public Estadisticas estadisticas() {
+        int limite = Math.max(permisos, 0);
+        return new Estadisticas(
+                limite,
+                limite - semaforo.availablePermits(),
+                semaforo.getQueueLength(),
+                admitidos.get(),
+                rechazados.get()
+        );
+    }
+
+    public record Estadisticas(int permisos, int enUso, int enEspera, long admitidos, long rechazados) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.schoolmate.api.config;
+
+import com.schoolmate.api.common.metricas.ContadorSql;
+import com.schoolmate.api.common.metricas.MetricasUseCases;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mide cada método público de los use cases, sean {@code @Component} o {@code @Service}. Va por fuera de {@code @Transactional}, así que la latencia y las
+ * sentencias incluyen el flush y el commit. Las invocaciones anidadas (un use case que llama a otro) se cuentan
+ * en ambos.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MetricasUseCaseAspect {
+
+    private final MetricasUseCases metricasUseCases;
+
+    @Around("within(com.schoolmate.api.usecase..*) && execution(public * *(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        long sentenciasAntes = ContadorSql.sentencias();
+        long entidadesAntes = ContadorSql.entidades();
+        long inicio = System.nanoTime();
+        boolean error = true;
+        try {
+            Object resultado = joinPoint.proceed();
+            error = false;
+            return resultado;
+        } finally {
+            metricasUseCases.registrar(
+                    joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                    System.nanoTime() - inicio,
+                    ContadorSql.sentencias() - sentenciasAntes,
+                    ContadorSql.entidades() - entidadesAntes,
+                    error
+            );
+        }
+    }
+}
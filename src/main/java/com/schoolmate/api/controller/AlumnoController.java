@@ -4,17 +4,20 @@ import com.schoolmate.api.dto.request.AlumnoRequest;
 import com.schoolmate.api.dto.request.CrearAlumnoConApoderadoRequest;
 import com.schoolmate.api.dto.response.AlumnoPageResponse;
 import com.schoolmate.api.dto.response.AlumnoResponse;
+import com.schoolmate.api.dto.response.ImportacionAlumnosResponse;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.security.AnoEscolarActivo;
 import com.schoolmate.api.usecase.alumno.ActualizarAlumno;
 import com.schoolmate.api.usecase.alumno.BuscarAlumnoPorRut;
 import com.schoolmate.api.usecase.alumno.CrearAlumno;
 import com.schoolmate.api.usecase.alumno.CrearAlumnoConApoderado;
+import com.schoolmate.api.usecase.alumno.ImportarAlumnosConApoderado;
 import com.schoolmate.api.usecase.alumno.ObtenerAlumnos;
 import com.schoolmate.api.usecase.alumno.ObtenerDetalleAlumno;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -40,6 +44,7 @@ public class AlumnoController {
     private final CrearAlumno crearAlumno;
     private final ActualizarAlumno actualizarAlumno;
     private final CrearAlumnoConApoderado crearAlumnoConApoderado;
+    private final ImportarAlumnosConApoderado importarAlumnosConApoderado;
 
     @GetMapping
     public ResponseEntity<AlumnoPageResponse> listar(
@@ -105,4 +110,13 @@ public class AlumnoController {
         AlumnoResponse response = crearAlumnoConApoderado.execute(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * Body: el CSV tal cual ({@code text/csv}), no multipart, para leerlo en streaming.
+     */
+    @PostMapping(value = "/importar", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ImportacionAlumnosResponse> importar(InputStream csv) {
+        ImportacionAlumnosResponse response = importarAlumnosConApoderado.execute(csv);
+        return ResponseEntity.ok(response);
+    }
 }
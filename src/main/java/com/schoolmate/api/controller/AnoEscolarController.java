@@ -4,13 +4,17 @@ import java.util.UUID;
 import com.schoolmate.api.dto.request.AnoEscolarRequest;
 import com.schoolmate.api.dto.response.AnoEscolarPageResponse;
 import com.schoolmate.api.dto.response.AnoEscolarResponse;
+import com.schoolmate.api.dto.response.ArchivoAsistenciaAnoResponse;
 import com.schoolmate.api.usecase.anoescolar.ActualizarAnoEscolar;
 import com.schoolmate.api.usecase.anoescolar.CrearAnoEscolar;
 import com.schoolmate.api.usecase.anoescolar.ListarAnosEscolares;
 import com.schoolmate.api.usecase.anoescolar.ObtenerAnoEscolar;
 import com.schoolmate.api.usecase.anoescolar.ObtenerAnoEscolarActivo;
+import com.schoolmate.api.usecase.asistencia.ArchivarAsistenciaAnoEscolar;
+import com.schoolmate.api.usecase.asistencia.ObtenerArchivoAsistenciaAnoEscolar;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +29,8 @@ public class AnoEscolarController {
     private final ObtenerAnoEscolarActivo obtenerAnoEscolarActivo;
     private final CrearAnoEscolar crearAnoEscolar;
     private final ActualizarAnoEscolar actualizarAnoEscolar;
+    private final ArchivarAsistenciaAnoEscolar archivarAsistenciaAnoEscolar;
+    private final ObtenerArchivoAsistenciaAnoEscolar obtenerArchivoAsistenciaAnoEscolar;
 
     // GET /api/anos-escolares — Listar todos con estado calculado
     @GetMapping
@@ -66,6 +72,20 @@ public class AnoEscolarController {
         return ResponseEntity.ok(actualizarAnoEscolar.execute(id, request));
     }
 
+    // POST /api/anos-escolares/{id}/archivo-asistencia — Archivar la asistencia de un año CERRADO (en segundo plano)
+    @PostMapping("/{id}/archivo-asistencia")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ArchivoAsistenciaAnoResponse> archivarAsistencia(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(archivarAsistenciaAnoEscolar.execute(id));
+    }
+
+    // GET /api/anos-escolares/{id}/archivo-asistencia — Avance del archivado
+    @GetMapping("/{id}/archivo-asistencia")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ArchivoAsistenciaAnoResponse> archivoAsistencia(@PathVariable UUID id) {
+        return ResponseEntity.ok(obtenerArchivoAsistenciaAnoEscolar.execute(id));
+    }
+
     // TODO: Implementar pre-generación automática de años escolares
     // En el futuro, agregar un @Scheduled que:
     // - Revise si falta un año escolar próximo
@@ -1,15 +1,26 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.dto.request.GuardarAsistenciaLoteRequest;
 import com.schoolmate.api.dto.request.GuardarAsistenciaRequest;
 import com.schoolmate.api.dto.response.AsistenciaClaseResponse;
+import com.schoolmate.api.dto.response.GuardarAsistenciaLoteResponse;
+import com.schoolmate.api.dto.response.ReconstruccionResumenAsistenciaResponse;
+import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.enums.Rol;
+import com.schoolmate.api.security.AnoEscolarActivo;
 import com.schoolmate.api.security.UserPrincipal;
+import com.schoolmate.api.usecase.asistencia.ExportarAsistencia;
 import com.schoolmate.api.usecase.asistencia.GuardarAsistenciaClase;
+import com.schoolmate.api.usecase.asistencia.GuardarAsistenciaClasesLote;
 import com.schoolmate.api.usecase.asistencia.ObtenerAsistenciaClase;
+import com.schoolmate.api.usecase.asistencia.ReconstruirResumenAsistenciaAlumnos;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,7 +30,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -29,7 +42,10 @@ import java.util.UUID;
 public class AsistenciaController {
 
     private final GuardarAsistenciaClase guardarAsistenciaClase;
+    private final GuardarAsistenciaClasesLote guardarAsistenciaClasesLote;
     private final ObtenerAsistenciaClase obtenerAsistenciaClase;
+    private final ReconstruirResumenAsistenciaAlumnos reconstruirResumenAsistenciaAlumnos;
+    private final ExportarAsistencia exportarAsistencia;
 
     @PostMapping("/clase")
     @PreAuthorize("hasAnyRole('PROFESOR','ADMIN')")
@@ -42,6 +58,17 @@ public class AsistenciaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/clases/lote")
+    @PreAuthorize("hasAnyRole('PROFESOR','ADMIN')")
+    public ResponseEntity<GuardarAsistenciaLoteResponse> guardarLote(
+        @AuthenticationPrincipal UserPrincipal user,
+        @Valid @RequestBody GuardarAsistenciaLoteRequest request
+    ) {
+        GuardarAsistenciaLoteResponse response = guardarAsistenciaClasesLote.execute(
+            request, user.getProfesorId(), user.getId(), user.getRol());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/clase")
     @PreAuthorize("hasAnyRole('PROFESOR','ADMIN')")
     public ResponseEntity<AsistenciaClaseResponse> obtener(
@@ -54,4 +81,28 @@ public class AsistenciaController {
             bloqueHorarioId, fecha, profesorId);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/resumen-alumnos/reconstruir")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReconstruccionResumenAsistenciaResponse> reconstruirResumenAlumnos(
+        @AnoEscolarActivo AnoEscolar anoEscolar
+    ) {
+        return ResponseEntity.ok(reconstruirResumenAsistenciaAlumnos.execute(anoEscolar.getId()));
+    }
+
+    @GetMapping(value = "/exportar", produces = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportar(
+        @AnoEscolarActivo AnoEscolar anoEscolar,
+        @RequestParam(required = false) UUID cursoId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta
+    ) {
+        ExportarAsistencia.Archivo archivo = exportarAsistencia.execute(anoEscolar, cursoId, desde, hasta);
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(archivo.nombre()).build().toString())
+            .body(archivo.contenido());
+    }
 }
@@ -1,7 +1,9 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.dto.response.EventoAuditoriaCursorResponse;
 import com.schoolmate.api.dto.response.EventoAuditoriaPageResponse;
 import com.schoolmate.api.usecase.auditoria.ConsultarEventosAuditoria;
+import com.schoolmate.api.usecase.auditoria.ListarEventosAuditoriaPorCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +14,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -22,6 +23,7 @@ import java.util.UUID;
 public class AuditoriaController {
 
     private final ConsultarEventosAuditoria consultarEventosAuditoria;
+    private final ListarEventosAuditoriaPorCursor listarEventosAuditoriaPorCursor;
 
     @GetMapping
     public ResponseEntity<EventoAuditoriaPageResponse> consultar(
@@ -37,4 +39,22 @@ public class AuditoriaController {
             consultarEventosAuditoria.execute(usuarioId, metodoHttp, endpoint, desde, hasta, page, size)
         );
     }
+
+    @GetMapping("/eventos")
+    public ResponseEntity<EventoAuditoriaCursorResponse> listarPorCursor(
+            @RequestParam(required = false) UUID usuarioId,
+            @RequestParam(required = false) String metodoHttp,
+            @RequestParam(required = false) String endpoint,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean incluirTotal
+    ) {
+        return ResponseEntity.ok(
+            listarEventosAuditoriaPorCursor.execute(
+                usuarioId, metodoHttp, endpoint, desde, hasta, cursor, size, incluirTotal
+            )
+        );
+    }
 }
@@ -1,5 +1,6 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.CrearDiaNoLectivoRequest;
 import com.schoolmate.api.dto.response.DiaNoLectivoPageResponse;
 import com.schoolmate.api.dto.response.DiaNoLectivoResponse;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -33,6 +35,7 @@ public class DiaNoLectivoController {
     private final ListarDiasNoLectivos listarDiasNoLectivos;
     private final CrearDiasNoLectivos crearDiasNoLectivos;
     private final EliminarDiaNoLectivo eliminarDiaNoLectivo;
+    private final RevisionAgregados revisionAgregados;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -41,9 +44,15 @@ public class DiaNoLectivoController {
         @RequestParam(required = false) Integer mes,
         @RequestParam(required = false) Integer anio,
         @RequestParam(defaultValue = "0") Integer page,
-        @RequestParam(defaultValue = "20") Integer size
+        @RequestParam(defaultValue = "20") Integer size,
+        ServletWebRequest request
     ) {
-        return ResponseEntity.ok(listarDiasNoLectivos.execute(anoEscolar.getId(), mes, anio, page, size));
+        String etag = revisionAgregados.etag(RevisionAgregados.Agregado.DIAS_NO_LECTIVOS_ANO, anoEscolar.getId());
+        return RespuestaCondicional.responder(
+            request,
+            etag,
+            () -> listarDiasNoLectivos.execute(anoEscolar.getId(), mes, anio, page, size)
+        );
     }
 
     @PostMapping
@@ -1,10 +1,14 @@
 package com.schoolmate.api.controller;
+import java.util.List;
 import java.util.UUID;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
+import com.schoolmate.api.dto.request.AplicarJornadaRequest;
 import com.schoolmate.api.dto.request.AsignarMateriaRequest;
 import com.schoolmate.api.dto.request.AsignarProfesorRequest;
 import com.schoolmate.api.dto.request.CopiarJornadaRequest;
 import com.schoolmate.api.dto.request.JornadaDiaRequest;
+import com.schoolmate.api.dto.request.JornadaSemanaRequest;
 import com.schoolmate.api.dto.response.AsignacionMateriaResumenResponse;
 import com.schoolmate.api.dto.response.AsignacionProfesoresResumenResponse;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
@@ -13,12 +17,15 @@ import com.schoolmate.api.dto.response.JornadaDiaResponse;
 import com.schoolmate.api.dto.response.JornadaResumenResponse;
 import com.schoolmate.api.dto.response.MateriasDisponiblesResponse;
 import com.schoolmate.api.dto.response.ProfesoresDisponiblesResponse;
+import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.security.UserPrincipal;
+import com.schoolmate.api.usecase.jornada.AplicarJornadaCursos;
 import com.schoolmate.api.usecase.jornada.AsignarMateriaBloque;
 import com.schoolmate.api.usecase.jornada.AsignarProfesorBloque;
 import com.schoolmate.api.usecase.jornada.CopiarJornadaDia;
 import com.schoolmate.api.usecase.jornada.EliminarJornadaDia;
 import com.schoolmate.api.usecase.jornada.GuardarJornadaDia;
+import com.schoolmate.api.usecase.jornada.GuardarJornadaSemana;
 import com.schoolmate.api.usecase.jornada.ObtenerMateriasDisponibles;
 import com.schoolmate.api.usecase.jornada.ObtenerResumenAsignacionMaterias;
 import com.schoolmate.api.usecase.jornada.ObtenerResumenAsignacionProfesores;
@@ -41,6 +48,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/cursos/{cursoId}/jornada")
@@ -48,6 +56,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class JornadaController {
 
     private final GuardarJornadaDia guardarJornadaDia;
+    private final GuardarJornadaSemana guardarJornadaSemana;
+    private final AplicarJornadaCursos aplicarJornadaCursos;
     private final ObtenerJornadaCurso obtenerJornadaCurso;
     private final CopiarJornadaDia copiarJornadaDia;
     private final EliminarJornadaDia eliminarJornadaDia;
@@ -59,6 +69,16 @@ public class JornadaController {
     private final AsignarProfesorBloque asignarProfesorBloque;
     private final QuitarProfesorBloque quitarProfesorBloque;
     private final ObtenerResumenAsignacionProfesores obtenerResumenAsignacionProfesores;
+    private final RevisionAgregados revisionAgregados;
+
+    @PutMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<JornadaCursoResponse> guardarSemana(
+        @PathVariable UUID cursoId,
+        @Valid @RequestBody JornadaSemanaRequest request
+    ) {
+        return ResponseEntity.ok(guardarJornadaSemana.execute(cursoId, request));
+    }
 
     @PutMapping("/{diaSemana}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -75,16 +95,23 @@ public class JornadaController {
     public ResponseEntity<JornadaCursoResponse> obtenerJornada(
         @PathVariable UUID cursoId,
         @RequestParam(required = false) Integer diaSemana,
-        @AuthenticationPrincipal UserPrincipal user
+        @AuthenticationPrincipal UserPrincipal user,
+        ServletWebRequest request
     ) {
-        return ResponseEntity.ok(obtenerJornadaCurso.execute(cursoId, diaSemana, user));
+        String etag = revisionAgregados.etag(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+        if (user != null && user.getRol() == Rol.ADMIN) {
+            return RespuestaCondicional.responder(request, etag, () -> obtenerJornadaCurso.execute(cursoId, diaSemana, user));
+        }
+        // El apoderado valida acceso contra sus matrículas en cada request: el 304 solo ahorra el cuerpo.
+        JornadaCursoResponse response = obtenerJornadaCurso.execute(cursoId, diaSemana, user);
+        return RespuestaCondicional.responder(request, etag, () -> response);
     }
 
     @GetMapping("/resumen")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<JornadaResumenResponse> obtenerResumen(@PathVariable UUID cursoId) {
-        JornadaCursoResponse full = obtenerJornadaCurso.execute(cursoId, null);
-        return ResponseEntity.ok(full.getResumen());
+    public ResponseEntity<JornadaResumenResponse> obtenerResumen(@PathVariable UUID cursoId, ServletWebRequest request) {
+        String etag = revisionAgregados.etag(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+        return RespuestaCondicional.responder(request, etag, () -> obtenerJornadaCurso.execute(cursoId, null).getResumen());
     }
 
     @PostMapping("/{diaSemanaOrigen}/copiar")
@@ -97,6 +124,15 @@ public class JornadaController {
         return ResponseEntity.ok(copiarJornadaDia.execute(cursoId, diaSemanaOrigen, request.getDiasDestino()));
     }
 
+    @PostMapping("/aplicar")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<JornadaResumenResponse>> aplicarACursos(
+        @PathVariable UUID cursoId,
+        @Valid @RequestBody AplicarJornadaRequest request
+    ) {
+        return ResponseEntity.ok(aplicarJornadaCursos.execute(cursoId, request.getCursoIds()));
+    }
+
     @DeleteMapping("/{diaSemana}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> eliminarJornada(
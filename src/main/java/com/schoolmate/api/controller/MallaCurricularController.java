@@ -1,5 +1,6 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.MallaCurricularBulkRequest;
 import com.schoolmate.api.dto.request.MallaCurricularRequest;
 import com.schoolmate.api.dto.request.MallaCurricularUpdateRequest;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -45,34 +47,38 @@ public class MallaCurricularController {
     private final ActualizarMallaCurricular actualizarMallaCurricular;
     private final GuardarMallaCurricularBulk guardarMallaCurricularBulk;
     private final EliminarMallaCurricular eliminarMallaCurricular;
+    private final RevisionAgregados revisionAgregados;
 
     @GetMapping
-    public MallaCurricularPageResponse listarPorAnoEscolar(
+    public ResponseEntity<MallaCurricularPageResponse> listarPorAnoEscolar(
         @AnoEscolarActivo AnoEscolar anoEscolar,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        ServletWebRequest request
     ) {
-        return listarMallaCurricularPorAnoEscolar.execute(anoEscolar.getId(), page, size);
+        return RespuestaCondicional.responder(request, etagMalla(anoEscolar), () -> listarMallaCurricularPorAnoEscolar.execute(anoEscolar.getId(), page, size));
     }
 
     @GetMapping("/materia/{materiaId}")
-    public MallaCurricularPageResponse listarPorMateria(
+    public ResponseEntity<MallaCurricularPageResponse> listarPorMateria(
         @AnoEscolarActivo AnoEscolar anoEscolar,
         @PathVariable UUID materiaId,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        ServletWebRequest request
     ) {
-        return listarMallaCurricularPorMateria.execute(anoEscolar.getId(), materiaId, page, size);
+        return RespuestaCondicional.responder(request, etagMalla(anoEscolar), () -> listarMallaCurricularPorMateria.execute(anoEscolar.getId(), materiaId, page, size));
     }
 
     @GetMapping("/grado/{gradoId}")
-    public MallaCurricularPageResponse listarPorGrado(
+    public ResponseEntity<MallaCurricularPageResponse> listarPorGrado(
         @AnoEscolarActivo AnoEscolar anoEscolar,
         @PathVariable UUID gradoId,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        ServletWebRequest request
     ) {
-        return listarMallaCurricularPorGrado.execute(anoEscolar.getId(), gradoId, page, size);
+        return RespuestaCondicional.responder(request, etagMalla(anoEscolar), () -> listarMallaCurricularPorGrado.execute(anoEscolar.getId(), gradoId, page, size));
     }
 
     @PostMapping
@@ -102,4 +108,8 @@ public class MallaCurricularController {
         eliminarMallaCurricular.execute(id);
         return ResponseEntity.noContent().build();
     }
+
+    private String etagMalla(AnoEscolar anoEscolar) {
+        return revisionAgregados.etag(RevisionAgregados.Agregado.MALLA_ANO_ESCOLAR, anoEscolar.getId());
+    }
 }
@@ -1,16 +1,26 @@
 package com.schoolmate.api.controller;
 import java.util.UUID;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.CambiarEstadoMatriculaRequest;
+import com.schoolmate.api.dto.request.MatriculaLoteRequest;
 import com.schoolmate.api.dto.request.MatriculaRequest;
+import com.schoolmate.api.dto.request.PromocionAnoEscolarRequest;
+import com.schoolmate.api.dto.response.MatriculaLoteResponse;
 import com.schoolmate.api.dto.response.MatriculaPageResponse;
 import com.schoolmate.api.dto.response.MatriculaResponse;
+import com.schoolmate.api.dto.response.PromocionAnoEscolarResponse;
 import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.security.AnoEscolarActivo;
 import com.schoolmate.api.usecase.matricula.CambiarEstadoMatricula;
 import com.schoolmate.api.usecase.matricula.MatricularAlumno;
+import com.schoolmate.api.usecase.matricula.MatricularAlumnosLote;
 import com.schoolmate.api.usecase.matricula.ObtenerMatriculasPorAlumno;
 import com.schoolmate.api.usecase.matricula.ObtenerMatriculasPorCurso;
+import com.schoolmate.api.usecase.matricula.ObtenerPromocionAnoEscolar;
+import com.schoolmate.api.usecase.matricula.PromoverAnoEscolar;
+import com.schoolmate.api.usecase.matricula.ReanudarPromocionAnoEscolar;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +28,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.schoolmate.api.security.UserPrincipal;
 
@@ -27,9 +38,14 @@ import com.schoolmate.api.security.UserPrincipal;
 public class MatriculaController {
 
     private final MatricularAlumno matricularAlumno;
+    private final MatricularAlumnosLote matricularAlumnosLote;
+    private final PromoverAnoEscolar promoverAnoEscolar;
+    private final ObtenerPromocionAnoEscolar obtenerPromocionAnoEscolar;
+    private final ReanudarPromocionAnoEscolar reanudarPromocionAnoEscolar;
     private final CambiarEstadoMatricula cambiarEstadoMatricula;
     private final ObtenerMatriculasPorCurso obtenerMatriculasPorCurso;
     private final ObtenerMatriculasPorAlumno obtenerMatriculasPorAlumno;
+    private final RevisionAgregados revisionAgregados;
 
     /**
      * Matricular un alumno en un curso
@@ -43,6 +59,45 @@ public class MatriculaController {
                 .body(matricularAlumno.execute(request, anoEscolar.getId()));
     }
 
+    /**
+     * Matricular varios alumnos en un mismo curso. Informa los alumnos omitidos en vez de fallar.
+     */
+    @PostMapping("/lote")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MatriculaLoteResponse> matricularLote(
+            @AnoEscolarActivo AnoEscolar anoEscolar,
+            @Valid @RequestBody MatriculaLoteRequest request) {
+        return ResponseEntity.ok(matricularAlumnosLote.execute(request, anoEscolar.getId()));
+    }
+
+    /**
+     * Promover las matrículas de un año escolar al siguiente (en segundo plano)
+     */
+    @PostMapping("/promociones")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PromocionAnoEscolarResponse> promover(
+            @Valid @RequestBody PromocionAnoEscolarRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(promoverAnoEscolar.execute(request));
+    }
+
+    /**
+     * Avance de una promoción
+     */
+    @GetMapping("/promociones/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PromocionAnoEscolarResponse> promocion(@PathVariable UUID id) {
+        return ResponseEntity.ok(obtenerPromocionAnoEscolar.execute(id));
+    }
+
+    /**
+     * Reanudar una promoción fallida desde el último curso procesado
+     */
+    @PostMapping("/promociones/{id}/reanudar")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PromocionAnoEscolarResponse> reanudarPromocion(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reanudarPromocionAnoEscolar.execute(id));
+    }
+
     /**
      * Listar alumnos matriculados en un curso (solo activas)
      */
@@ -55,8 +110,17 @@ public class MatriculaController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "alumno.apellido") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
-        return ResponseEntity.ok(obtenerMatriculasPorCurso.execute(cursoId, principal, anoEscolar.getId(), page, size, sortBy, sortDir));
+            @RequestParam(defaultValue = "asc") String sortDir,
+            ServletWebRequest request) {
+        String etag = revisionAgregados.etag(RevisionAgregados.Agregado.MATRICULAS_CURSO, cursoId);
+        if (principal != null && principal.getRol() == Rol.ADMIN) {
+            return RespuestaCondicional.responder(request, etag, () ->
+                    obtenerMatriculasPorCurso.execute(cursoId, principal, anoEscolar.getId(), page, size, sortBy, sortDir));
+        }
+        // El profesor valida acceso contra sus bloques del curso en cada request: el 304 solo ahorra el cuerpo.
+        MatriculaPageResponse response = obtenerMatriculasPorCurso.execute(
+                cursoId, principal, anoEscolar.getId(), page, size, sortBy, sortDir);
+        return RespuestaCondicional.responder(request, etag, () -> response);
     }
 
     /**
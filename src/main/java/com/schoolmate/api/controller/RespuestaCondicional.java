@@ -0,0 +1,27 @@
+package com.schoolmate.api.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.function.Supplier;
+
+/**
+ * GET condicional con ETag por revisión: responde 304 sin invocar {@code cargar} cuando el cliente ya tiene
+ * esa revisión. La respuesta queda fuera del {@link ShallowEtagHeaderFilter}, que de otro modo la
+ * almacenaría en memoria para volver a calcular un ETag por contenido.
+ */
+final class RespuestaCondicional {
+
+    private RespuestaCondicional() {
+    }
+
+    static <T> ResponseEntity<T> responder(ServletWebRequest request, String etag, Supplier<T> cargar) {
+        ShallowEtagHeaderFilter.disableContentCaching(request.getRequest());
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(cargar.get());
+    }
+}
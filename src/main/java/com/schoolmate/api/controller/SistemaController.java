@@ -1,10 +1,14 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.common.metricas.ReporteMetricas;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.HoraServidorResponse;
+import com.schoolmate.api.dto.response.MetricasSistemaResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,7 +18,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SistemaController {
 
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8");
+
     private final ClockProvider clockProvider;
+    private final ReporteMetricas reporteMetricas;
 
     @Value("${app.ambiente:dev}")
     private String ambiente;
@@ -27,4 +34,18 @@ public class SistemaController {
                 ambiente
         ));
     }
+
+    @GetMapping("/metricas")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MetricasSistemaResponse> obtenerMetricas() {
+        return ResponseEntity.ok(reporteMetricas.resumen());
+    }
+
+    @GetMapping("/metricas/prometheus")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> obtenerMetricasPrometheus() {
+        return ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .body(reporteMetricas.prometheus());
+    }
 }
@@ -0,0 +1,14 @@
+package com.schoolmate.api.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class RutRegistrado {
+    private String rut;
+    private String tipo;
+    private UUID id;
+}
@@ -0,0 +1,22 @@
+package com.schoolmate.api.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AplicarJornadaRequest {
+
+    @NotNull(message = "Los cursos destino son obligatorios")
+    @Size(min = 1, max = 200, message = "Debe seleccionar entre 1 y 200 cursos destino")
+    private List<@NotNull UUID> cursoIds;
+}
@@ -0,0 +1,17 @@
+package com.schoolmate.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GuardarAsistenciaLoteRequest {
+
+    @NotNull(message = "asistencias es requerido")
+    @Size(min = 1, max = 50, message = "Debe enviar entre 1 y 50 asistencias")
+    @Valid
+    private List<GuardarAsistenciaRequest> asistencias;
+}
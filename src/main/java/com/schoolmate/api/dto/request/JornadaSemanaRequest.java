@@ -0,0 +1,23 @@
+package com.schoolmate.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JornadaSemanaRequest {
+
+    // Clave: día de la semana (1 = Lunes ... 5 = Viernes). Los días que no vienen quedan sin jornada.
+    @NotNull(message = "Los días son obligatorios")
+    @Size(min = 1, max = 5, message = "Debe enviar entre 1 y 5 días")
+    private Map<Integer, @NotNull @Valid JornadaDiaRequest> dias;
+}
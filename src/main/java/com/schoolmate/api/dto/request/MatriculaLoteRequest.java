@@ -0,0 +1,28 @@
+package com.schoolmate.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatriculaLoteRequest {
+
+    @NotNull(message = "El curso es obligatorio")
+    private UUID cursoId;
+
+    @NotEmpty(message = "Debe indicar al menos un alumno")
+    @Size(max = 1000, message = "Máximo 1000 alumnos por solicitud")
+    private List<@NotNull UUID> alumnoIds;
+
+    private String fechaMatricula; // Opcional, si no se envía usa fecha actual
+}
@@ -0,0 +1,24 @@
+package com.schoolmate.api.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromocionAnoEscolarRequest {
+
+    @NotNull(message = "El año escolar de origen es obligatorio")
+    private UUID anoOrigenId;
+
+    @NotNull(message = "El año escolar de destino es obligatorio")
+    private UUID anoDestinoId;
+
+    private String fechaMatricula; // Opcional, si no se envía usa la fecha de inicio del año destino
+}
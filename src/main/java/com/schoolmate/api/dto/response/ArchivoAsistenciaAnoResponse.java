@@ -0,0 +1,41 @@
+package com.schoolmate.api.dto.response;
+
+import com.schoolmate.api.entity.ArchivoAsistenciaAno;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivoAsistenciaAnoResponse {
+
+    private UUID anoEscolarId;
+    private String estado;
+    private int cursosTotal;
+    private int cursosProcesados;
+    private long registrosArchivados;
+    private String ultimoError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finalizadoEn;
+
+    public static ArchivoAsistenciaAnoResponse fromEntity(ArchivoAsistenciaAno archivo) {
+        return ArchivoAsistenciaAnoResponse.builder()
+                .anoEscolarId(archivo.getAnoEscolarId())
+                .estado(archivo.getEstado().name())
+                .cursosTotal(archivo.getCursosTotal())
+                .cursosProcesados(archivo.getCursosProcesados())
+                .registrosArchivados(archivo.getRegistrosArchivados())
+                .ultimoError(archivo.getUltimoError())
+                .createdAt(archivo.getCreatedAt())
+                .updatedAt(archivo.getUpdatedAt())
+                .finalizadoEn(archivo.getFinalizadoEn())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.schoolmate.api.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class EventoAuditoriaCursorResponse {
+    private List<EventoAuditoriaResponse> eventos;
+    private String siguienteCursor;
+    private Boolean hayMas;
+    private Long totalElements;
+}
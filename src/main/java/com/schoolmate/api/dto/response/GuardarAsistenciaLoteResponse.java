@@ -0,0 +1,32 @@
+package com.schoolmate.api.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+public class GuardarAsistenciaLoteResponse {
+
+    private int guardadas;
+    private int rechazadas;
+    private List<ResultadoItem> resultados;
+
+    @Data
+    @Builder
+    public static class ResultadoItem {
+        private int indice;
+        private UUID bloqueHorarioId;
+        private LocalDate fecha;
+        private String estado;
+        private int status;
+        private String code;
+        private String mensaje;
+        private Map<String, String> details;
+        private AsistenciaClaseResponse asistencia;
+    }
+}
@@ -0,0 +1,27 @@
+package com.schoolmate.api.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ImportacionAlumnosResponse {
+
+    private int filasLeidas;
+    private int alumnosCreados;
+    private int apoderadosCreados;
+    private int apoderadosReutilizados;
+    private int filasConError;
+    private long duracionMs;
+    private List<ErrorFila> errores;
+
+    @Data
+    @Builder
+    public static class ErrorFila {
+        private long linea;
+        private String rutAlumno;
+        private String mensaje;
+    }
+}
@@ -0,0 +1,18 @@
+package com.schoolmate.api.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class MatriculaLoteResponse {
+
+    private UUID cursoId;
+    private int solicitados;
+    private int matriculados;
+    private List<UUID> yaMatriculados;
+    private List<UUID> noEncontrados;
+}
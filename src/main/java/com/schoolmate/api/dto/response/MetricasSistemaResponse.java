@@ -0,0 +1,23 @@
+package com.schoolmate.api.dto.response;
+
+import com.schoolmate.api.common.auditoria.AuditoriaBatchWriter;
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.metricas.MetricasUseCases;
+import com.schoolmate.api.config.BulkheadFilter;
+import com.schoolmate.api.security.LimitadorLogin;
+import com.schoolmate.api.security.VerificadorPassword;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class MetricasSistemaResponse {
+    private List<MetricasUseCases.Resumen> useCases;
+    private AuditoriaBatchWriter.Estadisticas auditoria;
+    private List<CatalogoCache.EstadisticasRegion> catalogo;
+    private VerificadorPassword.Estadisticas verificadorPassword;
+    private LimitadorLogin.Estadisticas limitadorLogin;
+    private BulkheadFilter.Estadisticas bulkhead;
+}
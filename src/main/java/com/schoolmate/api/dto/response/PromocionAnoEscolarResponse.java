@@ -0,0 +1,49 @@
+package com.schoolmate.api.dto.response;
+
+import com.schoolmate.api.entity.PromocionAnoEscolar;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromocionAnoEscolarResponse {
+
+    private UUID id;
+    private UUID anoOrigenId;
+    private UUID anoDestinoId;
+    private String estado;
+    private String fechaMatricula;
+    private int cursosTotal;
+    private int cursosProcesados;
+    private int cursosSinDestino;
+    private int matriculasCreadas;
+    private String ultimoError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finalizadaEn;
+
+    public static PromocionAnoEscolarResponse fromEntity(PromocionAnoEscolar promocion) {
+        return PromocionAnoEscolarResponse.builder()
+                .id(promocion.getId())
+                .anoOrigenId(promocion.getAnoOrigenId())
+                .anoDestinoId(promocion.getAnoDestinoId())
+                .estado(promocion.getEstado().name())
+                .fechaMatricula(promocion.getFechaMatricula().toString())
+                .cursosTotal(promocion.getCursosTotal())
+                .cursosProcesados(promocion.getCursosProcesados())
+                .cursosSinDestino(promocion.getCursosSinDestino())
+                .matriculasCreadas(promocion.getMatriculasCreadas())
+                .ultimoError(promocion.getUltimoError())
+                .createdAt(promocion.getCreatedAt())
+                .updatedAt(promocion.getUpdatedAt())
+                .finalizadaEn(promocion.getFinalizadaEn())
+                .build();
+    }
+}
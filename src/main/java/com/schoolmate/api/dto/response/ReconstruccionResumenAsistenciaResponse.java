@@ -0,0 +1,8 @@
+package com.schoolmate.api.dto.response;
+
+import java.util.UUID;
+
+public record ReconstruccionResumenAsistenciaResponse(
+        UUID anoEscolarId,
+        int alumnosConResumen
+) {}
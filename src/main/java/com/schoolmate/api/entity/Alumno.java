@@ -2,6 +2,7 @@ package com.schoolmate.api.entity;
 
 import com.schoolmate.api.common.time.TimeContext;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -46,6 +47,15 @@ public class Alumno {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Columnas generadas por PostgreSQL (V7) para la búsqueda con índice de trigramas; solo se leen.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "nombre_busqueda", length = 201, insertable = false, updatable = false)
+    private String nombreBusqueda;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "rut_digitos", length = 20, insertable = false, updatable = false)
+    private String rutDigitos;
+
     @PrePersist
     protected void onCreate() {
         createdAt = TimeContext.now();
@@ -0,0 +1,116 @@
+package com.schoolmate.api.entity;
+
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.enums.EstadoArchivoAsistencia;
+import com.schoolmate.api.exception.ConflictException;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Avance del archivado de la asistencia de un año escolar cerrado. Hay a lo más uno por año; los cursos se
+ * archivan en orden estable y tras un reinicio o una falla se retoma después de {@code ultimoCursoId}.
+ */
+@Entity
+@Table(name = "archivo_asistencia_ano")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivoAsistenciaAno {
+
+    private static final int LARGO_ERROR = 500;
+
+    @Id
+    @Column(name = "ano_escolar_id")
+    private UUID anoEscolarId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private EstadoArchivoAsistencia estado = EstadoArchivoAsistencia.PENDIENTE;
+
+    @Column(name = "cursos_total", nullable = false)
+    private int cursosTotal;
+
+    @Column(name = "cursos_procesados", nullable = false)
+    private int cursosProcesados;
+
+    @Column(name = "ultimo_curso_id")
+    private UUID ultimoCursoId;
+
+    @Column(name = "registros_archivados", nullable = false)
+    private long registrosArchivados;
+
+    @Column(name = "ultimo_error", length = LARGO_ERROR)
+    private String ultimoError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finalizado_en")
+    private LocalDateTime finalizadoEn;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = TimeContext.now();
+        updatedAt = TimeContext.now();
+        if (estado == null) {
+            estado = EstadoArchivoAsistencia.PENDIENTE;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = TimeContext.now();
+    }
+
+    public boolean estaActivo() {
+        return estado == EstadoArchivoAsistencia.PENDIENTE || estado == EstadoArchivoAsistencia.EN_CURSO;
+    }
+
+    public void iniciar(int cursosTotal) {
+        this.cursosTotal = cursosTotal;
+        this.estado = EstadoArchivoAsistencia.EN_CURSO;
+        this.ultimoError = null;
+    }
+
+    public void registrarCurso(UUID cursoId, long registros) {
+        this.ultimoCursoId = cursoId;
+        this.cursosProcesados++;
+        this.registrosArchivados += registros;
+    }
+
+    public void completar(LocalDateTime ahora) {
+        this.estado = EstadoArchivoAsistencia.COMPLETADO;
+        this.finalizadoEn = ahora;
+    }
+
+    public void fallar(String error, LocalDateTime ahora) {
+        this.estado = EstadoArchivoAsistencia.FALLIDO;
+        this.finalizadoEn = ahora;
+        this.ultimoError = error != null && error.length() > LARGO_ERROR ? error.substring(0, LARGO_ERROR) : error;
+    }
+
+    /**
+     * Vuelve a dejar pendiente un archivado fallido; uno activo o completado no se puede repetir.
+     */
+    public void reanudar() {
+        if (estado == EstadoArchivoAsistencia.COMPLETADO) {
+            throw new ConflictException("La asistencia de este año escolar ya está archivada");
+        }
+        if (estado != EstadoArchivoAsistencia.FALLIDO) {
+            throw new ConflictException("El archivado de la asistencia de este año escolar ya está en curso");
+        }
+        this.estado = EstadoArchivoAsistencia.PENDIENTE;
+        this.finalizadoEn = null;
+    }
+}
@@ -0,0 +1,129 @@
+package com.schoolmate.api.entity;
+
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.enums.EstadoPromocion;
+import com.schoolmate.api.exception.BusinessException;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Avance de la promoción de un año escolar al siguiente. Los cursos del año origen se procesan en un orden
+ * estable y tras un reinicio o una falla se retoma después de {@code ultimoCursoOrigenId}.
+ */
+@Entity
+@Table(name = "promocion_ano_escolar")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromocionAnoEscolar {
+
+    private static final int LARGO_ERROR = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "ano_origen_id", nullable = false)
+    private UUID anoOrigenId;
+
+    @Column(name = "ano_destino_id", nullable = false)
+    private UUID anoDestinoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private EstadoPromocion estado = EstadoPromocion.PENDIENTE;
+
+    @Column(name = "fecha_matricula", nullable = false)
+    private LocalDate fechaMatricula;
+
+    @Column(name = "cursos_total", nullable = false)
+    private int cursosTotal;
+
+    @Column(name = "cursos_procesados", nullable = false)
+    private int cursosProcesados;
+
+    @Column(name = "ultimo_curso_origen_id")
+    private UUID ultimoCursoOrigenId;
+
+    @Column(name = "cursos_sin_destino", nullable = false)
+    private int cursosSinDestino;
+
+    @Column(name = "matriculas_creadas", nullable = false)
+    private int matriculasCreadas;
+
+    @Column(name = "ultimo_error", length = LARGO_ERROR)
+    private String ultimoError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finalizada_en")
+    private LocalDateTime finalizadaEn;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = TimeContext.now();
+        updatedAt = TimeContext.now();
+        if (estado == null) {
+            estado = EstadoPromocion.PENDIENTE;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = TimeContext.now();
+    }
+
+    public boolean estaActiva() {
+        return estado == EstadoPromocion.PENDIENTE || estado == EstadoPromocion.EN_CURSO;
+    }
+
+    public void iniciar(int cursosTotal) {
+        this.cursosTotal = cursosTotal;
+        this.estado = EstadoPromocion.EN_CURSO;
+        this.ultimoError = null;
+    }
+
+    /**
+     * @param matriculas matrículas creadas para el curso; {@code sinDestino} si no había curso de destino
+     */
+    public void registrarCurso(UUID cursoOrigenId, int matriculas, boolean sinDestino) {
+        this.ultimoCursoOrigenId = cursoOrigenId;
+        this.cursosProcesados++;
+        this.matriculasCreadas += matriculas;
+        if (sinDestino) {
+            this.cursosSinDestino++;
+        }
+    }
+
+    public void completar(LocalDateTime ahora) {
+        this.estado = EstadoPromocion.COMPLETADA;
+        this.finalizadaEn = ahora;
+    }
+
+    public void fallar(String error, LocalDateTime ahora) {
+        this.estado = EstadoPromocion.FALLIDA;
+        this.finalizadaEn = ahora;
+        this.ultimoError = error != null && error.length() > LARGO_ERROR ? error.substring(0, LARGO_ERROR) : error;
+    }
+
+    public void reanudar() {
+        if (estado != EstadoPromocion.FALLIDA) {
+            throw new BusinessException("Solo se puede reanudar una promoción fallida");
+        }
+        this.estado = EstadoPromocion.PENDIENTE;
+        this.finalizadaEn = null;
+    }
+}
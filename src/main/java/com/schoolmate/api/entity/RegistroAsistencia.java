@@ -1,5 +1,6 @@
 package com.schoolmate.api.entity;
 
+import com.schoolmate.api.common.id.IdUuidV7;
 import com.schoolmate.api.common.time.TimeContext;
 import com.schoolmate.api.enums.EstadoAsistencia;
 import jakarta.persistence.Column;
@@ -7,8 +8,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -34,7 +33,7 @@ import java.util.UUID;
 public class RegistroAsistencia {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @IdUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
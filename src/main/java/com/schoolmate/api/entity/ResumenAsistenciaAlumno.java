@@ -0,0 +1,32 @@
+package com.schoolmate.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Totales de asistencia por alumno y año escolar. Solo lectura desde JPA: los contadores se
+ * mantienen con {@code ResumenAsistenciaAlumnoAcumulador} al guardar asistencia.
+ */
+@Entity
+@Table(name = "resumen_asistencia_alumno")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumenAsistenciaAlumno {
+
+    @EmbeddedId
+    private ResumenAsistenciaAlumnoId id;
+
+    @Column(name = "total_presente", nullable = false)
+    private int totalPresente;
+
+    @Column(name = "total_ausente", nullable = false)
+    private int totalAusente;
+}
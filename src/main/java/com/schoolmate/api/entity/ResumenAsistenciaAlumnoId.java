@@ -0,0 +1,23 @@
+package com.schoolmate.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumenAsistenciaAlumnoId implements Serializable {
+
+    @Column(name = "alumno_id")
+    private UUID alumnoId;
+
+    @Column(name = "ano_escolar_id")
+    private UUID anoEscolarId;
+}
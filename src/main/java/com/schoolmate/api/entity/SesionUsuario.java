@@ -1,11 +1,10 @@
 package com.schoolmate.api.entity;
 
+import com.schoolmate.api.common.id.IdUuidV7;
 import com.schoolmate.api.common.time.TimeContext;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -31,7 +30,7 @@ import java.util.UUID;
 public class SesionUsuario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @IdUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
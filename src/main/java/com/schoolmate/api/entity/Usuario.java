@@ -50,9 +50,6 @@ public class Usuario {
     @Column(name = "apoderado_id")
     private UUID apoderadoId;
 
-    @Column(name = "refresh_token", length = 255)
-    private String refreshToken;
-
     @Column(nullable = false)
     private Boolean activo = true;
 
@@ -72,8 +69,4 @@ public class Usuario {
     protected void onUpdate() {
         updatedAt = TimeContext.now();
     }
-
-    public void actualizarRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
 }
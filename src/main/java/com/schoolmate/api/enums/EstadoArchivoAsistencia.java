@@ -0,0 +1,8 @@
+package com.schoolmate.api.enums;
+
+public enum EstadoArchivoAsistencia {
+    PENDIENTE,
+    EN_CURSO,
+    COMPLETADO,
+    FALLIDO
+}
@@ -0,0 +1,8 @@
+package com.schoolmate.api.enums;
+
+public enum EstadoPromocion {
+    PENDIENTE,
+    EN_CURSO,
+    COMPLETADA,
+    FALLIDA
+}
@@ -10,6 +10,8 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "error.auth.unauthorized"),
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "error.auth.token_expired"),
     SESSION_REVOKED(HttpStatus.UNAUTHORIZED, "error.auth.session_revoked"),
+    AUTH_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "error.auth.too_many_attempts"),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "error.auth.busy"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "error.access.denied"),
 
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "error.resource.not_found"),
@@ -33,6 +35,7 @@ public enum ErrorCode {
     BLOQUE_SIN_MATERIA_PARA_PROFESOR(HttpStatus.BAD_REQUEST, "error.jornada.bloque_sin_materia_para_profesor"),
 
     DATA_INTEGRITY(HttpStatus.CONFLICT, "error.data.integrity"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "error.service.busy"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "error.internal");
 
     private final HttpStatus status;
@@ -1,10 +1,14 @@
 package com.schoolmate.api.repository;
 
+import com.schoolmate.api.dto.projection.RutRegistrado;
 import com.schoolmate.api.entity.Alumno;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,4 +27,24 @@ public interface AlumnoRepository extends JpaRepository<Alumno, UUID>, JpaSpecif
         LIMIT 1
         """, nativeQuery = true)
     Optional<Alumno> findActivoByRutNormalizado(String rut);
+
+    @Query("""
+        SELECT new com.schoolmate.api.dto.projection.RutRegistrado(a.rut, 'ALUMNO', a.id)
+        FROM Alumno a WHERE a.rut IN :ruts
+        UNION ALL
+        SELECT new com.schoolmate.api.dto.projection.RutRegistrado(p.rut, 'PROFESOR', p.id)
+        FROM Profesor p WHERE p.rut IN :ruts
+        UNION ALL
+        SELECT new com.schoolmate.api.dto.projection.RutRegistrado(ap.rut, 'APODERADO', ap.id)
+        FROM Apoderado ap WHERE ap.rut IN :ruts
+        """)
+    List<RutRegistrado> findRutsRegistrados(@Param("ruts") Collection<String> ruts);
+
+    @Query("""
+        select a.id
+        from Alumno a
+        where a.id in :ids
+          and a.activo = true
+        """)
+    List<UUID> findIdsActivosByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,23 @@
+package com.schoolmate.api.repository;
+
+import com.schoolmate.api.entity.ArchivoAsistenciaAno;
+import com.schoolmate.api.enums.EstadoArchivoAsistencia;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivoAsistenciaAnoRepository extends JpaRepository<ArchivoAsistenciaAno, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ArchivoAsistenciaAno a WHERE a.anoEscolarId = :anoEscolarId")
+    Optional<ArchivoAsistenciaAno> findByIdForUpdate(@Param("anoEscolarId") UUID anoEscolarId);
+
+    List<ArchivoAsistenciaAno> findByEstadoInOrderByCreatedAtAsc(Collection<EstadoArchivoAsistencia> estados);
+}
@@ -45,4 +45,16 @@ public interface AsistenciaClaseRepository extends JpaRepository<AsistenciaClase
         @Param("bloqueIds") List<UUID> bloqueIds,
         @Param("fecha") LocalDate fecha
     );
+
+    @Query("""
+        select distinct ac
+        from AsistenciaClase ac
+        left join fetch ac.registros
+        where ac.bloqueHorario.id in :bloqueIds
+          and ac.fecha in :fechas
+        """)
+    List<AsistenciaClase> findConRegistrosByBloqueIdsAndFechas(
+        @Param("bloqueIds") Collection<UUID> bloqueIds,
+        @Param("fechas") Collection<LocalDate> fechas
+    );
 }
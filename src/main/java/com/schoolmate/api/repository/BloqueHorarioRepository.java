@@ -1,5 +1,6 @@
 package com.schoolmate.api.repository;
 
+import com.schoolmate.api.common.jornada.OcupacionProfesor;
 import com.schoolmate.api.dto.projection.BloquesPorCursoProjection;
 import com.schoolmate.api.entity.BloqueHorario;
 import com.schoolmate.api.enums.TipoBloque;
@@ -9,9 +10,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 public interface BloqueHorarioRepository extends JpaRepository<BloqueHorario, UUID> {
@@ -91,6 +92,16 @@ public interface BloqueHorarioRepository extends JpaRepository<BloqueHorario, UU
         """)
     Optional<BloqueHorario> findDetalleById(@Param("bloqueId") UUID bloqueId);
 
+    @Query("""
+        SELECT b
+        FROM BloqueHorario b
+        JOIN FETCH b.curso c
+        JOIN FETCH c.anoEscolar
+        LEFT JOIN FETCH b.profesor
+        WHERE b.id IN :bloqueIds
+        """)
+    List<BloqueHorario> findAllByIdInWithCursoYAnoEscolar(@Param("bloqueIds") Collection<UUID> bloqueIds);
+
     @Query("""
         SELECT b
         FROM BloqueHorario b
@@ -191,19 +202,18 @@ public interface BloqueHorarioRepository extends JpaRepository<BloqueHorario, UU
     );
 
     @Query("""
-        SELECT b
+        SELECT new com.schoolmate.api.common.jornada.OcupacionProfesor(
+            b.id, c.id, c.nombre, m.nombre, p.id, b.diaSemana, b.horaInicio, b.horaFin
+        )
         FROM BloqueHorario b
-        JOIN FETCH b.curso c
-        JOIN FETCH b.profesor p
+        JOIN b.curso c
+        JOIN b.profesor p
+        LEFT JOIN b.materia m
         WHERE b.tipo = com.schoolmate.api.enums.TipoBloque.CLASE
-          AND p.id IN :profesorIds
           AND c.anoEscolar.id = :anoEscolarId
           AND b.activo = true
         """)
-    List<BloqueHorario> findBloquesClaseProfesoresEnAnoEscolarConProfesor(
-        @Param("profesorIds") Set<UUID> profesorIds,
-        @Param("anoEscolarId") UUID anoEscolarId
-    );
+    List<OcupacionProfesor> findOcupacionesProfesoresEnAnoEscolar(@Param("anoEscolarId") UUID anoEscolarId);
 
     @Query("SELECT b FROM BloqueHorario b " +
         "JOIN b.curso c " +
@@ -246,29 +256,6 @@ public interface BloqueHorarioRepository extends JpaRepository<BloqueHorario, UU
         @Param("bloqueIdExcluir") UUID bloqueIdExcluir
     );
 
-    @Query("""
-        SELECT b
-        FROM BloqueHorario b
-        JOIN FETCH b.curso c
-        JOIN FETCH b.profesor p
-        LEFT JOIN FETCH b.materia
-        WHERE p.id IN :profesorIds
-          AND b.activo = true
-          AND b.diaSemana = :diaSemana
-          AND b.horaInicio < :horaFin
-          AND b.horaFin > :horaInicio
-          AND c.anoEscolar.id = :anoEscolarId
-          AND b.id <> :bloqueIdExcluir
-        """)
-    List<BloqueHorario> findColisionesProfesoresConCursoYMateria(
-        @Param("profesorIds") Set<UUID> profesorIds,
-        @Param("diaSemana") Integer diaSemana,
-        @Param("horaInicio") LocalTime horaInicio,
-        @Param("horaFin") LocalTime horaFin,
-        @Param("anoEscolarId") UUID anoEscolarId,
-        @Param("bloqueIdExcluir") UUID bloqueIdExcluir
-    );
-
     @Modifying
     @Query("UPDATE BloqueHorario b SET b.activo = false, b.updatedAt = CURRENT_TIMESTAMP " +
         "WHERE b.curso.id = :cursoId AND b.diaSemana = :diaSemana AND b.activo = true")
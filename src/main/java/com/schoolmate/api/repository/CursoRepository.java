@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -66,6 +67,14 @@ public interface CursoRepository extends JpaRepository<Curso, UUID> {
         """)
     Optional<Curso> findByIdWithGradoAndAnoEscolar(UUID id);
 
+    @EntityGraph(attributePaths = {"grado", "anoEscolar"})
+    @Query("""
+        select c
+        from Curso c
+        where c.id in :ids
+        """)
+    List<Curso> findAllByIdInWithGradoAndAnoEscolar(Collection<UUID> ids);
+
     @Query("""
         select c.letra
         from Curso c
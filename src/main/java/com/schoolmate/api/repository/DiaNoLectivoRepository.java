@@ -6,8 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 public interface DiaNoLectivoRepository extends JpaRepository<DiaNoLectivo, UUID> {
@@ -31,5 +31,5 @@ public interface DiaNoLectivoRepository extends JpaRepository<DiaNoLectivo, UUID
         Pageable pageable
     );
 
-    Optional<DiaNoLectivo> findByAnoEscolarIdAndFecha(UUID anoEscolarId, LocalDate fecha);
+    List<DiaNoLectivo> findByAnoEscolarIdInAndFechaIn(Collection<UUID> anoEscolarIds, Collection<LocalDate> fechas);
 }
@@ -44,6 +44,9 @@ public interface MatriculaRepository extends JpaRepository<Matricula, UUID> {
     @EntityGraph(attributePaths = {"alumno", "curso", "curso.grado", "anoEscolar"})
     List<Matricula> findByCursoIdAndEstado(UUID cursoId, EstadoMatricula estado);
 
+    @EntityGraph(attributePaths = {"alumno"})
+    List<Matricula> findByCursoIdInAndEstado(Collection<UUID> cursoIds, EstadoMatricula estado);
+
     @EntityGraph(attributePaths = {"alumno", "curso", "curso.grado", "anoEscolar"})
     Optional<Matricula> findByAlumnoIdAndAnoEscolarIdAndEstado(
         UUID alumnoId, UUID anoEscolarId, EstadoMatricula estado);
@@ -54,13 +57,6 @@ public interface MatriculaRepository extends JpaRepository<Matricula, UUID> {
     @EntityGraph(attributePaths = {"alumno", "curso", "curso.grado", "anoEscolar"})
     List<Matricula> findByAnoEscolarIdAndEstado(UUID anoEscolarId, EstadoMatricula estado);
 
-    @EntityGraph(attributePaths = {"alumno", "curso", "curso.grado", "anoEscolar"})
-    List<Matricula> findByAnoEscolarIdAndCursoGradoIdAndEstado(
-        UUID anoEscolarId,
-        UUID gradoId,
-        EstadoMatricula estado
-    );
-
     @EntityGraph(attributePaths = {"alumno", "curso", "curso.grado", "anoEscolar"})
     List<Matricula> findByAlumnoIdInAndAnoEscolarIdAndEstado(
         Collection<UUID> alumnoIds,
@@ -100,4 +96,16 @@ public interface MatriculaRepository extends JpaRepository<Matricula, UUID> {
           and m.estado = com.schoolmate.api.enums.EstadoMatricula.ACTIVA
         """)
     long countActivasByAnoEscolarId(@Param("anoEscolarId") UUID anoEscolarId);
+
+    @Query("""
+        select m.alumno.id
+        from Matricula m
+        where m.alumno.id in :alumnoIds
+          and m.anoEscolar.id = :anoEscolarId
+          and m.estado = com.schoolmate.api.enums.EstadoMatricula.ACTIVA
+        """)
+    List<UUID> findAlumnoIdsConMatriculaActiva(
+        @Param("alumnoIds") Collection<UUID> alumnoIds,
+        @Param("anoEscolarId") UUID anoEscolarId
+    );
 }
@@ -0,0 +1,25 @@
+package com.schoolmate.api.repository;
+
+import com.schoolmate.api.entity.PromocionAnoEscolar;
+import com.schoolmate.api.enums.EstadoPromocion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PromocionAnoEscolarRepository extends JpaRepository<PromocionAnoEscolar, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PromocionAnoEscolar p WHERE p.id = :id")
+    Optional<PromocionAnoEscolar> findByIdForUpdate(@Param("id") UUID id);
+
+    boolean existsByAnoDestinoIdAndEstadoIn(UUID anoDestinoId, Collection<EstadoPromocion> estados);
+
+    List<PromocionAnoEscolar> findByEstadoInOrderByCreatedAtAsc(Collection<EstadoPromocion> estados);
+}
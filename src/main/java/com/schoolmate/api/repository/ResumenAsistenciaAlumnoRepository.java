@@ -0,0 +1,9 @@
+package com.schoolmate.api.repository;
+
+import com.schoolmate.api.entity.ResumenAsistenciaAlumno;
+import com.schoolmate.api.entity.ResumenAsistenciaAlumnoId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ResumenAsistenciaAlumnoRepository
+    extends JpaRepository<ResumenAsistenciaAlumno, ResumenAsistenciaAlumnoId> {
+}
@@ -15,15 +15,13 @@ public interface SesionUsuarioRepository extends JpaRepository<SesionUsuario, UU
     @Query("""
         SELECT s FROM SesionUsuario s
         WHERE s.usuario.id = :usuarioId
-        AND (:aplicarDesde = false OR s.createdAt >= :desde)
-        AND (:aplicarHasta = false OR s.createdAt < :hasta)
+        AND s.createdAt >= :desde
+        AND s.createdAt < :hasta
         ORDER BY s.createdAt DESC
         """)
     Page<SesionUsuario> findByUsuarioIdAndFechas(
             @Param("usuarioId") UUID usuarioId,
-            @Param("aplicarDesde") boolean aplicarDesde,
             @Param("desde") LocalDateTime desde,
-            @Param("aplicarHasta") boolean aplicarHasta,
             @Param("hasta") LocalDateTime hasta,
             Pageable pageable
     );
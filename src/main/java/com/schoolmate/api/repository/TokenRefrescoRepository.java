@@ -0,0 +1,28 @@
+package com.schoolmate.api.repository;
+
+import com.schoolmate.api.entity.TokenRefresco;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TokenRefrescoRepository extends JpaRepository<TokenRefresco, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TokenRefresco t JOIN FETCH t.usuario WHERE t.tokenHash = :tokenHash")
+    Optional<TokenRefresco> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM TokenRefresco t WHERE t.familiaId = :familiaId")
+    int deleteByFamiliaId(@Param("familiaId") UUID familiaId);
+
+    @Modifying
+    @Query("DELETE FROM TokenRefresco t WHERE t.expiraEn <= :ahora")
+    int deleteExpirados(@Param("ahora") LocalDateTime ahora);
+}
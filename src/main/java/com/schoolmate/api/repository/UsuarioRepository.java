@@ -3,8 +3,12 @@ package com.schoolmate.api.repository;
 import com.schoolmate.api.entity.Usuario;
 import com.schoolmate.api.enums.Rol;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,9 +18,15 @@ public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
     Optional<Usuario> findByRut(String rut);
     Optional<Usuario> findByApoderadoId(UUID apoderadoId);
     Optional<Usuario> findByProfesorId(UUID profesorId);
-    Optional<Usuario> findByRefreshToken(String refreshToken);
     Boolean existsByEmail(String email);
     Boolean existsByRut(String rut);
     boolean existsByProfesorId(UUID profesorId);
     boolean existsByRolAndActivoTrue(Rol rol);
+
+    @Query(value = """
+        SELECT u.email FROM usuario u WHERE u.email IN (:emails)
+        UNION
+        SELECT ap.email FROM apoderado ap WHERE ap.email IN (:emails)
+        """, nativeQuery = true)
+    List<String> findEmailsRegistrados(@Param("emails") Collection<String> emails);
 }
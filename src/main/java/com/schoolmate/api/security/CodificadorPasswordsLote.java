@@ -0,0 +1,84 @@
+package com.schoolmate.api.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Codifica con BCrypt los passwords iniciales de una importación masiva, en paralelo sobre un pool propio de
+ * {@code app.importacion.hash.hilos} hilos (por defecto la mitad de las CPU, para no competir con el login).
+ * <p>
+ * A diferencia de {@link VerificadorPassword}, aquí no hay un request esperando: con la cola llena la tarea
+ * la ejecuta el hilo que llama, lo que frena a la importación en vez de rechazarla.
+ */
+@Component
+public class CodificadorPasswordsLote {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public CodificadorPasswordsLote(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.importacion.hash.hilos:0}") int hilos,
+            @Value("${app.importacion.hash.cola:256}") int capacidadCola
+    ) {
+        int tamano = hilos > 0 ? hilos : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger secuencia = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                tamano,
+                tamano,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola),
+                tarea -> Thread.ofPlatform()
+                        .name("password-lote-" + secuencia.incrementAndGet())
+                        .daemon(true)
+                        .unstarted(tarea),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * Hashes en el mismo orden que {@code passwords}.
+     */
+    public List<String> codificar(List<String> passwords) {
+        List<Future<String>> pendientes = new ArrayList<>(passwords.size());
+        try {
+            for (String password : passwords) {
+                pendientes.add(executor.submit(() -> passwordEncoder.encode(password)));
+            }
+            List<String> hashes = new ArrayList<>(passwords.size());
+            for (Future<String> pendiente : pendientes) {
+                hashes.add(pendiente.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            pendientes.forEach(pendiente -> pendiente.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Codificacion de passwords interrumpida");
+        } catch (ExecutionException e) {
+            pendientes.forEach(pendiente -> pendiente.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void detener() {
+        executor.shutdownNow();
+    }
+}
@@ -3,19 +3,42 @@ package com.schoolmate.api.security;
 import com.schoolmate.api.enums.Rol;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.WeakKeyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtConfig jwtConfig;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    // Token ya verificado -> principal, hasta la expiración del token. Acotado a maxPrincipalesCacheados.
+    private final Map<String, PrincipalCacheado> principales = new ConcurrentHashMap<>();
+    private final int maxPrincipalesCacheados;
+
+    public JwtTokenProvider(
+            JwtConfig jwtConfig,
+            @Value("${jwt.cache.max-entries:10000}") int maxPrincipalesCacheados
+    ) {
+        this.jwtConfig = jwtConfig;
+        this.signingKey = claveFirma(jwtConfig.getSecret());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.maxPrincipalesCacheados = maxPrincipalesCacheados;
+    }
 
     public String generateToken(UserPrincipal userPrincipal) {
         Date now = new Date();
@@ -31,7 +54,7 @@ public class JwtTokenProvider {
                 .claim("apellido", userPrincipal.getApellido())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -41,7 +64,24 @@ public class JwtTokenProvider {
     }
 
     public UserPrincipal getUserPrincipalFromToken(String token) {
+        long ahora = System.currentTimeMillis();
+        PrincipalCacheado cacheado = principales.get(token);
+        if (cacheado != null) {
+            if (ahora < cacheado.expiraEnMillis()) {
+                return cacheado.principal();
+            }
+            principales.remove(token, cacheado);
+        }
+
         Claims claims = parseClaims(token);
+        UserPrincipal principal = toUserPrincipal(claims);
+        if (claims.getExpiration() != null) {
+            cachear(token, new PrincipalCacheado(principal, claims.getExpiration().getTime()), ahora);
+        }
+        return principal;
+    }
+
+    private UserPrincipal toUserPrincipal(Claims claims) {
         Rol rol = Rol.valueOf(claims.get("rol", String.class));
 
         return new UserPrincipal(
@@ -58,27 +98,49 @@ public class JwtTokenProvider {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtConfig.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Clave HMAC a partir de {@code jwt.secret}. El secreto se interpreta en Base64, como siempre; si no es
+     * Base64 válido se usan sus bytes UTF-8, para que un secreto en texto plano no impida levantar la aplicación.
+     * Un secreto de menos de 256 bits se rechaza al arrancar en vez de fallar en el primer login.
+     */
+    static SecretKey claveFirma(String secret) {
+        byte[] bytes;
+        try {
+            bytes = Decoders.BASE64.decode(secret);
+        } catch (DecodingException e) {
+            log.warn("jwt.secret no es Base64 válido; se usan sus bytes UTF-8 como clave");
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return Keys.hmacShaKeyFor(bytes);
+        } catch (WeakKeyException e) {
+            throw new IllegalStateException(
+                    "jwt.secret debe tener al menos 256 bits (" + bytes.length * 8 + " bits configurados)", e);
+        }
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private void cachear(String token, PrincipalCacheado cacheado, long ahora) {
+        if (maxPrincipalesCacheados <= 0) {
+            return;
+        }
+        if (principales.size() >= maxPrincipalesCacheados) {
+            principales.values().removeIf(entrada -> entrada.expiraEnMillis() <= ahora);
+            if (principales.size() >= maxPrincipalesCacheados) {
+                return;
+            }
+        }
+        principales.put(token, cacheado);
     }
 
     private UUID parseUuid(String rawValue) {
@@ -87,4 +149,7 @@ public class JwtTokenProvider {
         }
         return UUID.fromString(rawValue);
     }
+
+    private record PrincipalCacheado(UserPrincipal principal, long expiraEnMillis) {
+    }
 }
@@ -0,0 +1,144 @@
+package com.schoolmate.api.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket de intentos fallidos por identificador de login (email o RUT), en memoria de cada instancia.
+ * <p>
+ * Cada identificador parte con {@code app.auth.login.limite.capacidad} intentos y recupera
+ * {@code app.auth.login.limite.recarga-por-minuto}. {@link #permitir} reserva un token antes de verificar la
+ * password, así que una ráfaga concurrente no pasa toda el control antes de que se registre el primer fallo; un
+ * intento fallido deja el token gastado y {@link #registrarExito} descarta el bucket, de modo que los logins
+ * correctos no cuentan.
+ * El estado se reparte en franjas con su propio lock, de modo que logins de usuarios distintos casi nunca compiten;
+ * cada franja guarda a lo más {@code app.auth.login.limite.max-claves / franjas} identificadores y, al llenarse,
+ * olvida el de acceso más antiguo.
+ */
+@Component
+public class LimitadorLogin {
+
+    private final Franja[] franjas;
+    private final int mascara;
+    private final double capacidad;
+    private final double recargaPorNano;
+    private final LongSupplier reloj;
+
+    private final AtomicLong permitidos = new AtomicLong();
+    private final AtomicLong rechazados = new AtomicLong();
+
+    @Autowired
+    public LimitadorLogin(
+            @Value("${app.auth.login.limite.capacidad:5}") int capacidad,
+            @Value("${app.auth.login.limite.recarga-por-minuto:5}") int recargaPorMinuto,
+            @Value("${app.auth.login.limite.franjas:64}") int franjas,
+            @Value("${app.auth.login.limite.max-claves:100000}") int maxClaves
+    ) {
+        this(capacidad, recargaPorMinuto, franjas, maxClaves, System::nanoTime);
+    }
+
+    LimitadorLogin(int capacidad, int recargaPorMinuto, int franjas, int maxClaves, LongSupplier reloj) {
+        int cantidad = franjas <= 1 ? 1 : Integer.highestOneBit(franjas - 1) << 1;
+        int maxClavesPorFranja = Math.max(1, maxClaves / cantidad);
+        this.franjas = new Franja[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            this.franjas[i] = new Franja(maxClavesPorFranja);
+        }
+        this.mascara = cantidad - 1;
+        this.capacidad = capacidad;
+        this.recargaPorNano = recargaPorMinuto / (double) TimeUnit.MINUTES.toNanos(1);
+        this.reloj = reloj;
+    }
+
+    public boolean permitir(String identificador) {
+        String clave = normalizar(identificador);
+        Franja franja = franja(clave);
+        long ahora = reloj.getAsLong();
+        boolean permitido;
+        synchronized (franja) {
+            permitido = franja.baldes.computeIfAbsent(clave, k -> new Balde(capacidad, ahora))
+                    .reservar(ahora, capacidad, recargaPorNano);
+        }
+        (permitido ? permitidos : rechazados).incrementAndGet();
+        return permitido;
+    }
+
+    public void registrarExito(String identificador) {
+        String clave = normalizar(identificador);
+        Franja franja = franja(clave);
+        synchronized (franja) {
+            franja.baldes.remove(clave);
+        }
+    }
+
+    public Estadisticas estadisticas() {
+        int claves = 0;
+        for (Franja franja : franjas) {
+            synchronized (franja) {
+                claves += franja.baldes.size();
+            }
+        }
+        return new Estadisticas(permitidos.get(), rechazados.get(), claves);
+    }
+
+    private static String normalizar(String identificador) {
+        return identificador == null ? "" : identificador.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Franja franja(String clave) {
+        int hash = clave.hashCode();
+        return franjas[(hash ^ (hash >>> 16)) & mascara];
+    }
+
+    private static final class Franja {
+        // Orden de acceso: al superar el máximo se olvida el identificador usado hace más tiempo.
+        private final Map<String, Balde> baldes;
+
+        Franja(int maxClaves) {
+            this.baldes = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Balde> eldest) {
+                    return size() > maxClaves;
+                }
+            };
+        }
+    }
+
+    private static final class Balde {
+        private double tokens;
+        private long ultimaRecarga;
+
+        Balde(double tokens, long ahora) {
+            this.tokens = tokens;
+            this.ultimaRecarga = ahora;
+        }
+
+        boolean reservar(long ahora, double capacidad, double recargaPorNano) {
+            recargar(ahora, capacidad, recargaPorNano);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        private void recargar(long ahora, double capacidad, double recargaPorNano) {
+            long transcurrido = ahora - ultimaRecarga;
+            if (transcurrido > 0) {
+                tokens = Math.min(capacidad, tokens + transcurrido * recargaPorNano);
+                ultimaRecarga = ahora;
+            }
+        }
+    }
+
+    public record Estadisticas(long permitidos, long rechazados, int clavesActivas) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.entity.TokenRefresco;
+import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.repository.TokenRefrescoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Emisión y purga de refresh tokens. El token que recibe el cliente son 256 bits aleatorios; en
+ * {@code token_refresco} solo queda su SHA-256, que es la clave de búsqueda al refrescar.
+ */
+@Component
+public class TokensRefresco {
+
+    private static final Logger log = LoggerFactory.getLogger(TokensRefresco.class);
+
+    private static final int BYTES_TOKEN = 32;
+    private static final int LARGO_DISPOSITIVO = 500;
+
+    private final TokenRefrescoRepository tokenRefrescoRepository;
+    private final ClockProvider clockProvider;
+    private final long expiracionMs;
+    private final SecureRandom random = new SecureRandom();
+
+    public TokensRefresco(
+            TokenRefrescoRepository tokenRefrescoRepository,
+            ClockProvider clockProvider,
+            @Value("${jwt.refresh-expiration:2592000000}") long expiracionMs
+    ) {
+        this.tokenRefrescoRepository = tokenRefrescoRepository;
+        this.clockProvider = clockProvider;
+        this.expiracionMs = expiracionMs;
+    }
+
+    /**
+     * Persiste un token nuevo de la familia indicada y retorna el valor en claro, que no vuelve a estar disponible.
+     */
+    public String emitir(Usuario usuario, UUID familiaId, String dispositivo) {
+        byte[] bytes = new byte[BYTES_TOKEN];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime ahora = clockProvider.now();
+        tokenRefrescoRepository.save(TokenRefresco.builder()
+                .usuario(usuario)
+                .tokenHash(hash(token))
+                .familiaId(familiaId)
+                .dispositivo(truncar(dispositivo))
+                .createdAt(ahora)
+                .expiraEn(ahora.plus(Duration.ofMillis(expiracionMs)))
+                .build());
+        return token;
+    }
+
+    @Scheduled(cron = "${app.auth.refresh-token.purga-cron:0 45 3 * * *}")
+    @Transactional
+    public int purgarExpirados() {
+        int eliminados = tokenRefrescoRepository.deleteExpirados(clockProvider.now());
+        if (eliminados > 0) {
+            log.info("Refresh tokens expirados eliminados: {}", eliminados);
+        }
+        return eliminados;
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static String truncar(String dispositivo) {
+        if (dispositivo == null || dispositivo.length() <= LARGO_DISPOSITIVO) {
+            return dispositivo;
+        }
+        return dispositivo.substring(0, LARGO_DISPOSITIVO);
+    }
+}
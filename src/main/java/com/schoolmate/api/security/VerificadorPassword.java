@@ -0,0 +1,110 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.exception.ApiException;
+import com.schoolmate.api.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara passwords contra su hash BCrypt en un pool propio y acotado, fuera del hilo del request.
+ * <p>
+ * El pool tiene {@code app.auth.login.hash.hilos} hilos (por defecto uno por CPU) y una cola de
+ * {@code app.auth.login.hash.cola} verificaciones. Con la cola llena el login se rechaza con
+ * {@link ErrorCode#AUTH_BUSY} en vez de acumular requests esperando CPU. No hay plazo de espera: una verificación
+ * aceptada siempre termina (BCrypt no se puede interrumpir), así que la cola acotada es la que limita la espera y
+ * el trabajo en curso nunca supera {@code hilos + cola}.
+ */
+@Component
+public class VerificadorPassword {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int capacidadCola;
+
+    private final AtomicLong completadas = new AtomicLong();
+    private final AtomicLong rechazadas = new AtomicLong();
+
+    public VerificadorPassword(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.auth.login.hash.hilos:0}") int hilos,
+            @Value("${app.auth.login.hash.cola:64}") int capacidadCola
+    ) {
+        int tamano = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+        AtomicInteger secuencia = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.capacidadCola = capacidadCola;
+        this.executor = new ThreadPoolExecutor(
+                tamano,
+                tamano,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola),
+                tarea -> Thread.ofPlatform()
+                        .name("password-hash-" + secuencia.incrementAndGet())
+                        .daemon(true)
+                        .unstarted(tarea),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public boolean verificar(String password, String hash) {
+        Future<Boolean> resultado;
+        try {
+            resultado = executor.submit(() -> passwordEncoder.matches(password, hash));
+        } catch (RejectedExecutionException e) {
+            rechazadas.incrementAndGet();
+            throw new ApiException(ErrorCode.AUTH_BUSY);
+        }
+        try {
+            boolean coincide = resultado.get();
+            completadas.incrementAndGet();
+            return coincide;
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public Estadisticas estadisticas() {
+        return new Estadisticas(
+                executor.getQueue().size(),
+                capacidadCola,
+                executor.getActiveCount(),
+                executor.getMaximumPoolSize(),
+                completadas.get(),
+                rechazadas.get()
+        );
+    }
+
+    @PreDestroy
+    void detener() {
+        executor.shutdownNow();
+    }
+
+    public record Estadisticas(
+            int enCola,
+            int capacidadCola,
+            int activas,
+            int hilos,
+            long completadas,
+            long rechazadas
+    ) {
+    }
+}
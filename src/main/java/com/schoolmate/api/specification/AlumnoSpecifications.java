@@ -1,8 +1,19 @@
 package com.schoolmate.api.specification;
 
+import com.schoolmate.api.common.busqueda.FuncionesBusqueda;
+import com.schoolmate.api.common.busqueda.TextoBusqueda;
 import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.Matricula;
+import com.schoolmate.api.enums.EstadoMatricula;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,7 +37,88 @@ public class AlumnoSpecifications {
         return (root, query, cb) -> cb.like(root.get("rut"), "%" + digits + "%");
     }
 
-    public static Specification<Alumno> byIdIn(List<UUID> ids) {
-        return (root, query, cb) -> root.get("id").in(ids);
+    /**
+     * Nombre completo sin distinguir tildes ni mayúsculas, sin índice (H2 o PostgreSQL sin pg_trgm).
+     * {@code normalizado} viene de {@link TextoBusqueda#normalizar}.
+     */
+    public static Specification<Alumno> searchByNombreSinTildes(String normalizado) {
+        return (root, query, cb) -> {
+            Expression<String> nombreCompleto = cb.concat(cb.concat(root.get("nombre"), " "), root.get("apellido"));
+            Expression<String> sinTildes = cb.function(
+                "translate",
+                String.class,
+                cb.lower(nombreCompleto),
+                cb.literal(TextoBusqueda.CON_TILDE),
+                cb.literal(TextoBusqueda.SIN_TILDE)
+            );
+            return cb.like(sinTildes, "%" + normalizado + "%");
+        };
+    }
+
+    /**
+     * Coincidencia aproximada por palabra ({@code <%} de pg_trgm) o por substring, ambas resueltas con el índice
+     * GIN de {@code nombre_busqueda}. Requiere V7 en PostgreSQL.
+     */
+    public static Specification<Alumno> searchByNombreTrigramas(String normalizado) {
+        return (root, query, cb) -> cb.or(
+            cb.isTrue(cb.function(
+                FuncionesBusqueda.COINCIDE_TRIGRAMAS,
+                Boolean.class,
+                cb.literal(normalizado),
+                root.get("nombreBusqueda")
+            )),
+            cb.like(root.get("nombreBusqueda"), "%" + normalizado + "%")
+        );
+    }
+
+    public static Specification<Alumno> searchByRutDigitsIndexado(String digits) {
+        return (root, query, cb) -> cb.like(root.get("rutDigitos"), "%" + digits + "%");
+    }
+
+    /**
+     * Ordena por similitud con el texto buscado (más parecido primero) y desempata por apellido, nombre e id.
+     * El pageable debe ir sin sort para que Spring Data no reemplace este orden.
+     */
+    public static Specification<Alumno> orderBySimilitud(String normalizado) {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                query.orderBy(
+                    cb.desc(cb.function(
+                        "word_similarity",
+                        Double.class,
+                        cb.literal(normalizado),
+                        root.get("nombreBusqueda")
+                    )),
+                    cb.asc(root.get("apellido")),
+                    cb.asc(root.get("nombre")),
+                    cb.asc(root.get("id"))
+                );
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Alumnos con matrícula ACTIVA en el año y, si viene, en el curso; si no, en algún curso del grado. Es un
+     * {@code EXISTS} correlacionado sobre {@code matricula}, resuelto con
+     * {@code idx_matricula_ano_estado_curso_alumno} sin traer las matrículas a memoria.
+     */
+    public static Specification<Alumno> conMatriculaActiva(UUID anoEscolarId, UUID cursoId, UUID gradoId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> matriculas = query.subquery(Integer.class);
+            Root<Matricula> matricula = matriculas.from(Matricula.class);
+            List<Predicate> condiciones = new ArrayList<>();
+            condiciones.add(cb.equal(matricula.get("alumno").get("id"), root.get("id")));
+            condiciones.add(cb.equal(matricula.get("anoEscolar").get("id"), anoEscolarId));
+            condiciones.add(cb.equal(matricula.get("estado"), EstadoMatricula.ACTIVA));
+            if (cursoId != null) {
+                condiciones.add(cb.equal(matricula.get("curso").get("id"), cursoId));
+            } else {
+                Join<Matricula, Curso> curso = matricula.join("curso");
+                condiciones.add(cb.equal(curso.get("grado").get("id"), gradoId));
+            }
+            matriculas.select(cb.literal(1)).where(condiciones.toArray(Predicate[]::new));
+            return cb.exists(matriculas);
+        };
     }
 }
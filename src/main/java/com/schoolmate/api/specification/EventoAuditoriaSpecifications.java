@@ -0,0 +1,44 @@
+package com.schoolmate.api.specification;
+
+import com.schoolmate.api.entity.EventoAuditoria;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class EventoAuditoriaSpecifications {
+
+    public static Specification<EventoAuditoria> byUsuarioId(UUID usuarioId) {
+        return (root, query, cb) -> cb.equal(root.get("usuario").get("id"), usuarioId);
+    }
+
+    public static Specification<EventoAuditoria> byMetodoHttp(String metodoHttp) {
+        return (root, query, cb) -> cb.equal(root.get("metodoHttp"), metodoHttp);
+    }
+
+    public static Specification<EventoAuditoria> endpointLike(String pattern) {
+        return (root, query, cb) -> cb.like(root.get("endpoint"), pattern);
+    }
+
+    public static Specification<EventoAuditoria> createdDesde(LocalDateTime desde) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), desde);
+    }
+
+    public static Specification<EventoAuditoria> createdAntesDe(LocalDateTime hasta) {
+        return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("createdAt"), hasta);
+    }
+
+    /**
+     * Eventos posteriores al cursor en orden {@code (created_at DESC, id DESC)}. La cota
+     * {@code created_at <= :createdAt} se repite fuera del OR para que sirva como condición de índice.
+     */
+    public static Specification<EventoAuditoria> despuesDeCursor(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.<LocalDateTime>get("createdAt"), createdAt),
+            cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                cb.lessThan(root.<UUID>get("id"), id)
+            )
+        );
+    }
+}
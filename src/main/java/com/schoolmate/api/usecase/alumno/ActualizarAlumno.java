@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.alumno;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.rut.RutNormalizer;
 import com.schoolmate.api.common.rut.RutValidationService;
 import com.schoolmate.api.dto.request.AlumnoRequest;
@@ -20,6 +21,7 @@ public class ActualizarAlumno {
 
     private final AlumnoRepository alumnoRepository;
     private final RutValidationService rutValidationService;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public AlumnoResponse execute(UUID alumnoId, AlumnoRequest request) {
@@ -41,6 +43,7 @@ public class ActualizarAlumno {
             request.getFechaNacimiento()
         );
 
+        revisionAgregados.incrementarReferencias();
         return AlumnoResponse.fromEntity(alumnoRepository.save(alumno));
     }
 }
@@ -0,0 +1,516 @@
+package com.schoolmate.api.usecase.alumno;
+
+import com.schoolmate.api.common.csv.LectorCsv;
+import com.schoolmate.api.common.rut.RutNormalizer;
+import com.schoolmate.api.common.rut.RutValidationService;
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.dto.response.ImportacionAlumnosResponse;
+import com.schoolmate.api.enums.Rol;
+import com.schoolmate.api.enums.TipoPersona;
+import com.schoolmate.api.enums.VinculoApoderado;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.repository.UsuarioRepository;
+import com.schoolmate.api.security.CodificadorPasswordsLote;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Alta masiva de alumnos con su apoderado principal desde un CSV, con las mismas reglas que
+ * {@link CrearAlumnoConApoderado} pero sin una llamada por fila.
+ * <p>
+ * El archivo se lee en streaming y se procesa en lotes de {@code app.importacion.lote.tamano} filas. Por lote:
+ * una consulta de RUT sobre alumno/profesor/apoderado y una de emails, hashes BCrypt en paralelo
+ * ({@link CodificadorPasswordsLote}) e inserts JDBC en batch en una transacción propia. Las filas inválidas no
+ * detienen la importación: se informan con su número de línea. Si un lote falla al escribir, solo sus filas
+ * quedan con error.
+ */
+@Component
+public class ImportarAlumnosConApoderado {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportarAlumnosConApoderado.class);
+
+    static final String ALUMNO_RUT = "alumno_rut";
+    static final String ALUMNO_NOMBRE = "alumno_nombre";
+    static final String ALUMNO_APELLIDO = "alumno_apellido";
+    static final String ALUMNO_FECHA_NACIMIENTO = "alumno_fecha_nacimiento";
+    static final String APODERADO_RUT = "apoderado_rut";
+    static final String APODERADO_NOMBRE = "apoderado_nombre";
+    static final String APODERADO_APELLIDO = "apoderado_apellido";
+    static final String APODERADO_EMAIL = "apoderado_email";
+    static final String APODERADO_TELEFONO = "apoderado_telefono";
+    static final String VINCULO = "vinculo";
+
+    private static final List<String> COLUMNAS_OBLIGATORIAS = List.of(
+        ALUMNO_RUT, ALUMNO_NOMBRE, ALUMNO_APELLIDO, ALUMNO_FECHA_NACIMIENTO,
+        APODERADO_RUT, APODERADO_NOMBRE, APODERADO_APELLIDO, APODERADO_EMAIL, VINCULO
+    );
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_NOMBRE = 100;
+    private static final int MAX_EMAIL = 255;
+    private static final int MAX_TELEFONO = 30;
+
+    private static final String INSERT_APODERADO = """
+        INSERT INTO apoderado (id, nombre, apellido, rut, email, telefono, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final String INSERT_USUARIO = """
+        INSERT INTO usuario (id, email, rut, password_hash, nombre, apellido, rol, apoderado_id, activo,
+            created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)
+        """;
+    private static final String INSERT_ALUMNO = """
+        INSERT INTO alumno (id, rut, nombre, apellido, fecha_nacimiento, activo, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, true, ?, ?)
+        """;
+    private static final String INSERT_VINCULO = """
+        INSERT INTO apoderado_alumno (apoderado_id, alumno_id, es_principal, vinculo, created_at)
+        VALUES (?, ?, true, ?, ?)
+        """;
+
+    private final RutValidationService rutValidationService;
+    private final UsuarioRepository usuarioRepository;
+    private final CodificadorPasswordsLote codificadorPasswords;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+
+    public ImportarAlumnosConApoderado(
+        RutValidationService rutValidationService,
+        UsuarioRepository usuarioRepository,
+        CodificadorPasswordsLote codificadorPasswords,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.importacion.lote.tamano:500}") int tamanoLote
+    ) {
+        this.rutValidationService = rutValidationService;
+        this.usuarioRepository = usuarioRepository;
+        this.codificadorPasswords = codificadorPasswords;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoLote = tamanoLote;
+    }
+
+    public ImportacionAlumnosResponse execute(InputStream csv) {
+        long inicio = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        LectorCsv lector = new LectorCsv(reader, detectarSeparador(reader));
+        Map<String, Integer> columnas = leerEncabezado(lector);
+
+        Importacion importacion = new Importacion();
+        List<FilaCsv> lote = new ArrayList<>(tamanoLote);
+        List<String> campos;
+        while ((campos = lector.siguiente()) != null) {
+            lote.add(new FilaCsv(lector.lineaRegistro(), campos));
+            if (lote.size() == tamanoLote) {
+                procesarLote(lote, columnas, importacion);
+                lote.clear();
+            }
+        }
+        procesarLote(lote, columnas, importacion);
+
+        return ImportacionAlumnosResponse.builder()
+            .filasLeidas(importacion.filasLeidas)
+            .alumnosCreados(importacion.alumnosCreados)
+            .apoderadosCreados(importacion.apoderadosCreados)
+            .apoderadosReutilizados(importacion.apoderadosReutilizados)
+            .filasConError(importacion.errores.size())
+            .duracionMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio))
+            .errores(importacion.errores)
+            .build();
+    }
+
+    private char detectarSeparador(BufferedReader reader) {
+        try {
+            reader.mark(8192);
+            String encabezado = reader.readLine();
+            reader.reset();
+            if (encabezado == null) {
+                throw new BusinessException("El archivo CSV está vacío");
+            }
+            long comas = encabezado.chars().filter(c -> c == ',').count();
+            long puntoYComa = encabezado.chars().filter(c -> c == ';').count();
+            return puntoYComa > comas ? ';' : ',';
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Integer> leerEncabezado(LectorCsv lector) {
+        List<String> encabezado = lector.siguiente();
+        if (encabezado == null) {
+            throw new BusinessException("El archivo CSV está vacío");
+        }
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < encabezado.size(); i++) {
+            columnas.putIfAbsent(encabezado.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> faltantes = COLUMNAS_OBLIGATORIAS.stream()
+            .filter(columna -> !columnas.containsKey(columna))
+            .toList();
+        if (!faltantes.isEmpty()) {
+            throw new BusinessException(
+                "Faltan columnas en el CSV: " + String.join(", ", faltantes),
+                Map.of("columnasObligatorias", String.join(",", COLUMNAS_OBLIGATORIAS))
+            );
+        }
+        return columnas;
+    }
+
+    private void procesarLote(List<FilaCsv> filasCsv, Map<String, Integer> columnas, Importacion importacion) {
+        if (filasCsv.isEmpty()) {
+            return;
+        }
+        importacion.filasLeidas += filasCsv.size();
+
+        List<Fila> filas = new ArrayList<>(filasCsv.size());
+        for (FilaCsv filaCsv : filasCsv) {
+            try {
+                filas.add(parsear(filaCsv, columnas));
+            } catch (BusinessException ex) {
+                importacion.error(filaCsv.linea(), valor(filaCsv.campos(), columnas, ALUMNO_RUT), ex.getMessage());
+            }
+        }
+        if (filas.isEmpty()) {
+            return;
+        }
+
+        Set<String> ruts = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Fila fila : filas) {
+            ruts.add(fila.rutAlumno());
+            ruts.add(fila.rutApoderado());
+            emails.add(fila.emailApoderado());
+        }
+        Map<String, Map<TipoPersona, UUID>> registrados = rutValidationService.buscarRegistrados(ruts);
+        Set<String> emailsRegistrados = new HashSet<>(usuarioRepository.findEmailsRegistrados(emails));
+
+        Lote lote = new Lote();
+        for (Fila fila : filas) {
+            resolver(fila, registrados, emailsRegistrados, importacion, lote);
+        }
+        if (lote.alumnos.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = codificadorPasswords.codificar(
+            lote.apoderadosNuevos.stream().map(ApoderadoNuevo::rut).toList());
+        try {
+            transactionTemplate.executeWithoutResult(status -> escribir(lote, hashes));
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Importacion alumnos: no se pudo guardar el lote de lineas {}-{}: {}",
+                filasCsv.getFirst().linea(), filasCsv.getLast().linea(), ex.getMessage(), ex);
+            for (AlumnoNuevo alumno : lote.alumnos) {
+                importacion.error(alumno.fila().linea(), alumno.fila().rutAlumno(),
+                    "No se pudo guardar el lote que contiene esta fila; vuelva a importarla");
+            }
+            return;
+        }
+        importacion.confirmar(lote);
+    }
+
+    private Fila parsear(FilaCsv filaCsv, Map<String, Integer> columnas) {
+        List<String> campos = filaCsv.campos();
+        String rutAlumno = rut(obligatorio(campos, columnas, ALUMNO_RUT), "alumno");
+        String nombre = texto(campos, columnas, ALUMNO_NOMBRE, MAX_NOMBRE);
+        String apellido = texto(campos, columnas, ALUMNO_APELLIDO, MAX_NOMBRE);
+        LocalDate fechaNacimiento = fecha(obligatorio(campos, columnas, ALUMNO_FECHA_NACIMIENTO));
+        String rutApoderado = rut(obligatorio(campos, columnas, APODERADO_RUT), "apoderado");
+        String nombreApoderado = texto(campos, columnas, APODERADO_NOMBRE, MAX_NOMBRE);
+        String apellidoApoderado = texto(campos, columnas, APODERADO_APELLIDO, MAX_NOMBRE);
+        String email = texto(campos, columnas, APODERADO_EMAIL, MAX_EMAIL).toLowerCase(Locale.ROOT);
+        if (!EMAIL.matcher(email).matches()) {
+            throw new BusinessException("Email de apoderado inválido: " + email);
+        }
+        String telefono = valor(campos, columnas, APODERADO_TELEFONO);
+        if (telefono.length() > MAX_TELEFONO) {
+            throw new BusinessException(APODERADO_TELEFONO + " supera " + MAX_TELEFONO + " caracteres");
+        }
+        VinculoApoderado vinculo = vinculo(obligatorio(campos, columnas, VINCULO));
+        if (rutAlumno.equals(rutApoderado)) {
+            throw new BusinessException("El alumno y el apoderado no pueden tener el mismo RUT");
+        }
+        return new Fila(
+            filaCsv.linea(),
+            rutAlumno,
+            nombre,
+            apellido,
+            fechaNacimiento,
+            rutApoderado,
+            nombreApoderado,
+            apellidoApoderado,
+            email,
+            telefono.isEmpty() ? null : telefono,
+            vinculo
+        );
+    }
+
+    /**
+     * Aplica a la fila las reglas de disponibilidad de {@link CrearAlumnoConApoderado}, contra la base y contra
+     * lo ya importado del mismo archivo. Un apoderado repetido en el archivo se crea una vez y se vincula a todos
+     * sus alumnos.
+     */
+    private void resolver(
+        Fila fila,
+        Map<String, Map<TipoPersona, UUID>> registrados,
+        Set<String> emailsRegistrados,
+        Importacion importacion,
+        Lote lote
+    ) {
+        Map<TipoPersona, UUID> registrosAlumno = registrados.getOrDefault(fila.rutAlumno(), Map.of());
+        if (registrosAlumno.containsKey(TipoPersona.ALUMNO)) {
+            importacion.error(fila, "Ya existe un alumno con RUT " + fila.rutAlumno());
+            return;
+        }
+        Optional<String> conflicto = rutValidationService.conflictoRut(registrosAlumno, TipoPersona.ALUMNO);
+        if (conflicto.isPresent()) {
+            importacion.error(fila, conflicto.get());
+            return;
+        }
+        if (importacion.alumnoImportado(fila.rutAlumno(), lote)) {
+            importacion.error(fila, "RUT de alumno repetido en el archivo");
+            return;
+        }
+        if (importacion.apoderadoNuevo(fila.rutAlumno(), lote) != null) {
+            importacion.error(fila, "El RUT del alumno aparece como apoderado en el archivo");
+            return;
+        }
+
+        Map<TipoPersona, UUID> registrosApoderado = registrados.getOrDefault(fila.rutApoderado(), Map.of());
+        // Un apoderado creado por un lote anterior del mismo archivo ya aparece en registrados, pero no cuenta como
+        // reutilizado: el conteo no debe depender del tamaño de lote.
+        UUID apoderadoId = importacion.apoderadoNuevo(fila.rutApoderado(), lote);
+        if (apoderadoId == null) {
+            apoderadoId = registrosApoderado.get(TipoPersona.APODERADO);
+            if (apoderadoId != null) {
+                lote.apoderadosReutilizados++;
+            }
+        }
+        if (apoderadoId == null) {
+            conflicto = rutValidationService.conflictoRut(registrosApoderado, TipoPersona.APODERADO);
+            if (conflicto.isPresent()) {
+                importacion.error(fila, conflicto.get());
+                return;
+            }
+            if (importacion.alumnoImportado(fila.rutApoderado(), lote)) {
+                importacion.error(fila, "El RUT del apoderado aparece como alumno en el archivo");
+                return;
+            }
+            if (emailsRegistrados.contains(fila.emailApoderado())) {
+                importacion.error(fila, "Ya existe un usuario con el email " + fila.emailApoderado());
+                return;
+            }
+            if (importacion.emailUsado(fila.emailApoderado(), lote)) {
+                importacion.error(fila, "Email de apoderado repetido en el archivo con otro RUT");
+                return;
+            }
+            apoderadoId = UUID.randomUUID();
+            lote.apoderadosNuevos.add(new ApoderadoNuevo(apoderadoId, fila));
+            lote.apoderadosPorRut.put(fila.rutApoderado(), apoderadoId);
+            lote.emails.add(fila.emailApoderado());
+        }
+        lote.alumnos.add(new AlumnoNuevo(UUID.randomUUID(), apoderadoId, fila));
+        lote.rutsAlumnos.add(fila.rutAlumno());
+    }
+
+    private void escribir(Lote lote, List<String> hashes) {
+        LocalDateTime ahora = TimeContext.now();
+        List<Object[]> apoderados = new ArrayList<>(lote.apoderadosNuevos.size());
+        List<Object[]> usuarios = new ArrayList<>(lote.apoderadosNuevos.size());
+        for (int i = 0; i < lote.apoderadosNuevos.size(); i++) {
+            ApoderadoNuevo apoderado = lote.apoderadosNuevos.get(i);
+            Fila fila = apoderado.fila();
+            apoderados.add(new Object[] {
+                apoderado.id(), fila.nombreApoderado(), fila.apellidoApoderado(), fila.rutApoderado(),
+                fila.emailApoderado(), fila.telefonoApoderado(), ahora, ahora
+            });
+            usuarios.add(new Object[] {
+                UUID.randomUUID(), fila.emailApoderado(), fila.rutApoderado(), hashes.get(i),
+                fila.nombreApoderado(), fila.apellidoApoderado(), Rol.APODERADO.name(), apoderado.id(), ahora, ahora
+            });
+        }
+        List<Object[]> alumnos = new ArrayList<>(lote.alumnos.size());
+        List<Object[]> vinculos = new ArrayList<>(lote.alumnos.size());
+        for (AlumnoNuevo alumno : lote.alumnos) {
+            Fila fila = alumno.fila();
+            alumnos.add(new Object[] {
+                alumno.id(), fila.rutAlumno(), fila.nombre(), fila.apellido(), fila.fechaNacimiento(), ahora, ahora
+            });
+            vinculos.add(new Object[] {alumno.apoderadoId(), alumno.id(), fila.vinculo().name(), ahora});
+        }
+        jdbcTemplate.batchUpdate(INSERT_APODERADO, apoderados);
+        jdbcTemplate.batchUpdate(INSERT_USUARIO, usuarios);
+        jdbcTemplate.batchUpdate(INSERT_ALUMNO, alumnos);
+        jdbcTemplate.batchUpdate(INSERT_VINCULO, vinculos);
+    }
+
+    private String rut(String valor, String rol) {
+        String normalizado;
+        try {
+            normalizado = RutNormalizer.normalize(valor);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException("RUT de " + rol + " inválido");
+        }
+        try {
+            rutValidationService.validarFormatoRut(normalizado);
+        } catch (BusinessException ex) {
+            throw new BusinessException("RUT de " + rol + " " + valor + ": " + ex.getMessage());
+        }
+        return normalizado;
+    }
+
+    private static LocalDate fecha(String valor) {
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException("Fecha de nacimiento inválida (formato AAAA-MM-DD): " + valor);
+        }
+    }
+
+    private static VinculoApoderado vinculo(String valor) {
+        try {
+            return VinculoApoderado.valueOf(valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException("Vínculo inválido: " + valor);
+        }
+    }
+
+    private static String texto(List<String> campos, Map<String, Integer> columnas, String columna, int maximo) {
+        String valor = obligatorio(campos, columnas, columna);
+        if (valor.length() > maximo) {
+            throw new BusinessException(columna + " supera " + maximo + " caracteres");
+        }
+        return valor;
+    }
+
+    private static String obligatorio(List<String> campos, Map<String, Integer> columnas, String columna) {
+        String valor = valor(campos, columnas, columna);
+        if (valor.isEmpty()) {
+            throw new BusinessException(columna + " es obligatorio");
+        }
+        return valor;
+    }
+
+    private static String valor(List<String> campos, Map<String, Integer> columnas, String columna) {
+        Integer indice = columnas.get(columna);
+        if (indice == null || indice >= campos.size()) {
+            return "";
+        }
+        return campos.get(indice).trim();
+    }
+
+    private record FilaCsv(long linea, List<String> campos) {
+    }
+
+    private record Fila(
+        long linea,
+        String rutAlumno,
+        String nombre,
+        String apellido,
+        LocalDate fechaNacimiento,
+        String rutApoderado,
+        String nombreApoderado,
+        String apellidoApoderado,
+        String emailApoderado,
+        String telefonoApoderado,
+        VinculoApoderado vinculo
+    ) {
+    }
+
+    private record ApoderadoNuevo(UUID id, Fila fila) {
+        String rut() {
+            return fila.rutApoderado();
+        }
+    }
+
+    private record AlumnoNuevo(UUID id, UUID apoderadoId, Fila fila) {
+    }
+
+    /**
+     * Lo resuelto en el lote en curso; pasa a {@link Importacion} solo si el lote se guarda.
+     */
+    private static final class Lote {
+        private final List<AlumnoNuevo> alumnos = new ArrayList<>();
+        private final List<ApoderadoNuevo> apoderadosNuevos = new ArrayList<>();
+        private final Set<String> rutsAlumnos = new HashSet<>();
+        private final Map<String, UUID> apoderadosPorRut = new HashMap<>();
+        private final Set<String> emails = new HashSet<>();
+        private int apoderadosReutilizados;
+    }
+
+    /**
+     * Estado de todo el archivo: solo RUT/email ya guardados, no las filas.
+     */
+    private static final class Importacion {
+        private final Set<String> rutsAlumnos = new HashSet<>();
+        private final Map<String, UUID> apoderadosPorRut = new HashMap<>();
+        private final Set<String> emails = new HashSet<>();
+        private final List<ImportacionAlumnosResponse.ErrorFila> errores = new ArrayList<>();
+        private int filasLeidas;
+        private int alumnosCreados;
+        private int apoderadosCreados;
+        private int apoderadosReutilizados;
+
+        private boolean alumnoImportado(String rut, Lote lote) {
+            return rutsAlumnos.contains(rut) || lote.rutsAlumnos.contains(rut);
+        }
+
+        private UUID apoderadoNuevo(String rut, Lote lote) {
+            UUID id = apoderadosPorRut.get(rut);
+            return id != null ? id : lote.apoderadosPorRut.get(rut);
+        }
+
+        private boolean emailUsado(String email, Lote lote) {
+            return emails.contains(email) || lote.emails.contains(email);
+        }
+
+        private void confirmar(Lote lote) {
+            rutsAlumnos.addAll(lote.rutsAlumnos);
+            apoderadosPorRut.putAll(lote.apoderadosPorRut);
+            emails.addAll(lote.emails);
+            alumnosCreados += lote.alumnos.size();
+            apoderadosCreados += lote.apoderadosNuevos.size();
+            apoderadosReutilizados += lote.apoderadosReutilizados;
+        }
+
+        private void error(Fila fila, String mensaje) {
+            error(fila.linea(), fila.rutAlumno(), mensaje);
+        }
+
+        private void error(long linea, String rutAlumno, String mensaje) {
+            errores.add(ImportacionAlumnosResponse.ErrorFila.builder()
+                .linea(linea)
+                .rutAlumno(rutAlumno == null || rutAlumno.isEmpty() ? null : rutAlumno)
+                .mensaje(mensaje)
+                .build());
+        }
+    }
+}
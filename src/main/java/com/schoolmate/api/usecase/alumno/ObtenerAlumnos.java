@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.alumno;
 
+import com.schoolmate.api.common.busqueda.SoporteTrigramas;
+import com.schoolmate.api.common.busqueda.TextoBusqueda;
 import com.schoolmate.api.dto.response.AlumnoPageResponse;
 import com.schoolmate.api.dto.response.AlumnoResponse;
 import com.schoolmate.api.entity.Alumno;
@@ -33,10 +35,12 @@ public class ObtenerAlumnos {
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
         "rut", "apellido", "nombre", "createdAt"
     );
+    private static final String SORT_RELEVANCIA = "relevancia";
 
     private final AlumnoRepository alumnoRepository;
     private final MatriculaRepository matriculaRepository;
     private final ApoderadoAlumnoRepository apoderadoAlumnoRepository;
+    private final SoporteTrigramas soporteTrigramas;
 
     @Transactional(readOnly = true)
     public AlumnoPageResponse execute(
@@ -51,29 +55,40 @@ public class ObtenerAlumnos {
     ) {
         int resolvedPage = Math.max(page != null ? page : 0, 0);
         int resolvedSize = Math.min(Math.max(size != null ? size : 20, 1), 100);
-        String resolvedSortBy = ALLOWED_SORT_FIELDS.contains(sortBy) ? sortBy : "apellido";
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
 
         Specification<Alumno> spec = Specification.where(AlumnoSpecifications.activoTrue());
 
         String trimmedQuery = q == null ? "" : q.trim();
+        boolean ordenarPorRelevancia = false;
         if (!trimmedQuery.isEmpty()) {
+            boolean conIndice = soporteTrigramas.disponible();
             if (isRutSearch(trimmedQuery)) {
-                spec = spec.and(AlumnoSpecifications.searchByRutDigits(trimmedQuery));
+                spec = spec.and(conIndice
+                    ? AlumnoSpecifications.searchByRutDigitsIndexado(trimmedQuery)
+                    : AlumnoSpecifications.searchByRutDigits(trimmedQuery));
             } else if (trimmedQuery.length() >= 2) {
-                spec = spec.and(AlumnoSpecifications.searchByNombre(trimmedQuery));
+                String normalizado = TextoBusqueda.normalizar(trimmedQuery);
+                spec = spec.and(conIndice
+                    ? AlumnoSpecifications.searchByNombreTrigramas(normalizado)
+                    : AlumnoSpecifications.searchByNombreSinTildes(normalizado));
+                if (conIndice && SORT_RELEVANCIA.equals(sortBy)) {
+                    spec = spec.and(AlumnoSpecifications.orderBySimilitud(normalizado));
+                    ordenarPorRelevancia = true;
+                }
             }
         }
+        String resolvedSortBy = ordenarPorRelevancia
+            ? SORT_RELEVANCIA
+            : ALLOWED_SORT_FIELDS.contains(sortBy) ? sortBy : "apellido";
 
-        List<UUID> alumnoIdsFiltrados = getAlumnoIdsByMatriculaFilters(anoEscolarId, cursoId, gradoId);
-        if (alumnoIdsFiltrados != null) {
-            if (alumnoIdsFiltrados.isEmpty()) {
-                return buildEmptyPage(resolvedPage, resolvedSize, resolvedSortBy, direction);
-            }
-            spec = spec.and(AlumnoSpecifications.byIdIn(alumnoIdsFiltrados));
+        if (cursoId != null || gradoId != null) {
+            spec = spec.and(AlumnoSpecifications.conMatriculaActiva(anoEscolarId, cursoId, gradoId));
         }
 
-        PageRequest pageable = PageRequest.of(resolvedPage, resolvedSize, Sort.by(direction, resolvedSortBy));
+        PageRequest pageable = ordenarPorRelevancia
+            ? PageRequest.of(resolvedPage, resolvedSize)
+            : PageRequest.of(resolvedPage, resolvedSize, Sort.by(direction, resolvedSortBy));
         Page<Alumno> alumnosPage = alumnoRepository.findAll(spec, pageable);
 
         List<UUID> alumnoIds = alumnosPage.getContent().stream()
@@ -102,31 +117,6 @@ public class ObtenerAlumnos {
             .build();
     }
 
-    private List<UUID> getAlumnoIdsByMatriculaFilters(UUID anoEscolarId, UUID cursoId, UUID gradoId) {
-        boolean hasCursoFilter = cursoId != null;
-        boolean hasGradoFilter = gradoId != null;
-
-        if (!hasCursoFilter && !hasGradoFilter) {
-            return null;
-        }
-
-        List<Matricula> matriculas;
-        if (hasCursoFilter) {
-            matriculas = matriculaRepository.findByCursoIdAndEstado(cursoId, EstadoMatricula.ACTIVA);
-        } else {
-            matriculas = matriculaRepository.findByAnoEscolarIdAndCursoGradoIdAndEstado(
-                anoEscolarId,
-                gradoId,
-                EstadoMatricula.ACTIVA
-            );
-        }
-
-        return matriculas.stream()
-            .map(m -> m.getAlumno().getId())
-            .distinct()
-            .toList();
-    }
-
     private Map<UUID, Matricula> getMatriculaMap(List<UUID> alumnoIds, UUID anoEscolarId) {
         if (alumnoIds.isEmpty()) {
             return Map.of();
@@ -191,20 +181,6 @@ public class ObtenerAlumnos {
         return response;
     }
 
-    private AlumnoPageResponse buildEmptyPage(int page, int size, String sortBy, Sort.Direction direction) {
-        return AlumnoPageResponse.builder()
-            .content(List.of())
-            .page(page)
-            .size(size)
-            .totalElements(0L)
-            .totalPages(0)
-            .sortBy(sortBy)
-            .sortDir(direction.name().toLowerCase(Locale.ROOT))
-            .hasNext(false)
-            .hasPrevious(false)
-            .build();
-    }
-
     private boolean isRutSearch(String q) {
         return q.matches("^[0-9]+$") && q.length() >= 5;
     }
@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.anoescolar;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.AnoEscolarRequest;
 import com.schoolmate.api.dto.response.AnoEscolarResponse;
@@ -19,6 +22,9 @@ public class ActualizarAnoEscolar {
 
     private final AnoEscolarRepository anoEscolarRepository;
     private final ClockProvider clockProvider;
+    private final CatalogoCache catalogoCache;
+    private final CalendarioEscolar calendarioEscolar;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public AnoEscolarResponse execute(UUID id, AnoEscolarRequest request) {
@@ -43,6 +49,9 @@ public class ActualizarAnoEscolar {
         );
 
         var guardado = anoEscolarRepository.save(ano);
+        catalogoCache.invalidarAnoEscolar(id);
+        calendarioEscolar.invalidar(id);
+        revisionAgregados.incrementarReferencias();
         return AnoEscolarResponse.fromEntity(guardado, guardado.calcularEstado(clockProvider.today()));
     }
 }
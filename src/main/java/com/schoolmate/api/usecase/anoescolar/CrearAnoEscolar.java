@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.anoescolar;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.AnoEscolarRequest;
 import com.schoolmate.api.dto.response.AnoEscolarResponse;
@@ -16,6 +17,7 @@ public class CrearAnoEscolar {
 
     private final AnoEscolarRepository anoEscolarRepository;
     private final ClockProvider clockProvider;
+    private final CatalogoCache catalogoCache;
 
     @Transactional
     public AnoEscolarResponse execute(AnoEscolarRequest request) {
@@ -38,6 +40,7 @@ public class CrearAnoEscolar {
             .build();
 
         AnoEscolar guardado = anoEscolarRepository.save(anoEscolar);
+        catalogoCache.invalidarAnoEscolar(guardado.getId());
         return AnoEscolarResponse.fromEntity(guardado, guardado.calcularEstado(clockProvider.today()));
     }
 }
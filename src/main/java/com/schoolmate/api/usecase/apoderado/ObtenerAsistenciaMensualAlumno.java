@@ -1,18 +1,18 @@
 package com.schoolmate.api.usecase.apoderado;
 
+import com.schoolmate.api.common.asistencia.ArchivoAsistencia;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
 import com.schoolmate.api.dto.response.AsistenciaDiaResponse;
 import com.schoolmate.api.dto.response.AsistenciaMensualResponse;
 import com.schoolmate.api.dto.projection.RegistroConFecha;
 import com.schoolmate.api.entity.Alumno;
-import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.dto.response.DiaNoLectivoResponse;
 import com.schoolmate.api.enums.EstadoAsistencia;
 import com.schoolmate.api.exception.BusinessException;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AlumnoRepository;
-import com.schoolmate.api.repository.AnoEscolarRepository;
 import com.schoolmate.api.repository.ApoderadoAlumnoRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.RegistroAsistenciaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +35,8 @@ public class ObtenerAsistenciaMensualAlumno {
     private final ApoderadoAlumnoRepository apoderadoAlumnoRepo;
     private final RegistroAsistenciaRepository registroAsistenciaRepo;
     private final AlumnoRepository alumnoRepo;
-    private final AnoEscolarRepository anoEscolarRepository;
-    private final DiaNoLectivoRepository diaNoLectivoRepository;
+    private final CalendarioEscolar calendarioEscolar;
+    private final ArchivoAsistencia archivoAsistencia;
 
     @Transactional(readOnly = true)
     public AsistenciaMensualResponse execute(UUID alumnoId, int mes, int anio, UUID apoderadoId, UUID anoEscolarId) {
@@ -53,11 +54,13 @@ public class ObtenerAsistenciaMensualAlumno {
             throw new BusinessException("Mes o anio invalido");
         }
         LocalDate finMes = inicioMes.withDayOfMonth(inicioMes.lengthOfMonth());
-        AnoEscolar anoEscolar = anoEscolarRepository.findById(anoEscolarId)
-            .orElseThrow(() -> new ResourceNotFoundException("Año escolar no encontrado"));
 
-        List<RegistroConFecha> registros = registroAsistenciaRepo
-                .findByAlumnoIdAndFechaEntre(alumnoId, inicioMes, finMes);
+        CalendarioAnoEscolar calendario = calendarioEscolar.obtener(anoEscolarId);
+
+        // Los cursos de años cerrados ya archivados no tienen filas; su asistencia viene del archivo.
+        List<RegistroConFecha> registros = new ArrayList<>(registroAsistenciaRepo
+                .findByAlumnoIdAndFechaEntre(alumnoId, inicioMes, finMes));
+        registros.addAll(archivoAsistencia.registrosEntre(alumnoId, inicioMes, finMes));
 
         Map<LocalDate, List<RegistroConFecha>> porFecha = registros.stream()
                 .collect(Collectors.groupingBy(RegistroConFecha::getFecha));
@@ -85,14 +88,13 @@ public class ObtenerAsistenciaMensualAlumno {
                 .sorted(Comparator.comparing(AsistenciaDiaResponse::getFecha))
                 .toList();
 
-        List<DiaNoLectivoResponse> diasNoLectivos = diaNoLectivoRepository
-            .findByAnoEscolarIdAndFechaBetweenOrderByFechaAsc(anoEscolar.getId(), inicioMes, finMes)
+        List<DiaNoLectivoResponse> diasNoLectivos = calendario.diasNoLectivosEntre(inicioMes, finMes)
             .stream()
             .map(d -> DiaNoLectivoResponse.builder()
-                .id(d.getId())
-                .fecha(d.getFecha())
-                .tipo(d.getTipo().name())
-                .descripcion(d.getDescripcion())
+                .id(d.id())
+                .fecha(d.fecha())
+                .tipo(d.tipo().name())
+                .descripcion(d.descripcion())
                 .build())
             .toList();
 
@@ -2,11 +2,12 @@ package com.schoolmate.api.usecase.apoderado;
 
 import com.schoolmate.api.dto.response.ResumenAsistenciaResponse;
 import com.schoolmate.api.entity.Alumno;
-import com.schoolmate.api.enums.EstadoAsistencia;
+import com.schoolmate.api.entity.ResumenAsistenciaAlumno;
+import com.schoolmate.api.entity.ResumenAsistenciaAlumnoId;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AlumnoRepository;
 import com.schoolmate.api.repository.ApoderadoAlumnoRepository;
-import com.schoolmate.api.repository.RegistroAsistenciaRepository;
+import com.schoolmate.api.repository.ResumenAsistenciaAlumnoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class ObtenerResumenAsistenciaAlumno {
 
     private final ApoderadoAlumnoRepository apoderadoAlumnoRepo;
-    private final RegistroAsistenciaRepository registroAsistenciaRepo;
+    private final ResumenAsistenciaAlumnoRepository resumenAsistenciaAlumnoRepo;
     private final AlumnoRepository alumnoRepo;
 
     @Transactional(readOnly = true)
@@ -35,10 +36,12 @@ public class ObtenerResumenAsistenciaAlumno {
         Alumno alumno = alumnoRepo.findById(alumnoId)
                 .orElseThrow(() -> new ResourceNotFoundException("Alumno no encontrado"));
 
-        long totalPresente = registroAsistenciaRepo
-                .countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.PRESENTE, anoEscolarId);
-        long totalAusente = registroAsistenciaRepo
-                .countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.AUSENTE, anoEscolarId);
+        // Sin fila de resumen el alumno aún no tiene asistencia registrada en el año.
+        ResumenAsistenciaAlumno resumen = resumenAsistenciaAlumnoRepo
+                .findById(new ResumenAsistenciaAlumnoId(alumnoId, anoEscolarId))
+                .orElse(null);
+        long totalPresente = resumen != null ? resumen.getTotalPresente() : 0;
+        long totalAusente = resumen != null ? resumen.getTotalAusente() : 0;
 
         long totalClases = totalPresente + totalAusente;
         double porcentaje = totalClases > 0
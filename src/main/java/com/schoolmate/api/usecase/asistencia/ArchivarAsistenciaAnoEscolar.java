@@ -0,0 +1,54 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.EjecutorArchivoAsistencia;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.response.ArchivoAsistenciaAnoResponse;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.ArchivoAsistenciaAno;
+import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.enums.EstadoArchivoAsistencia;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.ArchivoAsistenciaAnoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Encola el archivado de la asistencia de un año escolar cerrado en {@link EjecutorArchivoAsistencia}. Si un
+ * archivado anterior falló, lo reanuda desde el último curso confirmado.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchivarAsistenciaAnoEscolar {
+
+    private final AnoEscolarRepository anoEscolarRepository;
+    private final ArchivoAsistenciaAnoRepository archivoRepository;
+    private final EjecutorArchivoAsistencia ejecutorArchivo;
+    private final ClockProvider clockProvider;
+
+    @Transactional
+    public ArchivoAsistenciaAnoResponse execute(UUID anoEscolarId) {
+        AnoEscolar anoEscolar = anoEscolarRepository.findById(anoEscolarId)
+                .orElseThrow(() -> new ResourceNotFoundException("Año escolar no encontrado"));
+        if (anoEscolar.calcularEstado(clockProvider.today()) != EstadoAnoEscolar.CERRADO) {
+            throw new BusinessException("Solo se puede archivar la asistencia de un año escolar cerrado");
+        }
+
+        ArchivoAsistenciaAno archivo = archivoRepository.findByIdForUpdate(anoEscolarId).orElse(null);
+        if (archivo != null) {
+            archivo.reanudar();
+        } else {
+            archivo = archivoRepository.save(ArchivoAsistenciaAno.builder()
+                    .anoEscolarId(anoEscolarId)
+                    .estado(EstadoArchivoAsistencia.PENDIENTE)
+                    .cursosTotal(ejecutorArchivo.planificar(anoEscolarId).size())
+                    .build());
+        }
+        ejecutorArchivo.programar(anoEscolarId);
+        return ArchivoAsistenciaAnoResponse.fromEntity(archivo);
+    }
+}
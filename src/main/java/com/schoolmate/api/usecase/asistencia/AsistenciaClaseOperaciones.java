@@ -0,0 +1,155 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.request.RegistroAlumnoRequest;
+import com.schoolmate.api.dto.response.AsistenciaClaseResponse;
+import com.schoolmate.api.dto.response.RegistroAsistenciaResponse;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.AsistenciaClase;
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.entity.RegistroAsistencia;
+import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.enums.EstadoAsistencia;
+import com.schoolmate.api.exception.ApiException;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+final class AsistenciaClaseOperaciones {
+
+    private static final int VENTANA_MINUTOS = 15;
+
+    private AsistenciaClaseOperaciones() {
+    }
+
+    static void validarCierreAsistenciaProfesor(
+        LocalDate fechaRequest,
+        LocalDate hoy,
+        BloqueHorario bloque,
+        ClockProvider clockProvider
+    ) {
+        if (!fechaRequest.equals(hoy)) {
+            throw asistenciaCerradaException();
+        }
+
+        LocalTime nowTime = clockProvider.now().toLocalTime();
+        LocalTime inicioVentana = bloque.getHoraInicio().minusMinutes(VENTANA_MINUTOS);
+        LocalTime finVentana = bloque.getHoraFin().plusMinutes(VENTANA_MINUTOS);
+        if (nowTime.isBefore(inicioVentana) || nowTime.isAfter(finVentana)) {
+            throw asistenciaCerradaException();
+        }
+    }
+
+    static void validarRegistros(List<RegistroAlumnoRequest> registros, Set<UUID> alumnosActivos) {
+        Set<UUID> vistos = new HashSet<>();
+        List<UUID> invalidos = new ArrayList<>();
+        for (RegistroAlumnoRequest registro : registros) {
+            UUID alumnoId = registro.getAlumnoId();
+            if (!vistos.add(alumnoId)) {
+                throw new BusinessException("Registros de asistencia duplicados para el mismo alumno");
+            }
+            if (!alumnosActivos.contains(alumnoId)) {
+                invalidos.add(alumnoId);
+            }
+        }
+
+        if (!invalidos.isEmpty()) {
+            Map<String, String> details = new HashMap<>();
+            details.put(
+                "alumnosInvalidos",
+                invalidos.stream().map(UUID::toString).collect(Collectors.joining(","))
+            );
+            throw new BusinessException("Hay alumnos que no tienen matricula activa en el curso", details);
+        }
+    }
+
+    static void conciliarRegistros(
+        AsistenciaClase asistenciaClase,
+        List<RegistroAlumnoRequest> registrosRequest,
+        Map<UUID, Alumno> alumnosActivosById,
+        LocalDateTime ahora
+    ) {
+        Map<UUID, RegistroAlumnoRequest> requestMap = registrosRequest.stream()
+            .collect(Collectors.toMap(RegistroAlumnoRequest::getAlumnoId, r -> r));
+
+        asistenciaClase.removeRegistrosIf(
+            registro -> !requestMap.containsKey(registro.getAlumno().getId())
+        );
+
+        for (RegistroAsistencia registro : asistenciaClase.getRegistros()) {
+            RegistroAlumnoRequest req = requestMap.remove(registro.getAlumno().getId());
+            if (req == null) {
+                continue;
+            }
+            registro.actualizarRegistro(req.getEstado(), req.getObservacion(), ahora);
+        }
+
+        for (RegistroAlumnoRequest req : requestMap.values()) {
+            Alumno alumno = alumnosActivosById.get(req.getAlumnoId());
+            RegistroAsistencia nuevo = RegistroAsistencia.builder()
+                .asistenciaClase(asistenciaClase)
+                .alumno(alumno)
+                .estado(req.getEstado())
+                .observacion(req.getObservacion())
+                .createdAt(ahora)
+                .updatedAt(ahora)
+                .build();
+            asistenciaClase.addRegistro(nuevo);
+        }
+    }
+
+    static Map<UUID, EstadoAsistencia> estadosPorAlumno(AsistenciaClase asistenciaClase) {
+        Map<UUID, EstadoAsistencia> estados = new HashMap<>();
+        for (RegistroAsistencia registro : asistenciaClase.getRegistros()) {
+            estados.put(registro.getAlumno().getId(), registro.getEstado());
+        }
+        return estados;
+    }
+
+    static AsistenciaClaseResponse toResponse(AsistenciaClase asistenciaClase, List<RegistroAsistencia> registros) {
+        List<RegistroAsistenciaResponse> registrosResponse = registros.stream()
+            .map(r -> RegistroAsistenciaResponse.builder()
+                .alumnoId(r.getAlumno().getId())
+                .alumnoNombre(r.getAlumno().getNombre())
+                .alumnoApellido(r.getAlumno().getApellido())
+                .estado(r.getEstado())
+                .observacion(r.getObservacion())
+                .build())
+            .toList();
+
+        return AsistenciaClaseResponse.builder()
+            .asistenciaClaseId(asistenciaClase.getId())
+            .bloqueHorarioId(asistenciaClase.getBloqueHorario().getId())
+            .fecha(asistenciaClase.getFecha())
+            .tomadaEn(asistenciaClase.getCreatedAt())
+            .registradoPorNombre(obtenerNombreRegistrador(asistenciaClase.getRegistradoPor()))
+            .registros(registrosResponse)
+            .build();
+    }
+
+    private static ApiException asistenciaCerradaException() {
+        return new ApiException(
+            ErrorCode.ASISTENCIA_CERRADA,
+            "El período para registrar o modificar esta asistencia ha finalizado. Contacte a Administración.",
+            (Map<String, String>) null
+        );
+    }
+
+    private static String obtenerNombreRegistrador(Usuario registradoPor) {
+        if (registradoPor == null) {
+            return null;
+        }
+        return registradoPor.getNombre() + " " + registradoPor.getApellido();
+    }
+}
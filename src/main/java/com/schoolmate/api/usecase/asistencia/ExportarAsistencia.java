@@ -0,0 +1,50 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.ExportacionAsistencia;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.CursoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Valida el filtro y prepara la exportación; la consulta se ejecuta recién cuando se escribe la respuesta.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportarAsistencia {
+
+    private final CursoRepository cursoRepository;
+    private final ExportacionAsistencia exportacionAsistencia;
+
+    @Transactional(readOnly = true)
+    public Archivo execute(AnoEscolar anoEscolar, UUID cursoId, LocalDate desde, LocalDate hasta) {
+        LocalDate inicio = desde != null ? desde : anoEscolar.getFechaInicio();
+        LocalDate fin = hasta != null ? hasta : anoEscolar.getFechaFin();
+        if (fin.isBefore(inicio)) {
+            throw new BusinessException("La fecha de fin no puede ser anterior a la fecha de inicio");
+        }
+
+        if (cursoId != null) {
+            Curso curso = cursoRepository.findById(cursoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+            if (!curso.getAnoEscolar().getId().equals(anoEscolar.getId())) {
+                throw new BusinessException("El curso no pertenece al año escolar indicado");
+            }
+        }
+
+        UUID anoEscolarId = anoEscolar.getId();
+        String nombre = "asistencia-" + anoEscolar.getAno() + "-" + inicio + "-" + fin + ".csv";
+        return new Archivo(nombre, salida -> exportacionAsistencia.escribirCsv(anoEscolarId, cursoId, inicio, fin, salida));
+    }
+
+    public record Archivo(String nombre, StreamingResponseBody contenido) {
+    }
+}
@@ -1,24 +1,23 @@
 package com.schoolmate.api.usecase.asistencia;
 
+import com.schoolmate.api.common.asistencia.ResumenAsistenciaAlumnoAcumulador;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.GuardarAsistenciaRequest;
-import com.schoolmate.api.dto.request.RegistroAlumnoRequest;
 import com.schoolmate.api.dto.response.AsistenciaClaseResponse;
-import com.schoolmate.api.dto.response.RegistroAsistenciaResponse;
 import com.schoolmate.api.entity.Alumno;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.entity.AsistenciaClase;
 import com.schoolmate.api.entity.BloqueHorario;
 import com.schoolmate.api.entity.Matricula;
 import com.schoolmate.api.entity.RegistroAsistencia;
-import com.schoolmate.api.entity.Usuario;
 import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.enums.EstadoAsistencia;
 import com.schoolmate.api.enums.EstadoMatricula;
 import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.enums.TipoBloque;
-import com.schoolmate.api.exception.ApiException;
 import com.schoolmate.api.exception.BusinessException;
-import com.schoolmate.api.exception.ErrorCode;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
@@ -32,13 +31,8 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -49,8 +43,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GuardarAsistenciaClase {
 
-    private static final int VENTANA_MINUTOS = 15;
-
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final MatriculaRepository matriculaRepository;
     private final AsistenciaClaseRepository asistenciaClaseRepository;
@@ -58,6 +50,8 @@ public class GuardarAsistenciaClase {
     private final DiaNoLectivoRepository diaNoLectivoRepository;
     private final UsuarioRepository usuarioRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final ResumenAsistenciaAlumnoAcumulador resumenAsistenciaAcumulador;
 
     @Transactional
     public AsistenciaClaseResponse execute(
@@ -77,11 +71,10 @@ public class GuardarAsistenciaClase {
         LocalDate fechaRequest = request.getFecha();
         LocalDate hoy = clockProvider.today();
         if (!esAdmin) {
-            validarCierreAsistenciaProfesor(fechaRequest, hoy, bloque);
+            AsistenciaClaseOperaciones.validarCierreAsistenciaProfesor(fechaRequest, hoy, bloque, clockProvider);
         }
 
-        DayOfWeek diaSemanaFecha = fechaRequest.getDayOfWeek();
-        if (diaSemanaFecha == DayOfWeek.SATURDAY || diaSemanaFecha == DayOfWeek.SUNDAY) {
+        if (CalendarioAnoEscolar.esFinDeSemana(fechaRequest)) {
             throw new BusinessException("No se puede registrar asistencia en fin de semana");
         }
 
@@ -92,6 +85,8 @@ public class GuardarAsistenciaClase {
 
         AnoEscolar anoEscolar = bloque.getCurso().getAnoEscolar();
 
+        // Contra la base y no contra CalendarioEscolar: la copia en memoria es por réplica y puede no haber visto
+        // un día no lectivo recién creado en otra.
         if (diaNoLectivoRepository.existsByAnoEscolarIdAndFecha(anoEscolar.getId(), fechaRequest)) {
             throw new BusinessException("No se puede registrar asistencia. El día es no lectivo.");
         }
@@ -115,7 +110,7 @@ public class GuardarAsistenciaClase {
             .collect(Collectors.toMap(m -> m.getAlumno().getId(), Matricula::getAlumno, (a, b) -> a));
         Set<UUID> alumnosActivos = alumnosActivosById.keySet();
 
-        validarRegistros(request.getRegistros(), alumnosActivos);
+        AsistenciaClaseOperaciones.validarRegistros(request.getRegistros(), alumnosActivos);
 
         LocalDateTime ahora = clockProvider.now();
         AsistenciaClase savedAsistencia;
@@ -144,123 +139,24 @@ public class GuardarAsistenciaClase {
             savedAsistencia = asistenciaClaseRepository.save(existente);
         }
 
-        conciliarRegistros(
+        Map<UUID, EstadoAsistencia> estadosPrevios = AsistenciaClaseOperaciones.estadosPorAlumno(savedAsistencia);
+        AsistenciaClaseOperaciones.conciliarRegistros(
             savedAsistencia,
             request.getRegistros(),
             alumnosActivosById,
             ahora
         );
+        resumenAsistenciaAcumulador.acumular(ResumenAsistenciaAlumnoAcumulador.calcularDeltas(
+            anoEscolar.getId(),
+            estadosPrevios,
+            AsistenciaClaseOperaciones.estadosPorAlumno(savedAsistencia)
+        ));
 
         savedAsistencia = asistenciaClaseRepository.save(savedAsistencia);
+        cumplimientoDiaCache.registrarAsistencia(
+            anoEscolar.getId(), fechaRequest, bloque.getId(), savedAsistencia.getCreatedAt());
         List<RegistroAsistencia> guardados = registroAsistenciaRepository
             .findByAsistenciaClaseId(savedAsistencia.getId());
-        return mapResponse(savedAsistencia, guardados);
-    }
-
-    private void validarCierreAsistenciaProfesor(LocalDate fechaRequest, LocalDate hoy, BloqueHorario bloque) {
-        if (!fechaRequest.equals(hoy)) {
-            throw asistenciaCerradaException();
-        }
-
-        LocalTime nowTime = clockProvider.now().toLocalTime();
-        LocalTime inicioVentana = bloque.getHoraInicio().minusMinutes(VENTANA_MINUTOS);
-        LocalTime finVentana = bloque.getHoraFin().plusMinutes(VENTANA_MINUTOS);
-        if (nowTime.isBefore(inicioVentana) || nowTime.isAfter(finVentana)) {
-            throw asistenciaCerradaException();
-        }
-    }
-
-    private ApiException asistenciaCerradaException() {
-        return new ApiException(
-            ErrorCode.ASISTENCIA_CERRADA,
-            "El período para registrar o modificar esta asistencia ha finalizado. Contacte a Administración.",
-            (Map<String, String>) null
-        );
-    }
-
-    private void conciliarRegistros(
-        AsistenciaClase asistenciaClase,
-        List<RegistroAlumnoRequest> registrosRequest,
-        Map<UUID, Alumno> alumnosActivosById,
-        LocalDateTime ahora
-    ) {
-        Map<UUID, RegistroAlumnoRequest> requestMap = registrosRequest.stream()
-            .collect(Collectors.toMap(RegistroAlumnoRequest::getAlumnoId, r -> r));
-
-        asistenciaClase.removeRegistrosIf(
-            registro -> !requestMap.containsKey(registro.getAlumno().getId())
-        );
-
-        for (RegistroAsistencia registro : asistenciaClase.getRegistros()) {
-            RegistroAlumnoRequest req = requestMap.remove(registro.getAlumno().getId());
-            if (req == null) {
-                continue;
-            }
-            registro.actualizarRegistro(req.getEstado(), req.getObservacion(), ahora);
-        }
-
-        for (RegistroAlumnoRequest req : requestMap.values()) {
-            Alumno alumno = alumnosActivosById.get(req.getAlumnoId());
-            RegistroAsistencia nuevo = RegistroAsistencia.builder()
-                .asistenciaClase(asistenciaClase)
-                .alumno(alumno)
-                .estado(req.getEstado())
-                .observacion(req.getObservacion())
-                .createdAt(ahora)
-                .updatedAt(ahora)
-                .build();
-            asistenciaClase.addRegistro(nuevo);
-        }
-    }
-
-    private void validarRegistros(List<RegistroAlumnoRequest> registros, Set<UUID> alumnosActivos) {
-        Set<UUID> vistos = new HashSet<>();
-        List<UUID> invalidos = new ArrayList<>();
-        for (RegistroAlumnoRequest registro : registros) {
-            UUID alumnoId = registro.getAlumnoId();
-            if (!vistos.add(alumnoId)) {
-                throw new BusinessException("Registros de asistencia duplicados para el mismo alumno");
-            }
-            if (!alumnosActivos.contains(alumnoId)) {
-                invalidos.add(alumnoId);
-            }
-        }
-
-        if (!invalidos.isEmpty()) {
-            Map<String, String> details = new HashMap<>();
-            details.put(
-                "alumnosInvalidos",
-                invalidos.stream().map(UUID::toString).collect(Collectors.joining(","))
-            );
-            throw new BusinessException("Hay alumnos que no tienen matricula activa en el curso", details);
-        }
-    }
-
-    private AsistenciaClaseResponse mapResponse(AsistenciaClase asistenciaClase, List<RegistroAsistencia> registros) {
-        List<RegistroAsistenciaResponse> registrosResponse = registros.stream()
-            .map(r -> RegistroAsistenciaResponse.builder()
-                .alumnoId(r.getAlumno().getId())
-                .alumnoNombre(r.getAlumno().getNombre())
-                .alumnoApellido(r.getAlumno().getApellido())
-                .estado(r.getEstado())
-                .observacion(r.getObservacion())
-                .build())
-            .toList();
-
-        return AsistenciaClaseResponse.builder()
-            .asistenciaClaseId(asistenciaClase.getId())
-            .bloqueHorarioId(asistenciaClase.getBloqueHorario().getId())
-            .fecha(asistenciaClase.getFecha())
-            .tomadaEn(asistenciaClase.getCreatedAt())
-            .registradoPorNombre(obtenerNombreRegistrador(asistenciaClase.getRegistradoPor()))
-            .registros(registrosResponse)
-            .build();
-    }
-
-    private String obtenerNombreRegistrador(Usuario registradoPor) {
-        if (registradoPor == null) {
-            return null;
-        }
-        return registradoPor.getNombre() + " " + registradoPor.getApellido();
+        return AsistenciaClaseOperaciones.toResponse(savedAsistencia, guardados);
     }
 }
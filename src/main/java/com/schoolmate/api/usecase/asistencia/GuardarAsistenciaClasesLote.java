@@ -0,0 +1,278 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.ResumenAsistenciaAlumnoAcumulador;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.request.GuardarAsistenciaLoteRequest;
+import com.schoolmate.api.dto.request.GuardarAsistenciaRequest;
+import com.schoolmate.api.dto.response.GuardarAsistenciaLoteResponse;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.AsistenciaClase;
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.entity.Matricula;
+import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.enums.EstadoAsistencia;
+import com.schoolmate.api.enums.EstadoMatricula;
+import com.schoolmate.api.enums.Rol;
+import com.schoolmate.api.enums.TipoBloque;
+import com.schoolmate.api.exception.ApiException;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ErrorCode;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AsistenciaClaseRepository;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import com.schoolmate.api.repository.DiaNoLectivoRepository;
+import com.schoolmate.api.repository.MatriculaRepository;
+import com.schoolmate.api.repository.UsuarioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Guarda varias asistencias de clase en una sola llamada (sincronización offline de un día completo).
+ * Bloques, matrículas, días no lectivos y asistencias existentes se cargan en una consulta cada uno;
+ * cada ítem se valida con las mismas reglas que {@link GuardarAsistenciaClase} y se informa por separado.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuardarAsistenciaClasesLote {
+
+    static final String ESTADO_GUARDADA = "GUARDADA";
+    static final String ESTADO_RECHAZADA = "RECHAZADA";
+
+    private final BloqueHorarioRepository bloqueHorarioRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final AsistenciaClaseRepository asistenciaClaseRepository;
+    private final DiaNoLectivoRepository diaNoLectivoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final ResumenAsistenciaAlumnoAcumulador resumenAsistenciaAcumulador;
+
+    @Transactional
+    public GuardarAsistenciaLoteResponse execute(
+        GuardarAsistenciaLoteRequest request,
+        UUID profesorId,
+        UUID usuarioId,
+        Rol rolUsuario
+    ) {
+        List<GuardarAsistenciaRequest> items = request.getAsistencias();
+        Set<UUID> bloqueIds = items.stream()
+            .map(GuardarAsistenciaRequest::getBloqueHorarioId)
+            .collect(Collectors.toSet());
+        Set<LocalDate> fechas = items.stream()
+            .map(GuardarAsistenciaRequest::getFecha)
+            .collect(Collectors.toSet());
+
+        Map<UUID, BloqueHorario> bloquesById = bloqueHorarioRepository.findAllByIdInWithCursoYAnoEscolar(bloqueIds)
+            .stream()
+            .collect(Collectors.toMap(BloqueHorario::getId, Function.identity()));
+
+        Set<UUID> cursoIds = new HashSet<>();
+        Set<UUID> anoEscolarIds = new HashSet<>();
+        for (BloqueHorario bloque : bloquesById.values()) {
+            cursoIds.add(bloque.getCurso().getId());
+            anoEscolarIds.add(bloque.getCurso().getAnoEscolar().getId());
+        }
+
+        Set<ClaveDia> diasNoLectivos = anoEscolarIds.isEmpty()
+            ? Set.of()
+            : diaNoLectivoRepository.findByAnoEscolarIdInAndFechaIn(anoEscolarIds, fechas).stream()
+                .map(d -> new ClaveDia(d.getAnoEscolar().getId(), d.getFecha()))
+                .collect(Collectors.toSet());
+
+        Map<UUID, Map<UUID, Alumno>> alumnosActivosPorCurso = new HashMap<>();
+        if (!cursoIds.isEmpty()) {
+            for (Matricula matricula : matriculaRepository.findByCursoIdInAndEstado(cursoIds, EstadoMatricula.ACTIVA)) {
+                alumnosActivosPorCurso
+                    .computeIfAbsent(matricula.getCurso().getId(), k -> new HashMap<>())
+                    .putIfAbsent(matricula.getAlumno().getId(), matricula.getAlumno());
+            }
+        }
+
+        Map<ClaveClase, AsistenciaClase> existentes = new HashMap<>();
+        if (!bloquesById.isEmpty()) {
+            for (AsistenciaClase asistencia : asistenciaClaseRepository
+                .findConRegistrosByBloqueIdsAndFechas(bloquesById.keySet(), fechas)) {
+                existentes.put(new ClaveClase(asistencia.getBloqueHorario().getId(), asistencia.getFecha()), asistencia);
+            }
+        }
+
+        boolean esAdmin = Rol.ADMIN.equals(rolUsuario);
+        LocalDate hoy = clockProvider.today();
+        LocalDateTime ahora = clockProvider.now();
+        Usuario registrador = usuarioRepository.getReferenceById(usuarioId);
+
+        Map<Integer, AsistenciaClase> aGuardar = new LinkedHashMap<>();
+        Map<Integer, GuardarAsistenciaLoteResponse.ResultadoItem> rechazos = new HashMap<>();
+        Set<ClaveClase> vistas = new HashSet<>();
+        Set<Integer> creadas = new HashSet<>();
+        List<ResumenAsistenciaAlumnoAcumulador.Delta> deltasResumen = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            GuardarAsistenciaRequest item = items.get(i);
+            try {
+                BloqueHorario bloque = bloquesById.get(item.getBloqueHorarioId());
+                if (bloque == null) {
+                    throw new ResourceNotFoundException("Bloque horario no encontrado");
+                }
+                ClaveClase clave = new ClaveClase(bloque.getId(), item.getFecha());
+                if (!vistas.add(clave)) {
+                    throw new BusinessException("El lote contiene más de una asistencia para el mismo bloque y fecha");
+                }
+
+                validarItem(item, bloque, esAdmin, profesorId, hoy, diasNoLectivos);
+
+                Map<UUID, Alumno> alumnosActivosById =
+                    alumnosActivosPorCurso.getOrDefault(bloque.getCurso().getId(), Map.of());
+                AsistenciaClaseOperaciones.validarRegistros(item.getRegistros(), alumnosActivosById.keySet());
+
+                AsistenciaClase asistencia = existentes.get(clave);
+                if (asistencia == null) {
+                    asistencia = AsistenciaClase.builder()
+                        .bloqueHorario(bloque)
+                        .registradoPor(registrador)
+                        .fecha(item.getFecha())
+                        .createdAt(ahora)
+                        .updatedAt(ahora)
+                        .build();
+                    creadas.add(i);
+                } else {
+                    asistencia.marcarRegistradaPor(registrador, ahora);
+                }
+                Map<UUID, EstadoAsistencia> estadosPrevios = AsistenciaClaseOperaciones.estadosPorAlumno(asistencia);
+                AsistenciaClaseOperaciones.conciliarRegistros(asistencia, item.getRegistros(), alumnosActivosById, ahora);
+                deltasResumen.addAll(ResumenAsistenciaAlumnoAcumulador.calcularDeltas(
+                    bloque.getCurso().getAnoEscolar().getId(),
+                    estadosPrevios,
+                    AsistenciaClaseOperaciones.estadosPorAlumno(asistencia)
+                ));
+                aGuardar.put(i, asistencia);
+            } catch (ResourceNotFoundException ex) {
+                rechazos.put(i, rechazo(i, item, ErrorCode.RESOURCE_NOT_FOUND, ex.getMessage(), null));
+            } catch (BusinessException ex) {
+                rechazos.put(i, rechazo(i, item, ErrorCode.BUSINESS_RULE, ex.getMessage(), ex.getDetails()));
+            } catch (ApiException ex) {
+                String mensaje = ex.getCustomMessage() != null ? ex.getCustomMessage() : ex.getErrorCode().name();
+                rechazos.put(i, rechazo(i, item, ex.getErrorCode(), mensaje, ex.getDetails()));
+            } catch (AccessDeniedException ex) {
+                rechazos.put(i, rechazo(i, item, ErrorCode.ACCESS_DENIED,
+                    "No tiene permiso para registrar asistencia en este bloque", null));
+            }
+        }
+
+        asistenciaClaseRepository.saveAll(aGuardar.values());
+        resumenAsistenciaAcumulador.acumular(deltasResumen);
+
+        List<GuardarAsistenciaLoteResponse.ResultadoItem> resultados = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            AsistenciaClase guardada = aGuardar.get(i);
+            if (guardada == null) {
+                resultados.add(rechazos.get(i));
+                continue;
+            }
+            AnoEscolar anoEscolar = guardada.getBloqueHorario().getCurso().getAnoEscolar();
+            cumplimientoDiaCache.registrarAsistencia(
+                anoEscolar.getId(), guardada.getFecha(), guardada.getBloqueHorario().getId(), guardada.getCreatedAt());
+            resultados.add(GuardarAsistenciaLoteResponse.ResultadoItem.builder()
+                .indice(i)
+                .bloqueHorarioId(guardada.getBloqueHorario().getId())
+                .fecha(guardada.getFecha())
+                .estado(ESTADO_GUARDADA)
+                .status(creadas.contains(i) ? 201 : 200)
+                .asistencia(AsistenciaClaseOperaciones.toResponse(guardada, guardada.getRegistros()))
+                .build());
+        }
+
+        return GuardarAsistenciaLoteResponse.builder()
+            .guardadas(aGuardar.size())
+            .rechazadas(rechazos.size())
+            .resultados(resultados)
+            .build();
+    }
+
+    private void validarItem(
+        GuardarAsistenciaRequest item,
+        BloqueHorario bloque,
+        boolean esAdmin,
+        UUID profesorId,
+        LocalDate hoy,
+        Set<ClaveDia> diasNoLectivos
+    ) {
+        if (bloque.getTipo() != TipoBloque.CLASE) {
+            throw new BusinessException("Solo se puede registrar asistencia en bloques de tipo CLASE");
+        }
+
+        LocalDate fecha = item.getFecha();
+        if (!esAdmin) {
+            AsistenciaClaseOperaciones.validarCierreAsistenciaProfesor(fecha, hoy, bloque, clockProvider);
+        }
+
+        if (CalendarioAnoEscolar.esFinDeSemana(fecha)) {
+            throw new BusinessException("No se puede registrar asistencia en fin de semana");
+        }
+
+        if (fecha.getDayOfWeek().getValue() != bloque.getDiaSemana()) {
+            throw new BusinessException("La fecha no corresponde al día del bloque horario");
+        }
+
+        AnoEscolar anoEscolar = bloque.getCurso().getAnoEscolar();
+        if (diasNoLectivos.contains(new ClaveDia(anoEscolar.getId(), fecha))) {
+            throw new BusinessException("No se puede registrar asistencia. El día es no lectivo.");
+        }
+
+        if (anoEscolar.calcularEstado(hoy) == EstadoAnoEscolar.CERRADO) {
+            throw new BusinessException("No se puede registrar asistencia en un año escolar cerrado");
+        }
+
+        if (fecha.isBefore(anoEscolar.getFechaInicio()) || fecha.isAfter(anoEscolar.getFechaFin())) {
+            throw new BusinessException("La fecha está fuera del período del año escolar");
+        }
+
+        if (!esAdmin && (bloque.getProfesor() == null || !bloque.getProfesor().getId().equals(profesorId))) {
+            throw new AccessDeniedException("ACCESS_DENIED");
+        }
+    }
+
+    private GuardarAsistenciaLoteResponse.ResultadoItem rechazo(
+        int indice,
+        GuardarAsistenciaRequest item,
+        ErrorCode errorCode,
+        String mensaje,
+        Map<String, String> details
+    ) {
+        return GuardarAsistenciaLoteResponse.ResultadoItem.builder()
+            .indice(indice)
+            .bloqueHorarioId(item.getBloqueHorarioId())
+            .fecha(item.getFecha())
+            .estado(ESTADO_RECHAZADA)
+            .status(errorCode.getStatus().value())
+            .code(errorCode.name())
+            .mensaje(mensaje)
+            .details(details)
+            .build();
+    }
+
+    private record ClaveClase(UUID bloqueId, LocalDate fecha) {
+    }
+
+    private record ClaveDia(UUID anoEscolarId, LocalDate fecha) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.dto.response.ArchivoAsistenciaAnoResponse;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.ArchivoAsistenciaAnoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ObtenerArchivoAsistenciaAnoEscolar {
+
+    private final ArchivoAsistenciaAnoRepository archivoRepository;
+
+    @Transactional(readOnly = true)
+    public ArchivoAsistenciaAnoResponse execute(UUID anoEscolarId) {
+        return archivoRepository.findById(anoEscolarId)
+                .map(ArchivoAsistenciaAnoResponse::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("El año escolar no tiene archivo de asistencia"));
+    }
+}
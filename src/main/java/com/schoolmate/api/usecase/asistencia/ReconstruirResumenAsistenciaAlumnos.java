@@ -0,0 +1,27 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.ResumenAsistenciaAlumnoAcumulador;
+import com.schoolmate.api.dto.response.ReconstruccionResumenAsistenciaResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Recalcula {@code resumen_asistencia_alumno} de un año escolar desde los registros de asistencia.
+ * Sirve de backfill y para corregir desvíos; mientras corre, el guardado de asistencia del mismo
+ * instante espera al lock de la tabla.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconstruirResumenAsistenciaAlumnos {
+
+    private final ResumenAsistenciaAlumnoAcumulador resumenAsistenciaAcumulador;
+
+    @Transactional
+    public ReconstruccionResumenAsistenciaResponse execute(UUID anoEscolarId) {
+        int alumnos = resumenAsistenciaAcumulador.reconstruir(anoEscolarId);
+        return new ReconstruccionResumenAsistenciaResponse(anoEscolarId, alumnos);
+    }
+}
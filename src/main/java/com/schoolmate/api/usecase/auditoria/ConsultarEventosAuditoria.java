@@ -1,9 +1,7 @@
 package com.schoolmate.api.usecase.auditoria;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.schoolmate.api.dto.response.EventoAuditoriaPageResponse;
-import com.schoolmate.api.dto.response.EventoAuditoriaResponse;
 import com.schoolmate.api.repository.EventoAuditoriaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -44,8 +42,6 @@ public class ConsultarEventosAuditoria {
         boolean aplicarUsuario = usuarioId != null;
         boolean aplicarMetodo = metodoNormalizado != null;
         boolean aplicarEndpoint = endpointPattern != null;
-        boolean aplicarDesde = desdeDateTime != null;
-        boolean aplicarHasta = hastaDateTime != null;
 
         var resultPage = auditoriaRepository.findByFiltros(
             aplicarUsuario,
@@ -54,26 +50,13 @@ public class ConsultarEventosAuditoria {
             aplicarMetodo ? metodoNormalizado : STRING_SIN_FILTRO,
             aplicarEndpoint,
             aplicarEndpoint ? endpointPattern : STRING_SIN_FILTRO,
-            aplicarDesde,
-            aplicarDesde ? desdeDateTime : FECHA_DESDE_SIN_FILTRO,
-            aplicarHasta,
-            aplicarHasta ? hastaDateTime : FECHA_HASTA_SIN_FILTRO,
+            desdeDateTime != null ? desdeDateTime : FECHA_DESDE_SIN_FILTRO,
+            hastaDateTime != null ? hastaDateTime : FECHA_HASTA_SIN_FILTRO,
             PageRequest.of(page, size)
         );
 
         var eventos = resultPage.getContent().stream()
-            .map(e -> EventoAuditoriaResponse.builder()
-                .id(e.getId())
-                .usuarioEmail(e.getUsuarioEmail())
-                .usuarioRol(e.getUsuarioRol())
-                .metodoHttp(e.getMetodoHttp())
-                .endpoint(e.getEndpoint())
-                .requestBody(deserializeJsonSafe(e.getRequestBody()))
-                .responseStatus(e.getResponseStatus())
-                .ipAddress(e.getIpAddress())
-                .anoEscolarId(e.getAnoEscolarId())
-                .fechaHora(e.getCreatedAt())
-                .build())
+            .map(e -> EventoAuditoriaMapper.toResponse(e, objectMapper))
             .toList();
 
         return EventoAuditoriaPageResponse.builder()
@@ -83,15 +66,4 @@ public class ConsultarEventosAuditoria {
             .currentPage(page)
             .build();
     }
-
-    private Object deserializeJsonSafe(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, Object.class);
-        } catch (JsonProcessingException e) {
-            return json;
-        }
-    }
 }
@@ -0,0 +1,44 @@
+package com.schoolmate.api.usecase.auditoria;
+
+import com.schoolmate.api.entity.EventoAuditoria;
+import com.schoolmate.api.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posición opaca {@code (created_at, id)} del último evento entregado. Se codifica en base64url para que el
+ * cliente la reenvíe tal cual en {@code cursor}.
+ */
+record CursorEventoAuditoria(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARADOR = '|';
+
+    static CursorEventoAuditoria de(EventoAuditoria evento) {
+        return new CursorEventoAuditoria(evento.getCreatedAt(), evento.getId());
+    }
+
+    static CursorEventoAuditoria decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new BusinessException("Cursor de auditoría inválido");
+            }
+            return new CursorEventoAuditoria(
+                LocalDateTime.parse(valor.substring(0, separador)),
+                UUID.fromString(valor.substring(separador + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de auditoría inválido");
+        }
+    }
+
+    String codificar() {
+        String valor = createdAt.toString() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package com.schoolmate.api.usecase.auditoria;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolmate.api.dto.response.EventoAuditoriaResponse;
+import com.schoolmate.api.entity.EventoAuditoria;
+
+final class EventoAuditoriaMapper {
+
+    private EventoAuditoriaMapper() {
+    }
+
+    static EventoAuditoriaResponse toResponse(EventoAuditoria e, ObjectMapper objectMapper) {
+        return EventoAuditoriaResponse.builder()
+            .id(e.getId())
+            .usuarioEmail(e.getUsuarioEmail())
+            .usuarioRol(e.getUsuarioRol())
+            .metodoHttp(e.getMetodoHttp())
+            .endpoint(e.getEndpoint())
+            .requestBody(deserializeJsonSafe(e.getRequestBody(), objectMapper))
+            .responseStatus(e.getResponseStatus())
+            .ipAddress(e.getIpAddress())
+            .anoEscolarId(e.getAnoEscolarId())
+            .fechaHora(e.getCreatedAt())
+            .build();
+    }
+
+    private static Object deserializeJsonSafe(String json, ObjectMapper objectMapper) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            return json;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.schoolmate.api.usecase.auditoria;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolmate.api.dto.response.EventoAuditoriaCursorResponse;
+import com.schoolmate.api.entity.EventoAuditoria;
+import com.schoolmate.api.repository.EventoAuditoriaRepository;
+import com.schoolmate.api.specification.EventoAuditoriaSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consulta de auditoría paginada por cursor {@code (created_at, id)}. Solo se agregan los filtros presentes,
+ * así el planner puede usar {@code idx_evento_auditoria_usuario_created} o {@code idx_evento_auditoria_created}
+ * según corresponda, y el conteo total se calcula únicamente si el cliente lo pide.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListarEventosAuditoriaPorCursor {
+
+    static final int SIZE_MAXIMO = 200;
+    private static final Sort ORDEN = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final EventoAuditoriaRepository auditoriaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public EventoAuditoriaCursorResponse execute(
+        UUID usuarioId,
+        String metodoHttp,
+        String endpoint,
+        LocalDate desde,
+        LocalDate hasta,
+        String cursor,
+        int size,
+        boolean incluirTotal
+    ) {
+        int limite = Math.clamp(size, 1, SIZE_MAXIMO);
+        Specification<EventoAuditoria> filtros = filtros(usuarioId, metodoHttp, endpoint, desde, hasta);
+
+        Specification<EventoAuditoria> pagina = filtros;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorEventoAuditoria posicion = CursorEventoAuditoria.decodificar(cursor.trim());
+            pagina = filtros.and(EventoAuditoriaSpecifications.despuesDeCursor(posicion.createdAt(), posicion.id()));
+        }
+
+        List<EventoAuditoria> encontrados = auditoriaRepository.findBy(
+            pagina,
+            q -> q.sortBy(ORDEN).limit(limite + 1).all()
+        );
+        boolean hayMas = encontrados.size() > limite;
+        List<EventoAuditoria> eventos = hayMas ? encontrados.subList(0, limite) : encontrados;
+
+        return EventoAuditoriaCursorResponse.builder()
+            .eventos(eventos.stream().map(e -> EventoAuditoriaMapper.toResponse(e, objectMapper)).toList())
+            .hayMas(hayMas)
+            .siguienteCursor(hayMas ? CursorEventoAuditoria.de(eventos.getLast()).codificar() : null)
+            .totalElements(incluirTotal ? auditoriaRepository.count(filtros) : null)
+            .build();
+    }
+
+    private static Specification<EventoAuditoria> filtros(
+        UUID usuarioId,
+        String metodoHttp,
+        String endpoint,
+        LocalDate desde,
+        LocalDate hasta
+    ) {
+        List<Specification<EventoAuditoria>> filtros = new ArrayList<>();
+        if (usuarioId != null) {
+            filtros.add(EventoAuditoriaSpecifications.byUsuarioId(usuarioId));
+        }
+        if (metodoHttp != null && !metodoHttp.isBlank()) {
+            filtros.add(EventoAuditoriaSpecifications.byMetodoHttp(metodoHttp.toUpperCase()));
+        }
+        if (endpoint != null && !endpoint.isBlank()) {
+            filtros.add(EventoAuditoriaSpecifications.endpointLike("%" + endpoint.trim() + "%"));
+        }
+        if (desde != null) {
+            filtros.add(EventoAuditoriaSpecifications.createdDesde(desde.atStartOfDay()));
+        }
+        if (hasta != null) {
+            filtros.add(EventoAuditoriaSpecifications.createdAntesDe(hasta.plusDays(1).atStartOfDay()));
+        }
+        return Specification.allOf(filtros);
+    }
+}
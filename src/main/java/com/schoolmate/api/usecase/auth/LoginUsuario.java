@@ -6,16 +6,20 @@ import com.schoolmate.api.dto.request.LoginRequest;
 import com.schoolmate.api.dto.response.AuthResponse;
 import com.schoolmate.api.entity.SesionUsuario;
 import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.exception.ApiException;
+import com.schoolmate.api.exception.ErrorCode;
 import com.schoolmate.api.repository.SesionUsuarioRepository;
 import com.schoolmate.api.repository.UsuarioRepository;
 import com.schoolmate.api.security.JwtTokenProvider;
+import com.schoolmate.api.security.LimitadorLogin;
+import com.schoolmate.api.security.TokensRefresco;
 import com.schoolmate.api.security.UserPrincipal;
+import com.schoolmate.api.security.VerificadorPassword;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.UUID;
 
@@ -24,14 +28,22 @@ import java.util.UUID;
 public class LoginUsuario {
 
     private final UsuarioRepository usuarioRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final VerificadorPassword verificadorPassword;
+    private final LimitadorLogin limitadorLogin;
     private final JwtTokenProvider tokenProvider;
     private final SesionUsuarioRepository sesionUsuarioRepository;
     private final ClockProvider clockProvider;
+    private final TokensRefresco tokensRefresco;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
+    // Sin @Transactional: la verificación BCrypt no retiene conexión; la transacción se abre solo para registrar
+    // la sesión una vez aceptadas las credenciales.
     public AuthResponse execute(LoginRequest request, HttpServletRequest httpRequest) {
         String identificador = request.getIdentificador() != null ? request.getIdentificador().trim() : "";
+        if (!limitadorLogin.permitir(identificador)) {
+            throw new ApiException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        }
+
         Usuario usuario = resolverUsuarioPorIdentificador(identificador)
             .orElseThrow(() -> new BadCredentialsException("Bad credentials"));
 
@@ -39,27 +51,27 @@ public class LoginUsuario {
             throw new BadCredentialsException("Bad credentials");
         }
 
-        if (!passwordEncoder.matches(request.getPassword(), usuario.getPasswordHash())) {
+        // El intento ya gastó su token en permitir(); solo un login correcto lo devuelve.
+        if (!verificadorPassword.verificar(request.getPassword(), usuario.getPasswordHash())) {
             throw new BadCredentialsException("Bad credentials");
         }
+        limitadorLogin.registrarExito(identificador);
 
         UserPrincipal principal = UserPrincipal.fromUsuario(usuario);
         String accessToken = tokenProvider.generateToken(principal);
-        String refreshToken = UUID.randomUUID().toString();
-
-        usuario.actualizarRefreshToken(refreshToken);
-        usuarioRepository.save(usuario);
-
-        SesionUsuario sesion = SesionUsuario.builder()
-                .usuario(usuario)
-                .ipAddress(extraerIp(httpRequest))
-                .latitud(request.getLatitud())
-                .longitud(request.getLongitud())
-                .precisionMetros(request.getPrecisionMetros())
-                .userAgent(httpRequest.getHeader("User-Agent"))
-                .createdAt(clockProvider.now())
-                .build();
-        sesionUsuarioRepository.save(sesion);
+        String refreshToken = transactionOperations.execute(status -> {
+            SesionUsuario sesion = SesionUsuario.builder()
+                    .usuario(usuario)
+                    .ipAddress(extraerIp(httpRequest))
+                    .latitud(request.getLatitud())
+                    .longitud(request.getLongitud())
+                    .precisionMetros(request.getPrecisionMetros())
+                    .userAgent(httpRequest.getHeader("User-Agent"))
+                    .createdAt(clockProvider.now())
+                    .build();
+            sesionUsuarioRepository.save(sesion);
+            return tokensRefresco.emitir(usuario, UUID.randomUUID(), httpRequest.getHeader("User-Agent"));
+        });
 
         return AuthResponse.builder()
                 .token(accessToken)
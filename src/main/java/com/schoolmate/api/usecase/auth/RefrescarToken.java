@@ -1,38 +1,52 @@
 package com.schoolmate.api.usecase.auth;
 
+import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.RefreshTokenRequest;
 import com.schoolmate.api.dto.response.AuthResponse;
+import com.schoolmate.api.entity.TokenRefresco;
 import com.schoolmate.api.entity.Usuario;
 import com.schoolmate.api.exception.ApiException;
 import com.schoolmate.api.exception.ErrorCode;
-import com.schoolmate.api.repository.UsuarioRepository;
+import com.schoolmate.api.repository.TokenRefrescoRepository;
 import com.schoolmate.api.security.JwtTokenProvider;
+import com.schoolmate.api.security.TokensRefresco;
 import com.schoolmate.api.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 public class RefrescarToken {
 
-    private final UsuarioRepository usuarioRepository;
+    private final TokenRefrescoRepository tokenRefrescoRepository;
+    private final TokensRefresco tokensRefresco;
     private final JwtTokenProvider tokenProvider;
+    private final ClockProvider clockProvider;
 
-    @Transactional
+    // noRollbackFor: la revocación de la familia ante un token reutilizado debe persistir aunque se rechace el request.
+    @Transactional(noRollbackFor = ApiException.class)
     public AuthResponse execute(RefreshTokenRequest request) {
-        Usuario usuario = usuarioRepository.findByRefreshToken(request.getRefreshToken())
+        String tokenHash = TokensRefresco.hash(request.getRefreshToken());
+        TokenRefresco actual = tokenRefrescoRepository.findByTokenHashForUpdate(tokenHash)
                 .orElseThrow(() -> new ApiException(ErrorCode.SESSION_REVOKED));
 
-        if (!Boolean.TRUE.equals(usuario.getActivo())) {
+        if (actual.fueUsado()) {
+            // Un token ya rotado que vuelve a llegar indica que fue copiado: se corta la sesión de ese dispositivo.
+            tokenRefrescoRepository.deleteByFamiliaId(actual.getFamiliaId());
             throw new ApiException(ErrorCode.SESSION_REVOKED);
         }
 
-        String newRefreshToken = UUID.randomUUID().toString();
-        usuario.actualizarRefreshToken(newRefreshToken);
-        usuarioRepository.save(usuario);
+        LocalDateTime ahora = clockProvider.now();
+        Usuario usuario = actual.getUsuario();
+        if (actual.estaExpirado(ahora) || !Boolean.TRUE.equals(usuario.getActivo())) {
+            throw new ApiException(ErrorCode.SESSION_REVOKED);
+        }
+
+        actual.marcarUsado(ahora);
+        String newRefreshToken = tokensRefresco.emitir(usuario, actual.getFamiliaId(), actual.getDispositivo());
 
         UserPrincipal principal = UserPrincipal.fromUsuario(usuario);
         String accessToken = tokenProvider.generateToken(principal);
@@ -1,5 +1,9 @@
 package com.schoolmate.api.usecase.calendario;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaSnapshot;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.CrearDiaNoLectivoRequest;
 import com.schoolmate.api.dto.response.DiaNoLectivoResponse;
@@ -32,6 +36,9 @@ public class CrearDiasNoLectivos {
     private final AnoEscolarRepository anoEscolarRepository;
     private final DiaNoLectivoRepository diaNoLectivoRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final CalendarioEscolar calendarioEscolar;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public List<DiaNoLectivoResponse> execute(CrearDiaNoLectivoRequest request, UUID anoEscolarId) {
@@ -90,7 +97,14 @@ public class CrearDiasNoLectivos {
                 .build());
         }
 
-        return diaNoLectivoRepository.saveAll(aGuardar).stream()
+        List<DiaNoLectivo> guardados = diaNoLectivoRepository.saveAll(aGuardar);
+        cumplimientoDiaCache.registrarDiasNoLectivos(anoEscolarId, guardados.stream()
+            .map(dia -> CumplimientoDiaSnapshot.diaNoLectivo(dia.getFecha(), dia.getTipo().name(), dia.getDescripcion()))
+            .toList());
+        calendarioEscolar.registrarDiasNoLectivos(anoEscolarId, guardados);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.DIAS_NO_LECTIVOS_ANO, anoEscolarId);
+
+        return guardados.stream()
             .map(this::toResponse)
             .toList();
     }
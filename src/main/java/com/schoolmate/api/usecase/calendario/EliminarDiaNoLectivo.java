@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.calendario;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.enums.EstadoAnoEscolar;
@@ -18,6 +21,9 @@ public class EliminarDiaNoLectivo {
 
     private final DiaNoLectivoRepository diaNoLectivoRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final CalendarioEscolar calendarioEscolar;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public void execute(UUID id) {
@@ -29,5 +35,8 @@ public class EliminarDiaNoLectivo {
         }
 
         diaNoLectivoRepository.delete(diaNoLectivo);
+        cumplimientoDiaCache.invalidar(diaNoLectivo.getAnoEscolar().getId(), diaNoLectivo.getFecha());
+        calendarioEscolar.quitarDiaNoLectivo(diaNoLectivo.getAnoEscolar().getId(), diaNoLectivo.getFecha());
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.DIAS_NO_LECTIVOS_ANO, diaNoLectivo.getAnoEscolar().getId());
     }
 }
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.curso;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.CursoRequest;
 import com.schoolmate.api.dto.response.CursoResponse;
 import com.schoolmate.api.entity.Curso;
@@ -30,6 +31,7 @@ public class ActualizarCurso {
     private final GradoRepository gradoRepository;
     private final AnoEscolarRepository anoEscolarRepository;
     private final SeccionCatalogoRepository seccionCatalogoRepository;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public CursoResponse execute(UUID cursoId, UUID anoEscolarId, CursoRequest request) {
@@ -49,6 +51,7 @@ public class ActualizarCurso {
         curso.actualizarIdentidadAcademica(grado, anoEscolar, letraAsignada);
 
         Curso saved = cursoRepository.save(curso);
+        revisionAgregados.incrementarReferencias();
         Curso reloaded = cursoRepository.findByIdWithGradoAndAnoEscolar(saved.getId())
             .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
         return CursoResponse.fromEntity(reloaded);
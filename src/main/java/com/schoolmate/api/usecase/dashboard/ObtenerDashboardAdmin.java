@@ -1,6 +1,12 @@
 package com.schoolmate.api.usecase.dashboard;
 
 import com.schoolmate.api.common.CumplimientoCalculator;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
+import com.schoolmate.api.common.cumplimiento.BloqueCumplimiento;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaSnapshot;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.DashboardAdminResponse;
 import com.schoolmate.api.dto.response.DashboardAdminResponse.BloquePendienteDetalle;
@@ -11,12 +17,10 @@ import com.schoolmate.api.dto.response.DashboardAdminResponse.ResumenGlobal;
 import com.schoolmate.api.dto.response.DashboardAdminResponse.StatsAdmin;
 import com.schoolmate.api.entity.AsistenciaClase;
 import com.schoolmate.api.entity.BloqueHorario;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.enums.EstadoCumplimiento;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
 import com.schoolmate.api.repository.CursoRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -28,6 +32,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +60,8 @@ public class ObtenerDashboardAdmin {
     private final CursoRepository cursoRepository;
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final AsistenciaClaseRepository asistenciaClaseRepository;
-    private final DiaNoLectivoRepository diaNoLectivoRepository;
+    private final CalendarioEscolar calendarioEscolar;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
 
     @Transactional(readOnly = true)
     public DashboardAdminResponse execute(UUID anoEscolarId) {
@@ -71,18 +77,23 @@ public class ObtenerDashboardAdmin {
         int diaSemana = dayOfWeek.getValue();
         String nombreDia = NOMBRES_DIAS.get(dayOfWeek);
 
-        if (diaSemana > DayOfWeek.FRIDAY.getValue()) {
+        if (CalendarioAnoEscolar.esFinDeSemana(hoy)) {
             return DashboardAdminResponse.builder()
                 .stats(stats)
                 .cumplimientoHoy(buildCumplimientoVacio(hoy, diaSemana, nombreDia, false, null))
                 .build();
         }
 
-        Optional<DiaNoLectivoInfo> diaNoLectivoInfoOpt = diaNoLectivoRepository
-            .findByAnoEscolarIdAndFecha(anoEscolarId, hoy)
-            .map(this::mapDiaNoLectivo);
-        if (!diaNoLectivoInfoOpt.isEmpty()) {
-            DiaNoLectivoInfo diaNoLectivoInfo = diaNoLectivoInfoOpt.get();
+        CumplimientoDiaSnapshot snapshot = cumplimientoDiaCache.obtener(
+            anoEscolarId,
+            hoy,
+            () -> cargarSnapshot(anoEscolarId, hoy, diaSemana)
+        );
+        if (snapshot.esDiaNoLectivo()) {
+            DiaNoLectivoInfo diaNoLectivoInfo = DiaNoLectivoInfo.builder()
+                .tipo(snapshot.getDiaNoLectivoTipo())
+                .descripcion(snapshot.getDiaNoLectivoDescripcion())
+                .build();
             return DashboardAdminResponse.builder()
                 .stats(stats)
                 .cumplimientoHoy(buildCumplimientoVacio(
@@ -91,10 +102,7 @@ public class ObtenerDashboardAdmin {
                 .build();
         }
 
-        List<BloqueHorario> todosBloques = bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(
-            diaSemana,
-            anoEscolarId
-        );
+        List<BloqueCumplimiento> todosBloques = snapshot.getBloques();
         if (todosBloques.isEmpty()) {
             return DashboardAdminResponse.builder()
                 .stats(stats)
@@ -102,14 +110,9 @@ public class ObtenerDashboardAdmin {
                 .build();
         }
 
-        List<UUID> bloqueIds = todosBloques.stream().map(BloqueHorario::getId).toList();
-        List<AsistenciaClase> asistencias = asistenciaClaseRepository.findByBloqueIdsAndFecha(bloqueIds, hoy);
-        Map<UUID, AsistenciaClase> asistenciaPorBloque = asistencias.stream()
-            .collect(Collectors.toMap(ac -> ac.getBloqueHorario().getId(), ac -> ac));
-
-        Map<UUID, List<BloqueHorario>> bloquesPorProfesor = todosBloques.stream()
+        Map<UUID, List<BloqueCumplimiento>> bloquesPorProfesor = todosBloques.stream()
             .collect(Collectors.groupingBy(
-                bh -> bh.getProfesor().getId(),
+                BloqueCumplimiento::profesorId,
                 LinkedHashMap::new,
                 Collectors.toList()
             ));
@@ -120,9 +123,9 @@ public class ObtenerDashboardAdmin {
         int profesoresCumplimiento100 = 0;
 
         List<ProfesorCumplimiento> profesores = new ArrayList<>();
-        for (Map.Entry<UUID, List<BloqueHorario>> entry : bloquesPorProfesor.entrySet()) {
-            List<BloqueHorario> bloquesProfesor = entry.getValue();
-            BloqueHorario primero = bloquesProfesor.get(0);
+        for (Map.Entry<UUID, List<BloqueCumplimiento>> entry : bloquesPorProfesor.entrySet()) {
+            List<BloqueCumplimiento> bloquesProfesor = entry.getValue();
+            BloqueCumplimiento primero = bloquesProfesor.get(0);
 
             int tomadas = 0;
             int pendientes = 0;
@@ -130,29 +133,28 @@ public class ObtenerDashboardAdmin {
             LocalDateTime ultimaActividad = null;
             List<BloquePendienteDetalle> pendientesDetalle = new ArrayList<>();
 
-            for (BloqueHorario bloque : bloquesProfesor) {
-                AsistenciaClase asistencia = asistenciaPorBloque.get(bloque.getId());
-                boolean tieneAsistencia = asistencia != null;
+            for (BloqueCumplimiento bloque : bloquesProfesor) {
+                LocalDateTime tomadaEn = snapshot.getAsistenciaTomadaEn(bloque.bloqueId());
+                boolean tieneAsistencia = tomadaEn != null;
                 EstadoCumplimiento estado = CumplimientoCalculator.calcularEstado(
-                    hoy, hoy, ahora, bloque.getHoraInicio(), bloque.getHoraFin(), tieneAsistencia
+                    hoy, hoy, ahora, bloque.horaInicio(), bloque.horaFin(), tieneAsistencia
                 );
 
                 switch (estado) {
                     case TOMADA -> {
                         tomadas++;
-                        if (asistencia != null
-                            && (ultimaActividad == null || asistencia.getCreatedAt().isAfter(ultimaActividad))) {
-                            ultimaActividad = asistencia.getCreatedAt();
+                        if (tomadaEn != null && (ultimaActividad == null || tomadaEn.isAfter(ultimaActividad))) {
+                            ultimaActividad = tomadaEn;
                         }
                     }
                     case NO_TOMADA -> {
                         pendientes++;
                         if (pendientesDetalle.size() < 3) {
                             pendientesDetalle.add(BloquePendienteDetalle.builder()
-                                .horaInicio(bloque.getHoraInicio().format(HORA_FORMAT))
-                                .horaFin(bloque.getHoraFin().format(HORA_FORMAT))
-                                .cursoNombre(bloque.getCurso().getNombre())
-                                .materiaNombre(bloque.getMateria() != null ? bloque.getMateria().getNombre() : null)
+                                .horaInicio(bloque.horaInicio().format(HORA_FORMAT))
+                                .horaFin(bloque.horaFin().format(HORA_FORMAT))
+                                .cursoNombre(bloque.cursoNombre())
+                                .materiaNombre(bloque.materiaNombre())
                                 .build());
                         }
                     }
@@ -160,10 +162,10 @@ public class ObtenerDashboardAdmin {
                         pendientes++;
                         if (pendientesDetalle.size() < 3) {
                             pendientesDetalle.add(BloquePendienteDetalle.builder()
-                                .horaInicio(bloque.getHoraInicio().format(HORA_FORMAT))
-                                .horaFin(bloque.getHoraFin().format(HORA_FORMAT))
-                                .cursoNombre(bloque.getCurso().getNombre())
-                                .materiaNombre(bloque.getMateria() != null ? bloque.getMateria().getNombre() : null)
+                                .horaInicio(bloque.horaInicio().format(HORA_FORMAT))
+                                .horaFin(bloque.horaFin().format(HORA_FORMAT))
+                                .cursoNombre(bloque.cursoNombre())
+                                .materiaNombre(bloque.materiaNombre())
                                 .build());
                         }
                     }
@@ -185,8 +187,8 @@ public class ObtenerDashboardAdmin {
 
             profesores.add(ProfesorCumplimiento.builder()
                 .profesorId(entry.getKey())
-                .nombre(primero.getProfesor().getNombre())
-                .apellido(primero.getProfesor().getApellido())
+                .nombre(primero.profesorNombre())
+                .apellido(primero.profesorApellido())
                 .totalBloques(bloquesProfesor.size())
                 .tomadas(tomadas)
                 .pendientes(pendientes)
@@ -230,11 +232,32 @@ public class ObtenerDashboardAdmin {
             .build();
     }
 
-    private DiaNoLectivoInfo mapDiaNoLectivo(DiaNoLectivo dnl) {
-        return DiaNoLectivoInfo.builder()
-            .tipo(dnl.getTipo().name())
-            .descripcion(dnl.getDescripcion())
-            .build();
+    private CumplimientoDiaSnapshot cargarSnapshot(UUID anoEscolarId, LocalDate fecha, int diaSemana) {
+        Optional<DiaNoLectivoCalendario> diaNoLectivo = calendarioEscolar.obtener(anoEscolarId).diaNoLectivo(fecha);
+        if (diaNoLectivo.isPresent()) {
+            DiaNoLectivoCalendario dnl = diaNoLectivo.get();
+            return CumplimientoDiaSnapshot.diaNoLectivo(fecha, dnl.tipo().name(), dnl.descripcion());
+        }
+
+        List<BloqueHorario> bloques = bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(
+            diaSemana,
+            anoEscolarId
+        );
+        if (bloques.isEmpty()) {
+            return CumplimientoDiaSnapshot.diaLectivo(fecha, List.of(), Map.of());
+        }
+
+        List<UUID> bloqueIds = bloques.stream().map(BloqueHorario::getId).toList();
+        Map<UUID, LocalDateTime> asistenciaTomadaEn = new HashMap<>();
+        for (AsistenciaClase asistencia : asistenciaClaseRepository.findByBloqueIdsAndFecha(bloqueIds, fecha)) {
+            asistenciaTomadaEn.put(asistencia.getBloqueHorario().getId(), asistencia.getCreatedAt());
+        }
+
+        return CumplimientoDiaSnapshot.diaLectivo(
+            fecha,
+            bloques.stream().map(BloqueCumplimiento::from).toList(),
+            asistenciaTomadaEn
+        );
     }
 
     private CumplimientoHoy buildCumplimientoVacio(
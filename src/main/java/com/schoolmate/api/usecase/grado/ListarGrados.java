@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.grado;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.dto.response.GradoPageResponse;
 import com.schoolmate.api.dto.response.GradoResponse;
 import com.schoolmate.api.repository.GradoRepository;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ListarGrados {
 
     private final GradoRepository gradoRepository;
+    private final CatalogoCache catalogoCache;
 
     @Transactional(readOnly = true)
     public GradoPageResponse execute(Integer page, Integer size, String sortDir) {
@@ -22,6 +24,13 @@ public class ListarGrados {
         String resolvedSortDir = "desc".equalsIgnoreCase(sortDir) ? "desc" : "asc";
         Sort.Direction direction = "desc".equalsIgnoreCase(resolvedSortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
 
+        return catalogoCache.obtenerGrados(
+            new CatalogoCache.ConsultaPagina(resolvedPage, resolvedSize, "nivel", resolvedSortDir),
+            () -> cargar(resolvedPage, resolvedSize, resolvedSortDir, direction)
+        );
+    }
+
+    private GradoPageResponse cargar(int resolvedPage, int resolvedSize, String resolvedSortDir, Sort.Direction direction) {
         var gradosPage = gradoRepository.findAll(PageRequest.of(resolvedPage, resolvedSize, Sort.by(direction, "nivel")));
         var content = gradosPage.getContent().stream()
             .map(GradoResponse::fromEntity)
@@ -0,0 +1,110 @@
+package com.schoolmate.api.usecase.jornada;
+
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.EscrituraBloquesHorario;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.response.JornadaResumenResponse;
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Copia la estructura semanal de un curso (horarios y tipos de bloque, sin materias ni profesores) a otros
+ * cursos del mismo año escolar, reemplazando su jornada completa en una sola escritura.
+ */
+@Component
+@RequiredArgsConstructor
+public class AplicarJornadaCursos {
+
+    private final CursoRepository cursoRepository;
+    private final BloqueHorarioRepository bloqueHorarioRepository;
+    private final ObtenerJornadaCurso obtenerJornadaCurso;
+    private final EscrituraBloquesHorario escrituraBloques;
+    private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
+
+    @Transactional
+    public List<JornadaResumenResponse> execute(UUID cursoOrigenId, List<UUID> cursoDestinoIds) {
+        Curso origen = cursoRepository.findByIdWithGradoAndAnoEscolar(cursoOrigenId)
+            .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado: " + cursoOrigenId));
+
+        if (origen.getAnoEscolar().calcularEstado(clockProvider.today()) == EstadoAnoEscolar.CERRADO) {
+            throw new BusinessException("No se puede modificar la jornada de un año escolar cerrado");
+        }
+
+        Set<UUID> destinoIds = new LinkedHashSet<>(cursoDestinoIds);
+        if (destinoIds.contains(cursoOrigenId)) {
+            throw new BusinessException("El curso origen no puede estar en los cursos destino");
+        }
+
+        List<BloqueHorario> plantilla = bloqueHorarioRepository
+            .findByCursoIdAndActivoTrueOrderByDiaSemanaAscNumeroBloqueAsc(cursoOrigenId);
+        if (plantilla.isEmpty()) {
+            throw new BusinessException("El curso origen no tiene jornada configurada");
+        }
+
+        Map<UUID, Curso> cursos = cursoRepository.findAllByIdInWithGradoAndAnoEscolar(destinoIds).stream()
+            .collect(Collectors.toMap(Curso::getId, Function.identity()));
+        Map<Curso, List<BloqueHorario>> bloquesPorCurso = new LinkedHashMap<>();
+        for (UUID destinoId : destinoIds) {
+            Curso destino = cursos.get(destinoId);
+            if (destino == null) {
+                throw new ResourceNotFoundException("Curso no encontrado: " + destinoId);
+            }
+            if (!destino.getAnoEscolar().getId().equals(origen.getAnoEscolar().getId())) {
+                throw new BusinessException("El curso " + destino.getNombre()
+                    + " no pertenece al año escolar del curso origen");
+            }
+            bloquesPorCurso.put(destino, copiar(plantilla, destino));
+        }
+
+        List<BloqueHorario> nuevos = bloquesPorCurso.values().stream().flatMap(List::stream).toList();
+        escrituraBloques.reemplazar(destinoIds, nuevos, clockProvider.now());
+        cumplimientoDiaCache.invalidarAnoEscolar(origen.getAnoEscolar().getId());
+        indiceHorarioProfesores.quitarBloquesCursos(origen.getAnoEscolar().getId(), destinoIds);
+
+        List<JornadaResumenResponse> resumenes = new ArrayList<>(bloquesPorCurso.size());
+        bloquesPorCurso.forEach((destino, bloques) -> {
+            revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, destino.getId());
+            resumenes.add(obtenerJornadaCurso.ensamblar(destino, bloques).getResumen());
+        });
+        return resumenes;
+    }
+
+    private static List<BloqueHorario> copiar(List<BloqueHorario> plantilla, Curso destino) {
+        List<BloqueHorario> copia = new ArrayList<>(plantilla.size());
+        for (BloqueHorario bloque : plantilla) {
+            copia.add(BloqueHorario.builder()
+                .curso(destino)
+                .diaSemana(bloque.getDiaSemana())
+                .numeroBloque(bloque.getNumeroBloque())
+                .horaInicio(bloque.getHoraInicio())
+                .horaFin(bloque.getHoraFin())
+                .tipo(bloque.getTipo())
+                .activo(true)
+                .build());
+        }
+        return copia;
+    }
+}
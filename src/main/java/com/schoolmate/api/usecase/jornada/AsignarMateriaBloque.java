@@ -1,5 +1,9 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.BloqueCumplimiento;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
 import com.schoolmate.api.entity.BloqueHorario;
@@ -34,6 +38,9 @@ public class AsignarMateriaBloque {
     private final MateriaRepository materiaRepository;
     private final MallaCurricularRepository mallaCurricularRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public BloqueHorarioResponse execute(UUID cursoId, UUID bloqueId, UUID materiaId) {
@@ -108,6 +115,13 @@ public class AsignarMateriaBloque {
         bloque.asignarMateria(materia);
         bloque.limpiarProfesorSiNoEnsenaMateria();
         BloqueHorario saved = bloqueHorarioRepository.save(bloque);
+        if (bloque.getProfesor() != null) {
+            cumplimientoDiaCache.asignarProfesor(anoEscolarId, bloque.getDiaSemana(), BloqueCumplimiento.from(bloque));
+        } else {
+            cumplimientoDiaCache.quitarBloque(anoEscolarId, bloque.getDiaSemana(), bloque.getId());
+        }
+        indiceHorarioProfesores.actualizarBloque(anoEscolarId, bloque);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
         return buildResponse(saved);
     }
 
@@ -1,5 +1,9 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.BloqueCumplimiento;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
 import com.schoolmate.api.entity.BloqueHorario;
@@ -30,6 +34,9 @@ public class AsignarProfesorBloque {
     private final CursoRepository cursoRepository;
     private final ProfesorRepository profesorRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public BloqueHorarioResponse execute(UUID cursoId, UUID bloqueId, UUID profesorId) {
@@ -120,6 +127,9 @@ public class AsignarProfesorBloque {
 
         bloque.asignarProfesor(profesor);
         bloqueHorarioRepository.save(bloque);
+        cumplimientoDiaCache.asignarProfesor(anoEscolarId, bloque.getDiaSemana(), BloqueCumplimiento.from(bloque));
+        indiceHorarioProfesores.actualizarBloque(anoEscolarId, bloque);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
 
         return buildResponse(bloque);
     }
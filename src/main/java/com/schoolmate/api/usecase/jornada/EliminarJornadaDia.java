@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.entity.Curso;
 import com.schoolmate.api.enums.EstadoAnoEscolar;
@@ -20,6 +23,9 @@ public class EliminarJornadaDia {
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final CursoRepository cursoRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public void execute(UUID cursoId, Integer diaSemana) {
@@ -38,5 +44,8 @@ public class EliminarJornadaDia {
         if (desactivados == 0) {
             throw new BusinessException("No hay jornada configurada para el día " + diaSemana + " en este curso");
         }
+        cumplimientoDiaCache.quitarBloquesCurso(curso.getAnoEscolar().getId(), cursoId, diaSemana);
+        indiceHorarioProfesores.quitarBloquesCurso(curso.getAnoEscolar().getId(), cursoId, diaSemana);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
     }
 }
@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.BloqueRequest;
 import com.schoolmate.api.dto.request.JornadaDiaRequest;
@@ -32,6 +35,9 @@ public class GuardarJornadaDia {
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final CursoRepository cursoRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
 
     private static final LocalTime HORA_MINIMA = LocalTime.of(7, 0);
     private static final LocalTime HORA_MAXIMA = LocalTime.of(18, 0);
@@ -53,12 +59,22 @@ public class GuardarJornadaDia {
             throw new BusinessException("No se puede modificar la jornada de un año escolar cerrado");
         }
 
-        validarDiaSemana(diaSemana);
+        List<BloqueHorario> nuevosBloques = construirBloques(curso, diaSemana, request.getBloques());
+        bloqueHorarioRepository.desactivarBloquesDia(cursoId, diaSemana);
 
-        List<BloqueRequest> bloques = request.getBloques();
-        validarBloques(bloques);
+        List<BloqueHorario> guardados = bloqueHorarioRepository.saveAll(nuevosBloques);
+        cumplimientoDiaCache.quitarBloquesCurso(curso.getAnoEscolar().getId(), cursoId, diaSemana);
+        indiceHorarioProfesores.quitarBloquesCurso(curso.getAnoEscolar().getId(), cursoId, diaSemana);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+        return construirJornadaDiaResponse(diaSemana, guardados);
+    }
 
-        bloqueHorarioRepository.desactivarBloquesDia(cursoId, diaSemana);
+    /**
+     * Valida la jornada de un día y arma sus bloques (sin materia ni profesor), todavía sin persistir.
+     */
+    public List<BloqueHorario> construirBloques(Curso curso, Integer diaSemana, List<BloqueRequest> bloques) {
+        validarDiaSemana(diaSemana);
+        validarBloques(bloques);
 
         List<BloqueHorario> nuevosBloques = new ArrayList<>();
         for (BloqueRequest bloqueRequest : bloques) {
@@ -75,9 +91,7 @@ public class GuardarJornadaDia {
                 .build();
             nuevosBloques.add(bloque);
         }
-
-        List<BloqueHorario> guardados = bloqueHorarioRepository.saveAll(nuevosBloques);
-        return construirJornadaDiaResponse(diaSemana, guardados);
+        return nuevosBloques;
     }
 
     public JornadaDiaResponse construirJornadaDiaResponse(Integer diaSemana, List<BloqueHorario> bloques) {
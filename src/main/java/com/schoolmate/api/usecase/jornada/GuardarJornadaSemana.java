@@ -0,0 +1,69 @@
+package com.schoolmate.api.usecase.jornada;
+
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.EscrituraBloquesHorario;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.request.JornadaDiaRequest;
+import com.schoolmate.api.dto.request.JornadaSemanaRequest;
+import com.schoolmate.api.dto.response.JornadaCursoResponse;
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.CursoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Reemplaza la jornada de los cinco días de un curso en una sola escritura. Cada día se valida con las reglas
+ * de {@link GuardarJornadaDia}; los días que no vienen en la solicitud quedan sin jornada.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuardarJornadaSemana {
+
+    private static final int PRIMER_DIA = 1;
+    private static final int ULTIMO_DIA = 5;
+
+    private final CursoRepository cursoRepository;
+    private final GuardarJornadaDia guardarJornadaDia;
+    private final ObtenerJornadaCurso obtenerJornadaCurso;
+    private final EscrituraBloquesHorario escrituraBloques;
+    private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
+
+    @Transactional
+    public JornadaCursoResponse execute(UUID cursoId, JornadaSemanaRequest request) {
+        Curso curso = cursoRepository.findByIdWithGradoAndAnoEscolar(cursoId)
+            .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado: " + cursoId));
+
+        if (curso.getAnoEscolar().calcularEstado(clockProvider.today()) == EstadoAnoEscolar.CERRADO) {
+            throw new BusinessException("No se puede modificar la jornada de un año escolar cerrado");
+        }
+
+        List<BloqueHorario> bloques = new ArrayList<>();
+        for (Map.Entry<Integer, JornadaDiaRequest> dia : new TreeMap<>(request.getDias()).entrySet()) {
+            bloques.addAll(guardarJornadaDia.construirBloques(curso, dia.getKey(), dia.getValue().getBloques()));
+        }
+
+        escrituraBloques.reemplazar(List.of(cursoId), bloques, clockProvider.now());
+        for (int dia = PRIMER_DIA; dia <= ULTIMO_DIA; dia++) {
+            cumplimientoDiaCache.quitarBloquesCurso(curso.getAnoEscolar().getId(), cursoId, dia);
+        }
+        indiceHorarioProfesores.quitarBloquesCursos(curso.getAnoEscolar().getId(), List.of(cursoId));
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+        return obtenerJornadaCurso.ensamblar(curso, bloques);
+    }
+}
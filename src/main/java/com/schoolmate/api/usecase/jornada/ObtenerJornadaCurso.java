@@ -54,6 +54,14 @@ public class ObtenerJornadaCurso {
                 .findActivosByCursoIdWithMateriaAndProfesorOrderByDiaSemanaAscNumeroBloqueAsc(cursoId);
         }
 
+        return ensamblar(curso, todosBloques);
+    }
+
+    /**
+     * Arma la jornada a partir de bloques activos ordenados por día y número de bloque.
+     */
+    public JornadaCursoResponse ensamblar(Curso curso, List<BloqueHorario> todosBloques) {
+        UUID cursoId = curso.getId();
         Map<Integer, List<BloqueHorario>> porDia = todosBloques.stream()
             .collect(Collectors.groupingBy(BloqueHorario::getDiaSemana, TreeMap::new, Collectors.toList()));
 
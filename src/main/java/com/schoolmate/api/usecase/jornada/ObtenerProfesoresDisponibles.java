@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.jornada.HorarioProfesoresAno;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.jornada.OcupacionProfesor;
 import com.schoolmate.api.dto.response.ConflictoHorarioResponse;
 import com.schoolmate.api.dto.response.ProfesorDisponibleResponse;
 import com.schoolmate.api.dto.response.ProfesoresDisponiblesResponse;
@@ -17,13 +20,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -32,6 +31,7 @@ public class ObtenerProfesoresDisponibles {
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final CursoRepository cursoRepository;
     private final ProfesorRepository profesorRepository;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
 
     @Transactional(readOnly = true)
     public ProfesoresDisponiblesResponse execute(UUID cursoId, UUID bloqueId) {
@@ -61,32 +61,16 @@ public class ObtenerProfesoresDisponibles {
         UUID anoEscolarId = curso.getAnoEscolar().getId();
 
         List<Profesor> profesores = profesorRepository.findByActivoTrueAndMaterias_Id(materiaId);
-        Set<UUID> profesorIds = profesores.stream().map(Profesor::getId).collect(Collectors.toSet());
-        List<BloqueHorario> bloquesProfesores = profesorIds.isEmpty()
-            ? Collections.emptyList()
-            : bloqueHorarioRepository.findBloquesClaseProfesoresEnAnoEscolarConProfesor(profesorIds, anoEscolarId);
-
-        Map<UUID, Long> minutosPorProfesor = bloquesProfesores.stream()
-            .collect(Collectors.groupingBy(
-                b -> b.getProfesor().getId(),
-                Collectors.summingLong(b -> Duration.between(b.getHoraInicio(), b.getHoraFin()).toMinutes())
-            ));
-        Map<UUID, List<BloqueHorario>> colisionesPorProfesor = profesorIds.isEmpty()
-            ? Collections.emptyMap()
-            : bloqueHorarioRepository.findColisionesProfesoresConCursoYMateria(
-                profesorIds,
-                bloque.getDiaSemana(),
-                bloque.getHoraInicio(),
-                bloque.getHoraFin(),
-                anoEscolarId,
-                bloque.getId()
-            ).stream().collect(Collectors.groupingBy(b -> b.getProfesor().getId()));
+        HorarioProfesoresAno horario = profesores.isEmpty() ? null : indiceHorarioProfesores.obtener(anoEscolarId);
 
         List<ProfesorDisponibleResponse> profesorResponses = profesores.stream()
             .map(profesor -> {
-                List<BloqueHorario> colisionesConDetalle = colisionesPorProfesor.getOrDefault(
+                List<OcupacionProfesor> colisiones = horario.colisiones(
                     profesor.getId(),
-                    Collections.emptyList()
+                    bloque.getDiaSemana(),
+                    bloque.getHoraInicio(),
+                    bloque.getHoraFin(),
+                    bloque.getId()
                 );
 
                 boolean esProfesorActualDelBloque = bloque.getProfesor() != null
@@ -95,20 +79,19 @@ public class ObtenerProfesoresDisponibles {
                 ConflictoHorarioResponse conflicto = null;
                 boolean disponible = true;
 
-                if (!colisionesConDetalle.isEmpty()) {
-                    BloqueHorario bloqueConflicto = colisionesConDetalle.get(0);
+                if (!colisiones.isEmpty()) {
+                    OcupacionProfesor bloqueConflicto = colisiones.get(0);
                     conflicto = ConflictoHorarioResponse.builder()
-                        .cursoNombre(bloqueConflicto.getCurso().getNombre())
-                        .materiaNombre(bloqueConflicto.getMateria() != null
-                            ? bloqueConflicto.getMateria().getNombre() : null)
-                        .horaInicio(bloqueConflicto.getHoraInicio().toString())
-                        .horaFin(bloqueConflicto.getHoraFin().toString())
-                        .bloqueId(bloqueConflicto.getId())
+                        .cursoNombre(bloqueConflicto.cursoNombre())
+                        .materiaNombre(bloqueConflicto.materiaNombre())
+                        .horaInicio(bloqueConflicto.horaInicio().toString())
+                        .horaFin(bloqueConflicto.horaFin().toString())
+                        .bloqueId(bloqueConflicto.bloqueId())
                         .build();
                     disponible = false;
                 }
 
-                int horasAsignadas = (int) Math.ceil(minutosPorProfesor.getOrDefault(profesor.getId(), 0L) / 45.0);
+                int horasAsignadas = (int) Math.ceil(horario.minutosAsignados(profesor.getId()) / 45.0);
                 Integer horasContrato = profesor.getHorasPedagogicasContrato();
                 boolean excedido = horasContrato != null && horasAsignadas >= horasContrato;
 
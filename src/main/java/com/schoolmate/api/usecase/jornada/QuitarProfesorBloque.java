@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
 import com.schoolmate.api.entity.BloqueHorario;
@@ -26,6 +29,9 @@ public class QuitarProfesorBloque {
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final CursoRepository cursoRepository;
     private final ClockProvider clockProvider;
+    private final CumplimientoDiaCache cumplimientoDiaCache;
+    private final IndiceHorarioProfesores indiceHorarioProfesores;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public BloqueHorarioResponse execute(UUID cursoId, UUID bloqueId) {
@@ -56,6 +62,9 @@ public class QuitarProfesorBloque {
 
         bloque.quitarProfesor();
         bloqueHorarioRepository.save(bloque);
+        cumplimientoDiaCache.quitarBloque(curso.getAnoEscolar().getId(), bloque.getDiaSemana(), bloque.getId());
+        indiceHorarioProfesores.quitarBloque(curso.getAnoEscolar().getId(), bloque.getId());
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
 
         return BloqueHorarioResponse.builder()
             .id(bloque.getId())
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.response.MallaCurricularResponse;
 import com.schoolmate.api.entity.MallaCurricular;
 import com.schoolmate.api.exception.ResourceNotFoundException;
@@ -15,6 +17,8 @@ import java.util.UUID;
 public class ActualizarMallaCurricular {
 
     private final MallaCurricularRepository mallaCurricularRepository;
+    private final CatalogoCache catalogoCache;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public MallaCurricularResponse execute(UUID id, Integer horasPedagogicas, Boolean activo) {
@@ -24,6 +28,8 @@ public class ActualizarMallaCurricular {
         existente.actualizarConfiguracion(horasPedagogicas, activo);
 
         MallaCurricular guardada = mallaCurricularRepository.save(existente);
+        catalogoCache.invalidarMalla(existente.getAnoEscolar().getId());
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.MALLA_ANO_ESCOLAR, existente.getAnoEscolar().getId());
         return MallaCurricularMapper.toResponse(guardada);
     }
 }
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.MallaCurricularRequest;
 import com.schoolmate.api.dto.response.MallaCurricularResponse;
@@ -32,6 +34,8 @@ public class CrearMallaCurricular {
     private final GradoRepository gradoRepository;
     private final AnoEscolarRepository anoEscolarRepository;
     private final ClockProvider clockProvider;
+    private final CatalogoCache catalogoCache;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public MallaCurricularResponse execute(UUID anoEscolarId, MallaCurricularRequest request) {
@@ -64,6 +68,8 @@ public class CrearMallaCurricular {
             .build();
 
         MallaCurricular guardada = mallaCurricularRepository.save(nueva);
+        catalogoCache.invalidarMalla(anoEscolarId);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.MALLA_ANO_ESCOLAR, anoEscolarId);
         return MallaCurricularMapper.toResponse(guardada);
     }
 
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.entity.MallaCurricular;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.MallaCurricularRepository;
@@ -14,6 +16,8 @@ import java.util.UUID;
 public class EliminarMallaCurricular {
 
     private final MallaCurricularRepository mallaCurricularRepository;
+    private final CatalogoCache catalogoCache;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public void execute(UUID id) {
@@ -22,5 +26,7 @@ public class EliminarMallaCurricular {
 
         existente.desactivar();
         mallaCurricularRepository.save(existente);
+        catalogoCache.invalidarMalla(existente.getAnoEscolar().getId());
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.MALLA_ANO_ESCOLAR, existente.getAnoEscolar().getId());
     }
 }
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.MallaCurricularBulkRequest;
 import com.schoolmate.api.dto.response.MallaCurricularResponse;
@@ -38,6 +40,8 @@ public class GuardarMallaCurricularBulk {
     private final GradoRepository gradoRepository;
     private final AnoEscolarRepository anoEscolarRepository;
     private final ClockProvider clockProvider;
+    private final CatalogoCache catalogoCache;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public List<MallaCurricularResponse> execute(UUID anoEscolarId, MallaCurricularBulkRequest request) {
@@ -106,6 +110,8 @@ public class GuardarMallaCurricularBulk {
         }
 
         mallaCurricularRepository.saveAll(aPersistir);
+        catalogoCache.invalidarMalla(anoEscolarId);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.MALLA_ANO_ESCOLAR, anoEscolarId);
 
         return mallaCurricularRepository.findByMateriaIdAndAnoEscolarId(request.getMateriaId(), anoEscolarId).stream()
             .map(MallaCurricularMapper::toResponse)
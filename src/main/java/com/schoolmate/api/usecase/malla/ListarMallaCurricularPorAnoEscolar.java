@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.dto.response.MallaCurricularPageResponse;
 import com.schoolmate.api.repository.MallaCurricularRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +16,17 @@ import java.util.UUID;
 public class ListarMallaCurricularPorAnoEscolar {
 
     private final MallaCurricularRepository mallaCurricularRepository;
+    private final CatalogoCache catalogoCache;
 
     @Transactional(readOnly = true)
     public MallaCurricularPageResponse execute(UUID anoEscolarId, int page, int size) {
         int safePage = Math.max(page, 0);
         int safeSize = Math.max(1, Math.min(size, 100));
+        return catalogoCache.obtenerMallaPorAnoEscolar(
+            anoEscolarId, safePage, safeSize, () -> cargar(anoEscolarId, safePage, safeSize));
+    }
+
+    private MallaCurricularPageResponse cargar(UUID anoEscolarId, int safePage, int safeSize) {
         var sort = Sort.by(
             Sort.Order.asc("grado.nivel"),
             Sort.Order.asc("materia.nombre")
@@ -44,5 +51,4 @@ public class ListarMallaCurricularPorAnoEscolar {
             .hasPrevious(pageResult.hasPrevious())
             .build();
     }
-
 }
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.materia;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.MateriaRequest;
 import com.schoolmate.api.dto.response.MateriaResponse;
 import com.schoolmate.api.exception.ResourceNotFoundException;
@@ -15,6 +17,8 @@ import java.util.UUID;
 public class ActualizarMateria {
 
     private final MateriaRepository materiaRepository;
+    private final CatalogoCache catalogoCache;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public MateriaResponse execute(UUID id, MateriaRequest request) {
@@ -23,6 +27,8 @@ public class ActualizarMateria {
 
         existente.actualizarDatos(request.getNombre(), request.getIcono());
 
+        catalogoCache.invalidarMaterias();
+        revisionAgregados.incrementarReferencias();
         return MateriaResponse.fromEntity(materiaRepository.save(existente));
     }
 }
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.materia;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.dto.request.MateriaRequest;
 import com.schoolmate.api.dto.response.MateriaResponse;
 import com.schoolmate.api.entity.Materia;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CrearMateria {
 
     private final MateriaRepository materiaRepository;
+    private final CatalogoCache catalogoCache;
 
     @Transactional
     public MateriaResponse execute(MateriaRequest request) {
@@ -21,6 +23,7 @@ public class CrearMateria {
             .icono(request.getIcono())
             .build();
 
+        catalogoCache.invalidarMaterias();
         return MateriaResponse.fromEntity(materiaRepository.save(materia));
     }
 }
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.materia;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.entity.MallaCurricular;
 import com.schoolmate.api.entity.Materia;
 import com.schoolmate.api.exception.ConflictException;
@@ -25,6 +27,8 @@ public class EliminarMateria {
     private final MallaCurricularRepository mallaCurricularRepository;
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final AsistenciaClaseRepository asistenciaClaseRepository;
+    private final CatalogoCache catalogoCache;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public void execute(UUID id) {
@@ -63,5 +67,7 @@ public class EliminarMateria {
         profesorRepository.deleteProfesorMateriaByMateriaId(id);
         materia.setActivo(false);
         materiaRepository.save(materia);
+        catalogoCache.invalidarMaterias();
+        revisionAgregados.incrementarReferencias();
     }
 }
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.materia;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.dto.response.MateriaPageResponse;
 import com.schoolmate.api.dto.response.MateriaResponse;
 import com.schoolmate.api.repository.MateriaRepository;
@@ -19,6 +20,7 @@ public class ListarMaterias {
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("nombre", "createdAt", "updatedAt", "id");
 
     private final MateriaRepository materiaRepository;
+    private final CatalogoCache catalogoCache;
 
     @Transactional(readOnly = true)
     public MateriaPageResponse execute(Integer page, Integer size, String sortBy, String sortDir) {
@@ -27,6 +29,13 @@ public class ListarMaterias {
         String resolvedSortBy = ALLOWED_SORT_FIELDS.contains(sortBy) ? sortBy : "nombre";
         Sort.Direction direction = "asc".equalsIgnoreCase(sortDir) ? Sort.Direction.ASC : Sort.Direction.DESC;
 
+        return catalogoCache.obtenerMaterias(
+            new CatalogoCache.ConsultaPagina(resolvedPage, resolvedSize, resolvedSortBy, direction.name()),
+            () -> cargar(resolvedPage, resolvedSize, resolvedSortBy, direction)
+        );
+    }
+
+    private MateriaPageResponse cargar(int resolvedPage, int resolvedSize, String resolvedSortBy, Sort.Direction direction) {
         var materiasPage = materiaRepository.findByActivoTrue(
             PageRequest.of(resolvedPage, resolvedSize, Sort.by(direction, resolvedSortBy))
         );
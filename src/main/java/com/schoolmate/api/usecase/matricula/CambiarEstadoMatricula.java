@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.matricula;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.response.MatriculaResponse;
 import com.schoolmate.api.entity.Matricula;
 import com.schoolmate.api.enums.EstadoMatricula;
@@ -19,6 +20,7 @@ import java.util.UUID;
 public class CambiarEstadoMatricula {
 
     private final MatriculaRepository matriculaRepository;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public MatriculaResponse execute(UUID matriculaId, String nuevoEstadoRaw) {
@@ -50,6 +52,7 @@ public class CambiarEstadoMatricula {
 
         matricula.cambiarEstado(nuevoEstado);
         Matricula saved = matriculaRepository.save(matricula);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.MATRICULAS_CURSO, matricula.getCurso().getId());
         return MatriculaResponse.fromEntity(saved);
     }
 }
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.matricula;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.MatriculaRequest;
 import com.schoolmate.api.dto.response.MatriculaResponse;
@@ -31,6 +32,7 @@ public class MatricularAlumno {
     private final AnoEscolarRepository anoEscolarRepository;
     private final MatriculaRepository matriculaRepository;
     private final ClockProvider clockProvider;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public MatriculaResponse execute(MatriculaRequest request, UUID anoEscolarId) {
@@ -74,6 +76,7 @@ public class MatricularAlumno {
                 .build();
 
         Matricula saved = matriculaRepository.save(matricula);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.MATRICULAS_CURSO, curso.getId());
         return MatriculaResponse.fromEntity(saved);
     }
 }
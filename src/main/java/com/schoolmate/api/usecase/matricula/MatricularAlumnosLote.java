@@ -0,0 +1,96 @@
+package com.schoolmate.api.usecase.matricula;
+
+import com.schoolmate.api.common.matricula.InsercionMatriculasLote;
+import com.schoolmate.api.common.revision.RevisionAgregados;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.request.MatriculaLoteRequest;
+import com.schoolmate.api.dto.response.MatriculaLoteResponse;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AlumnoRepository;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import com.schoolmate.api.repository.MatriculaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Matricula varios alumnos en un mismo curso con las reglas de {@link MatricularAlumno}, en un número fijo de
+ * consultas: curso y año, alumnos activos, matrículas ACTIVA ya existentes y un {@code INSERT ... SELECT}.
+ * Los alumnos inexistentes/inactivos o ya matriculados en el año se informan y no detienen al resto.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatricularAlumnosLote {
+
+    private final CursoRepository cursoRepository;
+    private final AnoEscolarRepository anoEscolarRepository;
+    private final AlumnoRepository alumnoRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final InsercionMatriculasLote insercionMatriculas;
+    private final ClockProvider clockProvider;
+    private final RevisionAgregados revisionAgregados;
+
+    @Transactional
+    public MatriculaLoteResponse execute(MatriculaLoteRequest request, UUID anoEscolarId) {
+        Curso curso = cursoRepository.findByIdWithGradoAndAnoEscolar(request.getCursoId())
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+
+        AnoEscolar anoEscolar = anoEscolarRepository.findById(anoEscolarId)
+                .orElseThrow(() -> new ResourceNotFoundException("Año escolar no encontrado"));
+
+        if (anoEscolar.calcularEstado(clockProvider.today()) == EstadoAnoEscolar.CERRADO) {
+            throw new BusinessException("No se pueden crear matrículas en un año escolar cerrado");
+        }
+        if (!curso.getAnoEscolar().getId().equals(anoEscolar.getId())) {
+            throw new BusinessException("El curso no pertenece al año escolar indicado");
+        }
+
+        Set<UUID> solicitados = new LinkedHashSet<>(request.getAlumnoIds());
+        Set<UUID> activos = new HashSet<>(alumnoRepository.findIdsActivosByIdIn(solicitados));
+        Set<UUID> conMatricula = new HashSet<>(
+                matriculaRepository.findAlumnoIdsConMatriculaActiva(solicitados, anoEscolar.getId()));
+
+        List<UUID> noEncontrados = new ArrayList<>();
+        List<UUID> yaMatriculados = new ArrayList<>();
+        List<UUID> candidatos = new ArrayList<>();
+        for (UUID alumnoId : solicitados) {
+            if (!activos.contains(alumnoId)) {
+                noEncontrados.add(alumnoId);
+            } else if (conMatricula.contains(alumnoId)) {
+                yaMatriculados.add(alumnoId);
+            } else {
+                candidatos.add(alumnoId);
+            }
+        }
+
+        LocalDate fechaMatricula = request.getFechaMatricula() != null && !request.getFechaMatricula().isBlank()
+                ? LocalDate.parse(request.getFechaMatricula())
+                : clockProvider.today();
+        int matriculados = insercionMatriculas.matricularAlumnos(
+                candidatos, curso.getId(), anoEscolar.getId(), fechaMatricula, clockProvider.now());
+        if (matriculados > 0) {
+            revisionAgregados.incrementar(RevisionAgregados.Agregado.MATRICULAS_CURSO, curso.getId());
+        }
+
+        return MatriculaLoteResponse.builder()
+                .cursoId(curso.getId())
+                .solicitados(solicitados.size())
+                .matriculados(matriculados)
+                .yaMatriculados(yaMatriculados)
+                .noEncontrados(noEncontrados)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.schoolmate.api.usecase.matricula;
+
+import com.schoolmate.api.dto.response.PromocionAnoEscolarResponse;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.PromocionAnoEscolarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ObtenerPromocionAnoEscolar {
+
+    private final PromocionAnoEscolarRepository promocionRepository;
+
+    @Transactional(readOnly = true)
+    public PromocionAnoEscolarResponse execute(UUID promocionId) {
+        return promocionRepository.findById(promocionId)
+                .map(PromocionAnoEscolarResponse::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Promoción no encontrada"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.schoolmate.api.usecase.matricula;
+
+import com.schoolmate.api.common.matricula.EjecutorPromocion;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.request.PromocionAnoEscolarRequest;
+import com.schoolmate.api.dto.response.PromocionAnoEscolarResponse;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.PromocionAnoEscolar;
+import com.schoolmate.api.enums.EstadoAnoEscolar;
+import com.schoolmate.api.enums.EstadoPromocion;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ConflictException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.PromocionAnoEscolarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Registra la promoción del año origen al año destino y la deja encolada en {@link EjecutorPromocion}; el avance
+ * se consulta con {@link ObtenerPromocionAnoEscolar}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PromoverAnoEscolar {
+
+    private final AnoEscolarRepository anoEscolarRepository;
+    private final PromocionAnoEscolarRepository promocionRepository;
+    private final EjecutorPromocion ejecutorPromocion;
+    private final ClockProvider clockProvider;
+
+    @Transactional
+    public PromocionAnoEscolarResponse execute(PromocionAnoEscolarRequest request) {
+        AnoEscolar origen = anoEscolarRepository.findById(request.getAnoOrigenId())
+                .orElseThrow(() -> new ResourceNotFoundException("Año escolar de origen no encontrado"));
+        AnoEscolar destino = anoEscolarRepository.findById(request.getAnoDestinoId())
+                .orElseThrow(() -> new ResourceNotFoundException("Año escolar de destino no encontrado"));
+
+        if (destino.getAno() <= origen.getAno()) {
+            throw new BusinessException("El año escolar de destino debe ser posterior al de origen");
+        }
+        if (destino.calcularEstado(clockProvider.today()) == EstadoAnoEscolar.CERRADO) {
+            throw new BusinessException("No se pueden crear matrículas en un año escolar cerrado");
+        }
+        if (promocionRepository.existsByAnoDestinoIdAndEstadoIn(destino.getId(), EjecutorPromocion.ESTADOS_ACTIVOS)) {
+            throw new ConflictException("Ya hay una promoción en curso hacia el año " + destino.getAno());
+        }
+
+        int cursosTotal = ejecutorPromocion.planificar(origen.getId(), destino.getId()).size();
+        if (cursosTotal == 0) {
+            throw new BusinessException("El año escolar de origen no tiene cursos activos");
+        }
+
+        LocalDate fechaMatricula = request.getFechaMatricula() != null && !request.getFechaMatricula().isBlank()
+                ? LocalDate.parse(request.getFechaMatricula())
+                : destino.getFechaInicio();
+
+        PromocionAnoEscolar promocion = promocionRepository.save(PromocionAnoEscolar.builder()
+                .anoOrigenId(origen.getId())
+                .anoDestinoId(destino.getId())
+                .estado(EstadoPromocion.PENDIENTE)
+                .fechaMatricula(fechaMatricula)
+                .cursosTotal(cursosTotal)
+                .build());
+        ejecutorPromocion.programar(promocion.getId());
+        return PromocionAnoEscolarResponse.fromEntity(promocion);
+    }
+}
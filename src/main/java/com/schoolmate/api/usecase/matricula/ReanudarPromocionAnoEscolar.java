@@ -0,0 +1,32 @@
+package com.schoolmate.api.usecase.matricula;
+
+import com.schoolmate.api.common.matricula.EjecutorPromocion;
+import com.schoolmate.api.dto.response.PromocionAnoEscolarResponse;
+import com.schoolmate.api.entity.PromocionAnoEscolar;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.PromocionAnoEscolarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Vuelve a encolar una promoción FALLIDA; continúa desde el último curso confirmado.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReanudarPromocionAnoEscolar {
+
+    private final PromocionAnoEscolarRepository promocionRepository;
+    private final EjecutorPromocion ejecutorPromocion;
+
+    @Transactional
+    public PromocionAnoEscolarResponse execute(UUID promocionId) {
+        PromocionAnoEscolar promocion = promocionRepository.findByIdForUpdate(promocionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Promoción no encontrada"));
+        promocion.reanudar();
+        ejecutorPromocion.programar(promocion.getId());
+        return PromocionAnoEscolarResponse.fromEntity(promocion);
+    }
+}
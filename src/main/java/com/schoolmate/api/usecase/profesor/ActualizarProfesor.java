@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.profesor;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.rut.RutNormalizer;
 import com.schoolmate.api.common.rut.RutValidationService;
 import com.schoolmate.api.dto.request.ProfesorRequest;
@@ -30,6 +31,7 @@ public class ActualizarProfesor {
     private final ProfesorRepository profesorRepository;
     private final MateriaRepository materiaRepository;
     private final RutValidationService rutValidationService;
+    private final RevisionAgregados revisionAgregados;
 
     @Transactional
     public ProfesorResponse execute(UUID id, ProfesorRequest request) {
@@ -57,6 +59,7 @@ public class ActualizarProfesor {
         );
 
         Profesor saved = profesorRepository.save(profesor);
+        revisionAgregados.incrementarReferencias();
         Profesor profesorConMaterias = profesorRepository.findByIdWithMaterias(saved.getId())
             .orElseThrow(() -> new ResourceNotFoundException("Profesor no encontrado"));
         return ProfesorResponse.fromEntity(profesorConMaterias);
@@ -1,18 +1,17 @@
 package com.schoolmate.api.usecase.profesor;
 
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.ClaseHoyResponse;
 import com.schoolmate.api.dto.response.ClasesHoyResponse;
 import com.schoolmate.api.dto.response.DiaNoLectivoResponse;
 import com.schoolmate.api.dto.response.EstadoClaseHoy;
 import com.schoolmate.api.entity.BloqueHorario;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.enums.EstadoMatricula;
-import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
-import com.schoolmate.api.repository.AnoEscolarRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import com.schoolmate.api.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +19,6 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
@@ -39,11 +37,10 @@ public class ObtenerClasesHoyProfesor {
     private static final DateTimeFormatter FORMATO_HORA = DateTimeFormatter.ofPattern("HH:mm");
 
     private final ClockProvider clockProvider;
-    private final AnoEscolarRepository anoEscolarRepository;
+    private final CalendarioEscolar calendarioEscolar;
     private final BloqueHorarioRepository bloqueHorarioRepository;
     private final MatriculaRepository matriculaRepository;
     private final AsistenciaClaseRepository asistenciaClaseRepository;
-    private final DiaNoLectivoRepository diaNoLectivoRepository;
 
     @Transactional(readOnly = true)
     public ClasesHoyResponse execute(UserPrincipal principal, UUID anoEscolarId) {
@@ -55,20 +52,17 @@ public class ObtenerClasesHoyProfesor {
         LocalDate today = clockProvider.today();
         int diaSemana = today.getDayOfWeek().getValue();
 
-        if (diaSemana >= DayOfWeek.SATURDAY.getValue()) {
+        if (CalendarioAnoEscolar.esFinDeSemana(today)) {
             return buildVacio(today, diaSemana);
         }
 
-        var anoEscolar = anoEscolarRepository.findById(anoEscolarId)
-            .orElseThrow(() -> new ResourceNotFoundException("Año escolar no encontrado"));
-
-        DiaNoLectivoResponse diaNoLectivo = diaNoLectivoRepository
-            .findByAnoEscolarIdAndFecha(anoEscolar.getId(), today)
+        DiaNoLectivoResponse diaNoLectivo = calendarioEscolar.obtener(anoEscolarId)
+            .diaNoLectivo(today)
             .map(this::mapDiaNoLectivo)
             .orElse(null);
 
         List<BloqueHorario> bloques = bloqueHorarioRepository.findClasesProfesorEnDia(
-            profesorId, diaSemana, anoEscolar.getId());
+            profesorId, diaSemana, anoEscolarId);
 
         if (bloques.isEmpty()) {
             return ClasesHoyResponse.builder()
@@ -149,12 +143,12 @@ public class ObtenerClasesHoyProfesor {
             .build();
     }
 
-    private DiaNoLectivoResponse mapDiaNoLectivo(DiaNoLectivo diaNoLectivo) {
+    private DiaNoLectivoResponse mapDiaNoLectivo(DiaNoLectivoCalendario diaNoLectivo) {
         return DiaNoLectivoResponse.builder()
-            .id(diaNoLectivo.getId())
-            .fecha(diaNoLectivo.getFecha())
-            .tipo(diaNoLectivo.getTipo().name())
-            .descripcion(diaNoLectivo.getDescripcion())
+            .id(diaNoLectivo.id())
+            .fecha(diaNoLectivo.fecha())
+            .tipo(diaNoLectivo.tipo().name())
+            .descripcion(diaNoLectivo.descripcion())
             .build();
     }
 
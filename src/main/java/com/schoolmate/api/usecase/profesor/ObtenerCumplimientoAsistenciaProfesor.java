@@ -1,6 +1,9 @@
 package com.schoolmate.api.usecase.profesor;
 
 import com.schoolmate.api.common.CumplimientoCalculator;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.CumplimientoAsistenciaResponse;
 import com.schoolmate.api.dto.response.CumplimientoAsistenciaResponse.BloqueCumplimiento;
@@ -9,7 +12,6 @@ import com.schoolmate.api.dto.response.CumplimientoAsistenciaResponse.ResumenAsi
 import com.schoolmate.api.dto.response.CumplimientoAsistenciaResponse.ResumenCumplimiento;
 import com.schoolmate.api.entity.AsistenciaClase;
 import com.schoolmate.api.entity.BloqueHorario;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.entity.Profesor;
 import com.schoolmate.api.enums.EstadoAsistencia;
 import com.schoolmate.api.enums.EstadoCumplimiento;
@@ -17,7 +19,6 @@ import com.schoolmate.api.enums.EstadoMatricula;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import com.schoolmate.api.repository.ProfesorRepository;
 import com.schoolmate.api.repository.RegistroAsistenciaRepository;
@@ -48,7 +49,7 @@ public class ObtenerCumplimientoAsistenciaProfesor {
     private final AsistenciaClaseRepository asistenciaClaseRepository;
     private final RegistroAsistenciaRepository registroAsistenciaRepository;
     private final MatriculaRepository matriculaRepository;
-    private final DiaNoLectivoRepository diaNoLectivoRepository;
+    private final CalendarioEscolar calendarioEscolar;
 
     @Transactional(readOnly = true)
     public CumplimientoAsistenciaResponse execute(UUID profesorId, LocalDate fecha, UUID anoEscolarId) {
@@ -60,12 +61,12 @@ public class ObtenerCumplimientoAsistenciaProfesor {
         int diaSemana = dayOfWeek.getValue();
         String nombreDia = nombreDia(dayOfWeek);
 
-        if (diaSemana > DayOfWeek.FRIDAY.getValue()) {
+        if (CalendarioAnoEscolar.esFinDeSemana(fecha)) {
             return buildResponseVacia(profesor, fecha, diaSemana, nombreDia, false, null);
         }
 
-        DiaNoLectivoInfo diaNoLectivoInfo = diaNoLectivoRepository
-            .findByAnoEscolarIdAndFecha(anoEscolarId, fecha)
+        DiaNoLectivoInfo diaNoLectivoInfo = calendarioEscolar.obtener(anoEscolarId)
+            .diaNoLectivo(fecha)
             .map(this::mapDiaNoLectivoInfo)
             .orElse(null);
 
@@ -214,10 +215,10 @@ public class ObtenerCumplimientoAsistenciaProfesor {
         return resumen;
     }
 
-    private DiaNoLectivoInfo mapDiaNoLectivoInfo(DiaNoLectivo diaNoLectivo) {
+    private DiaNoLectivoInfo mapDiaNoLectivoInfo(DiaNoLectivoCalendario diaNoLectivo) {
         return DiaNoLectivoInfo.builder()
-            .tipo(diaNoLectivo.getTipo().name())
-            .descripcion(diaNoLectivo.getDescripcion())
+            .tipo(diaNoLectivo.tipo().name())
+            .descripcion(diaNoLectivo.descripcion())
             .build();
     }
 
@@ -37,15 +37,11 @@ public class ObtenerSesionesProfesor {
 
         LocalDateTime desdeDateTime = desde != null ? desde.atStartOfDay() : null;
         LocalDateTime hastaDateTime = hasta != null ? hasta.plusDays(1).atStartOfDay() : null;
-        boolean aplicarDesde = desdeDateTime != null;
-        boolean aplicarHasta = hastaDateTime != null;
 
         var sesionesPage = sesionUsuarioRepository.findByUsuarioIdAndFechas(
             usuario.getId(),
-            aplicarDesde,
-            aplicarDesde ? desdeDateTime : FECHA_DESDE_SIN_FILTRO,
-            aplicarHasta,
-            aplicarHasta ? hastaDateTime : FECHA_HASTA_SIN_FILTRO,
+            desdeDateTime != null ? desdeDateTime : FECHA_DESDE_SIN_FILTRO,
+            hastaDateTime != null ? hastaDateTime : FECHA_HASTA_SIN_FILTRO,
             PageRequest.of(page, size)
         );
 
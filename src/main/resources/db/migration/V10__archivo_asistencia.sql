@@ -0,0 +1,62 @@
+-- ============================================================
+-- V10__archivo_asistencia.sql
+-- Archivo compacto de la asistencia de anos escolares cerrados.
+-- Por curso se guarda la lista de sesiones (fechas de clase) y
+-- por alumno y curso un mapa de 2 bits por sesion; las filas de
+-- asistencia_clase/registro_asistencia del curso se eliminan en
+-- la misma transaccion. archivo_asistencia_ano lleva el avance
+-- del proceso en segundo plano (cursos_procesados = reanudacion).
+-- ============================================================
+
+CREATE TABLE archivo_asistencia_ano (
+    ano_escolar_id        uuid NOT NULL,
+    estado                varchar(20) NOT NULL DEFAULT 'PENDIENTE',
+    cursos_total          integer NOT NULL DEFAULT 0,
+    cursos_procesados     integer NOT NULL DEFAULT 0,
+    registros_archivados  bigint NOT NULL DEFAULT 0,
+    ultimo_error          varchar(500),
+    created_at            timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at            timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finalizado_en         timestamp,
+    CONSTRAINT archivo_asistencia_ano_pkey PRIMARY KEY (ano_escolar_id),
+    CONSTRAINT fk_archivo_asistencia_ano_ano_escolar FOREIGN KEY (ano_escolar_id) REFERENCES ano_escolar(id),
+    CONSTRAINT chk_archivo_asistencia_ano_estado CHECK (estado IN ('PENDIENTE', 'EN_CURSO', 'COMPLETADO', 'FALLIDO'))
+);
+CREATE INDEX idx_archivo_asistencia_ano_estado ON archivo_asistencia_ano (estado);
+
+-- sesiones: 2 bytes por clase con los dias desde fecha_base, en orden (fecha, hora_inicio).
+CREATE TABLE archivo_asistencia_curso (
+    curso_id         uuid NOT NULL,
+    ano_escolar_id   uuid NOT NULL,
+    fecha_base       date NOT NULL,
+    total_sesiones   integer NOT NULL,
+    sesiones         bytea NOT NULL,
+    CONSTRAINT archivo_asistencia_curso_pkey PRIMARY KEY (curso_id),
+    CONSTRAINT fk_archivo_asistencia_curso_curso FOREIGN KEY (curso_id) REFERENCES curso(id),
+    CONSTRAINT fk_archivo_asistencia_curso_ano_escolar FOREIGN KEY (ano_escolar_id) REFERENCES ano_escolar(id)
+);
+CREATE INDEX idx_archivo_asistencia_curso_ano ON archivo_asistencia_curso (ano_escolar_id);
+
+-- estados: 2 bits por sesion del curso (0 sin registro, 1 PRESENTE, 2 AUSENTE).
+CREATE TABLE archivo_asistencia_alumno (
+    alumno_id        uuid NOT NULL,
+    curso_id         uuid NOT NULL,
+    ano_escolar_id   uuid NOT NULL,
+    estados          bytea NOT NULL,
+    total_presente   integer NOT NULL,
+    total_ausente    integer NOT NULL,
+    CONSTRAINT archivo_asistencia_alumno_pkey PRIMARY KEY (alumno_id, curso_id),
+    CONSTRAINT fk_archivo_asistencia_alumno_alumno FOREIGN KEY (alumno_id) REFERENCES alumno(id),
+    CONSTRAINT fk_archivo_asistencia_alumno_curso FOREIGN KEY (curso_id) REFERENCES archivo_asistencia_curso(curso_id)
+);
+CREATE INDEX idx_archivo_asistencia_alumno_ano ON archivo_asistencia_alumno (alumno_id, ano_escolar_id);
+
+CREATE TABLE archivo_asistencia_observacion (
+    alumno_id     uuid NOT NULL,
+    curso_id      uuid NOT NULL,
+    sesion        integer NOT NULL,
+    observacion   varchar(500) NOT NULL,
+    CONSTRAINT archivo_asistencia_observacion_pkey PRIMARY KEY (alumno_id, curso_id, sesion),
+    CONSTRAINT fk_archivo_asistencia_observacion_alumno FOREIGN KEY (alumno_id, curso_id)
+        REFERENCES archivo_asistencia_alumno(alumno_id, curso_id)
+);
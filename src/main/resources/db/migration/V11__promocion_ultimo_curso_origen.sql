@@ -0,0 +1,11 @@
+-- ============================================================
+-- V11__promocion_ultimo_curso_origen.sql
+-- La promocion se retoma despues del ultimo curso origen
+-- procesado (orden nivel, letra, id) en vez de por indice: si
+-- los cursos del ano origen cambian entre un intento y otro, el
+-- indice del plan recalculado apuntaria a otro curso.
+-- ============================================================
+
+ALTER TABLE promocion_ano_escolar ADD COLUMN ultimo_curso_origen_id uuid;
+ALTER TABLE promocion_ano_escolar ADD CONSTRAINT fk_promocion_ultimo_curso_origen
+    FOREIGN KEY (ultimo_curso_origen_id) REFERENCES curso(id);
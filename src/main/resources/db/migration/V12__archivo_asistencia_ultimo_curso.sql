@@ -0,0 +1,12 @@
+-- ============================================================
+-- V12__archivo_asistencia_ultimo_curso.sql
+-- El archivado de asistencia se retoma despues del ultimo curso
+-- archivado (orden por id) en vez de por indice, igual que la
+-- promocion en V11: si los cursos del ano cambian entre un
+-- intento y otro, el indice del plan recalculado apuntaria a
+-- otro curso.
+-- ============================================================
+
+ALTER TABLE archivo_asistencia_ano ADD COLUMN ultimo_curso_id uuid;
+ALTER TABLE archivo_asistencia_ano ADD CONSTRAINT fk_archivo_asistencia_ano_ultimo_curso
+    FOREIGN KEY (ultimo_curso_id) REFERENCES curso(id);
@@ -0,0 +1,29 @@
+-- ============================================================
+-- V4__resumen_asistencia_alumno.sql
+-- Agregado de asistencia por alumno y año escolar para el
+-- resumen del portal de apoderados. Se mantiene al guardar
+-- asistencia y se reconstruye desde registro_asistencia.
+-- ============================================================
+
+CREATE TABLE resumen_asistencia_alumno (
+    alumno_id         uuid NOT NULL,
+    ano_escolar_id    uuid NOT NULL,
+    total_presente    integer NOT NULL DEFAULT 0,
+    total_ausente     integer NOT NULL DEFAULT 0,
+    CONSTRAINT resumen_asistencia_alumno_pkey PRIMARY KEY (alumno_id, ano_escolar_id),
+    CONSTRAINT fk_resumen_asistencia_alumno_alumno FOREIGN KEY (alumno_id) REFERENCES alumno(id),
+    CONSTRAINT fk_resumen_asistencia_alumno_ano_escolar FOREIGN KEY (ano_escolar_id) REFERENCES ano_escolar(id)
+);
+CREATE INDEX idx_resumen_asistencia_alumno_ano ON resumen_asistencia_alumno (ano_escolar_id);
+
+-- Backfill con la asistencia ya registrada
+INSERT INTO resumen_asistencia_alumno (alumno_id, ano_escolar_id, total_presente, total_ausente)
+SELECT ra.alumno_id,
+       c.ano_escolar_id,
+       COUNT(*) FILTER (WHERE ra.estado = 'PRESENTE'),
+       COUNT(*) FILTER (WHERE ra.estado = 'AUSENTE')
+FROM registro_asistencia ra
+JOIN asistencia_clase ac ON ac.id = ra.asistencia_clase_id
+JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+JOIN curso c ON c.id = bh.curso_id
+GROUP BY ra.alumno_id, c.ano_escolar_id;
@@ -0,0 +1,137 @@
+-- ============================================================
+-- V5__particiones_auditoria_sesiones.sql
+-- evento_auditoria y sesion_usuario pasan a particiones
+-- mensuales por created_at (RANGE). Cada tabla tiene además una
+-- partición DEFAULT para filas fuera de los meses creados (p. ej.
+-- con el reloj de desarrollo adelantado). La creación de meses
+-- futuros y la retención las hace MantenimientoParticiones.
+-- ============================================================
+
+CREATE SCHEMA IF NOT EXISTS archivo;
+
+-- Crea la partición mensual de `tabla` que contiene `mes` si no existe.
+-- Si la DEFAULT ya tiene filas de ese mes, las mueve a la partición nueva.
+CREATE OR REPLACE FUNCTION crear_particion_mensual(tabla text, mes date)
+RETURNS text
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    inicio    date := date_trunc('month', mes)::date;
+    fin       date := (date_trunc('month', mes) + interval '1 month')::date;
+    particion text := format('%s_p%s', tabla, to_char(inicio, 'YYYY_MM'));
+BEGIN
+    IF to_regclass(particion) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', particion, tabla);
+    EXECUTE format(
+        'WITH movidas AS (DELETE FROM %I WHERE created_at >= %L AND created_at < %L RETURNING *) '
+            || 'INSERT INTO %I SELECT * FROM movidas',
+        tabla || '_default', inicio, fin, particion
+    );
+    EXECUTE format(
+        'ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        tabla, particion, inicio, fin
+    );
+    RETURN particion;
+END;
+$$;
+
+-- ------------------------------------------------------------
+-- evento_auditoria
+-- ------------------------------------------------------------
+ALTER TABLE evento_auditoria RENAME TO evento_auditoria_legacy;
+ALTER TABLE evento_auditoria_legacy RENAME CONSTRAINT evento_auditoria_pkey TO evento_auditoria_legacy_pkey;
+DROP INDEX idx_evento_auditoria_usuario;
+DROP INDEX idx_evento_auditoria_created;
+DROP INDEX idx_evento_auditoria_usuario_created;
+DROP INDEX idx_evento_auditoria_metodo;
+DROP INDEX idx_evento_auditoria_endpoint;
+DROP INDEX idx_evento_auditoria_request_body;
+
+CREATE TABLE evento_auditoria (
+    id                uuid DEFAULT gen_random_uuid() NOT NULL,
+    usuario_id        uuid NOT NULL,
+    usuario_email     varchar(255) NOT NULL,
+    usuario_rol       varchar(20) NOT NULL,
+    metodo_http       varchar(10) NOT NULL,
+    endpoint          varchar(500) NOT NULL,
+    request_body      jsonb,
+    response_status   integer NOT NULL,
+    ip_address        varchar(45),
+    ano_escolar_id    uuid,
+    created_at        timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT evento_auditoria_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_evento_auditoria_usuario FOREIGN KEY (usuario_id) REFERENCES usuario(id)
+) PARTITION BY RANGE (created_at);
+-- idx_evento_auditoria_usuario se omite: usuario_created cubre los mismos accesos por usuario_id.
+CREATE INDEX idx_evento_auditoria_created ON evento_auditoria (created_at DESC);
+CREATE INDEX idx_evento_auditoria_usuario_created ON evento_auditoria (usuario_id, created_at DESC);
+CREATE INDEX idx_evento_auditoria_metodo ON evento_auditoria (metodo_http);
+CREATE INDEX idx_evento_auditoria_endpoint ON evento_auditoria (endpoint);
+CREATE INDEX idx_evento_auditoria_request_body ON evento_auditoria USING gin (request_body);
+
+CREATE TABLE evento_auditoria_default PARTITION OF evento_auditoria DEFAULT;
+
+-- ------------------------------------------------------------
+-- sesion_usuario
+-- ------------------------------------------------------------
+ALTER TABLE sesion_usuario RENAME TO sesion_usuario_legacy;
+ALTER TABLE sesion_usuario_legacy RENAME CONSTRAINT sesion_usuario_pkey TO sesion_usuario_legacy_pkey;
+DROP INDEX idx_sesion_usuario_usuario;
+DROP INDEX idx_sesion_usuario_created;
+DROP INDEX idx_sesion_usuario_usuario_created;
+
+CREATE TABLE sesion_usuario (
+    id                uuid DEFAULT gen_random_uuid() NOT NULL,
+    usuario_id        uuid NOT NULL,
+    ip_address        varchar(45),
+    latitud           numeric(10,7),
+    longitud          numeric(10,7),
+    precision_metros  numeric(8,2),
+    user_agent        varchar(500),
+    created_at        timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT sesion_usuario_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_sesion_usuario_usuario FOREIGN KEY (usuario_id) REFERENCES usuario(id)
+) PARTITION BY RANGE (created_at);
+CREATE INDEX idx_sesion_usuario_created ON sesion_usuario (created_at DESC);
+CREATE INDEX idx_sesion_usuario_usuario_created ON sesion_usuario (usuario_id, created_at DESC);
+
+CREATE TABLE sesion_usuario_default PARTITION OF sesion_usuario DEFAULT;
+
+-- ------------------------------------------------------------
+-- Meses con datos y los 3 siguientes al actual, luego copia
+-- ------------------------------------------------------------
+DO $$
+DECLARE
+    tabla text;
+    desde date;
+    mes   date;
+BEGIN
+    FOREACH tabla IN ARRAY ARRAY['evento_auditoria', 'sesion_usuario'] LOOP
+        EXECUTE format('SELECT min(created_at)::date FROM %I', tabla || '_legacy') INTO desde;
+        mes := date_trunc('month', least(coalesce(desde, current_date), current_date))::date;
+        WHILE mes <= (date_trunc('month', current_date) + interval '3 months')::date LOOP
+            PERFORM crear_particion_mensual(tabla, mes);
+            mes := (mes + interval '1 month')::date;
+        END LOOP;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO evento_auditoria (id, usuario_id, usuario_email, usuario_rol, metodo_http, endpoint,
+    request_body, response_status, ip_address, ano_escolar_id, created_at)
+SELECT id, usuario_id, usuario_email, usuario_rol, metodo_http, endpoint,
+    request_body, response_status, ip_address, ano_escolar_id, created_at
+FROM evento_auditoria_legacy;
+
+INSERT INTO sesion_usuario (id, usuario_id, ip_address, latitud, longitud, precision_metros, user_agent, created_at)
+SELECT id, usuario_id, ip_address, latitud, longitud, precision_metros, user_agent, created_at
+FROM sesion_usuario_legacy;
+
+DROP TABLE evento_auditoria_legacy;
+DROP TABLE sesion_usuario_legacy;
+
+ANALYZE evento_auditoria;
+ANALYZE sesion_usuario;
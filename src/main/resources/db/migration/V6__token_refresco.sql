@@ -0,0 +1,34 @@
+-- ============================================================
+-- V6__token_refresco.sql
+-- Refresh tokens por dispositivo. Solo se guarda el SHA-256 del
+-- token; cada login abre una familia y cada refresh rota dentro
+-- de ella. Reemplaza la columna usuario.refresh_token.
+-- ============================================================
+
+CREATE TABLE token_refresco (
+    id                uuid DEFAULT gen_random_uuid() NOT NULL,
+    usuario_id        uuid NOT NULL,
+    token_hash        varchar(64) NOT NULL,
+    familia_id        uuid NOT NULL,
+    dispositivo       varchar(500),
+    created_at        timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expira_en         timestamp NOT NULL,
+    usado_en          timestamp,
+    CONSTRAINT token_refresco_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_token_refresco_usuario FOREIGN KEY (usuario_id) REFERENCES usuario(id) ON DELETE CASCADE
+);
+CREATE UNIQUE INDEX ux_token_refresco_hash ON token_refresco (token_hash);
+CREATE INDEX idx_token_refresco_familia ON token_refresco (familia_id);
+CREATE INDEX idx_token_refresco_usuario ON token_refresco (usuario_id);
+CREATE INDEX idx_token_refresco_expira ON token_refresco (expira_en);
+
+-- Las sesiones vigentes se conservan como una familia por usuario
+INSERT INTO token_refresco (usuario_id, token_hash, familia_id, expira_en)
+SELECT id,
+       encode(sha256(convert_to(refresh_token, 'UTF8')), 'hex'),
+       gen_random_uuid(),
+       CURRENT_TIMESTAMP + interval '30 days'
+FROM usuario
+WHERE refresh_token IS NOT NULL;
+
+ALTER TABLE usuario DROP COLUMN refresh_token;
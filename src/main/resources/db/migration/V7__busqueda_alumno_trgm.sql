@@ -0,0 +1,30 @@
+-- Búsqueda de alumnos por nombre/RUT con índices de trigramas.
+-- El buscador admin filtraba con lower(nombre) LIKE '%q%' y rut LIKE '%digitos%', sin índice posible:
+-- cada tecla recorría toda la tabla alumno.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() es STABLE (depende del diccionario y del search_path), por eso no sirve directo en una
+-- columna generada. El envoltorio fija diccionario y search_path y se declara IMMUTABLE.
+-- Se incluye el esquema extensions para instalaciones (Supabase) donde las extensiones viven ahí.
+CREATE OR REPLACE FUNCTION normalizar_busqueda(texto text)
+    RETURNS text
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+    STRICT
+    SET search_path = public, extensions, pg_catalog
+AS $$
+    SELECT lower(unaccent('unaccent'::regdictionary, texto))
+$$;
+
+ALTER TABLE alumno
+    ADD COLUMN nombre_busqueda varchar(201)
+        GENERATED ALWAYS AS (normalizar_busqueda(nombre || ' ' || apellido)::varchar(201)) STORED,
+    ADD COLUMN rut_digitos varchar(20)
+        GENERATED ALWAYS AS (regexp_replace(rut, '[^0-9]', '', 'g')::varchar(20)) STORED;
+
+-- gin_trgm_ops sirve tanto al operador <% (similitud por palabra) como a LIKE '%...%'.
+CREATE INDEX idx_alumno_nombre_busqueda_trgm ON alumno USING gin (nombre_busqueda gin_trgm_ops);
+CREATE INDEX idx_alumno_rut_digitos_trgm ON alumno USING gin (rut_digitos gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Filtro por curso/grado del listado de alumnos.
+-- El listado traía todas las matrículas del curso o grado y luego filtraba alumno.id IN (...) con la lista
+-- completa; ahora es un EXISTS correlacionado sobre matricula que este índice resuelve sin leer la tabla
+-- (ano_escolar_id y estado por igualdad, curso_id para el filtro por curso, alumno_id para la correlación).
+CREATE INDEX idx_matricula_ano_estado_curso_alumno
+    ON matricula (ano_escolar_id, estado, curso_id, alumno_id);
+
+-- Queda cubierto por el prefijo del índice anterior.
+DROP INDEX IF EXISTS idx_matricula_ano_escolar;
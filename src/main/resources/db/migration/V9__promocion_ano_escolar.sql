@@ -0,0 +1,29 @@
+-- ============================================================
+-- V9__promocion_ano_escolar.sql
+-- Avance de la promocion anual de matriculas (ano N -> N+1).
+-- cursos_procesados es el punto de reanudacion del proceso en
+-- segundo plano; a lo mas una promocion activa por ano destino.
+-- ============================================================
+
+CREATE TABLE promocion_ano_escolar (
+    id                  uuid DEFAULT gen_random_uuid() NOT NULL,
+    ano_origen_id       uuid NOT NULL,
+    ano_destino_id      uuid NOT NULL,
+    estado              varchar(20) NOT NULL DEFAULT 'PENDIENTE',
+    fecha_matricula     date NOT NULL,
+    cursos_total        integer NOT NULL DEFAULT 0,
+    cursos_procesados   integer NOT NULL DEFAULT 0,
+    cursos_sin_destino  integer NOT NULL DEFAULT 0,
+    matriculas_creadas  integer NOT NULL DEFAULT 0,
+    ultimo_error        varchar(500),
+    created_at          timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at          timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finalizada_en       timestamp,
+    CONSTRAINT promocion_ano_escolar_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_promocion_ano_origen FOREIGN KEY (ano_origen_id) REFERENCES ano_escolar(id),
+    CONSTRAINT fk_promocion_ano_destino FOREIGN KEY (ano_destino_id) REFERENCES ano_escolar(id),
+    CONSTRAINT chk_promocion_estado CHECK (estado IN ('PENDIENTE', 'EN_CURSO', 'COMPLETADA', 'FALLIDA'))
+);
+CREATE UNIQUE INDEX ux_promocion_ano_destino_activa ON promocion_ano_escolar (ano_destino_id)
+    WHERE estado IN ('PENDIENTE', 'EN_CURSO');
+CREATE INDEX idx_promocion_estado ON promocion_ano_escolar (estado);
@@ -0,0 +1,106 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.entity.ArchivoAsistenciaAno;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.enums.EstadoArchivoAsistencia;
+import com.schoolmate.api.repository.ArchivoAsistenciaAnoRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EjecutorArchivoAsistenciaTest {
+
+    private static final UUID ANO_ID = UUID.randomUUID();
+    private static final UUID CURSO_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID CURSO_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CURSO_3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID CURSO_4 = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    @Mock
+    private ArchivoAsistenciaAnoRepository archivoRepository;
+    @Mock
+    private CursoRepository cursoRepository;
+    @Mock
+    private ArchivoAsistencia archivoAsistencia;
+    @Mock
+    private ClockProvider clockProvider;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EjecutorArchivoAsistencia ejecutor;
+
+    @BeforeEach
+    void setUp() {
+        ejecutor = new EjecutorArchivoAsistencia(
+            archivoRepository, cursoRepository, archivoAsistencia, clockProvider, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ejecutor.detener();
+    }
+
+    @Test
+    void planificar_despuesDeUnCurso_soloDevuelveLosDeIdMayor() {
+        when(cursoRepository.findByAnoEscolarIdOrderByNombreAsc(ANO_ID))
+            .thenReturn(cursos(CURSO_3, CURSO_1, CURSO_4, CURSO_2));
+
+        assertThat(ejecutor.planificar(ANO_ID)).containsExactly(CURSO_1, CURSO_2, CURSO_3, CURSO_4);
+        assertThat(ejecutor.planificar(ANO_ID, CURSO_2)).containsExactly(CURSO_3, CURSO_4);
+    }
+
+    @Test
+    void procesar_reanudado_siguePorElUltimoCursoArchivadoAunqueCambieElPlan() {
+        // Se archivaron 1 y 2; entretanto el curso 1 ya no aparece en el plan. Con un índice sobre el plan
+        // recalculado (cursosProcesados = 2) se saltaría el curso 3.
+        ArchivoAsistenciaAno archivo = ArchivoAsistenciaAno.builder()
+            .anoEscolarId(ANO_ID)
+            .estado(EstadoArchivoAsistencia.PENDIENTE)
+            .cursosTotal(4)
+            .cursosProcesados(2)
+            .ultimoCursoId(CURSO_2)
+            .registrosArchivados(20)
+            .build();
+        when(archivoRepository.findById(ANO_ID)).thenReturn(Optional.of(archivo));
+        when(archivoRepository.findByIdForUpdate(ANO_ID)).thenReturn(Optional.of(archivo));
+        when(cursoRepository.findByAnoEscolarIdOrderByNombreAsc(ANO_ID))
+            .thenReturn(cursos(CURSO_2, CURSO_3, CURSO_4));
+        when(archivoAsistencia.archivarCurso(eq(ANO_ID), any(UUID.class))).thenReturn(10L);
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 1, 20, 3, 0));
+
+        ejecutor.procesar(ANO_ID);
+
+        verify(archivoAsistencia).archivarCurso(ANO_ID, CURSO_3);
+        verify(archivoAsistencia).archivarCurso(ANO_ID, CURSO_4);
+        verify(archivoAsistencia, never()).archivarCurso(ANO_ID, CURSO_2);
+        assertThat(archivo.getEstado()).isEqualTo(EstadoArchivoAsistencia.COMPLETADO);
+        assertThat(archivo.getCursosProcesados()).isEqualTo(4);
+        assertThat(archivo.getCursosTotal()).isEqualTo(4);
+        assertThat(archivo.getUltimoCursoId()).isEqualTo(CURSO_4);
+        assertThat(archivo.getRegistrosArchivados()).isEqualTo(40);
+    }
+
+    private static List<Curso> cursos(UUID... ids) {
+        return Arrays.stream(ids).map(id -> Curso.builder().id(id).build()).toList();
+    }
+}
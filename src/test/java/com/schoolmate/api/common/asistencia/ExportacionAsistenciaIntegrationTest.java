@@ -0,0 +1,197 @@
+package com.schoolmate.api.common.asistencia;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportacion-asistencia;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.exportacion.asistencia.fetch-size=2"
+    }
+)
+@ActiveProfiles("dev")
+class ExportacionAsistenciaIntegrationTest {
+
+    private static final List<String> TABLAS = List.of(
+        "registro_asistencia", "asistencia_clase", "bloque_horario", "alumno", "curso", "materia", "grado",
+        "ano_escolar");
+
+    private static final LocalDateTime CREADO = LocalDateTime.of(2026, 1, 5, 8, 0);
+    private static final LocalDate LUNES = LocalDate.of(2026, 3, 2);
+    private static final LocalDate MARTES = LUNES.plusDays(1);
+
+    private static final String ENCABEZADO =
+        "fecha;curso;bloque;hora_inicio;hora_fin;materia;rut;apellido;nombre;estado;observacion";
+
+    @Autowired private ExportacionAsistencia exportacion;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID anoId;
+    private UUID cursoA;
+    private UUID cursoB;
+
+    @BeforeEach
+    void setUp() {
+        anoId = ano(2026);
+        UUID anoAnterior = ano(2025);
+        UUID grado = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO grado (id, nombre, nivel, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            grado, "1° Básico", 1, CREADO, CREADO);
+        UUID matematica = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO materia (id, nombre, activo, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            matematica, "Matemática", true, CREADO, CREADO);
+
+        cursoA = curso(grado, anoId, "A");
+        cursoB = curso(grado, anoId, "B");
+        UUID cursoAnterior = curso(grado, anoAnterior, "A");
+
+        UUID rojas = alumno("11111111-1", "Andrea", "Rojas");
+        UUID munoz = alumno("22222222-2", "Pedro", "Muñoz");
+        UUID soto = alumno("33333333-3", "Carla", "Soto");
+
+        UUID aPrimero = bloque(cursoA, 1, LocalTime.of(8, 0), matematica);
+        UUID aSegundo = bloque(cursoA, 2, LocalTime.of(8, 45), null);
+        UUID bPrimero = bloque(cursoB, 1, LocalTime.of(8, 0), matematica);
+        UUID anteriorPrimero = bloque(cursoAnterior, 1, LocalTime.of(8, 0), matematica);
+
+        // Se insertan desordenadas para que el orden del CSV salga de la consulta.
+        registro(clase(aPrimero, MARTES), rojas, "PRESENTE", null);
+        registro(clase(bPrimero, LUNES), soto, "PRESENTE", "Llega tarde; con pase");
+        UUID segundoLunes = clase(aSegundo, LUNES);
+        registro(segundoLunes, rojas, "PRESENTE", null);
+        registro(segundoLunes, munoz, "AUSENTE", null);
+        UUID primeroLunes = clase(aPrimero, LUNES);
+        registro(primeroLunes, rojas, "AUSENTE", "=HYPERLINK(\"x\")");
+        registro(primeroLunes, munoz, "PRESENTE", null);
+        registro(clase(aPrimero, LUNES.plusWeeks(1)), rojas, "PRESENTE", null);
+        registro(clase(anteriorPrimero, LUNES), munoz, "PRESENTE", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TABLAS.forEach(tabla -> jdbcTemplate.update("DELETE FROM " + tabla));
+    }
+
+    @Test
+    void escribirCsv_todoElAno_escribeLasFilasEnOrdenDeFechaCursoHoraYAlumno() {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        long filas = exportacion.escribirCsv(anoId, null, LUNES, MARTES, salida);
+
+        assertThat(filas).isEqualTo(6);
+        assertThat(lineas(salida)).containsExactly(
+            ENCABEZADO,
+            "2026-03-02;1° Básico A;1;08:00;08:45;Matemática;22222222-2;Muñoz;Pedro;PRESENTE;",
+            "2026-03-02;1° Básico A;1;08:00;08:45;Matemática;11111111-1;Rojas;Andrea;AUSENTE;\"'=HYPERLINK(\"\"x\"\")\"",
+            "2026-03-02;1° Básico A;2;08:45;09:30;;22222222-2;Muñoz;Pedro;AUSENTE;",
+            "2026-03-02;1° Básico A;2;08:45;09:30;;11111111-1;Rojas;Andrea;PRESENTE;",
+            "2026-03-02;1° Básico B;1;08:00;08:45;Matemática;33333333-3;Soto;Carla;PRESENTE;\"Llega tarde; con pase\"",
+            "2026-03-03;1° Básico A;1;08:00;08:45;Matemática;11111111-1;Rojas;Andrea;PRESENTE;");
+    }
+
+    @Test
+    void escribirCsv_unCursoYUnDia_soloEscribeEsasFilas() {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        long filas = exportacion.escribirCsv(anoId, cursoB, LUNES, LUNES, salida);
+
+        assertThat(filas).isEqualTo(1);
+        assertThat(lineas(salida)).containsExactly(
+            ENCABEZADO,
+            "2026-03-02;1° Básico B;1;08:00;08:45;Matemática;33333333-3;Soto;Carla;PRESENTE;\"Llega tarde; con pase\"");
+    }
+
+    @Test
+    void escribirCsv_sinRegistrosEnElRango_soloEscribeElEncabezado() {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        long filas = exportacion.escribirCsv(anoId, cursoA, LUNES.minusWeeks(1), LUNES.minusDays(1), salida);
+
+        assertThat(filas).isZero();
+        assertThat(salida.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF" + ENCABEZADO + "\r\n");
+    }
+
+    private static List<String> lineas(ByteArrayOutputStream salida) {
+        String csv = salida.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF").endsWith("\r\n");
+        return List.of(csv.substring(1, csv.length() - 2).split("\r\n"));
+    }
+
+    private UUID ano(int ano) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO ano_escolar (id, ano, fecha_inicio_planificacion, fecha_inicio, fecha_fin, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, id, ano, LocalDate.of(ano, 1, 1), LocalDate.of(ano, 3, 2), LocalDate.of(ano, 12, 18), CREADO, CREADO);
+        return id;
+    }
+
+    private UUID curso(UUID gradoId, UUID anoEscolarId, String letra) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO curso (id, grado_id, ano_escolar_id, letra, nombre, activo, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """, id, gradoId, anoEscolarId, letra, "1° Básico " + letra, true, CREADO, CREADO);
+        return id;
+    }
+
+    private UUID alumno(String rut, String nombre, String apellido) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO alumno (id, rut, nombre, apellido, fecha_nacimiento, activo, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """, id, rut, nombre, apellido, LocalDate.of(2019, 5, 10), true, CREADO, CREADO);
+        return id;
+    }
+
+    private UUID bloque(UUID cursoId, int numero, LocalTime inicio, UUID materiaId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO bloque_horario (id, curso_id, dia_semana, numero_bloque, hora_inicio, hora_fin, tipo,
+                                        materia_id, activo, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, id, cursoId, 1, numero, inicio, inicio.plusMinutes(45), "CLASE", materiaId, true, CREADO, CREADO);
+        return id;
+    }
+
+    private UUID clase(UUID bloqueId, LocalDate fecha) {
+        UUID id = UUID.randomUUID();
+        LocalDateTime tomada = fecha.atTime(9, 0);
+        jdbcTemplate.update(
+            "INSERT INTO asistencia_clase (id, bloque_horario_id, fecha, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            id, bloqueId, fecha, tomada, tomada);
+        return id;
+    }
+
+    private void registro(UUID claseId, UUID alumnoId, String estado, String observacion) {
+        jdbcTemplate.update("""
+            INSERT INTO registro_asistencia (id, asistencia_clase_id, alumno_id, estado, observacion, created_at,
+                                             updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, UUID.randomUUID(), claseId, alumnoId, estado, observacion, CREADO, CREADO);
+    }
+}
@@ -0,0 +1,53 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.enums.EstadoAsistencia;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MarcasAsistenciaTest {
+
+    @Test
+    void marcar_guardaDosBitsPorSesionYSobrescribe() {
+        MarcasAsistencia marcas = new MarcasAsistencia(9);
+        marcas.marcar(0, EstadoAsistencia.PRESENTE);
+        marcas.marcar(3, EstadoAsistencia.AUSENTE);
+        marcas.marcar(4, EstadoAsistencia.AUSENTE);
+        marcas.marcar(8, EstadoAsistencia.PRESENTE);
+        marcas.marcar(4, EstadoAsistencia.PRESENTE);
+
+        MarcasAsistencia leidas = MarcasAsistencia.de(marcas.bytes(), 9);
+
+        assertThat(marcas.bytes()).hasSize(3);
+        assertThat(leidas.estado(0)).isEqualTo(EstadoAsistencia.PRESENTE);
+        assertThat(leidas.estado(1)).isNull();
+        assertThat(leidas.estado(3)).isEqualTo(EstadoAsistencia.AUSENTE);
+        assertThat(leidas.estado(4)).isEqualTo(EstadoAsistencia.PRESENTE);
+        assertThat(leidas.estado(8)).isEqualTo(EstadoAsistencia.PRESENTE);
+        assertThat(leidas.contar(EstadoAsistencia.PRESENTE)).isEqualTo(3);
+        assertThat(leidas.contar(EstadoAsistencia.AUSENTE)).isEqualTo(1);
+    }
+
+    @Test
+    void de_conLargoQueNoCorrespondeALasSesiones_lanzaIllegalArgument() {
+        assertThatThrownBy(() -> MarcasAsistencia.de(new byte[2], 9))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sesiones_seCodificanComoDiasDesdeLaFechaBase() {
+        LocalDate base = LocalDate.of(2025, 3, 3);
+        List<LocalDate> fechas = List.of(base, base, base.plusDays(1), LocalDate.of(2025, 12, 19));
+
+        byte[] codificadas = MarcasAsistencia.codificarSesiones(base, fechas);
+
+        assertThat(codificadas).hasSize(8);
+        assertThat(MarcasAsistencia.decodificarSesiones(base, codificadas)).containsExactlyElementsOf(fechas);
+        assertThatThrownBy(() -> MarcasAsistencia.codificarSesiones(base, List.of(base.minusDays(1))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
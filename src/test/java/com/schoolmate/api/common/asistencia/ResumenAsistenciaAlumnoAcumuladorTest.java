@@ -0,0 +1,92 @@
+package com.schoolmate.api.common.asistencia;
+
+import com.schoolmate.api.enums.EstadoAsistencia;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ResumenAsistenciaAlumnoAcumuladorTest {
+
+    private static final UUID ANO_ID = UUID.fromString("00000000-0000-0000-0000-000000002026");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ResumenAsistenciaAlumnoAcumulador acumulador;
+
+    @Test
+    void calcularDeltas_conAltasBajasYCambios_retornaSoloDiferencias() {
+        UUID nuevo = UUID.randomUUID();
+        UUID quitado = UUID.randomUUID();
+        UUID cambiado = UUID.randomUUID();
+        UUID igual = UUID.randomUUID();
+
+        List<ResumenAsistenciaAlumnoAcumulador.Delta> deltas = ResumenAsistenciaAlumnoAcumulador.calcularDeltas(
+            ANO_ID,
+            Map.of(
+                quitado, EstadoAsistencia.PRESENTE,
+                cambiado, EstadoAsistencia.AUSENTE,
+                igual, EstadoAsistencia.PRESENTE
+            ),
+            Map.of(
+                nuevo, EstadoAsistencia.AUSENTE,
+                cambiado, EstadoAsistencia.PRESENTE,
+                igual, EstadoAsistencia.PRESENTE
+            )
+        );
+
+        assertThat(deltas).containsExactlyInAnyOrder(
+            new ResumenAsistenciaAlumnoAcumulador.Delta(nuevo, ANO_ID, 0, 1),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(quitado, ANO_ID, -1, 0),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(cambiado, ANO_ID, 1, -1)
+        );
+    }
+
+    @Test
+    void acumular_conDeltasDelMismoAlumno_losCombinaEnUnaFila() {
+        UUID alumnoA = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+        UUID alumnoB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+        acumulador.acumular(List.of(
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumnoB, ANO_ID, 1, 0),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumnoA, ANO_ID, 1, 0),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumnoA, ANO_ID, 1, -1)
+        ));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> filas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), filas.capture());
+        assertThat(filas.getValue()).containsExactly(
+            new Object[] {alumnoA, ANO_ID, 2, -1},
+            new Object[] {alumnoB, ANO_ID, 1, 0}
+        );
+    }
+
+    @Test
+    void acumular_conDeltasQueSeAnulan_noEscribe() {
+        UUID alumno = UUID.randomUUID();
+
+        acumulador.acumular(List.of(
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumno, ANO_ID, 1, -1),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumno, ANO_ID, -1, 1)
+        ));
+        acumulador.acumular(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,122 @@
+package com.schoolmate.api.common.auditoria;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditoriaBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private MotorBaseDatos motorBaseDatos;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void registrar_sinIniciar_escribeEnElMismoHilo() {
+        AuditoriaBatchWriter writer = writer(10, 3);
+
+        writer.registrar(evento("{\"cursoId\":\"1\"}"));
+
+        ArgumentCaptor<List<Object[]>> filas = filasCaptor();
+        verify(jdbcTemplate).batchUpdate(anyString(), filas.capture());
+        assertThat(filas.getValue()).hasSize(1);
+        assertThat(filas.getValue().getFirst()[6]).isEqualTo("{\"cursoId\":\"1\"}");
+        assertThat(writer.estadisticas().escritos()).isEqualTo(1);
+    }
+
+    @Test
+    void stop_conEventosEncolados_losPersisteEnLotes() {
+        AuditoriaBatchWriter writer = writer(100, 2);
+        writer.start();
+
+        for (int i = 0; i < 5; i++) {
+            writer.registrar(evento(null));
+        }
+        writer.stop();
+
+        ArgumentCaptor<List<Object[]>> filas = filasCaptor();
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), filas.capture());
+        assertThat(filas.getAllValues()).allSatisfy(lote -> assertThat(lote).hasSizeLessThanOrEqualTo(2));
+        assertThat(filas.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(5);
+        assertThat(writer.estadisticas().encolados()).isEqualTo(5);
+        assertThat(writer.estadisticas().escritos()).isEqualTo(5);
+        assertThat(writer.estadisticas().pendientes()).isZero();
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    @Test
+    void escribirLote_conErrorDeBaseDeDatos_cuentaFallidosSinPropagar() {
+        AuditoriaBatchWriter writer = writer(10, 10);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new DataAccessResourceFailureException("sin conexion"));
+
+        writer.registrar(evento(null));
+
+        assertThat(writer.estadisticas().fallidos()).isEqualTo(1);
+        assertThat(writer.estadisticas().escritos()).isZero();
+    }
+
+    @Test
+    void drenar_conErrorInesperado_elHiloEscritorSigueVivo() {
+        AuditoriaBatchWriter writer = writer(10, 10);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new IllegalStateException("driver en estado invalido"))
+            .thenReturn(new int[] {1});
+        writer.start();
+
+        writer.registrar(evento(null));
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), anyList());
+        writer.registrar(evento(null));
+        verify(jdbcTemplate, timeout(2000).times(2)).batchUpdate(anyString(), anyList());
+        writer.stop();
+
+        assertThat(writer.estadisticas().fallidos()).isEqualTo(1);
+        assertThat(writer.estadisticas().escritos()).isEqualTo(1);
+    }
+
+    private AuditoriaBatchWriter writer(int capacidad, int tamanoLote) {
+        return new AuditoriaBatchWriter(
+            jdbcTemplate, motorBaseDatos, transactionManager, capacidad, tamanoLote, 20, 5);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<Object[]>> filasCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
+    private static EventoAuditoriaPendiente evento(String body) {
+        return new EventoAuditoriaPendiente(
+            UUID.randomUUID(),
+            "admin@test.cl",
+            "ADMIN",
+            "POST",
+            "/api/matriculas",
+            body,
+            201,
+            "127.0.0.1",
+            null,
+            LocalDateTime.of(2026, 3, 4, 10, 0)
+        );
+    }
+}
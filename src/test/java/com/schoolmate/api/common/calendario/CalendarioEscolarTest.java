@@ -0,0 +1,148 @@
+package com.schoolmate.api.common.calendario;
+
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.DiaNoLectivo;
+import com.schoolmate.api.enums.TipoDiaNoLectivo;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.DiaNoLectivoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarioEscolarTest {
+
+    private static final UUID ANO_ID = UUID.randomUUID();
+    private static final LocalDate INICIO = LocalDate.of(2026, 3, 2);
+    private static final LocalDate FIN = LocalDate.of(2026, 12, 18);
+
+    @Mock
+    private AnoEscolarRepository anoEscolarRepository;
+    @Mock
+    private DiaNoLectivoRepository diaNoLectivoRepository;
+
+    @Test
+    void obtener_cargaUnaVezYRespondeDiasLectivos() {
+        LocalDate feriado = LocalDate.of(2026, 5, 21); // jueves
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.of(ano()));
+        when(diaNoLectivoRepository.findByAnoEscolarIdOrderByFechaAsc(ANO_ID))
+            .thenReturn(List.of(diaNoLectivo(feriado, TipoDiaNoLectivo.FERIADO_LEGAL)));
+        CalendarioEscolar calendarioEscolar = new CalendarioEscolar(anoEscolarRepository, diaNoLectivoRepository);
+
+        CalendarioAnoEscolar calendario = calendarioEscolar.obtener(ANO_ID);
+
+        assertThat(calendarioEscolar.obtener(ANO_ID)).isSameAs(calendario);
+        verify(anoEscolarRepository, times(1)).findById(ANO_ID);
+        assertThat(calendario.esDiaLectivo(LocalDate.of(2026, 5, 20))).isTrue();
+        assertThat(calendario.esDiaLectivo(feriado)).isFalse();
+        assertThat(calendario.esDiaLectivo(LocalDate.of(2026, 5, 23))).isFalse(); // sábado
+        assertThat(calendario.esDiaLectivo(LocalDate.of(2026, 2, 27))).isFalse(); // antes del año
+        assertThat(calendario.diaNoLectivo(feriado)).get()
+            .extracting(DiaNoLectivoCalendario::tipo)
+            .isEqualTo(TipoDiaNoLectivo.FERIADO_LEGAL);
+        // Semana del 18 al 24 de mayo: cinco días hábiles menos el feriado.
+        assertThat(calendario.contarDiasLectivos(LocalDate.of(2026, 5, 18), LocalDate.of(2026, 5, 24))).isEqualTo(4);
+    }
+
+    @Test
+    void obtener_conAnoInexistente_lanzaNotFound() {
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.empty());
+        CalendarioEscolar calendarioEscolar = new CalendarioEscolar(anoEscolarRepository, diaNoLectivoRepository);
+
+        assertThatThrownBy(() -> calendarioEscolar.obtener(ANO_ID))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessage("Año escolar no encontrado");
+    }
+
+    @Test
+    void contarDiasLectivos_coincideConRecorrerDiaADia() {
+        List<DiaNoLectivoCalendario> dias = List.of(
+            new DiaNoLectivoCalendario(UUID.randomUUID(), LocalDate.of(2026, 4, 3), TipoDiaNoLectivo.FERIADO_LEGAL, null),
+            new DiaNoLectivoCalendario(UUID.randomUUID(), LocalDate.of(2026, 7, 6), TipoDiaNoLectivo.VACACIONES, null),
+            new DiaNoLectivoCalendario(UUID.randomUUID(), LocalDate.of(2026, 7, 7), TipoDiaNoLectivo.VACACIONES, null),
+            new DiaNoLectivoCalendario(UUID.randomUUID(), LocalDate.of(2026, 9, 18), TipoDiaNoLectivo.FERIADO_LEGAL, null));
+        CalendarioAnoEscolar calendario = CalendarioAnoEscolar.de(INICIO, FIN, dias);
+
+        LocalDate[][] rangos = {
+            {INICIO, FIN},
+            {LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 1)},
+            {LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30)},
+            {LocalDate.of(2026, 7, 6), LocalDate.of(2026, 7, 6)},
+            {LocalDate.of(2026, 5, 4), LocalDate.of(2026, 5, 3)},
+        };
+        for (LocalDate[] rango : rangos) {
+            long esperado = rango[0].datesUntil(rango[1].plusDays(1)).filter(calendario::esDiaLectivo).count();
+            assertThat(calendario.contarDiasLectivos(rango[0], rango[1])).isEqualTo((int) esperado);
+        }
+        assertThat(calendario.diasNoLectivosEntre(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 31)))
+            .extracting(DiaNoLectivoCalendario::fecha)
+            .containsExactly(LocalDate.of(2026, 7, 6), LocalDate.of(2026, 7, 7));
+    }
+
+    @Test
+    void cambios_publicanCalendarioNuevoAlConfirmar() {
+        LocalDate fecha = LocalDate.of(2026, 6, 15);
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.of(ano()));
+        when(diaNoLectivoRepository.findByAnoEscolarIdOrderByFechaAsc(ANO_ID)).thenReturn(List.of());
+        CalendarioEscolar calendarioEscolar = new CalendarioEscolar(anoEscolarRepository, diaNoLectivoRepository);
+        CalendarioAnoEscolar anterior = calendarioEscolar.obtener(ANO_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            calendarioEscolar.registrarDiasNoLectivos(ANO_ID, List.of(diaNoLectivo(fecha, TipoDiaNoLectivo.SUSPENSION)));
+            assertThat(calendarioEscolar.obtener(ANO_ID).esDiaLectivo(fecha)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        CalendarioAnoEscolar actual = calendarioEscolar.obtener(ANO_ID);
+        assertThat(actual.esDiaLectivo(fecha)).isFalse();
+        assertThat(actual.esDiaNoLectivo(fecha)).isTrue();
+        assertThat(anterior.esDiaLectivo(fecha)).isTrue();
+
+        calendarioEscolar.quitarDiaNoLectivo(ANO_ID, fecha);
+        assertThat(calendarioEscolar.obtener(ANO_ID).esDiaLectivo(fecha)).isTrue();
+        verify(anoEscolarRepository, times(1)).findById(ANO_ID);
+
+        calendarioEscolar.invalidar(ANO_ID);
+        calendarioEscolar.obtener(ANO_ID);
+        verify(anoEscolarRepository, times(2)).findById(ANO_ID);
+    }
+
+    private static AnoEscolar ano() {
+        return AnoEscolar.builder()
+            .id(ANO_ID)
+            .ano(2026)
+            .fechaInicioPlanificacion(LocalDate.of(2026, 1, 10))
+            .fechaInicio(INICIO)
+            .fechaFin(FIN)
+            .build();
+    }
+
+    private static DiaNoLectivo diaNoLectivo(LocalDate fecha, TipoDiaNoLectivo tipo) {
+        return DiaNoLectivo.builder()
+            .id(UUID.randomUUID())
+            .anoEscolar(AnoEscolar.builder().id(ANO_ID).build())
+            .fecha(fecha)
+            .tipo(tipo)
+            .descripcion("Descripción")
+            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.schoolmate.api.common.catalogo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionCacheTest {
+
+    private final AtomicLong reloj = new AtomicLong();
+
+    @Test
+    void obtener_dentroDeVigencia_noVuelveACargar() {
+        RegionCache<String, String> region = new RegionCache<>("test", 10, 100, reloj::get);
+        AtomicInteger cargas = new AtomicInteger();
+
+        region.obtener("a", () -> "v" + cargas.incrementAndGet());
+        reloj.set(99);
+        String valor = region.obtener("a", () -> "v" + cargas.incrementAndGet());
+
+        assertThat(valor).isEqualTo("v1");
+        assertThat(region.estadisticas().aciertos()).isEqualTo(1);
+        assertThat(region.estadisticas().fallos()).isEqualTo(1);
+    }
+
+    @Test
+    void obtener_vencida_recargaYCuentaExpiracion() {
+        RegionCache<String, String> region = new RegionCache<>("test", 10, 100, reloj::get);
+        AtomicInteger cargas = new AtomicInteger();
+
+        region.obtener("a", () -> "v" + cargas.incrementAndGet());
+        reloj.set(100);
+        String valor = region.obtener("a", () -> "v" + cargas.incrementAndGet());
+
+        assertThat(valor).isEqualTo("v2");
+        assertThat(region.estadisticas().expiraciones()).isEqualTo(1);
+    }
+
+    @Test
+    void obtener_regionLlena_desalojaLaMasAntigua() {
+        RegionCache<String, String> region = new RegionCache<>("test", 2, 1_000, reloj::get);
+
+        region.obtener("a", () -> "A");
+        reloj.set(1);
+        region.obtener("b", () -> "B");
+        reloj.set(2);
+        region.obtener("c", () -> "C");
+
+        assertThat(region.estadisticas().entradas()).isEqualTo(2);
+        assertThat(region.estadisticas().desalojos()).isEqualTo(1);
+        assertThat(region.obtener("b", () -> "recargado")).isEqualTo("B");
+        assertThat(region.obtener("a", () -> "recargado")).isEqualTo("recargado");
+    }
+
+    @Test
+    void obtener_cargadorRetornaNull_noGuarda() {
+        RegionCache<String, String> region = new RegionCache<>("test", 10, 1_000, reloj::get);
+
+        assertThat(region.obtener("x", () -> null)).isNull();
+        assertThat(region.estadisticas().entradas()).isZero();
+    }
+
+    @Test
+    void obtener_invalidadaDuranteLaCarga_noPublicaValorViejo() {
+        RegionCache<String, String> region = new RegionCache<>("test", 10, 1_000, reloj::get);
+
+        String valor = region.obtener("a", () -> {
+            region.invalidarTodo();
+            return "leido-antes-del-commit";
+        });
+
+        assertThat(valor).isEqualTo("leido-antes-del-commit");
+        assertThat(region.obtener("a", () -> "nuevo")).isEqualTo("nuevo");
+    }
+
+    @Test
+    void invalidar_conFiltro_soloQuitaLasClavesQueCumplen() {
+        RegionCache<String, String> region = new RegionCache<>("test", 10, 1_000, reloj::get);
+        region.obtener("ano-1:p0", () -> "uno");
+        region.obtener("ano-2:p0", () -> "dos");
+
+        region.invalidar(clave -> clave.startsWith("ano-1"));
+
+        assertThat(region.estadisticas().invalidaciones()).isEqualTo(1);
+        assertThat(region.obtener("ano-2:p0", () -> "recargado")).isEqualTo("dos");
+        assertThat(region.obtener("ano-1:p0", () -> "recargado")).isEqualTo("recargado");
+    }
+}
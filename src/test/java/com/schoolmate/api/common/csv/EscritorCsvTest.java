@@ -0,0 +1,53 @@
+package com.schoolmate.api.common.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EscritorCsvTest {
+
+    @Test
+    void registro_citaSoloLosCamposQueLoNecesitan() {
+        StringWriter salida = new StringWriter();
+        EscritorCsv escritor = new EscritorCsv(salida, ';');
+
+        escritor.registro("2026-03-02", "1° Básico A", null, "Peña; Ríos", "dice \"hola\"", "dos\nlineas");
+        escritor.flush();
+
+        assertThat(salida.toString())
+            .isEqualTo("2026-03-02;1° Básico A;;\"Peña; Ríos\";\"dice \"\"hola\"\"\";\"dos\nlineas\"\r\n");
+    }
+
+    @Test
+    void campo_queEmpiezaComoFormula_seEscribeComoTexto() {
+        StringWriter salida = new StringWriter();
+        EscritorCsv escritor = new EscritorCsv(salida, ';');
+
+        escritor.registro("=1+1", "+56 9 1234", "-2", "@SUMA(A1)", "\tx", "a=b", "=HYPERLINK(\"x\";\"y\")");
+        escritor.flush();
+
+        assertThat(salida.toString())
+            .isEqualTo("'=1+1;'+56 9 1234;'-2;'@SUMA(A1);'\tx;a=b;\"'=HYPERLINK(\"\"x\"\";\"\"y\"\")\"\r\n");
+    }
+
+    @Test
+    void salida_seLeeIgualConLectorCsv() {
+        StringWriter salida = new StringWriter();
+        EscritorCsv escritor = new EscritorCsv(salida, ';');
+        escritor.escribirBom();
+        escritor.registro("rut", "observacion");
+        escritor.campo("11111111-1");
+        escritor.campo("llegó \"tarde\"; justificado");
+        escritor.finRegistro();
+        escritor.flush();
+
+        LectorCsv lector = new LectorCsv(new StringReader(salida.toString()), ';');
+
+        assertThat(lector.siguiente()).containsExactly("rut", "observacion");
+        assertThat(lector.siguiente()).containsExactly("11111111-1", "llegó \"tarde\"; justificado");
+        assertThat(lector.siguiente()).isNull();
+    }
+}
@@ -0,0 +1,41 @@
+package com.schoolmate.api.common.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LectorCsvTest {
+
+    @Test
+    void siguiente_separaCamposYRegistrosConFinDeLineaUnixOWindows() {
+        LectorCsv lector = new LectorCsv(new StringReader("a,b,c\r\n1,2,3\n4,,6"), ',');
+
+        assertThat(lector.siguiente()).containsExactly("a", "b", "c");
+        assertThat(lector.siguiente()).containsExactly("1", "2", "3");
+        assertThat(lector.siguiente()).containsExactly("4", "", "6");
+        assertThat(lector.siguiente()).isNull();
+    }
+
+    @Test
+    void siguiente_respetaComillasConSeparadorComillaYSaltoDeLinea() {
+        LectorCsv lector = new LectorCsv(new StringReader("\"Peña, Ríos\";\"dice \"\"hola\"\"\";\"dos\nlineas\"\nx;y;z\n"), ';');
+
+        assertThat(lector.siguiente()).containsExactly("Peña, Ríos", "dice \"hola\"", "dos\nlineas");
+        assertThat(lector.lineaRegistro()).isEqualTo(1);
+        assertThat(lector.siguiente()).containsExactly("x", "y", "z");
+        assertThat(lector.lineaRegistro()).isEqualTo(3);
+        assertThat(lector.siguiente()).isNull();
+    }
+
+    @Test
+    void siguiente_ignoraBomYLineasVaciasSinPerderElNumeroDeLinea() {
+        LectorCsv lector = new LectorCsv(new StringReader("\uFEFFrut\n\n\r\n11111111-1\n\n"), ',');
+
+        assertThat(lector.siguiente()).containsExactly("rut");
+        assertThat(lector.siguiente()).containsExactly("11111111-1");
+        assertThat(lector.lineaRegistro()).isEqualTo(4);
+        assertThat(lector.siguiente()).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+package com.schoolmate.api.common.db;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MotorBaseDatosTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void motor_seDetectaUnaSolaVez() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        MotorBaseDatos motorBaseDatos = new MotorBaseDatos(jdbcTemplate);
+
+        assertThat(motorBaseDatos.esPostgres()).isTrue();
+        assertThat(motorBaseDatos.esH2()).isFalse();
+        assertThat(motorBaseDatos.motor()).contains(MotorBaseDatos.Motor.POSTGRESQL);
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    void motor_siFallaLaDeteccion_noLaGuardaYReintenta() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenThrow(new DataAccessResourceFailureException("sin conexion"))
+            .thenReturn("H2");
+        MotorBaseDatos motorBaseDatos = new MotorBaseDatos(jdbcTemplate);
+
+        assertThat(motorBaseDatos.motor()).isEmpty();
+        assertThat(motorBaseDatos.esPostgres()).isFalse();
+        assertThat(motorBaseDatos.esH2()).isTrue();
+    }
+}
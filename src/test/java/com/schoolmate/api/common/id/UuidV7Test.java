@@ -0,0 +1,49 @@
+package com.schoolmate.api.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void generar_produceVersion7VarianteRfcEInstanteActual() {
+        long antes = System.currentTimeMillis();
+        UUID uuid = UuidV7.generar();
+        long despues = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.instante(uuid)).isBetween(antes, despues + 1);
+    }
+
+    @Test
+    void generar_esEstrictamenteCrecienteAunqueSeaElMismoMilisegundo() {
+        List<UUID> generados = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            generados.add(UuidV7.generar());
+        }
+
+        for (int i = 1; i < generados.size(); i++) {
+            // Orden de bytes sin signo, que es como compara PostgreSQL.
+            assertThat(generados.get(i).toString()).isGreaterThan(generados.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    void siguiente_conRelojQueRetrocede_noRepiteNiDecrece() {
+        AtomicLong ultimo = new AtomicLong();
+        long ahora = System.currentTimeMillis();
+        long primero = UuidV7.siguiente(ultimo, ahora);
+        long conRelojAtrasado = UuidV7.siguiente(ultimo, ahora - 5_000);
+
+        assertThat(conRelojAtrasado).isGreaterThan(primero);
+        assertThat(UuidV7.desde(conRelojAtrasado, -1L).toString())
+            .isGreaterThan(UuidV7.desde(primero, 0L).toString());
+    }
+}
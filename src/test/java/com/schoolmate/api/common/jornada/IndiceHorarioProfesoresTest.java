@@ -0,0 +1,148 @@
+package com.schoolmate.api.common.jornada;
+
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.Materia;
+import com.schoolmate.api.entity.Profesor;
+import com.schoolmate.api.enums.TipoBloque;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IndiceHorarioProfesoresTest {
+
+    private static final UUID ANO_ID = UUID.randomUUID();
+    private static final UUID PROFESOR_ID = UUID.randomUUID();
+    private static final UUID CURSO_A = UUID.randomUUID();
+    private static final UUID CURSO_B = UUID.randomUUID();
+
+    @Mock
+    private BloqueHorarioRepository bloqueHorarioRepository;
+
+    @Test
+    void obtener_cargaUnaVezYRespondeChoquesYMinutos() {
+        when(bloqueHorarioRepository.findOcupacionesProfesoresEnAnoEscolar(ANO_ID)).thenReturn(List.of(
+            ocupacion(CURSO_A, 1, "08:00", "08:45"),
+            ocupacion(CURSO_A, 1, "09:15", "10:00"),
+            ocupacion(CURSO_B, 2, "08:00", "08:45")));
+        IndiceHorarioProfesores indice = new IndiceHorarioProfesores(bloqueHorarioRepository);
+
+        HorarioProfesoresAno horario = indice.obtener(ANO_ID);
+
+        assertThat(indice.obtener(ANO_ID)).isSameAs(horario);
+        verify(bloqueHorarioRepository, times(1)).findOcupacionesProfesoresEnAnoEscolar(ANO_ID);
+        assertThat(horario.minutosAsignados(PROFESOR_ID)).isEqualTo(135);
+        assertThat(horario.minutosAsignados(UUID.randomUUID())).isZero();
+        assertThat(horario.colisiones(PROFESOR_ID, 1, hora("08:30"), hora("09:30"), null))
+            .extracting(OcupacionProfesor::horaInicio)
+            .containsExactly(hora("08:00"), hora("09:15"));
+        // Intervalos semiabiertos: un bloque que empieza cuando otro termina no choca.
+        assertThat(horario.colisiones(PROFESOR_ID, 1, hora("08:45"), hora("09:15"), null)).isEmpty();
+        assertThat(horario.colisiones(PROFESOR_ID, 3, hora("08:00"), hora("08:45"), null)).isEmpty();
+    }
+
+    @Test
+    void colisiones_excluyeElBloqueConsultadoYToleraSolapesGuardados() {
+        OcupacionProfesor largo = ocupacion(CURSO_A, 1, "08:00", "11:00");
+        OcupacionProfesor corto = ocupacion(CURSO_B, 1, "08:30", "09:00");
+        HorarioProfesoresAno horario = HorarioProfesoresAno.de(List.of(corto, largo));
+
+        assertThat(horario.colisiones(PROFESOR_ID, 1, hora("10:00"), hora("10:30"), null)).containsExactly(largo);
+        assertThat(horario.colisiones(PROFESOR_ID, 1, hora("08:30"), hora("09:00"), corto.bloqueId()))
+            .containsExactly(largo);
+    }
+
+    @Test
+    void cambios_seAplicanAlConfirmarLaTransaccion() {
+        OcupacionProfesor lunes = ocupacion(CURSO_A, 1, "08:00", "08:45");
+        when(bloqueHorarioRepository.findOcupacionesProfesoresEnAnoEscolar(ANO_ID)).thenReturn(List.of(lunes));
+        IndiceHorarioProfesores indice = new IndiceHorarioProfesores(bloqueHorarioRepository);
+        HorarioProfesoresAno horario = indice.obtener(ANO_ID);
+        BloqueHorario martes = bloque(CURSO_B, 2, "10:00", "10:45");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            indice.actualizarBloque(ANO_ID, martes);
+            assertThat(horario.minutosAsignados(PROFESOR_ID)).isEqualTo(45);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(horario.minutosAsignados(PROFESOR_ID)).isEqualTo(90);
+        assertThat(horario.colisiones(PROFESOR_ID, 2, hora("10:30"), hora("11:00"), null)).hasSize(1);
+    }
+
+    @Test
+    void quitar_porBloqueYPorCurso() {
+        OcupacionProfesor lunesA = ocupacion(CURSO_A, 1, "08:00", "08:45");
+        OcupacionProfesor martesA = ocupacion(CURSO_A, 2, "08:00", "08:45");
+        OcupacionProfesor lunesB = ocupacion(CURSO_B, 1, "09:00", "09:45");
+        when(bloqueHorarioRepository.findOcupacionesProfesoresEnAnoEscolar(ANO_ID))
+            .thenReturn(List.of(lunesA, martesA, lunesB));
+        IndiceHorarioProfesores indice = new IndiceHorarioProfesores(bloqueHorarioRepository);
+        HorarioProfesoresAno horario = indice.obtener(ANO_ID);
+
+        indice.quitarBloquesCurso(ANO_ID, CURSO_A, 1);
+        assertThat(horario.colisiones(PROFESOR_ID, 1, hora("08:00"), hora("10:00"), null)).containsExactly(lunesB);
+        assertThat(horario.minutosAsignados(PROFESOR_ID)).isEqualTo(90);
+
+        indice.quitarBloque(ANO_ID, lunesB.bloqueId());
+        indice.quitarBloquesCursos(ANO_ID, List.of(CURSO_A));
+        assertThat(horario.minutosAsignados(PROFESOR_ID)).isZero();
+        assertThat(horario.colisiones(PROFESOR_ID, 2, hora("08:00"), hora("08:45"), null)).isEmpty();
+    }
+
+    @Test
+    void actualizarBloque_sinProfesor_loQuita() {
+        BloqueHorario bloque = bloque(CURSO_A, 1, "08:00", "08:45");
+        when(bloqueHorarioRepository.findOcupacionesProfesoresEnAnoEscolar(ANO_ID))
+            .thenReturn(List.of(OcupacionProfesor.from(bloque)));
+        IndiceHorarioProfesores indice = new IndiceHorarioProfesores(bloqueHorarioRepository);
+        HorarioProfesoresAno horario = indice.obtener(ANO_ID);
+
+        bloque.quitarProfesor();
+        indice.actualizarBloque(ANO_ID, bloque);
+
+        assertThat(horario.minutosAsignados(PROFESOR_ID)).isZero();
+    }
+
+    private static OcupacionProfesor ocupacion(UUID cursoId, int dia, String inicio, String fin) {
+        return new OcupacionProfesor(
+            UUID.randomUUID(), cursoId, "1° Básico A", "Matemática", PROFESOR_ID, dia, hora(inicio), hora(fin));
+    }
+
+    private static BloqueHorario bloque(UUID cursoId, int dia, String inicio, String fin) {
+        return BloqueHorario.builder()
+            .id(UUID.randomUUID())
+            .curso(Curso.builder().id(cursoId).nombre("1° Básico B").build())
+            .diaSemana(dia)
+            .numeroBloque(1)
+            .horaInicio(hora(inicio))
+            .horaFin(hora(fin))
+            .tipo(TipoBloque.CLASE)
+            .materia(Materia.builder().id(UUID.randomUUID()).nombre("Lenguaje").build())
+            .profesor(Profesor.builder().id(PROFESOR_ID).nombre("Carlos").apellido("Mota").build())
+            .activo(true)
+            .build();
+    }
+
+    private static LocalTime hora(String valor) {
+        return LocalTime.parse(valor);
+    }
+}
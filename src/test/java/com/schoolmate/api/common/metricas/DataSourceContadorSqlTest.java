@@ -0,0 +1,69 @@
+package com.schoolmate.api.common.metricas;
+
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceContadorSqlTest {
+
+    @Test
+    void cuentaUnaSentenciaPorEjecucionJdbc() throws Exception {
+        DataSource dataSource = new DataSourceContadorSql(h2("contador-jdbc"));
+        long antes = ContadorSql.sentencias();
+
+        try (Connection conexion = dataSource.getConnection()) {
+            try (Statement sentencia = conexion.createStatement()) {
+                sentencia.execute("CREATE TABLE t (id int)");
+            }
+            try (PreparedStatement insertar = conexion.prepareStatement("INSERT INTO t (id) VALUES (?)")) {
+                for (int i = 0; i < 3; i++) {
+                    insertar.setInt(1, i);
+                    insertar.addBatch();
+                }
+                insertar.executeBatch();
+            }
+        }
+
+        assertThat(ContadorSql.sentencias() - antes).isEqualTo(2);
+    }
+
+    @Test
+    void cuentaLasConsultasDeJdbcTemplate() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DataSourceContadorSql(h2("contador-template")));
+        jdbcTemplate.execute("CREATE TABLE t (id int)");
+        long antes = ContadorSql.sentencias();
+
+        jdbcTemplate.update("INSERT INTO t (id) VALUES (?)", 1);
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM t", Integer.class);
+
+        assertThat(ids).containsExactly(1);
+        assertThat(ContadorSql.sentencias() - antes).isEqualTo(2);
+    }
+
+    @Test
+    void unwrapLlegaAlDataSourceReal() throws Exception {
+        JdbcDataSource h2 = h2("contador-unwrap");
+        DataSource dataSource = new DataSourceContadorSql(h2);
+
+        assertThat(dataSource.unwrap(JdbcDataSource.class)).isSameAs(h2);
+        try (Connection conexion = dataSource.getConnection()) {
+            assertThat(conexion.isWrapperFor(JdbcConnection.class)).isTrue();
+        }
+    }
+
+    private static JdbcDataSource h2(String nombre) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
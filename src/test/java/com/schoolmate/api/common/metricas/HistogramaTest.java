@@ -0,0 +1,53 @@
+package com.schoolmate.api.common.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HistogramaTest {
+
+    @Test
+    void registrar_acumulaPorLimiteSuperiorInclusivo() {
+        Histograma histograma = new Histograma(10, 20, 50);
+
+        histograma.registrar(10);
+        histograma.registrar(15);
+        histograma.registrar(20);
+        histograma.registrar(70);
+
+        assertThat(histograma.acumulados()).containsExactly(1, 3, 3, 4);
+        assertThat(histograma.cantidad()).isEqualTo(4);
+        assertThat(histograma.suma()).isEqualTo(115.0);
+        assertThat(histograma.maximo()).isEqualTo(70.0);
+    }
+
+    @Test
+    void percentil_interpolaDentroDelBucket() {
+        Histograma histograma = new Histograma(10, 20);
+        for (int i = 0; i < 50; i++) {
+            histograma.registrar(5);
+        }
+        for (int i = 0; i < 50; i++) {
+            histograma.registrar(19);
+        }
+
+        assertThat(histograma.percentil(0.50)).isCloseTo(10.0, within(1e-9));
+        assertThat(histograma.percentil(0.75)).isCloseTo(15.0, within(1e-9));
+        assertThat(histograma.percentil(0.99)).isCloseTo(19.0, within(1e-9));
+    }
+
+    @Test
+    void percentil_enBucketSinLimite_informaElMaximo() {
+        Histograma histograma = new Histograma(10);
+        histograma.registrar(1);
+        histograma.registrar(250);
+
+        assertThat(histograma.percentil(0.99)).isEqualTo(250.0);
+    }
+
+    @Test
+    void percentil_sinObservaciones_esCero() {
+        assertThat(new Histograma(1, 2).percentil(0.95)).isZero();
+    }
+}
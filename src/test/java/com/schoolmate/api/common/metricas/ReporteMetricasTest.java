@@ -0,0 +1,100 @@
+package com.schoolmate.api.common.metricas;
+
+import com.schoolmate.api.common.auditoria.AuditoriaBatchWriter;
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.config.BulkheadFilter;
+import com.schoolmate.api.dto.response.MetricasSistemaResponse;
+import com.schoolmate.api.security.LimitadorLogin;
+import com.schoolmate.api.security.VerificadorPassword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReporteMetricasTest {
+
+    @Mock
+    private AuditoriaBatchWriter auditoriaBatchWriter;
+    @Mock
+    private CatalogoCache catalogoCache;
+    @Mock
+    private VerificadorPassword verificadorPassword;
+    @Mock
+    private LimitadorLogin limitadorLogin;
+
+    private final MetricasUseCases metricasUseCases = new MetricasUseCases();
+    private ReporteMetricas reporte;
+
+    @BeforeEach
+    void setUp() {
+        reporte = new ReporteMetricas(
+            metricasUseCases,
+            auditoriaBatchWriter,
+            catalogoCache,
+            verificadorPassword,
+            limitadorLogin,
+            new BulkheadFilter(0, 10, null)
+        );
+        when(auditoriaBatchWriter.estadisticas()).thenReturn(new AuditoriaBatchWriter.Estadisticas(10, 9, 1, 0, 2, 0, 100));
+        when(catalogoCache.estadisticas()).thenReturn(List.of(
+            new CatalogoCache.EstadisticasRegion("grados", 40, 2, 0, 1, 0, 12, 500)
+        ));
+        when(verificadorPassword.estadisticas()).thenReturn(new VerificadorPassword.Estadisticas(0, 64, 0, 4, 7, 0));
+        when(limitadorLogin.estadisticas()).thenReturn(new LimitadorLogin.Estadisticas(7, 3, 5));
+    }
+
+    @Test
+    void prometheus_exponeHistogramasPorUseCaseEnSegundos() {
+        metricasUseCases.registrar("GuardarAsistenciaClase.execute", 30_000_000L, 12, 48, false);
+        metricasUseCases.registrar("GuardarAsistenciaClase.execute", 4_000_000L, 3, 45, true);
+
+        String texto = reporte.prometheus();
+
+        assertThat(texto)
+            .contains("# TYPE schoolmate_usecase_duracion_segundos histogram\n")
+            .contains("schoolmate_usecase_duracion_segundos_bucket{usecase=\"GuardarAsistenciaClase.execute\",le=\"0.005\"} 1\n")
+            .contains("schoolmate_usecase_duracion_segundos_bucket{usecase=\"GuardarAsistenciaClase.execute\",le=\"0.05\"} 2\n")
+            .contains("schoolmate_usecase_duracion_segundos_bucket{usecase=\"GuardarAsistenciaClase.execute\",le=\"+Inf\"} 2\n")
+            .contains("schoolmate_usecase_duracion_segundos_count{usecase=\"GuardarAsistenciaClase.execute\"} 2\n")
+            .contains("schoolmate_usecase_sentencias_sql_bucket{usecase=\"GuardarAsistenciaClase.execute\",le=\"10\"} 1\n")
+            .contains("schoolmate_usecase_errores_total{usecase=\"GuardarAsistenciaClase.execute\"} 1\n");
+    }
+
+    @Test
+    void prometheus_incluyeLasEstadisticasDeLosComponentes() {
+        String texto = reporte.prometheus();
+
+        assertThat(texto)
+            .contains("schoolmate_auditoria_eventos_total{resultado=\"descartados\"} 1\n")
+            .contains("schoolmate_catalogo_cache_total{region=\"grados\",resultado=\"acierto\"} 40\n")
+            .contains("schoolmate_catalogo_cache_entradas{region=\"grados\"} 12\n")
+            .contains("schoolmate_password_hash_total{resultado=\"completada\"} 7\n")
+            .contains("schoolmate_login_intentos_total{resultado=\"rechazado\"} 3\n")
+            .contains("schoolmate_bulkhead_requests_total{resultado=\"rechazado\"} 0\n");
+    }
+
+    @Test
+    void resumen_calculaPercentilesYPromediosPorUseCase() {
+        for (int i = 0; i < 10; i++) {
+            metricasUseCases.registrar("ObtenerClasesHoyProfesor.execute", 8_000_000L, 4, 20, false);
+        }
+
+        MetricasSistemaResponse resumen = reporte.resumen();
+
+        assertThat(resumen.getUseCases()).hasSize(1);
+        MetricasUseCases.Resumen useCase = resumen.getUseCases().getFirst();
+        assertThat(useCase.useCase()).isEqualTo("ObtenerClasesHoyProfesor.execute");
+        assertThat(useCase.invocaciones()).isEqualTo(10);
+        assertThat(useCase.p95Ms()).isEqualTo(8.0);
+        assertThat(useCase.sentenciasPromedio()).isEqualTo(4.0);
+        assertThat(useCase.entidadesMax()).isEqualTo(20);
+        assertThat(resumen.getLimitadorLogin().clavesActivas()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,96 @@
+package com.schoolmate.api.common.particion;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import com.schoolmate.api.common.time.ClockProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MantenimientoParticionesTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private MotorBaseDatos motorBaseDatos;
+    @Mock
+    private ClockProvider clockProvider;
+
+    @Test
+    void mantener_creaMesActualYSiguientes_yArchivaLosVencidos() {
+        when(clockProvider.today()).thenReturn(LocalDate.of(2026, 6, 10));
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class), eq("evento_auditoria"), any(LocalDate.class)))
+            .thenReturn(null);
+        when(jdbcTemplate.queryForObject(
+            anyString(), eq(String.class), eq("evento_auditoria"), eq(LocalDate.of(2026, 8, 1))
+        )).thenReturn("evento_auditoria_p2026_08");
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class), eq("sesion_usuario"), any(LocalDate.class)))
+            .thenReturn(null);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("evento_auditoria")))
+            .thenReturn(List.of("evento_auditoria_default", "evento_auditoria_p2026_05", "evento_auditoria_p2026_06"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("sesion_usuario")))
+            .thenReturn(List.of("sesion_usuario_p2026_04", "sesion_usuario_p2026_05"));
+
+        MantenimientoParticiones.Resultado resultado = mantenimiento().mantener();
+
+        assertThat(resultado.creadas()).containsExactly("evento_auditoria_p2026_08");
+        assertThat(resultado.archivadas()).containsExactly("archivo.sesion_usuario_p2026_04");
+        verify(jdbcTemplate).execute("ALTER TABLE sesion_usuario DETACH PARTITION sesion_usuario_p2026_04");
+        verify(jdbcTemplate).execute("ALTER TABLE sesion_usuario_p2026_04 SET SCHEMA archivo");
+        verify(jdbcTemplate).queryForObject(
+            anyString(), eq(String.class), eq("sesion_usuario"), eq(LocalDate.of(2026, 7, 1)));
+    }
+
+    @Test
+    void mantener_conRelojSobrescrito_noArchiva() {
+        when(clockProvider.today()).thenReturn(LocalDate.of(2030, 1, 1));
+        when(clockProvider.isOverridden()).thenReturn(true);
+
+        MantenimientoParticiones.Resultado resultado = mantenimiento().mantener();
+
+        assertThat(resultado.archivadas()).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void mantener_siFallaLaCreacion_continuaConLosDemasMeses() {
+        when(clockProvider.today()).thenReturn(LocalDate.of(2026, 6, 10));
+        when(clockProvider.isOverridden()).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class), anyString(), any(LocalDate.class)))
+            .thenThrow(new BadSqlGrammarException("crear", "SELECT", new SQLException("boom")))
+            .thenReturn("evento_auditoria_p2026_07");
+
+        MantenimientoParticiones.Resultado resultado = mantenimiento().mantener();
+
+        assertThat(resultado.creadas()).contains("evento_auditoria_p2026_07");
+    }
+
+    @Test
+    void mesDeParticion_soloReconoceParticionesMensuales() {
+        assertThat(MantenimientoParticiones.mesDeParticion("sesion_usuario", "sesion_usuario_p2025_11"))
+            .isEqualTo(YearMonth.of(2025, 11));
+        assertThat(MantenimientoParticiones.mesDeParticion("sesion_usuario", "sesion_usuario_default")).isNull();
+        assertThat(MantenimientoParticiones.mesDeParticion("sesion_usuario", "sesion_usuario_p2025_1x")).isNull();
+        assertThat(MantenimientoParticiones.mesDeParticion("evento_auditoria", "sesion_usuario_p2025_11")).isNull();
+    }
+
+    private MantenimientoParticiones mantenimiento() {
+        return new MantenimientoParticiones(jdbcTemplate, motorBaseDatos, clockProvider, 3, 24, 1);
+    }
+}
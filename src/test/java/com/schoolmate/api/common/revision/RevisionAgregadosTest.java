@@ -0,0 +1,83 @@
+package com.schoolmate.api.common.revision;
+
+import com.schoolmate.api.common.revision.RevisionAgregados.Agregado;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevisionAgregadosTest {
+
+    private final AtomicLong reloj = new AtomicLong();
+    private final RevisionAgregados revisiones = new RevisionAgregados("inst", 1_000, reloj::get);
+
+    @Test
+    void etag_sinCambios_esEstableYFuerte() {
+        UUID cursoId = UUID.randomUUID();
+
+        String etag = revisiones.etag(Agregado.JORNADA_CURSO, cursoId);
+
+        assertThat(etag).startsWith("\"inst-").endsWith("\"");
+        assertThat(revisiones.etag(Agregado.JORNADA_CURSO, cursoId)).isEqualTo(etag);
+    }
+
+    @Test
+    void incrementar_soloCambiaElAgregadoIndicado() {
+        UUID cursoId = UUID.randomUUID();
+        UUID otroCursoId = UUID.randomUUID();
+        String jornada = revisiones.etag(Agregado.JORNADA_CURSO, cursoId);
+        String matriculas = revisiones.etag(Agregado.MATRICULAS_CURSO, cursoId);
+        String otraJornada = revisiones.etag(Agregado.JORNADA_CURSO, otroCursoId);
+
+        revisiones.incrementar(Agregado.JORNADA_CURSO, cursoId);
+
+        assertThat(revisiones.etag(Agregado.JORNADA_CURSO, cursoId)).isNotEqualTo(jornada);
+        assertThat(revisiones.etag(Agregado.MATRICULAS_CURSO, cursoId)).isEqualTo(matriculas);
+        assertThat(revisiones.etag(Agregado.JORNADA_CURSO, otroCursoId)).isEqualTo(otraJornada);
+    }
+
+    @Test
+    void incrementarReferencias_cambiaTodosLosAgregados() {
+        UUID anoEscolarId = UUID.randomUUID();
+        String malla = revisiones.etag(Agregado.MALLA_ANO_ESCOLAR, anoEscolarId);
+        String dias = revisiones.etag(Agregado.DIAS_NO_LECTIVOS_ANO, anoEscolarId);
+
+        revisiones.incrementarReferencias();
+
+        assertThat(revisiones.etag(Agregado.MALLA_ANO_ESCOLAR, anoEscolarId)).isNotEqualTo(malla);
+        assertThat(revisiones.etag(Agregado.DIAS_NO_LECTIVOS_ANO, anoEscolarId)).isNotEqualTo(dias);
+    }
+
+    @Test
+    void etag_alPasarLaVentanaDeVigencia_cambia() {
+        UUID cursoId = UUID.randomUUID();
+        String etag = revisiones.etag(Agregado.JORNADA_CURSO, cursoId);
+
+        reloj.set(999);
+        assertThat(revisiones.etag(Agregado.JORNADA_CURSO, cursoId)).isEqualTo(etag);
+        reloj.set(1_000);
+        assertThat(revisiones.etag(Agregado.JORNADA_CURSO, cursoId)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void incrementar_dentroDeTransaccion_seAplicaAlConfirmar() {
+        UUID cursoId = UUID.randomUUID();
+        String etag = revisiones.etag(Agregado.JORNADA_CURSO, cursoId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revisiones.incrementar(Agregado.JORNADA_CURSO, cursoId);
+            assertThat(revisiones.etag(Agregado.JORNADA_CURSO, cursoId)).isEqualTo(etag);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(revisiones.etag(Agregado.JORNADA_CURSO, cursoId)).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,53 @@
+package com.schoolmate.api.common.transaccion;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrasConfirmarTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void ejecutar_sinTransaccion_correDeInmediato() {
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        TrasConfirmar.ejecutar(ejecuciones::incrementAndGet);
+
+        assertThat(ejecuciones).hasValue(1);
+    }
+
+    @Test
+    void ejecutar_enTransaccion_correSoloAlConfirmar() {
+        AtomicInteger ejecuciones = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TrasConfirmar.ejecutar(ejecuciones::incrementAndGet);
+        assertThat(ejecuciones).hasValue(0);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(ejecuciones).hasValue(1);
+    }
+
+    @Test
+    void ejecutar_transaccionRevertida_noCorre() {
+        AtomicInteger ejecuciones = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TrasConfirmar.ejecutar(ejecuciones::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(ejecuciones).hasValue(0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.schoolmate.api.config;
+
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.security.SecurityErrorResponseWriter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadFilterTest {
+
+    @Mock
+    private ClockProvider clockProvider;
+
+    private SecurityErrorResponseWriter errorWriter;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("error.service.busy", Locale.getDefault(), "Servidor ocupado");
+        errorWriter = new SecurityErrorResponseWriter(clockProvider, messageSource);
+    }
+
+    @Test
+    void doFilter_sinPermisosConfigurados_noLimita() throws Exception {
+        BulkheadFilter filter = new BulkheadFilter(0, 10, errorWriter);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.estadisticas().admitidos()).isZero();
+    }
+
+    @Test
+    void doFilter_conPermisoLibre_atiendeYLoDevuelve() throws Exception {
+        BulkheadFilter filter = new BulkheadFilter(1, 10, errorWriter);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(filter.estadisticas()).isEqualTo(new BulkheadFilter.Estadisticas(1, 0, 0, 1, 0));
+    }
+
+    @Test
+    void doFilter_sinPermisosDisponibles_respondeServiceBusySinLlegarAlController() throws Exception {
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 10, 10, 0));
+        BulkheadFilter filter = new BulkheadFilter(1, 10, errorWriter);
+        CountDownLatch enCurso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        FilterChain lenta = (req, res) -> {
+            enCurso.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> primero = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request(), new MockHttpServletResponse(), lenta);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(enCurso.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"code\":\"SERVICE_BUSY\"");
+        assertThat(filter.estadisticas().enUso()).isEqualTo(1);
+        assertThat(filter.estadisticas().rechazados()).isEqualTo(1);
+
+        liberar.countDown();
+        primero.get(5, TimeUnit.SECONDS);
+        assertThat(filter.estadisticas().enUso()).isZero();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/profesor/mis-clases-hoy");
+    }
+}
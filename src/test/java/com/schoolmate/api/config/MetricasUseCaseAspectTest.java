@@ -0,0 +1,52 @@
+package com.schoolmate.api.config;
+
+import com.schoolmate.api.common.metricas.MetricasUseCases;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.AsistenciaClaseRepository;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import com.schoolmate.api.repository.RegistroAsistenciaRepository;
+import com.schoolmate.api.usecase.asistencia.ObtenerAsistenciaClase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricasUseCaseAspectTest {
+
+    @Mock
+    private BloqueHorarioRepository bloqueHorarioRepository;
+    @Mock
+    private AsistenciaClaseRepository asistenciaClaseRepository;
+    @Mock
+    private RegistroAsistenciaRepository registroAsistenciaRepository;
+
+    @Test
+    void medir_useCaseAnotadoConService_registraLaInvocacion() {
+        MetricasUseCases metricas = new MetricasUseCases();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ObtenerAsistenciaClase(
+            bloqueHorarioRepository, asistenciaClaseRepository, registroAsistenciaRepository));
+        factory.addAspect(new MetricasUseCaseAspect(metricas));
+        ObtenerAsistenciaClase useCase = factory.getProxy();
+        when(bloqueHorarioRepository.findById(any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(UUID.randomUUID(), LocalDate.of(2026, 3, 10), null))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(metricas.resumen()).singleElement().satisfies(resumen -> {
+            assertThat(resumen.useCase()).isEqualTo("ObtenerAsistenciaClase.execute");
+            assertThat(resumen.invocaciones()).isEqualTo(1);
+            assertThat(resumen.errores()).isEqualTo(1);
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.schoolmate.api.controller;
 import com.schoolmate.api.config.AnoEscolarHeaderInterceptor;
 import com.schoolmate.api.dto.response.AlumnoPageResponse;
 import com.schoolmate.api.dto.response.AlumnoResponse;
+import com.schoolmate.api.dto.response.ImportacionAlumnosResponse;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.security.AnoEscolarActivo;
 import com.schoolmate.api.support.TestAnoEscolarResolver;
@@ -10,6 +11,7 @@ import com.schoolmate.api.usecase.alumno.ActualizarAlumno;
 import com.schoolmate.api.usecase.alumno.BuscarAlumnoPorRut;
 import com.schoolmate.api.usecase.alumno.CrearAlumno;
 import com.schoolmate.api.usecase.alumno.CrearAlumnoConApoderado;
+import com.schoolmate.api.usecase.alumno.ImportarAlumnosConApoderado;
 import com.schoolmate.api.usecase.alumno.ObtenerAlumnos;
 import com.schoolmate.api.usecase.alumno.ObtenerDetalleAlumno;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -66,6 +69,9 @@ class AlumnoControllerContractTest {
     @Mock
     private CrearAlumnoConApoderado crearAlumnoConApoderado;
 
+    @Mock
+    private ImportarAlumnosConApoderado importarAlumnosConApoderado;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -83,7 +89,8 @@ class AlumnoControllerContractTest {
             buscarAlumnoPorRut,
             crearAlumno,
             actualizarAlumno,
-            crearAlumnoConApoderado
+            crearAlumnoConApoderado,
+            importarAlumnosConApoderado
         );
 
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
@@ -397,6 +404,44 @@ class AlumnoControllerContractTest {
         verifyNoInteractions(crearAlumnoConApoderado);
     }
 
+    @Test
+    void importar_conCsv_retorna200ConReporteDeErrores() throws Exception {
+        String csv = """
+            alumno_rut,alumno_nombre,alumno_apellido,alumno_fecha_nacimiento,apoderado_rut,apoderado_nombre,apoderado_apellido,apoderado_email,apoderado_telefono,vinculo
+            23456789-1,Valentina,Torres,2012-03-15,87654321-0,Andrea,Torres,andrea.torres@test.cl,,MADRE
+            """;
+        when(importarAlumnosConApoderado.execute(any(InputStream.class)))
+            .thenReturn(ImportacionAlumnosResponse.builder()
+                .filasLeidas(1)
+                .filasConError(1)
+                .errores(List.of(ImportacionAlumnosResponse.ErrorFila.builder()
+                    .linea(2)
+                    .rutAlumno("23456789-1")
+                    .mensaje("Ya existe un alumno con RUT 23456789-1")
+                    .build()))
+                .build());
+
+        mockMvc.perform(post("/api/alumnos/importar")
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.filasLeidas").value(1))
+            .andExpect(jsonPath("$.errores[0].linea").value(2))
+            .andExpect(jsonPath("$.errores[0].rutAlumno").value("23456789-1"));
+
+        verify(importarAlumnosConApoderado).execute(any(InputStream.class));
+    }
+
+    @Test
+    void importar_conJson_retorna415YNoEjecutaUseCase() throws Exception {
+        mockMvc.perform(post("/api/alumnos/importar")
+                .contentType("application/json")
+                .content("{}"))
+            .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(importarAlumnosConApoderado);
+    }
+
     private static AlumnoResponse alumnoResponse(UUID id, String rut, String nombre, String apellido) {
         return AlumnoResponse.builder()
             .id(id)
@@ -3,6 +3,7 @@ package com.schoolmate.api.controller;
 import com.schoolmate.api.dto.request.AnoEscolarRequest;
 import com.schoolmate.api.dto.response.AnoEscolarPageResponse;
 import com.schoolmate.api.dto.response.AnoEscolarResponse;
+import com.schoolmate.api.dto.response.ArchivoAsistenciaAnoResponse;
 import com.schoolmate.api.support.TestAnoEscolarResolver;
 import com.schoolmate.api.support.TestJsonMapperFactory;
 import com.schoolmate.api.usecase.anoescolar.ActualizarAnoEscolar;
@@ -10,6 +11,8 @@ import com.schoolmate.api.usecase.anoescolar.CrearAnoEscolar;
 import com.schoolmate.api.usecase.anoescolar.ListarAnosEscolares;
 import com.schoolmate.api.usecase.anoescolar.ObtenerAnoEscolar;
 import com.schoolmate.api.usecase.anoescolar.ObtenerAnoEscolarActivo;
+import com.schoolmate.api.usecase.asistencia.ArchivarAsistenciaAnoEscolar;
+import com.schoolmate.api.usecase.asistencia.ObtenerArchivoAsistenciaAnoEscolar;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,6 +49,8 @@ class AnoEscolarControllerContractTest {
     @Mock private ObtenerAnoEscolarActivo obtenerAnoEscolarActivo;
     @Mock private CrearAnoEscolar crearAnoEscolar;
     @Mock private ActualizarAnoEscolar actualizarAnoEscolar;
+    @Mock private ArchivarAsistenciaAnoEscolar archivarAsistenciaAnoEscolar;
+    @Mock private ObtenerArchivoAsistenciaAnoEscolar obtenerArchivoAsistenciaAnoEscolar;
 
     private MockMvc mockMvc;
 
@@ -56,7 +61,9 @@ class AnoEscolarControllerContractTest {
             obtenerAnoEscolar,
             obtenerAnoEscolarActivo,
             crearAnoEscolar,
-            actualizarAnoEscolar
+            actualizarAnoEscolar,
+            archivarAsistenciaAnoEscolar,
+            obtenerArchivoAsistenciaAnoEscolar
         );
 
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
@@ -102,6 +109,44 @@ class AnoEscolarControllerContractTest {
         verify(obtenerAnoEscolar).execute(id);
     }
 
+    @Test
+    void archivarAsistencia_retorna202YDelega() throws Exception {
+        UUID id = UUID.fromString("112f1f40-4a78-4ef7-9324-b5d3c19533b4");
+        when(archivarAsistenciaAnoEscolar.execute(id)).thenReturn(ArchivoAsistenciaAnoResponse.builder()
+            .anoEscolarId(id)
+            .estado("PENDIENTE")
+            .cursosTotal(24)
+            .build());
+
+        mockMvc.perform(post("/api/anos-escolares/{id}/archivo-asistencia", id))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.anoEscolarId").value("112f1f40-4a78-4ef7-9324-b5d3c19533b4"))
+            .andExpect(jsonPath("$.estado").value("PENDIENTE"))
+            .andExpect(jsonPath("$.cursosTotal").value(24));
+
+        verify(archivarAsistenciaAnoEscolar).execute(id);
+    }
+
+    @Test
+    void archivoAsistencia_retorna200ConAvance() throws Exception {
+        UUID id = UUID.fromString("112f1f40-4a78-4ef7-9324-b5d3c19533b4");
+        when(obtenerArchivoAsistenciaAnoEscolar.execute(id)).thenReturn(ArchivoAsistenciaAnoResponse.builder()
+            .anoEscolarId(id)
+            .estado("EN_CURSO")
+            .cursosTotal(24)
+            .cursosProcesados(10)
+            .registrosArchivados(183_000)
+            .build());
+
+        mockMvc.perform(get("/api/anos-escolares/{id}/archivo-asistencia", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.estado").value("EN_CURSO"))
+            .andExpect(jsonPath("$.cursosProcesados").value(10))
+            .andExpect(jsonPath("$.registrosArchivados").value(183000));
+
+        verify(obtenerArchivoAsistenciaAnoEscolar).execute(id);
+    }
+
     @Test
     void obtenerActivo_retorna200() throws Exception {
         when(obtenerAnoEscolarActivo.execute()).thenReturn(anoEscolarResponse());
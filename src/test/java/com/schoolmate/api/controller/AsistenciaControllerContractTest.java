@@ -1,14 +1,22 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.config.AnoEscolarHeaderInterceptor;
+import com.schoolmate.api.dto.request.GuardarAsistenciaLoteRequest;
 import com.schoolmate.api.dto.request.GuardarAsistenciaRequest;
 import com.schoolmate.api.dto.response.AsistenciaClaseResponse;
+import com.schoolmate.api.dto.response.GuardarAsistenciaLoteResponse;
+import com.schoolmate.api.dto.response.ReconstruccionResumenAsistenciaResponse;
 import com.schoolmate.api.dto.response.RegistroAsistenciaResponse;
+import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.enums.EstadoAsistencia;
 import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.repository.EventoAuditoriaRepository;
 import com.schoolmate.api.security.UserPrincipal;
+import com.schoolmate.api.usecase.asistencia.ExportarAsistencia;
 import com.schoolmate.api.usecase.asistencia.GuardarAsistenciaClase;
+import com.schoolmate.api.usecase.asistencia.GuardarAsistenciaClasesLote;
 import com.schoolmate.api.usecase.asistencia.ObtenerAsistenciaClase;
+import com.schoolmate.api.usecase.asistencia.ReconstruirResumenAsistenciaAlumnos;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -17,8 +25,10 @@ import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfig
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,10 +41,13 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(
@@ -60,9 +73,18 @@ class AsistenciaControllerContractTest {
     @MockitoBean
     private GuardarAsistenciaClase guardarAsistenciaClase;
 
+    @MockitoBean
+    private GuardarAsistenciaClasesLote guardarAsistenciaClasesLote;
+
     @MockitoBean
     private ObtenerAsistenciaClase obtenerAsistenciaClase;
 
+    @MockitoBean
+    private ReconstruirResumenAsistenciaAlumnos reconstruirResumenAsistenciaAlumnos;
+
+    @MockitoBean
+    private ExportarAsistencia exportarAsistencia;
+
     @MockitoBean
     private EventoAuditoriaRepository eventoAuditoriaRepository;
 
@@ -150,6 +172,71 @@ class AsistenciaControllerContractTest {
         verifyNoInteractions(guardarAsistenciaClase);
     }
 
+    @Test
+    void guardarLote_conProfesor_retorna200YResultadoPorItem() throws Exception {
+        UserPrincipal profesor = profesorPrincipal();
+
+        when(guardarAsistenciaClasesLote.execute(
+            any(GuardarAsistenciaLoteRequest.class), eq(profesor.getProfesorId()), eq(profesor.getId()), eq(Rol.PROFESOR)))
+            .thenReturn(GuardarAsistenciaLoteResponse.builder()
+                .guardadas(1)
+                .rechazadas(1)
+                .resultados(List.of(
+                    GuardarAsistenciaLoteResponse.ResultadoItem.builder()
+                        .indice(0)
+                        .bloqueHorarioId(UUID.fromString("bc458f8f-cc2f-4a3c-9a6d-780b5206d5e9"))
+                        .fecha(LocalDate.of(2026, 6, 10))
+                        .estado("GUARDADA")
+                        .status(201)
+                        .asistencia(asistenciaResponse())
+                        .build(),
+                    GuardarAsistenciaLoteResponse.ResultadoItem.builder()
+                        .indice(1)
+                        .bloqueHorarioId(UUID.fromString("bc458f8f-cc2f-4a3c-9a6d-780b5206d5e9"))
+                        .fecha(LocalDate.of(2026, 6, 10))
+                        .estado("RECHAZADA")
+                        .status(400)
+                        .code("BUSINESS_RULE")
+                        .mensaje("El lote contiene más de una asistencia para el mismo bloque y fecha")
+                        .build()))
+                .build());
+
+        mockMvc.perform(post("/api/asistencia/clases/lote")
+                .with(authenticated(profesor))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"asistencias\":[" + guardarRequestJson() + "," + guardarRequestJson() + "]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.guardadas").value(1))
+            .andExpect(jsonPath("$.rechazadas").value(1))
+            .andExpect(jsonPath("$.resultados[0].estado").value("GUARDADA"))
+            .andExpect(jsonPath("$.resultados[0].asistencia.asistenciaClaseId").value("f3f32416-37b9-4a0d-9f56-77d4d9fe4f3a"))
+            .andExpect(jsonPath("$.resultados[1].estado").value("RECHAZADA"))
+            .andExpect(jsonPath("$.resultados[1].code").value("BUSINESS_RULE"));
+    }
+
+    @Test
+    void guardarLote_sinAsistencias_retorna400() throws Exception {
+        mockMvc.perform(post("/api/asistencia/clases/lote")
+                .with(authenticated(profesorPrincipal()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"asistencias\":[]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+
+        verifyNoInteractions(guardarAsistenciaClasesLote);
+    }
+
+    @Test
+    void guardarLote_conRolIncorrecto_retorna403() throws Exception {
+        mockMvc.perform(post("/api/asistencia/clases/lote")
+                .with(authenticated(apoderadoPrincipal()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"asistencias\":[" + guardarRequestJson() + "]}"))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(guardarAsistenciaClasesLote);
+    }
+
     @Test
     void obtener_sinAutenticacion_retorna401() throws Exception {
         mockMvc.perform(get("/api/asistencia/clase")
@@ -210,6 +297,70 @@ class AsistenciaControllerContractTest {
         verify(obtenerAsistenciaClase).execute(bloqueId, fecha, null);
     }
 
+    @Test
+    void reconstruirResumen_conAdmin_retorna200YDelegaConAnoEscolar() throws Exception {
+        UUID anoEscolarId = UUID.randomUUID();
+        when(reconstruirResumenAsistenciaAlumnos.execute(anoEscolarId))
+            .thenReturn(new ReconstruccionResumenAsistenciaResponse(anoEscolarId, 412));
+
+        mockMvc.perform(post("/api/asistencia/resumen-alumnos/reconstruir")
+                .with(authenticated(adminPrincipal()))
+                .requestAttr(AnoEscolarHeaderInterceptor.REQUEST_ATTR, AnoEscolar.builder().id(anoEscolarId).build()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.anoEscolarId").value(anoEscolarId.toString()))
+            .andExpect(jsonPath("$.alumnosConResumen").value(412));
+
+        verify(reconstruirResumenAsistenciaAlumnos).execute(anoEscolarId);
+    }
+
+    @Test
+    void reconstruirResumen_conProfesor_retorna403() throws Exception {
+        mockMvc.perform(post("/api/asistencia/resumen-alumnos/reconstruir")
+                .with(authenticated(profesorPrincipal()))
+                .requestAttr(AnoEscolarHeaderInterceptor.REQUEST_ATTR, AnoEscolar.builder().id(UUID.randomUUID()).build()))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(reconstruirResumenAsistenciaAlumnos);
+    }
+
+    @Test
+    void exportar_conAdmin_escribeCsvComoAdjunto() throws Exception {
+        AnoEscolar anoEscolar = AnoEscolar.builder().id(UUID.randomUUID()).ano(2026).build();
+        UUID cursoId = UUID.randomUUID();
+        LocalDate desde = LocalDate.of(2026, 3, 1);
+        LocalDate hasta = LocalDate.of(2026, 3, 31);
+        when(exportarAsistencia.execute(anoEscolar, cursoId, desde, hasta))
+            .thenReturn(new ExportarAsistencia.Archivo(
+                "asistencia-2026-2026-03-01-2026-03-31.csv",
+                salida -> salida.write("fecha;curso\r\n".getBytes(StandardCharsets.UTF_8))));
+
+        MvcResult resultado = mockMvc.perform(get("/api/asistencia/exportar")
+                .with(authenticated(adminPrincipal()))
+                .requestAttr(AnoEscolarHeaderInterceptor.REQUEST_ATTR, anoEscolar)
+                .param("cursoId", cursoId.toString())
+                .param("desde", "2026-03-01")
+                .param("hasta", "2026-03-31"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string("Content-Disposition",
+                "attachment; filename=\"asistencia-2026-2026-03-01-2026-03-31.csv\""))
+            .andExpect(content().string("fecha;curso\r\n"));
+    }
+
+    @Test
+    void exportar_conProfesor_retorna403() throws Exception {
+        mockMvc.perform(get("/api/asistencia/exportar")
+                .with(authenticated(profesorPrincipal()))
+                .requestAttr(AnoEscolarHeaderInterceptor.REQUEST_ATTR, AnoEscolar.builder().id(UUID.randomUUID()).build()))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(exportarAsistencia);
+    }
+
     private static String guardarRequestJson() {
         return """
             {
@@ -1,8 +1,10 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.dto.response.EventoAuditoriaCursorResponse;
 import com.schoolmate.api.dto.response.EventoAuditoriaPageResponse;
 import com.schoolmate.api.dto.response.EventoAuditoriaResponse;
 import com.schoolmate.api.usecase.auditoria.ConsultarEventosAuditoria;
+import com.schoolmate.api.usecase.auditoria.ListarEventosAuditoriaPorCursor;
 import com.schoolmate.api.support.TestJsonMapperFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,12 +30,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class AuditoriaControllerContractTest {
 
     @Mock private ConsultarEventosAuditoria consultarEventosAuditoria;
+    @Mock private ListarEventosAuditoriaPorCursor listarEventosAuditoriaPorCursor;
 
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        AuditoriaController controller = new AuditoriaController(consultarEventosAuditoria);
+        AuditoriaController controller = new AuditoriaController(consultarEventosAuditoria, listarEventosAuditoriaPorCursor);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
             .setMessageConverters(new JacksonJsonHttpMessageConverter(TestJsonMapperFactory.create()))
             .build();
@@ -56,23 +59,48 @@ class AuditoriaControllerContractTest {
         verify(consultarEventosAuditoria).execute(null, null, null, null, null, 0, 50);
     }
 
+    @Test
+    void listarPorCursor_retorna200YDelegaCursor() throws Exception {
+        when(listarEventosAuditoriaPorCursor.execute(null, "POST", null, null, null, "abc", 20, false))
+            .thenReturn(EventoAuditoriaCursorResponse.builder()
+                .eventos(List.of(eventoResponse()))
+                .hayMas(true)
+                .siguienteCursor("def")
+                .build());
+
+        mockMvc.perform(get("/api/auditoria/eventos")
+                .param("metodoHttp", "POST")
+                .param("cursor", "abc")
+                .param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.eventos[0].id").value("af7887d8-5579-4e23-a8d0-b2f8ea030831"))
+            .andExpect(jsonPath("$.hayMas").value(true))
+            .andExpect(jsonPath("$.siguienteCursor").value("def"));
+
+        verify(listarEventosAuditoriaPorCursor).execute(null, "POST", null, null, null, "abc", 20, false);
+    }
+
     private static EventoAuditoriaPageResponse eventoPageResponse() {
         return EventoAuditoriaPageResponse.builder()
-            .eventos(List.of(EventoAuditoriaResponse.builder()
-                .id(UUID.fromString("af7887d8-5579-4e23-a8d0-b2f8ea030831"))
-                .usuarioEmail("admin@test.cl")
-                .usuarioRol("ADMIN")
-                .metodoHttp("POST")
-                .endpoint("/api/matriculas")
-                .requestBody(Map.of("alumnoId", "1", "cursoId", "2"))
-                .responseStatus(201)
-                .ipAddress("127.0.0.1")
-                .anoEscolarId(UUID.fromString("d7034e9a-b161-40bc-a95e-906be1853d4c"))
-                .fechaHora(LocalDateTime.of(2026, 6, 10, 10, 30))
-                .build()))
+            .eventos(List.of(eventoResponse()))
             .totalElements(1L)
             .totalPages(1)
             .currentPage(0)
             .build();
     }
+
+    private static EventoAuditoriaResponse eventoResponse() {
+        return EventoAuditoriaResponse.builder()
+            .id(UUID.fromString("af7887d8-5579-4e23-a8d0-b2f8ea030831"))
+            .usuarioEmail("admin@test.cl")
+            .usuarioRol("ADMIN")
+            .metodoHttp("POST")
+            .endpoint("/api/matriculas")
+            .requestBody(Map.of("alumnoId", "1", "cursoId", "2"))
+            .responseStatus(201)
+            .ipAddress("127.0.0.1")
+            .anoEscolarId(UUID.fromString("d7034e9a-b161-40bc-a95e-906be1853d4c"))
+            .fechaHora(LocalDateTime.of(2026, 6, 10, 10, 30))
+            .build();
+    }
 }
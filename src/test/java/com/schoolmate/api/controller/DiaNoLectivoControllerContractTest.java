@@ -1,5 +1,6 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.config.AnoEscolarHeaderInterceptor;
 import com.schoolmate.api.dto.request.CrearDiaNoLectivoRequest;
 import com.schoolmate.api.dto.response.DiaNoLectivoPageResponse;
@@ -32,6 +33,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +43,7 @@ class DiaNoLectivoControllerContractTest {
     @Mock private ListarDiasNoLectivos listarDiasNoLectivos;
     @Mock private CrearDiasNoLectivos crearDiasNoLectivos;
     @Mock private EliminarDiaNoLectivo eliminarDiaNoLectivo;
+    private final RevisionAgregados revisionAgregados = new RevisionAgregados(300);
 
     private MockMvc mockMvc;
 
@@ -49,7 +52,8 @@ class DiaNoLectivoControllerContractTest {
         DiaNoLectivoController controller = new DiaNoLectivoController(
             listarDiasNoLectivos,
             crearDiasNoLectivos,
-            eliminarDiaNoLectivo
+            eliminarDiaNoLectivo,
+            revisionAgregados
         );
 
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
@@ -62,6 +66,20 @@ class DiaNoLectivoControllerContractTest {
             .build();
     }
 
+    @Test
+    void listar_conEtagVigente_retorna304SinDelegar() throws Exception {
+        UUID anoEscolarId = UUID.randomUUID();
+        String etag = revisionAgregados.etag(RevisionAgregados.Agregado.DIAS_NO_LECTIVOS_ANO, anoEscolarId);
+
+        mockMvc.perform(get("/api/dias-no-lectivos")
+                .requestAttr(AnoEscolarHeaderInterceptor.REQUEST_ATTR, anoEscolar(anoEscolarId))
+                .header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+
+        verifyNoInteractions(listarDiasNoLectivos);
+    }
+
     @Test
     void listar_retorna200YDelega() throws Exception {
         UUID anoEscolarId = UUID.randomUUID();
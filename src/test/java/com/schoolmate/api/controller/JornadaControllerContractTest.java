@@ -1,9 +1,11 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.AsignarMateriaRequest;
 import com.schoolmate.api.dto.request.AsignarProfesorRequest;
 import com.schoolmate.api.dto.request.CopiarJornadaRequest;
 import com.schoolmate.api.dto.request.JornadaDiaRequest;
+import com.schoolmate.api.dto.request.JornadaSemanaRequest;
 import com.schoolmate.api.dto.response.AsignacionMateriaResumenResponse;
 import com.schoolmate.api.dto.response.AsignacionProfesoresResumenResponse;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
@@ -16,11 +18,13 @@ import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.security.UserPrincipal;
 import com.schoolmate.api.support.TestAuthenticationPrincipalResolver;
 import com.schoolmate.api.support.TestJsonMapperFactory;
+import com.schoolmate.api.usecase.jornada.AplicarJornadaCursos;
 import com.schoolmate.api.usecase.jornada.AsignarMateriaBloque;
 import com.schoolmate.api.usecase.jornada.AsignarProfesorBloque;
 import com.schoolmate.api.usecase.jornada.CopiarJornadaDia;
 import com.schoolmate.api.usecase.jornada.EliminarJornadaDia;
 import com.schoolmate.api.usecase.jornada.GuardarJornadaDia;
+import com.schoolmate.api.usecase.jornada.GuardarJornadaSemana;
 import com.schoolmate.api.usecase.jornada.ObtenerJornadaCurso;
 import com.schoolmate.api.usecase.jornada.ObtenerMateriasDisponibles;
 import com.schoolmate.api.usecase.jornada.ObtenerProfesoresDisponibles;
@@ -52,6 +56,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -59,6 +64,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class JornadaControllerContractTest {
 
     @Mock private GuardarJornadaDia guardarJornadaDia;
+    @Mock private GuardarJornadaSemana guardarJornadaSemana;
+    @Mock private AplicarJornadaCursos aplicarJornadaCursos;
     @Mock private ObtenerJornadaCurso obtenerJornadaCurso;
     @Mock private CopiarJornadaDia copiarJornadaDia;
     @Mock private EliminarJornadaDia eliminarJornadaDia;
@@ -70,6 +77,7 @@ class JornadaControllerContractTest {
     @Mock private AsignarProfesorBloque asignarProfesorBloque;
     @Mock private QuitarProfesorBloque quitarProfesorBloque;
     @Mock private ObtenerResumenAsignacionProfesores obtenerResumenAsignacionProfesores;
+    private final RevisionAgregados revisionAgregados = new RevisionAgregados(300);
 
     private MockMvc mockMvc;
 
@@ -77,6 +85,8 @@ class JornadaControllerContractTest {
     void setUp() {
         JornadaController controller = new JornadaController(
             guardarJornadaDia,
+            guardarJornadaSemana,
+            aplicarJornadaCursos,
             obtenerJornadaCurso,
             copiarJornadaDia,
             eliminarJornadaDia,
@@ -87,7 +97,8 @@ class JornadaControllerContractTest {
             obtenerProfesoresDisponibles,
             asignarProfesorBloque,
             quitarProfesorBloque,
-            obtenerResumenAsignacionProfesores
+            obtenerResumenAsignacionProfesores,
+            revisionAgregados
         );
 
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
@@ -122,6 +133,54 @@ class JornadaControllerContractTest {
         verify(guardarJornadaDia).execute(eq(cursoId), eq(1), any(JornadaDiaRequest.class));
     }
 
+    @Test
+    void guardarSemana_retorna200ConJornadaArmada() throws Exception {
+        UUID cursoId = UUID.randomUUID();
+        when(guardarJornadaSemana.execute(eq(cursoId), any(JornadaSemanaRequest.class)))
+            .thenReturn(jornadaCursoResponse(cursoId));
+
+        String body = """
+            {
+              "dias":{
+                "1":{"bloques":[{"numeroBloque":1,"horaInicio":"08:00","horaFin":"08:45","tipo":"CLASE"}]}
+              }
+            }
+            """;
+
+        mockMvc.perform(put("/api/cursos/{cursoId}/jornada", cursoId)
+                .contentType("application/json")
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dias['1'].totalBloquesClase").value(1));
+
+        verify(guardarJornadaSemana).execute(eq(cursoId), any(JornadaSemanaRequest.class));
+    }
+
+    @Test
+    void guardarSemana_conDiaSinBloques_retorna400YNoDelega() throws Exception {
+        mockMvc.perform(put("/api/cursos/{cursoId}/jornada", UUID.randomUUID())
+                .contentType("application/json")
+                .content("{\"dias\":{\"1\":{\"bloques\":[]}}}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(guardarJornadaSemana);
+    }
+
+    @Test
+    void aplicarACursos_retorna200ConResumenPorCurso() throws Exception {
+        UUID cursoId = UUID.randomUUID();
+        UUID destinoId = UUID.randomUUID();
+        when(aplicarJornadaCursos.execute(cursoId, List.of(destinoId)))
+            .thenReturn(List.of(jornadaCursoResponse(destinoId).getResumen()));
+
+        mockMvc.perform(post("/api/cursos/{cursoId}/jornada/aplicar", cursoId)
+                .contentType("application/json")
+                .content("{\"cursoIds\":[\"" + destinoId + "\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].cursoId").value(destinoId.toString()))
+            .andExpect(jsonPath("$[0].totalBloquesClaseSemana").value(1));
+    }
+
     @Test
     void obtenerJornada_retorna200() throws Exception {
         UUID cursoId = UUID.randomUUID();
@@ -138,6 +197,59 @@ class JornadaControllerContractTest {
         verify(obtenerJornadaCurso).execute(cursoId, null, user);
     }
 
+    @Test
+    void obtenerJornada_adminConEtagVigente_retorna304SinDelegar() throws Exception {
+        UUID cursoId = UUID.randomUUID();
+        String etag = revisionAgregados.etag(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+
+        mockMvc.perform(get("/api/cursos/{cursoId}/jornada", cursoId)
+                .requestAttr(TestAuthenticationPrincipalResolver.REQUEST_ATTR, userPrincipal())
+                .header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+
+        verifyNoInteractions(obtenerJornadaCurso);
+    }
+
+    @Test
+    void obtenerJornada_trasModificarJornada_retorna200ConEtagNuevo() throws Exception {
+        UUID cursoId = UUID.randomUUID();
+        UserPrincipal user = userPrincipal();
+        String etagAnterior = revisionAgregados.etag(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+        revisionAgregados.incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
+        when(obtenerJornadaCurso.execute(cursoId, null, user)).thenReturn(jornadaCursoResponse(cursoId));
+
+        mockMvc.perform(get("/api/cursos/{cursoId}/jornada", cursoId)
+                .requestAttr(TestAuthenticationPrincipalResolver.REQUEST_ATTR, user)
+                .header("If-None-Match", etagAnterior))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", revisionAgregados.etag(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId)))
+            .andExpect(jsonPath("$.cursoId").value(cursoId.toString()));
+    }
+
+    @Test
+    void obtenerJornada_apoderadoConEtagVigente_validaAccesoYRetorna304() throws Exception {
+        UUID cursoId = UUID.randomUUID();
+        UserPrincipal apoderado = new UserPrincipal(
+            UUID.randomUUID(),
+            "apoderado@test.cl",
+            "pwd",
+            Rol.APODERADO,
+            null,
+            UUID.randomUUID(),
+            "Apo",
+            "Derado"
+        );
+        when(obtenerJornadaCurso.execute(cursoId, null, apoderado)).thenReturn(jornadaCursoResponse(cursoId));
+
+        mockMvc.perform(get("/api/cursos/{cursoId}/jornada", cursoId)
+                .requestAttr(TestAuthenticationPrincipalResolver.REQUEST_ATTR, apoderado)
+                .header("If-None-Match", revisionAgregados.etag(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId)))
+            .andExpect(status().isNotModified());
+
+        verify(obtenerJornadaCurso).execute(cursoId, null, apoderado);
+    }
+
     @Test
     void obtenerResumen_retorna200() throws Exception {
         UUID cursoId = UUID.randomUUID();
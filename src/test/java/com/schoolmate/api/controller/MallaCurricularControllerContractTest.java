@@ -1,5 +1,6 @@
 package com.schoolmate.api.controller;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.config.AnoEscolarHeaderInterceptor;
 import com.schoolmate.api.dto.request.MallaCurricularBulkRequest;
 import com.schoolmate.api.dto.request.MallaCurricularRequest;
@@ -38,6 +39,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +53,7 @@ class MallaCurricularControllerContractTest {
     @Mock private ActualizarMallaCurricular actualizarMallaCurricular;
     @Mock private GuardarMallaCurricularBulk guardarMallaCurricularBulk;
     @Mock private EliminarMallaCurricular eliminarMallaCurricular;
+    private final RevisionAgregados revisionAgregados = new RevisionAgregados(300);
 
     private MockMvc mockMvc;
 
@@ -63,7 +66,8 @@ class MallaCurricularControllerContractTest {
             crearMallaCurricular,
             actualizarMallaCurricular,
             guardarMallaCurricularBulk,
-            eliminarMallaCurricular
+            eliminarMallaCurricular,
+            revisionAgregados
         );
 
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
@@ -3,9 +3,13 @@ package com.schoolmate.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.schoolmate.api.common.time.OverridableClockProvider;
 import com.schoolmate.api.dto.request.CambiarEstadoMatriculaRequest;
+import com.schoolmate.api.dto.request.MatriculaLoteRequest;
 import com.schoolmate.api.dto.request.MatriculaRequest;
+import com.schoolmate.api.dto.request.PromocionAnoEscolarRequest;
+import com.schoolmate.api.dto.response.MatriculaLoteResponse;
 import com.schoolmate.api.dto.response.MatriculaPageResponse;
 import com.schoolmate.api.dto.response.MatriculaResponse;
+import com.schoolmate.api.dto.response.PromocionAnoEscolarResponse;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.repository.AnoEscolarRepository;
@@ -13,8 +17,10 @@ import com.schoolmate.api.repository.EventoAuditoriaRepository;
 import com.schoolmate.api.security.UserPrincipal;
 import com.schoolmate.api.usecase.matricula.CambiarEstadoMatricula;
 import com.schoolmate.api.usecase.matricula.MatricularAlumno;
+import com.schoolmate.api.usecase.matricula.MatricularAlumnosLote;
 import com.schoolmate.api.usecase.matricula.ObtenerMatriculasPorAlumno;
 import com.schoolmate.api.usecase.matricula.ObtenerMatriculasPorCurso;
+import com.schoolmate.api.usecase.matricula.PromoverAnoEscolar;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -71,6 +77,12 @@ class MatriculaControllerContractTest {
     @MockitoBean
     private MatricularAlumno matricularAlumno;
 
+    @MockitoBean
+    private MatricularAlumnosLote matricularAlumnosLote;
+
+    @MockitoBean
+    private PromoverAnoEscolar promoverAnoEscolar;
+
     @MockitoBean
     private CambiarEstadoMatricula cambiarEstadoMatricula;
 
@@ -201,6 +213,86 @@ class MatriculaControllerContractTest {
         verify(matricularAlumno).execute(any(MatriculaRequest.class), eq(anoEscolarId));
     }
 
+    @Test
+    void matricularLote_conListaVacia_retorna400() throws Exception {
+        UUID anoEscolarId = UUID.randomUUID();
+        when(anoEscolarRepository.findById(anoEscolarId)).thenReturn(Optional.of(anoEscolarActivo(anoEscolarId)));
+
+        mockMvc.perform(post("/api/matriculas/lote")
+                .with(authenticated(adminPrincipal()))
+                .header("X-Ano-Escolar-Id", anoEscolarId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cursoId\":\"5f076705-746e-4376-a25a-6e16204f04ba\",\"alumnoIds\":[]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+
+        verifyNoInteractions(matricularAlumnosLote);
+    }
+
+    @Test
+    void matricularLote_conAdmin_retorna200YResumen() throws Exception {
+        UUID anoEscolarId = UUID.randomUUID();
+        UUID cursoId = UUID.fromString("5f076705-746e-4376-a25a-6e16204f04ba");
+        UUID yaMatriculado = UUID.fromString("dab4e68c-118f-47bf-ad22-684b67ce0fe5");
+        when(anoEscolarRepository.findById(anoEscolarId)).thenReturn(Optional.of(anoEscolarActivo(anoEscolarId)));
+        when(matricularAlumnosLote.execute(any(MatriculaLoteRequest.class), eq(anoEscolarId)))
+            .thenReturn(MatriculaLoteResponse.builder()
+                .cursoId(cursoId)
+                .solicitados(3)
+                .matriculados(2)
+                .yaMatriculados(List.of(yaMatriculado))
+                .noEncontrados(List.of())
+                .build());
+
+        mockMvc.perform(post("/api/matriculas/lote")
+                .with(authenticated(adminPrincipal()))
+                .header("X-Ano-Escolar-Id", anoEscolarId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(MatriculaLoteRequest.builder()
+                    .cursoId(cursoId)
+                    .alumnoIds(List.of(yaMatriculado, UUID.randomUUID(), UUID.randomUUID()))
+                    .build())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matriculados").value(2))
+            .andExpect(jsonPath("$.yaMatriculados[0]").value(yaMatriculado.toString()));
+    }
+
+    @Test
+    void promover_conRolIncorrecto_retorna403() throws Exception {
+        mockMvc.perform(post("/api/matriculas/promociones")
+                .with(authenticated(profesorPrincipal()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PromocionAnoEscolarRequest(
+                    UUID.randomUUID(), UUID.randomUUID(), null))))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(promoverAnoEscolar);
+    }
+
+    @Test
+    void promover_conAdmin_retorna202YEstadoPendiente() throws Exception {
+        UUID origen = UUID.randomUUID();
+        UUID destino = UUID.randomUUID();
+        when(promoverAnoEscolar.execute(any(PromocionAnoEscolarRequest.class)))
+            .thenReturn(PromocionAnoEscolarResponse.builder()
+                .id(UUID.fromString("0b0f7a43-5d0e-4f52-9a53-3f3b8d1c2e10"))
+                .anoOrigenId(origen)
+                .anoDestinoId(destino)
+                .estado("PENDIENTE")
+                .fechaMatricula("2027-03-01")
+                .cursosTotal(24)
+                .build());
+
+        mockMvc.perform(post("/api/matriculas/promociones")
+                .with(authenticated(adminPrincipal()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PromocionAnoEscolarRequest(origen, destino, null))))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.estado").value("PENDIENTE"))
+            .andExpect(jsonPath("$.cursosTotal").value(24))
+            .andExpect(jsonPath("$.cursosProcesados").value(0));
+    }
+
     @Test
     void porCurso_sinAutenticacion_retorna401() throws Exception {
         mockMvc.perform(get("/api/matriculas/curso/{cursoId}", UUID.randomUUID()))
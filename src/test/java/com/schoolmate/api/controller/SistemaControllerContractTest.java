@@ -20,10 +20,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static com.schoolmate.api.support.TestSecurityRequestPostProcessors.authenticated;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -101,6 +103,37 @@ class SistemaControllerContractTest {
             .andExpect(header().string("Cache-Control", "no-store"));
     }
 
+    @Test
+    void obtenerMetricas_conAdmin_retorna200YComponentes() throws Exception {
+        mockMvc.perform(get("/api/sistema/metricas")
+                .with(authenticated(adminPrincipal())))
+            .andExpect(status().isOk())
+            .andExpect(contentTypeJson())
+            .andExpect(jsonPath("$.useCases").isArray())
+            .andExpect(jsonPath("$.auditoria.capacidad").isNumber())
+            .andExpect(jsonPath("$.bulkhead.permisos").value(0));
+    }
+
+    @Test
+    void obtenerMetricas_conProfesor_retorna403() throws Exception {
+        mockMvc.perform(get("/api/sistema/metricas")
+                .with(authenticated(profesorPrincipal())))
+            .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/sistema/metricas/prometheus")
+                .with(authenticated(profesorPrincipal())))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void obtenerMetricasPrometheus_conAdmin_retornaFormatoTexto() throws Exception {
+        mockMvc.perform(get("/api/sistema/metricas/prometheus")
+                .with(authenticated(adminPrincipal())))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+            .andExpect(content().string(containsString("# TYPE schoolmate_auditoria_eventos_total counter")));
+    }
+
     @Test
     void endpointsLegacyDevClock_noExisten() throws Exception {
         mockMvc.perform(get("/api/dev/clock")
@@ -0,0 +1,87 @@
+package com.schoolmate.api.repository;
+
+import com.schoolmate.api.common.busqueda.SoporteTrigramas;
+import com.schoolmate.api.common.busqueda.TextoBusqueda;
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.specification.AlumnoSpecifications;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:alumno-busqueda-repository;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+    }
+)
+@ActiveProfiles("dev")
+class AlumnoBusquedaRepositoryIntegrationTest {
+
+    @Autowired private AlumnoRepository alumnoRepository;
+    @Autowired private SoporteTrigramas soporteTrigramas;
+
+    @BeforeEach
+    void setUp() {
+        TimeContext.setFixed(LocalDateTime.of(2026, 3, 10, 9, 0));
+        alumnoRepository.deleteAll();
+        alumnoRepository.saveAll(List.of(
+            alumno("11111111-1", "Martín", "Muñoz"),
+            alumno("22222222-2", "Sofía", "Peña Ríos"),
+            alumno("33333333-3", "Tomás", "Rojas")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        alumnoRepository.deleteAll();
+        TimeContext.reset();
+    }
+
+    @Test
+    void soporteTrigramas_enH2_noEstaDisponible() {
+        assertThat(soporteTrigramas.disponible()).isFalse();
+    }
+
+    @Test
+    void searchByNombreSinTildes_encuentraSinDistinguirTildesNiEnie() {
+        assertThat(apellidos(buscar("munoz"))).containsExactly("Muñoz");
+        assertThat(apellidos(buscar("MUÑOZ"))).containsExactly("Muñoz");
+        assertThat(apellidos(buscar("sofia pena"))).containsExactly("Peña Ríos");
+        assertThat(apellidos(buscar("tomas"))).containsExactly("Rojas");
+    }
+
+    private List<Alumno> buscar(String q) {
+        return alumnoRepository.findAll(AlumnoSpecifications.searchByNombreSinTildes(TextoBusqueda.normalizar(q)));
+    }
+
+    private static List<String> apellidos(List<Alumno> alumnos) {
+        return alumnos.stream().map(Alumno::getApellido).toList();
+    }
+
+    private static Alumno alumno(String rut, String nombre, String apellido) {
+        return Alumno.builder()
+            .rut(rut)
+            .nombre(nombre)
+            .apellido(apellido)
+            .fechaNacimiento(LocalDate.of(2015, 5, 20))
+            .activo(true)
+            .build();
+    }
+}
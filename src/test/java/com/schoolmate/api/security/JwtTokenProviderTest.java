@@ -0,0 +1,104 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.enums.Rol;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.io.Decoders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "c2Nob29sbWF0ZS1kZXYtc2VjcmV0LWtleS1xdWUtZGViZS10ZW5lci1hbC1tZW5vcy0yNTYtYml0cy1wYXJhLWJhc2U2NC1lbmNvZGluZw==";
+
+    @Test
+    void getUserPrincipalFromToken_mismoToken_reutilizaPrincipalCacheado() {
+        JwtTokenProvider provider = new JwtTokenProvider(config(900_000L), 100);
+        UserPrincipal original = principal();
+        String token = provider.generateToken(original);
+
+        UserPrincipal primero = provider.getUserPrincipalFromToken(token);
+        UserPrincipal segundo = provider.getUserPrincipalFromToken(token);
+
+        assertThat(primero.getId()).isEqualTo(original.getId());
+        assertThat(primero.getEmail()).isEqualTo("profesor@schoolmate.cl");
+        assertThat(primero.getRol()).isEqualTo(Rol.PROFESOR);
+        assertThat(primero.getProfesorId()).isEqualTo(original.getProfesorId());
+        assertThat(segundo).isSameAs(primero);
+    }
+
+    @Test
+    void getUserPrincipalFromToken_sinCache_retornaPrincipalNuevoCadaVez() {
+        JwtTokenProvider provider = new JwtTokenProvider(config(900_000L), 0);
+        String token = provider.generateToken(principal());
+
+        assertThat(provider.getUserPrincipalFromToken(token))
+                .isNotSameAs(provider.getUserPrincipalFromToken(token));
+    }
+
+    @Test
+    void getUserPrincipalFromToken_tokenExpirado_lanzaExpiredJwt() {
+        JwtTokenProvider provider = new JwtTokenProvider(config(-1_000L), 100);
+        String token = provider.generateToken(principal());
+
+        assertThatThrownBy(() -> provider.getUserPrincipalFromToken(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void claveFirma_secretoBase64_usaLosBytesDecodificados() {
+        assertThat(JwtTokenProvider.claveFirma(SECRET).getEncoded())
+                .isEqualTo(Decoders.BASE64.decode(SECRET));
+    }
+
+    @Test
+    void claveFirma_secretoEnTextoPlano_usaSusBytesUtf8() {
+        String secreto = "schoolmate-production-jwt-secret-key-2026-secure-minimum-256-bits-for-hs256";
+
+        assertThat(JwtTokenProvider.claveFirma(secreto).getEncoded())
+                .isEqualTo(secreto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void claveFirma_secretoCorto_fallaAlArrancar() {
+        assertThatThrownBy(() -> JwtTokenProvider.claveFirma("corto-no-base64"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("256 bits");
+    }
+
+    @Test
+    void validateToken_firmadoConOtraClave_retornaFalse() {
+        JwtTokenProvider provider = new JwtTokenProvider(config(900_000L), 100);
+        JwtConfig otraConfig = config(900_000L);
+        otraConfig.setSecret("b3RyYS1jbGF2ZS1kZS1wcnVlYmEtcXVlLWRlYmUtdGVuZXItYWwtbWVub3MtMjU2LWJpdHMtcGFyYS1oczI1Ng==");
+        String tokenAjeno = new JwtTokenProvider(otraConfig, 100).generateToken(principal());
+
+        assertThat(provider.validateToken(tokenAjeno)).isFalse();
+        assertThat(provider.validateToken(provider.generateToken(principal()))).isTrue();
+    }
+
+    private static JwtConfig config(long expiration) {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(expiration);
+        return config;
+    }
+
+    private static UserPrincipal principal() {
+        return new UserPrincipal(
+                UUID.randomUUID(),
+                "profesor@schoolmate.cl",
+                "",
+                Rol.PROFESOR,
+                UUID.randomUUID(),
+                null,
+                "Carla",
+                "Rojas"
+        );
+    }
+}
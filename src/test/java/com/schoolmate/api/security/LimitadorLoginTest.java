@@ -0,0 +1,113 @@
+package com.schoolmate.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimitadorLoginTest {
+
+    private final AtomicLong ahora = new AtomicLong();
+
+    @Test
+    void permitir_cadaIntentoReservaUnTokenYSeRecuperaConElTiempo() {
+        LimitadorLogin limitador = new LimitadorLogin(3, 6, 4, 100, ahora::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limitador.permitir("docente@schoolmate.cl")).isTrue();
+        }
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isFalse();
+
+        ahora.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isTrue();
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isFalse();
+        assertThat(limitador.estadisticas().rechazados()).isEqualTo(2);
+        assertThat(limitador.estadisticas().permitidos()).isEqualTo(4);
+    }
+
+    @Test
+    void permitir_rafagaConcurrente_soloPasaLaCapacidad() throws Exception {
+        LimitadorLogin limitador = new LimitadorLogin(3, 1, 4, 100, ahora::get);
+        int intentos = 32;
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> resultados = new ArrayList<>();
+            for (int i = 0; i < intentos; i++) {
+                resultados.add(pool.submit(() -> {
+                    largada.await();
+                    return limitador.permitir("docente@schoolmate.cl");
+                }));
+            }
+            largada.countDown();
+
+            int permitidos = 0;
+            for (Future<Boolean> resultado : resultados) {
+                permitidos += resultado.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertThat(permitidos).isEqualTo(3);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void permitir_loginsCorrectosNoCuentan() {
+        LimitadorLogin limitador = new LimitadorLogin(2, 1, 4, 100, ahora::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limitador.permitir("docente@schoolmate.cl")).isTrue();
+            limitador.registrarExito("docente@schoolmate.cl");
+        }
+
+        assertThat(limitador.estadisticas().clavesActivas()).isZero();
+    }
+
+    @Test
+    void registrarExito_devuelveLosTokensGastadosPorFallosAnteriores() {
+        LimitadorLogin limitador = new LimitadorLogin(2, 1, 4, 100, ahora::get);
+        limitador.permitir("docente@schoolmate.cl");
+        limitador.permitir("docente@schoolmate.cl");
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isFalse();
+
+        limitador.registrarExito("docente@schoolmate.cl");
+
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isTrue();
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isTrue();
+    }
+
+    @Test
+    void permitir_normalizaElIdentificadorYNoAfectaAOtros() {
+        LimitadorLogin limitador = new LimitadorLogin(1, 1, 4, 100, ahora::get);
+
+        assertThat(limitador.permitir("Docente@Schoolmate.cl ")).isTrue();
+
+        assertThat(limitador.permitir("docente@schoolmate.cl")).isFalse();
+        assertThat(limitador.permitir("12345678-5")).isTrue();
+    }
+
+    @Test
+    void permitir_conFranjaLlena_olvidaElIdentificadorMenosReciente() {
+        LimitadorLogin limitador = new LimitadorLogin(1, 1, 1, 3, ahora::get);
+        for (int i = 0; i < 3; i++) {
+            limitador.permitir("usuario" + i);
+        }
+        limitador.permitir("usuario0");
+
+        limitador.permitir("usuario-nuevo");
+
+        assertThat(limitador.estadisticas().clavesActivas()).isEqualTo(3);
+        assertThat(limitador.permitir("usuario0")).isFalse();
+        assertThat(limitador.permitir("usuario2")).isFalse();
+        assertThat(limitador.permitir("usuario1")).isTrue();
+    }
+}
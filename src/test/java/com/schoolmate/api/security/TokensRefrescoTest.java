@@ -0,0 +1,78 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.entity.TokenRefresco;
+import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.repository.TokenRefrescoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokensRefrescoTest {
+
+    private static final LocalDateTime AHORA = LocalDateTime.of(2026, 6, 10, 10, 0);
+
+    @Mock
+    private TokenRefrescoRepository tokenRefrescoRepository;
+    @Mock
+    private ClockProvider clockProvider;
+
+    @Test
+    void emitir_persisteSoloElHashConFamiliaYExpiracion() {
+        when(clockProvider.now()).thenReturn(AHORA);
+        Usuario usuario = Usuario.builder().id(UUID.randomUUID()).build();
+        UUID familiaId = UUID.randomUUID();
+
+        String token = tokensRefresco().emitir(usuario, familiaId, "x".repeat(600));
+
+        ArgumentCaptor<TokenRefresco> captor = ArgumentCaptor.forClass(TokenRefresco.class);
+        verify(tokenRefrescoRepository).save(captor.capture());
+        TokenRefresco guardado = captor.getValue();
+        assertThat(token).hasSize(43);
+        assertThat(guardado.getTokenHash()).isEqualTo(TokensRefresco.hash(token)).isNotEqualTo(token);
+        assertThat(guardado.getFamiliaId()).isEqualTo(familiaId);
+        assertThat(guardado.getUsuario()).isSameAs(usuario);
+        assertThat(guardado.getDispositivo()).hasSize(500);
+        assertThat(guardado.getExpiraEn()).isEqualTo(AHORA.plusDays(30));
+        assertThat(guardado.getUsadoEn()).isNull();
+    }
+
+    @Test
+    void emitir_generaTokensDistintos() {
+        when(clockProvider.now()).thenReturn(AHORA);
+        TokensRefresco tokensRefresco = tokensRefresco();
+
+        String primero = tokensRefresco.emitir(Usuario.builder().build(), UUID.randomUUID(), null);
+        String segundo = tokensRefresco.emitir(Usuario.builder().build(), UUID.randomUUID(), null);
+
+        assertThat(primero).isNotEqualTo(segundo);
+    }
+
+    @Test
+    void hash_esSha256Hexadecimal() {
+        assertThat(TokensRefresco.hash("abc"))
+            .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    void purgarExpirados_eliminaHastaAhora() {
+        when(clockProvider.now()).thenReturn(AHORA);
+        when(tokenRefrescoRepository.deleteExpirados(AHORA)).thenReturn(12);
+
+        assertThat(tokensRefresco().purgarExpirados()).isEqualTo(12);
+    }
+
+    private TokensRefresco tokensRefresco() {
+        return new TokensRefresco(tokenRefrescoRepository, clockProvider, 30L * 24 * 60 * 60 * 1000);
+    }
+}
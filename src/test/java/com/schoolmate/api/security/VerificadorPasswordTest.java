@@ -0,0 +1,74 @@
+package com.schoolmate.api.security;
+
+import com.schoolmate.api.exception.ApiException;
+import com.schoolmate.api.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerificadorPasswordTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private VerificadorPassword verificador;
+
+    @AfterEach
+    void tearDown() {
+        if (verificador != null) {
+            verificador.detener();
+        }
+    }
+
+    @Test
+    void verificar_retornaElResultadoDelEncoderFueraDelHiloLlamador() {
+        Thread llamador = Thread.currentThread();
+        when(passwordEncoder.matches("secret", "hash")).thenAnswer(invocation -> Thread.currentThread() != llamador);
+        verificador = new VerificadorPassword(passwordEncoder, 1, 1);
+
+        assertThat(verificador.verificar("secret", "hash")).isTrue();
+        assertThat(verificador.estadisticas().completadas()).isEqualTo(1);
+    }
+
+    @Test
+    void verificar_conPoolYColaLlenos_rechazaConAuthBusy() throws Exception {
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            iniciada.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        verificador = new VerificadorPassword(passwordEncoder, 1, 1);
+
+        CompletableFuture<Boolean> enCurso = CompletableFuture.supplyAsync(() -> verificador.verificar("a", "h"));
+        assertThat(iniciada.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> encolada = CompletableFuture.supplyAsync(() -> verificador.verificar("b", "h"));
+        while (verificador.estadisticas().enCola() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> verificador.verificar("c", "h"))
+            .isInstanceOf(ApiException.class)
+            .extracting(ex -> ((ApiException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.AUTH_BUSY);
+        assertThat(verificador.estadisticas().rechazadas()).isEqualTo(1);
+
+        liberar.countDown();
+        assertThat(enCurso.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(encolada.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
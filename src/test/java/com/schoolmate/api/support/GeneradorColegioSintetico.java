@@ -0,0 +1,572 @@
+package com.schoolmate.api.support;
+
+import com.schoolmate.api.common.db.MotorBaseDatos;
+import com.schoolmate.api.enums.EstadoAsistencia;
+import com.schoolmate.api.enums.TipoBloque;
+import com.schoolmate.api.enums.VinculoApoderado;
+import lombok.Builder;
+import lombok.Getter;
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Puebla una base con un colegio sintético completo para pruebas de carga, benchmarks y tests de integración:
+ * grados, cursos, alumnos con apoderado y matrícula, profesores con sus materias, malla curricular, jornada
+ * semanal con recreos y almuerzo, y {@code semanasAsistencia} semanas de asistencia tomada desde el inicio del
+ * año. Todo sale de {@link Parametros#getSemilla()}: la misma semilla produce los mismos ids, RUTs y estados.
+ * <p>
+ * En PostgreSQL el esquema se crea con {@link #migrar} (Flyway) y las filas se cargan con {@code COPY}; en H2 el
+ * esquema lo crea Hibernate ({@code ddl-auto=create-drop} de los tests de integración) y las filas van por batch
+ * JDBC. Grados, secciones, materias y año escolar que ya existan (p. ej. los de {@code V2}/{@code V3}) se
+ * reutilizan; el resto se inserta, así que cada año escolar se genera una sola vez por base.
+ * <p>
+ * Está en las fuentes de test para que lo usen tanto los tests de integración (con el {@code JdbcTemplate} del
+ * contexto) como los benchmarks de {@code src/jmh}, que se compilan junto a ellas en el perfil {@code benchmark}.
+ */
+public class GeneradorColegioSintetico {
+
+    private static final String[] NOMBRES = {
+        "Sofía", "Mateo", "Isidora", "Benjamín", "Florencia", "Vicente", "Emilia", "Agustín", "Josefa", "Tomás",
+        "Catalina", "Martín", "Antonella", "Joaquín", "Trinidad", "Lucas", "Amanda", "Maximiliano"
+    };
+    private static final String[] APELLIDOS = {
+        "González", "Muñoz", "Rojas", "Díaz", "Pérez", "Soto", "Contreras", "Silva", "Martínez", "Sepúlveda",
+        "Morales", "Rodríguez", "López", "Fuentes", "Hernández", "Torres", "Araya", "Flores"
+    };
+    private static final String[] MATERIAS = {
+        "Lenguaje", "Matemática", "Historia", "Ciencias Naturales", "Inglés", "Artes Visuales", "Música",
+        "Educación Física", "Tecnología", "Orientación"
+    };
+    // Bloques semanales por materia para una jornada de 8 bloques de clase diarios (40 en la semana).
+    private static final int[] HORAS_SEMANA = {8, 6, 4, 4, 4, 3, 2, 4, 2, 3};
+    private static final String[] OBSERVACIONES = {"Llega tarde", "Retiro anticipado", "Sin uniforme"};
+
+    private static final int DURACION_BLOQUE_MINUTOS = 45;
+    private static final LocalTime INICIO_JORNADA = LocalTime.of(8, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Parametros parametros;
+    private final boolean postgres;
+
+    public GeneradorColegioSintetico(JdbcTemplate jdbcTemplate, Parametros parametros) {
+        if (parametros.getCursosPorGrado() < 1 || parametros.getCursosPorGrado() > 26) {
+            throw new IllegalArgumentException("cursosPorGrado debe estar entre 1 y 26 (una letra por curso)");
+        }
+        if (parametros.getBloquesPorDia() < 1 || parametros.getBloquesPorDia() > 12) {
+            throw new IllegalArgumentException("bloquesPorDia debe estar entre 1 y 12");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.parametros = parametros;
+        this.postgres = new MotorBaseDatos(jdbcTemplate).esPostgres();
+    }
+
+    /**
+     * Aplica las migraciones de {@code db/migration} a una base PostgreSQL vacía.
+     */
+    public static void migrar(DataSource dataSource) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    }
+
+    /**
+     * Id determinista de la fila {@code indice} de un tipo ({@code "alumno"}, {@code "curso"}, ...) para la
+     * semilla del generador.
+     */
+    public UUID uuid(String tipo, long indice) {
+        return UUID.nameUUIDFromBytes(
+            (parametros.getSemilla() + ":" + tipo + ":" + indice).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ColegioGenerado generar() {
+        Random random = new Random(parametros.getSemilla());
+        AnoGenerado ano = anoEscolar();
+        LocalDateTime creado = ano.planificacion().atTime(8, 0);
+
+        List<UUID> grados = grados(creado);
+        List<UUID> materias = materias(creado);
+        List<String> letras = secciones(creado);
+        List<Integer> semana = materiasDeLaSemana();
+
+        malla(ano.id(), grados, materias, semana, creado);
+        List<List<UUID>> profesoresPorMateria = profesores(random, materias, creado);
+        List<Curso> cursos = cursos(random, ano, grados, letras, creado);
+        List<List<Bloque>> jornada = jornada(cursos, materias, semana, profesoresPorMateria, creado);
+        long[] asistencia = asistencia(random, ano, cursos, jornada);
+        resumenAsistencia(ano.id());
+
+        int alumnos = cursos.size() * parametros.getAlumnosPorCurso();
+        return new ColegioGenerado(ano.id(), grados.size(), cursos.size(), alumnos, parametros.getProfesores(),
+            asistencia[0], asistencia[1]);
+    }
+
+    private AnoGenerado anoEscolar() {
+        List<AnoGenerado> existentes = jdbcTemplate.query(
+            "SELECT id, fecha_inicio_planificacion, fecha_inicio, fecha_fin FROM ano_escolar WHERE ano = ?",
+            (rs, rowNum) -> new AnoGenerado(rs.getObject("id", UUID.class),
+                rs.getDate("fecha_inicio_planificacion").toLocalDate(),
+                rs.getDate("fecha_inicio").toLocalDate(),
+                rs.getDate("fecha_fin").toLocalDate()),
+            parametros.getAno());
+        int anio = parametros.getAno();
+        AnoGenerado ano = existentes.isEmpty()
+            ? new AnoGenerado(uuid("ano", anio), LocalDate.of(anio, 1, 1),
+                LocalDate.of(anio, 3, 1).with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY)),
+                LocalDate.of(anio, 12, 18))
+            : existentes.get(0);
+        LocalDate ultimoDia = ano.primerLunes().plusWeeks(parametros.getSemanasAsistencia()).minusDays(3);
+        if (parametros.getSemanasAsistencia() > 0 && ultimoDia.isAfter(ano.fin())) {
+            throw new IllegalArgumentException(
+                parametros.getSemanasAsistencia() + " semanas de asistencia no caben en el año " + anio);
+        }
+        if (existentes.isEmpty()) {
+            LocalDateTime creado = ano.planificacion().atTime(8, 0);
+            insertar("ano_escolar",
+                "id, ano, fecha_inicio_planificacion, fecha_inicio, fecha_fin, created_at, updated_at",
+                List.<Object[]>of(new Object[] {ano.id(), anio, ano.planificacion(), ano.inicio(), ano.fin(),
+                    creado, creado}));
+        }
+        return ano;
+    }
+
+    private List<UUID> grados(LocalDateTime creado) {
+        List<UUID> grados = new ArrayList<>(parametros.getGrados());
+        List<Object[]> nuevos = new ArrayList<>();
+        for (int nivel = 1; nivel <= parametros.getGrados(); nivel++) {
+            List<UUID> existente = jdbcTemplate.queryForList("SELECT id FROM grado WHERE nivel = ?", UUID.class, nivel);
+            if (!existente.isEmpty()) {
+                grados.add(existente.get(0));
+                continue;
+            }
+            UUID id = uuid("grado", nivel);
+            String nombre = nivel <= 8 ? nivel + "° Básico" : (nivel - 8) + "° Medio";
+            nuevos.add(new Object[] {id, nombre, nivel, creado, creado});
+            grados.add(id);
+        }
+        insertar("grado", "id, nombre, nivel, created_at, updated_at", nuevos);
+        return grados;
+    }
+
+    private List<UUID> materias(LocalDateTime creado) {
+        List<UUID> materias = new ArrayList<>(MATERIAS.length);
+        List<Object[]> nuevas = new ArrayList<>();
+        for (int i = 0; i < MATERIAS.length; i++) {
+            List<UUID> existente = jdbcTemplate.queryForList(
+                "SELECT id FROM materia WHERE nombre = ?", UUID.class, MATERIAS[i]);
+            if (!existente.isEmpty()) {
+                materias.add(existente.get(0));
+                continue;
+            }
+            UUID id = uuid("materia", i);
+            nuevas.add(new Object[] {id, MATERIAS[i], true, creado, creado});
+            materias.add(id);
+        }
+        insertar("materia", "id, nombre, activo, created_at, updated_at", nuevas);
+        return materias;
+    }
+
+    private List<String> secciones(LocalDateTime creado) {
+        List<String> existentes = jdbcTemplate.queryForList("SELECT letra FROM seccion_catalogo", String.class);
+        List<String> letras = new ArrayList<>(parametros.getCursosPorGrado());
+        List<Object[]> nuevas = new ArrayList<>();
+        for (int i = 0; i < parametros.getCursosPorGrado(); i++) {
+            String letra = String.valueOf((char) ('A' + i));
+            if (!existentes.contains(letra)) {
+                nuevas.add(new Object[] {letra, (short) (i + 1), true, creado});
+            }
+            letras.add(letra);
+        }
+        insertar("seccion_catalogo", "letra, orden, activo, created_at", nuevas);
+        return letras;
+    }
+
+    /**
+     * Materia (índice en {@link #MATERIAS}) de cada bloque de clase de la semana, con la proporción de
+     * {@link #HORAS_SEMANA}. Cada curso recorre esta misma lista en otro orden, así que todos cumplen la malla.
+     */
+    private List<Integer> materiasDeLaSemana() {
+        List<Integer> base = new ArrayList<>();
+        for (int materia = 0; materia < HORAS_SEMANA.length; materia++) {
+            base.addAll(Collections.nCopies(HORAS_SEMANA[materia], materia));
+        }
+        int bloquesSemana = 5 * parametros.getBloquesPorDia();
+        List<Integer> semana = new ArrayList<>(bloquesSemana);
+        for (int i = 0; i < bloquesSemana; i++) {
+            semana.add(base.get(i % base.size()));
+        }
+        return semana;
+    }
+
+    private void malla(UUID anoId, List<UUID> grados, List<UUID> materias, List<Integer> semana, LocalDateTime creado) {
+        int[] horas = new int[materias.size()];
+        semana.forEach(materia -> horas[materia]++);
+        List<Object[]> filas = new ArrayList<>();
+        for (int g = 0; g < grados.size(); g++) {
+            for (int m = 0; m < materias.size(); m++) {
+                if (horas[m] > 0) {
+                    filas.add(new Object[] {uuid("malla", g * 100L + m), materias.get(m), grados.get(g), anoId,
+                        horas[m], true, creado, creado});
+                }
+            }
+        }
+        insertar("malla_curricular",
+            "id, materia_id, grado_id, ano_escolar_id, horas_pedagogicas, activo, created_at, updated_at", filas);
+    }
+
+    /**
+     * Inserta los profesores, cada uno con dos materias, y devuelve los profesores de cada materia.
+     */
+    private List<List<UUID>> profesores(Random random, List<UUID> materias, LocalDateTime creado) {
+        List<List<UUID>> porMateria = new ArrayList<>(materias.size());
+        materias.forEach(materia -> porMateria.add(new ArrayList<>()));
+        List<Object[]> filas = new ArrayList<>(parametros.getProfesores());
+        List<Object[]> vinculos = new ArrayList<>(parametros.getProfesores() * 2);
+        for (int p = 0; p < parametros.getProfesores(); p++) {
+            UUID id = uuid("profesor", p);
+            String nombre = NOMBRES[random.nextInt(NOMBRES.length)];
+            String apellido = APELLIDOS[random.nextInt(APELLIDOS.length)];
+            filas.add(new Object[] {id, rut(p), nombre, apellido,
+                "profesor" + p + "@s" + parametros.getSemilla() + ".sintetico.test",
+                LocalDate.of(parametros.getAno() - 1 - random.nextInt(15), 1 + random.nextInt(12), 1),
+                true, 30 + (p % 3) * 6, creado, creado});
+            for (int materia : new int[] {p % materias.size(), (p + 3) % materias.size()}) {
+                vinculos.add(new Object[] {id, materias.get(materia)});
+                porMateria.get(materia).add(id);
+            }
+        }
+        insertar("profesor", "id, rut, nombre, apellido, email, fecha_contratacion, activo, "
+            + "horas_pedagogicas_contrato, created_at, updated_at", filas);
+        insertar("profesor_materia", "profesor_id, materia_id", vinculos);
+        return porMateria;
+    }
+
+    /**
+     * Inserta cursos, alumnos, matrículas y apoderados. Cada quinto alumno comparte apoderado con el anterior
+     * (hermanos), como ocurre con las familias reales.
+     */
+    private List<Curso> cursos(Random random, AnoGenerado ano, List<UUID> grados, List<String> letras,
+                               LocalDateTime creado) {
+        List<Curso> cursos = new ArrayList<>(grados.size() * letras.size());
+        List<Object[]> filasCurso = new ArrayList<>();
+        List<Object[]> alumnos = new ArrayList<>();
+        List<Object[]> matriculas = new ArrayList<>();
+        List<Object[]> apoderados = new ArrayList<>();
+        List<Object[]> vinculos = new ArrayList<>();
+        VinculoApoderado[] tiposVinculo = VinculoApoderado.values();
+        int primerRutAlumno = parametros.getProfesores();
+        int totalAlumnos = grados.size() * letras.size() * parametros.getAlumnosPorCurso();
+        int primerRutApoderado = primerRutAlumno + totalAlumnos;
+
+        int alumno = 0;
+        for (int g = 0; g < grados.size(); g++) {
+            String nombreGrado = jdbcTemplate.queryForObject(
+                "SELECT nombre FROM grado WHERE id = ?", String.class, grados.get(g));
+            for (int l = 0; l < letras.size(); l++) {
+                UUID cursoId = uuid("curso", g * 26L + l);
+                filasCurso.add(new Object[] {cursoId, grados.get(g), ano.id(), letras.get(l),
+                    nombreGrado + " " + letras.get(l), true, creado, creado});
+                List<UUID> alumnosCurso = new ArrayList<>(parametros.getAlumnosPorCurso());
+                for (int i = 0; i < parametros.getAlumnosPorCurso(); i++, alumno++) {
+                    UUID alumnoId = uuid("alumno", alumno);
+                    String apellido = APELLIDOS[random.nextInt(APELLIDOS.length)];
+                    alumnos.add(new Object[] {alumnoId, rut(primerRutAlumno + alumno),
+                        NOMBRES[random.nextInt(NOMBRES.length)],
+                        apellido + " " + APELLIDOS[random.nextInt(APELLIDOS.length)],
+                        LocalDate.of(parametros.getAno() - 6 - (g + 1), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                        true, creado, creado});
+                    matriculas.add(new Object[] {uuid("matricula", alumno), alumnoId, cursoId, ano.id(), "ACTIVA",
+                        ano.planificacion(), creado, creado});
+
+                    boolean hermano = alumno > 0 && alumno % 5 == 0;
+                    int apoderado = alumno - alumno / 5;
+                    if (!hermano) {
+                        apoderados.add(new Object[] {uuid("apoderado", apoderado),
+                            NOMBRES[random.nextInt(NOMBRES.length)], apellido, rut(primerRutApoderado + apoderado),
+                            "apoderado" + apoderado + "@s" + parametros.getSemilla() + ".sintetico.test",
+                            String.format(Locale.ROOT, "+569%08d", random.nextInt(100_000_000)), creado, creado});
+                    }
+                    vinculos.add(new Object[] {uuid("apoderado", apoderado), alumnoId, true,
+                        tiposVinculo[random.nextInt(tiposVinculo.length)].name(), creado});
+                    alumnosCurso.add(alumnoId);
+                }
+                cursos.add(new Curso(cursoId, alumnosCurso));
+            }
+        }
+        insertar("curso", "id, grado_id, ano_escolar_id, letra, nombre, activo, created_at, updated_at", filasCurso);
+        insertar("alumno", "id, rut, nombre, apellido, fecha_nacimiento, activo, created_at, updated_at", alumnos);
+        insertar("matricula",
+            "id, alumno_id, curso_id, ano_escolar_id, estado, fecha_matricula, created_at, updated_at", matriculas);
+        insertar("apoderado", "id, nombre, apellido, rut, email, telefono, created_at, updated_at", apoderados);
+        insertar("apoderado_alumno", "apoderado_id, alumno_id, es_principal, vinculo, created_at", vinculos);
+        return cursos;
+    }
+
+    /**
+     * Jornada de lunes a viernes de cada curso: bloques de clase de 45 minutos con recreo después del segundo y
+     * cuarto bloque y almuerzo después del sexto. Cada curso tiene un profesor fijo por materia; si ese profesor
+     * ya está ocupado en el mismo horario se usa otro de la materia, y si no queda ninguno el bloque queda sin
+     * profesor.
+     *
+     * @return bloques de clase de cada curso, por día (índice 0 = lunes)
+     */
+    private List<List<Bloque>> jornada(List<Curso> cursos, List<UUID> materias, List<Integer> semana,
+                                       List<List<UUID>> profesoresPorMateria, LocalDateTime creado) {
+        int bloquesPorDia = parametros.getBloquesPorDia();
+        int paso = pasoCoprimo(semana.size());
+        List<List<Bloque>> porCursoYDia = new ArrayList<>(cursos.size() * 5);
+        List<Object[]> filas = new ArrayList<>();
+        List<Set<UUID>> ocupados = new ArrayList<>(5 * bloquesPorDia);
+        for (int i = 0; i < 5 * bloquesPorDia; i++) {
+            ocupados.add(new HashSet<>());
+        }
+
+        for (int c = 0; c < cursos.size(); c++) {
+            Curso curso = cursos.get(c);
+            for (int dia = 1; dia <= 5; dia++) {
+                List<Bloque> clases = new ArrayList<>(bloquesPorDia);
+                LocalTime hora = INICIO_JORNADA;
+                int numero = 1;
+                for (int b = 0; b < bloquesPorDia; b++) {
+                    int slot = (dia - 1) * bloquesPorDia + b;
+                    int materia = semana.get((int) (((long) slot * paso + c) % semana.size()));
+                    UUID profesor = profesorLibre(profesoresPorMateria.get(materia), c, ocupados.get(slot));
+                    UUID bloqueId = uuid("bloque", ((long) c * 5 + dia) * 32 + numero);
+                    filas.add(new Object[] {bloqueId, curso.id(), dia, numero, hora,
+                        hora.plusMinutes(DURACION_BLOQUE_MINUTOS), TipoBloque.CLASE.name(), materias.get(materia),
+                        profesor, true, creado, creado});
+                    clases.add(new Bloque(bloqueId, hora));
+                    hora = hora.plusMinutes(DURACION_BLOQUE_MINUTOS);
+                    numero++;
+
+                    TipoBloque pausa = b == 1 || b == 3 ? TipoBloque.RECREO : b == 5 ? TipoBloque.ALMUERZO : null;
+                    if (pausa != null && b < bloquesPorDia - 1) {
+                        int minutos = pausa == TipoBloque.RECREO ? 15 : 45;
+                        filas.add(new Object[] {uuid("bloque", ((long) c * 5 + dia) * 32 + numero), curso.id(), dia,
+                            numero, hora, hora.plusMinutes(minutos), pausa.name(), null, null, true, creado, creado});
+                        hora = hora.plusMinutes(minutos);
+                        numero++;
+                    }
+                }
+                porCursoYDia.add(clases);
+            }
+        }
+        insertar("bloque_horario", "id, curso_id, dia_semana, numero_bloque, hora_inicio, hora_fin, tipo, "
+            + "materia_id, profesor_id, activo, created_at, updated_at", filas);
+        return porCursoYDia;
+    }
+
+    private static UUID profesorLibre(List<UUID> candidatos, int curso, Set<UUID> ocupados) {
+        for (int i = 0; i < candidatos.size(); i++) {
+            UUID profesor = candidatos.get((curso + i) % candidatos.size());
+            if (ocupados.add(profesor)) {
+                return profesor;
+            }
+        }
+        return null;
+    }
+
+    private static int pasoCoprimo(int n) {
+        int paso = 7;
+        while (mcd(paso, n) != 1) {
+            paso++;
+        }
+        return paso;
+    }
+
+    private static int mcd(int a, int b) {
+        return b == 0 ? a : mcd(b, a % b);
+    }
+
+    /**
+     * Asistencia de cada bloque de clase, semana a semana desde el primer lunes del año. Cada alumno tiene una
+     * propensión propia a faltar alrededor de {@link Parametros#getFraccionAusencia()}, para que los resúmenes
+     * no salgan todos iguales.
+     *
+     * @return clases y registros insertados
+     */
+    private long[] asistencia(Random random, AnoGenerado ano, List<Curso> cursos, List<List<Bloque>> jornada) {
+        double[][] propension = new double[cursos.size()][parametros.getAlumnosPorCurso()];
+        for (double[] curso : propension) {
+            for (int i = 0; i < curso.length; i++) {
+                curso[i] = parametros.getFraccionAusencia() * 2 * random.nextDouble();
+            }
+        }
+
+        long clases = 0;
+        long registros = 0;
+        for (int semana = 0; semana < parametros.getSemanasAsistencia(); semana++) {
+            List<Object[]> filasClase = new ArrayList<>();
+            List<Object[]> filasRegistro = new ArrayList<>();
+            for (int dia = 0; dia < 5; dia++) {
+                LocalDate fecha = ano.primerLunes().plusWeeks(semana).plusDays(dia);
+                for (int c = 0; c < cursos.size(); c++) {
+                    List<UUID> alumnos = cursos.get(c).alumnos();
+                    for (Bloque bloque : jornada.get(c * 5 + dia)) {
+                        UUID claseId = uuid("clase", clases++);
+                        LocalDateTime tomada = fecha.atTime(bloque.horaInicio().plusMinutes(5));
+                        filasClase.add(new Object[] {claseId, bloque.id(), fecha, tomada, tomada});
+                        for (int i = 0; i < alumnos.size(); i++) {
+                            boolean ausente = random.nextDouble() < propension[c][i];
+                            String observacion = random.nextInt(200) == 0
+                                ? OBSERVACIONES[random.nextInt(OBSERVACIONES.length)] : null;
+                            filasRegistro.add(new Object[] {uuid("registro", registros++), claseId, alumnos.get(i),
+                                (ausente ? EstadoAsistencia.AUSENTE : EstadoAsistencia.PRESENTE).name(), observacion,
+                                tomada, tomada});
+                        }
+                    }
+                }
+            }
+            insertar("asistencia_clase", "id, bloque_horario_id, fecha, created_at, updated_at", filasClase);
+            insertar("registro_asistencia",
+                "id, asistencia_clase_id, alumno_id, estado, observacion, created_at, updated_at", filasRegistro);
+        }
+        return new long[] {clases, registros};
+    }
+
+    private void resumenAsistencia(UUID anoId) {
+        jdbcTemplate.update("DELETE FROM resumen_asistencia_alumno WHERE ano_escolar_id = ?", anoId);
+        jdbcTemplate.update("""
+            INSERT INTO resumen_asistencia_alumno (alumno_id, ano_escolar_id, total_presente, total_ausente)
+            SELECT ra.alumno_id,
+                   c.ano_escolar_id,
+                   SUM(CASE WHEN ra.estado = 'PRESENTE' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN ra.estado = 'AUSENTE' THEN 1 ELSE 0 END)
+            FROM registro_asistencia ra
+            JOIN asistencia_clase ac ON ac.id = ra.asistencia_clase_id
+            JOIN bloque_horario bh ON bh.id = ac.bloque_horario_id
+            JOIN curso c ON c.id = bh.curso_id
+            WHERE c.ano_escolar_id = ?
+            GROUP BY ra.alumno_id, c.ano_escolar_id
+            """, anoId);
+    }
+
+    /**
+     * RUT normalizado ({@code 12345678-K}) de la persona {@code indice}. El cuerpo recorre una permutación de
+     * 20 millones de valores, así que no se repite entre alumnos, apoderados y profesores.
+     */
+    private String rut(int indice) {
+        long desplazamiento = Math.floorMod(parametros.getSemilla() * 104_729L, 20_000_000L);
+        int cuerpo = 5_000_000 + (int) Math.floorMod(7_919L * indice + desplazamiento, 20_000_000L);
+        return cuerpo + "-" + digitoVerificador(cuerpo);
+    }
+
+    static char digitoVerificador(int cuerpo) {
+        int suma = 0;
+        int factor = 2;
+        for (int resto = cuerpo; resto > 0; resto /= 10) {
+            suma += (resto % 10) * factor;
+            factor = factor == 7 ? 2 : factor + 1;
+        }
+        int dv = 11 - (suma % 11);
+        if (dv == 11) {
+            return '0';
+        }
+        return dv == 10 ? 'K' : (char) ('0' + dv);
+    }
+
+    private void insertar(String tabla, String columnas, List<Object[]> filas) {
+        if (filas.isEmpty()) {
+            return;
+        }
+        if (!postgres) {
+            String marcadores = String.join(", ", Collections.nCopies(columnas.split(",").length, "?"));
+            jdbcTemplate.batchUpdate("INSERT INTO " + tabla + " (" + columnas + ") VALUES (" + marcadores + ")", filas);
+            return;
+        }
+        StringBuilder csv = new StringBuilder(filas.size() * 160);
+        for (Object[] fila : filas) {
+            for (int i = 0; i < fila.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                if (fila[i] instanceof String texto) {
+                    csv.append('"').append(texto.replace("\"", "\"\"")).append('"');
+                } else if (fila[i] != null) {
+                    csv.append(fila[i]);
+                }
+            }
+            csv.append('\n');
+        }
+        String copy = "COPY " + tabla + " (" + columnas + ") FROM STDIN WITH (FORMAT csv)";
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(copy, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Tamaño del colegio. Por defecto, uno de ~2.200 alumnos en 48 cursos de 1° básico a 4° medio: cada semana de
+     * asistencia son ~86 mil registros, así que las 12 por defecto dan ~1 millón y un año completo (~38) pasa de
+     * 3 millones. {@link #pequeno()} sirve para tests de integración.
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    public static class Parametros {
+        @Builder.Default private long semilla = 2026L;
+        @Builder.Default private int ano = 2026;
+        @Builder.Default private int grados = 12;
+        @Builder.Default private int cursosPorGrado = 4;
+        @Builder.Default private int alumnosPorCurso = 45;
+        @Builder.Default private int profesores = 80;
+        @Builder.Default private int bloquesPorDia = 8;
+        @Builder.Default private int semanasAsistencia = 12;
+        @Builder.Default private double fraccionAusencia = 0.08;
+
+        public static Parametros pequeno() {
+            return Parametros.builder()
+                .grados(2)
+                .cursosPorGrado(2)
+                .alumnosPorCurso(10)
+                .profesores(12)
+                .bloquesPorDia(4)
+                .semanasAsistencia(2)
+                .build();
+        }
+    }
+
+    public record ColegioGenerado(
+        UUID anoEscolarId,
+        int grados,
+        int cursos,
+        int alumnos,
+        int profesores,
+        long clases,
+        long registros
+    ) {
+    }
+
+    private record AnoGenerado(UUID id, LocalDate planificacion, LocalDate inicio, LocalDate fin) {
+        LocalDate primerLunes() {
+            return inicio.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        }
+    }
+
+    private record Curso(UUID id, List<UUID> alumnos) {
+    }
+
+    private record Bloque(UUID id, LocalTime horaInicio) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.schoolmate.api.support;
+
+import com.schoolmate.api.support.GeneradorColegioSintetico.ColegioGenerado;
+import com.schoolmate.api.support.GeneradorColegioSintetico.Parametros;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:generador-colegio-sintetico;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+    }
+)
+@ActiveProfiles("dev")
+class GeneradorColegioSinteticoIntegrationTest {
+
+    private static final List<String> TABLAS = List.of(
+        "registro_asistencia", "asistencia_clase", "resumen_asistencia_alumno", "bloque_horario",
+        "apoderado_alumno", "apoderado", "matricula", "alumno", "curso", "malla_curricular", "profesor_materia",
+        "profesor", "materia", "grado", "seccion_catalogo", "ano_escolar");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        TABLAS.forEach(tabla -> jdbcTemplate.update("DELETE FROM " + tabla));
+    }
+
+    @Test
+    void generar_colegioPequeno_poblaTodasLasTablasConLosTotalesEsperados() {
+        ColegioGenerado colegio = new GeneradorColegioSintetico(jdbcTemplate, Parametros.pequeno()).generar();
+
+        // 2 grados x 2 cursos x 10 alumnos; 4 bloques de clase diarios durante 2 semanas
+        assertThat(colegio.cursos()).isEqualTo(4);
+        assertThat(colegio.alumnos()).isEqualTo(40);
+        assertThat(colegio.clases()).isEqualTo(4L * 4 * 5 * 2);
+        assertThat(colegio.registros()).isEqualTo(colegio.clases() * 10);
+
+        assertThat(contar("SELECT COUNT(*) FROM curso")).isEqualTo(4);
+        assertThat(contar("SELECT COUNT(*) FROM matricula WHERE estado = 'ACTIVA'")).isEqualTo(40);
+        assertThat(contar("SELECT COUNT(*) FROM apoderado_alumno")).isEqualTo(40);
+        assertThat(contar("SELECT COUNT(*) FROM apoderado")).isEqualTo(40 - 7);
+        assertThat(contar("SELECT COUNT(*) FROM profesor_materia")).isEqualTo(24);
+        assertThat(contar("SELECT COUNT(*) FROM bloque_horario WHERE tipo = 'CLASE'")).isEqualTo(4L * 5 * 4);
+        assertThat(contar("SELECT COUNT(*) FROM bloque_horario WHERE tipo = 'RECREO'")).isEqualTo(4L * 5);
+        assertThat(contar("SELECT COUNT(*) FROM asistencia_clase")).isEqualTo(colegio.clases());
+        assertThat(contar("SELECT COUNT(*) FROM registro_asistencia")).isEqualTo(colegio.registros());
+        assertThat(contar("SELECT SUM(total_presente + total_ausente) FROM resumen_asistencia_alumno"))
+            .isEqualTo(colegio.registros());
+    }
+
+    @Test
+    void generar_mallaCoincideConLosBloquesDeClaseDeCadaCurso() {
+        new GeneradorColegioSintetico(jdbcTemplate, Parametros.pequeno()).generar();
+
+        List<Map<String, Object>> diferencias = jdbcTemplate.queryForList("""
+            SELECT c.id, m.materia_id, m.horas_pedagogicas, COUNT(bh.id) AS bloques
+            FROM curso c
+            JOIN malla_curricular m ON m.grado_id = c.grado_id AND m.ano_escolar_id = c.ano_escolar_id
+            LEFT JOIN bloque_horario bh ON bh.curso_id = c.id AND bh.materia_id = m.materia_id
+            GROUP BY c.id, m.materia_id, m.horas_pedagogicas
+            HAVING COUNT(bh.id) <> m.horas_pedagogicas
+            """);
+
+        assertThat(diferencias).isEmpty();
+    }
+
+    @Test
+    void generar_ningunProfesorTieneDosBloquesALaMismaHora() {
+        new GeneradorColegioSintetico(jdbcTemplate, Parametros.pequeno()).generar();
+
+        long choques = contar("""
+            SELECT COUNT(*) FROM (
+                SELECT profesor_id, dia_semana, hora_inicio
+                FROM bloque_horario
+                WHERE profesor_id IS NOT NULL
+                GROUP BY profesor_id, dia_semana, hora_inicio
+                HAVING COUNT(*) > 1
+            ) t
+            """);
+
+        assertThat(choques).isZero();
+    }
+
+    @Test
+    void generar_mismaSemilla_produceLaMismaAsistencia() {
+        new GeneradorColegioSintetico(jdbcTemplate, Parametros.pequeno()).generar();
+        List<Map<String, Object>> primera = resumen();
+        tearDown();
+
+        new GeneradorColegioSintetico(jdbcTemplate, Parametros.pequeno()).generar();
+
+        assertThat(resumen()).isEqualTo(primera);
+    }
+
+    @Test
+    void generar_semanasQueNoCabenEnElAno_lanzaExcepcion() {
+        Parametros parametros = Parametros.pequeno().toBuilder().semanasAsistencia(60).build();
+        GeneradorColegioSintetico generador = new GeneradorColegioSintetico(jdbcTemplate, parametros);
+
+        assertThatThrownBy(generador::generar)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("60 semanas");
+    }
+
+    private List<Map<String, Object>> resumen() {
+        return jdbcTemplate.queryForList(
+            "SELECT alumno_id, total_presente, total_ausente FROM resumen_asistencia_alumno ORDER BY alumno_id");
+    }
+
+    private long contar(String sql) {
+        Long total = jdbcTemplate.queryForObject(sql, Long.class);
+        return total == null ? 0 : total;
+    }
+}
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.alumno;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.rut.RutValidationService;
 import com.schoolmate.api.dto.request.AlumnoRequest;
 import com.schoolmate.api.dto.request.CrearAlumnoConApoderadoRequest;
@@ -54,6 +55,9 @@ class AlumnoUseCasesMissingTest {
     @Mock
     private MatriculaRepository matriculaRepository;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+
     @InjectMocks
     private ActualizarAlumno actualizarAlumno;
     @InjectMocks
@@ -0,0 +1,178 @@
+package com.schoolmate.api.usecase.alumno;
+
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.dto.response.ImportacionAlumnosResponse;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.Apoderado;
+import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.enums.Rol;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.repository.AlumnoRepository;
+import com.schoolmate.api.repository.ApoderadoAlumnoRepository;
+import com.schoolmate.api.repository.ApoderadoRepository;
+import com.schoolmate.api.repository.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:importar-alumnos;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.importacion.lote.tamano=2"
+    }
+)
+@ActiveProfiles("dev")
+class ImportarAlumnosConApoderadoIntegrationTest {
+
+    private static final String ENCABEZADO = "alumno_rut;alumno_nombre;alumno_apellido;alumno_fecha_nacimiento;"
+        + "apoderado_rut;apoderado_nombre;apoderado_apellido;apoderado_email;apoderado_telefono;vinculo\n";
+
+    @Autowired private ImportarAlumnosConApoderado importarAlumnosConApoderado;
+    @Autowired private AlumnoRepository alumnoRepository;
+    @Autowired private ApoderadoRepository apoderadoRepository;
+    @Autowired private ApoderadoAlumnoRepository apoderadoAlumnoRepository;
+    @Autowired private UsuarioRepository usuarioRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        TimeContext.setFixed(LocalDateTime.of(2026, 2, 20, 9, 0));
+        limpiar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiar();
+        TimeContext.reset();
+    }
+
+    @Test
+    void execute_importaPorLotesReutilizandoApoderadosEInformaErroresPorLinea() {
+        String alumnoExistente = rut(20_000_001);
+        String apoderadoExistente = rut(9_000_001);
+        alumnoRepository.save(Alumno.builder()
+            .rut(alumnoExistente)
+            .nombre("Ya")
+            .apellido("Registrado")
+            .fechaNacimiento(LocalDate.of(2014, 1, 1))
+            .activo(true)
+            .build());
+        apoderadoRepository.save(Apoderado.builder()
+            .rut(apoderadoExistente)
+            .nombre("Carla")
+            .apellido("Existente")
+            .email("carla@test.cl")
+            .build());
+
+        String valido = rut(20_000_009);
+        String rutMalDv = valido.substring(0, valido.length() - 1) + (valido.endsWith("1") ? "2" : "1");
+        String csv = "\uFEFF" + ENCABEZADO
+            + fila(rut(20_000_101), "2012-03-15", rut(9_000_101), "Andrea", "Torres", "andrea@test.cl", "MADRE")
+            + fila(rut(20_000_102), "2014-07-01", rut(9_000_101), "Andrea", "Torres", "andrea@test.cl", "MADRE")
+            + fila(rut(20_000_103), "2016-01-20", rut(9_000_101), "Andrea", "Torres", "andrea@test.cl", "MADRE")
+            + fila(alumnoExistente, "2012-03-15", rut(9_000_102), "Luis", "Soto", "luis@test.cl", "PADRE")
+            + fila(rut(20_000_104), "2013-05-05", apoderadoExistente, "Carla", "Existente", "carla@test.cl", "TUTOR_LEGAL")
+            + fila(rut(20_000_101), "2012-03-15", rut(9_000_103), "Rosa", "Diaz", "rosa@test.cl", "ABUELO")
+            + fila(rutMalDv, "2012-03-15", rut(9_000_104), "Pia", "Lagos", "pia@test.cl", "MADRE")
+            + fila(rut(20_000_105), "15/03/2012", rut(9_000_105), "Ana", "Vera", "ana@test.cl", "MADRE")
+            + fila(rut(20_000_106), "2012-03-15", rut(9_000_106), "Otra", "Persona", "ANDREA@test.cl", "OTRO")
+            + fila(rut(20_000_107), "2011-11-11", rut(9_000_107), "Jorge", "\"Peña; Ríos\"", "jorge@test.cl", "padre");
+
+        ImportacionAlumnosResponse response = importar(csv);
+
+        assertThat(response.getFilasLeidas()).isEqualTo(10);
+        assertThat(response.getAlumnosCreados()).isEqualTo(5);
+        assertThat(response.getApoderadosCreados()).isEqualTo(2);
+        assertThat(response.getApoderadosReutilizados()).isEqualTo(1);
+        assertThat(response.getFilasConError()).isEqualTo(5);
+        assertThat(response.getErrores())
+            .extracting(ImportacionAlumnosResponse.ErrorFila::getLinea)
+            .containsExactly(5L, 7L, 8L, 9L, 10L);
+        assertThat(response.getErrores().getFirst().getMensaje()).isEqualTo("Ya existe un alumno con RUT " + alumnoExistente);
+        // Las líneas 7 y 10 chocan con lo que ya guardaron lotes anteriores del mismo archivo.
+        assertThat(response.getErrores().get(1).getMensaje()).isEqualTo("Ya existe un alumno con RUT " + rut(20_000_101));
+        assertThat(response.getErrores().get(2).getMensaje()).startsWith("RUT de alumno " + rutMalDv);
+        assertThat(response.getErrores().get(4).getMensaje()).isEqualTo("Ya existe un usuario con el email andrea@test.cl");
+
+        assertThat(alumnoRepository.count()).isEqualTo(6);
+        assertThat(apoderadoAlumnoRepository.findByAlumnoIdsWithApoderado(
+            alumnoRepository.findAll().stream().map(Alumno::getId).toList())).hasSize(5);
+        Apoderado andrea = apoderadoRepository.findByRut(rut(9_000_101)).orElseThrow();
+        Apoderado jorge = apoderadoRepository.findByRut(rut(9_000_107)).orElseThrow();
+        assertThat(jorge.getApellido()).isEqualTo("Peña; Ríos");
+
+        Usuario usuario = usuarioRepository.findByApoderadoId(andrea.getId()).orElseThrow();
+        assertThat(usuario.getRol()).isEqualTo(Rol.APODERADO);
+        assertThat(usuario.getEmail()).isEqualTo("andrea@test.cl");
+        assertThat(passwordEncoder.matches(andrea.getRut(), usuario.getPasswordHash())).isTrue();
+    }
+
+    @Test
+    void execute_conColumnasFaltantes_rechazaElArchivoSinEscribir() {
+        assertThatThrownBy(() -> importar("alumno_rut,alumno_nombre\n" + rut(20_000_201) + ",Ana\n"))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageStartingWith("Faltan columnas en el CSV");
+
+        assertThat(alumnoRepository.count()).isZero();
+    }
+
+    private ImportacionAlumnosResponse importar(String csv) {
+        return importarAlumnosConApoderado.execute(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void limpiar() {
+        apoderadoAlumnoRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM usuario WHERE rol = 'APODERADO'");
+        apoderadoRepository.deleteAllInBatch();
+        alumnoRepository.deleteAllInBatch();
+    }
+
+    private static String fila(
+        String rutAlumno,
+        String fechaNacimiento,
+        String rutApoderado,
+        String nombreApoderado,
+        String apellidoApoderado,
+        String email,
+        String vinculo
+    ) {
+        return String.join(";", List.of(
+            rutAlumno, "Alumno", "Prueba", fechaNacimiento,
+            rutApoderado, nombreApoderado, apellidoApoderado, email, "", vinculo
+        )) + "\n";
+    }
+
+    private static String rut(int cuerpo) {
+        int suma = 0;
+        int multiplicador = 2;
+        for (int resto = cuerpo; resto > 0; resto /= 10) {
+            suma += (resto % 10) * multiplicador;
+            multiplicador = multiplicador == 7 ? 2 : multiplicador + 1;
+        }
+        int dv = 11 - (suma % 11);
+        return cuerpo + "-" + (dv == 11 ? "0" : dv == 10 ? "K" : String.valueOf(dv));
+    }
+}
@@ -0,0 +1,190 @@
+package com.schoolmate.api.usecase.alumno;
+
+import com.schoolmate.api.common.metricas.ContadorSql;
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.dto.response.AlumnoPageResponse;
+import com.schoolmate.api.dto.response.AlumnoResponse;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.Matricula;
+import com.schoolmate.api.enums.EstadoMatricula;
+import com.schoolmate.api.repository.AlumnoRepository;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import com.schoolmate.api.repository.MatriculaRepository;
+import com.schoolmate.api.support.GeneradorColegioSintetico;
+import com.schoolmate.api.support.GeneradorColegioSintetico.ColegioGenerado;
+import com.schoolmate.api.support.GeneradorColegioSintetico.Parametros;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filtro por curso/grado de {@link ObtenerAlumnos} sobre un colegio sintético de 480 alumnos: solo cuentan las
+ * matrículas ACTIVA del año consultado, y el número de sentencias no depende de cuántos alumnos coinciden con el
+ * filtro.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:obtener-alumnos-filtro-matricula;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+    }
+)
+@ActiveProfiles("dev")
+class ObtenerAlumnosFiltroMatriculaIntegrationTest {
+
+    // 4 grados x 3 cursos x 40 alumnos, sin asistencia.
+    private static final Parametros COLEGIO = Parametros.pequeno().toBuilder()
+        .grados(4)
+        .cursosPorGrado(3)
+        .alumnosPorCurso(40)
+        .semanasAsistencia(0)
+        .build();
+    private static final int RETIRADOS = 5;
+    private static final int ALUMNOS_ANO_ANTERIOR = 30;
+
+    private static final List<String> TABLAS = List.of(
+        "registro_asistencia", "asistencia_clase", "resumen_asistencia_alumno", "bloque_horario",
+        "apoderado_alumno", "apoderado", "matricula", "alumno", "curso", "malla_curricular", "profesor_materia",
+        "profesor", "materia", "grado", "seccion_catalogo", "ano_escolar");
+
+    // Página + count + matrículas de la página + apoderados de la página. Las páginas consultadas están
+    // completas, así que Spring Data no puede omitir el count.
+    private static final long SENTENCIAS_ESPERADAS = 4;
+
+    @Autowired private ObtenerAlumnos obtenerAlumnos;
+    @Autowired private AlumnoRepository alumnoRepository;
+    @Autowired private MatriculaRepository matriculaRepository;
+    @Autowired private CursoRepository cursoRepository;
+    @Autowired private AnoEscolarRepository anoEscolarRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID anoActualId;
+    private UUID primerGradoId;
+    private String primerGradoNombre;
+    private Curso primerCurso;
+
+    @BeforeEach
+    void setUp() {
+        TimeContext.setFixed(LocalDateTime.of(2026, 3, 10, 9, 0));
+        GeneradorColegioSintetico generador = new GeneradorColegioSintetico(jdbcTemplate, COLEGIO);
+        ColegioGenerado colegio = generador.generar();
+        anoActualId = colegio.anoEscolarId();
+        primerGradoId = generador.uuid("grado", 1);
+        primerGradoNombre = jdbcTemplate.queryForObject(
+            "SELECT nombre FROM grado WHERE id = ?", String.class, primerGradoId);
+        primerCurso = cursoRepository.findById(generador.uuid("curso", 0)).orElseThrow();
+
+        AnoEscolar anoAnterior = anoEscolarRepository.save(anoEscolar(2025));
+        List<Alumno> alumnos = new ArrayList<>();
+        List<Matricula> matriculas = new ArrayList<>();
+        int rut = 1_000_000;
+        for (int i = 0; i < RETIRADOS; i++) {
+            Alumno alumno = alumno(rut++);
+            alumnos.add(alumno);
+            matriculas.add(matricula(alumno, primerCurso, EstadoMatricula.RETIRADO));
+        }
+        Curso cursoAnterior = cursoRepository.save(curso(primerCurso, anoAnterior));
+        for (int i = 0; i < ALUMNOS_ANO_ANTERIOR; i++) {
+            Alumno alumno = alumno(rut++);
+            alumnos.add(alumno);
+            matriculas.add(matricula(alumno, cursoAnterior, EstadoMatricula.ACTIVA));
+        }
+        alumnoRepository.saveAll(alumnos);
+        matriculaRepository.saveAll(matriculas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TABLAS.forEach(tabla -> jdbcTemplate.update("DELETE FROM " + tabla));
+        TimeContext.reset();
+    }
+
+    @Test
+    void execute_conFiltroGrado_cuentaSoloMatriculasActivasDelAnoConSentenciasConstantes() {
+        long antes = ContadorSql.sentencias();
+
+        AlumnoPageResponse response = obtenerAlumnos.execute(
+            anoActualId, 0, 20, "apellido", "asc", null, primerGradoId, null);
+
+        assertThat(ContadorSql.sentencias() - antes).isEqualTo(SENTENCIAS_ESPERADAS);
+        assertThat(response.getTotalElements())
+            .isEqualTo((long) COLEGIO.getCursosPorGrado() * COLEGIO.getAlumnosPorCurso());
+        assertThat(response.getContent()).hasSize(20)
+            .allSatisfy(alumno -> assertThat(alumno.getGradoNombre()).isEqualTo(primerGradoNombre));
+    }
+
+    @Test
+    void execute_conFiltroCurso_excluyeRetiradosYPaginaSobreElFiltro() {
+        long antes = ContadorSql.sentencias();
+
+        AlumnoPageResponse response = obtenerAlumnos.execute(
+            anoActualId, 1, 15, "rut", "asc", primerCurso.getId(), null, null);
+
+        assertThat(ContadorSql.sentencias() - antes).isEqualTo(SENTENCIAS_ESPERADAS);
+        assertThat(response.getTotalElements()).isEqualTo(COLEGIO.getAlumnosPorCurso());
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.getContent()).hasSize(15)
+            .extracting(AlumnoResponse::getCursoId)
+            .containsOnly(primerCurso.getId());
+    }
+
+    private static AnoEscolar anoEscolar(int ano) {
+        return AnoEscolar.builder()
+            .ano(ano)
+            .fechaInicioPlanificacion(LocalDate.of(ano, 1, 1))
+            .fechaInicio(LocalDate.of(ano, 3, 1))
+            .fechaFin(LocalDate.of(ano, 12, 20))
+            .build();
+    }
+
+    private static Curso curso(Curso mismoCurso, AnoEscolar anoEscolar) {
+        return Curso.builder()
+            .nombre(mismoCurso.getNombre())
+            .letra(mismoCurso.getLetra())
+            .grado(mismoCurso.getGrado())
+            .anoEscolar(anoEscolar)
+            .activo(true)
+            .build();
+    }
+
+    private static Alumno alumno(int rut) {
+        return Alumno.builder()
+            .rut(rut + "-" + (rut % 10))
+            .nombre("Alumno")
+            .apellido("Apellido " + rut)
+            .fechaNacimiento(LocalDate.of(2015, 5, 20))
+            .activo(true)
+            .build();
+    }
+
+    private static Matricula matricula(Alumno alumno, Curso curso, EstadoMatricula estado) {
+        return Matricula.builder()
+            .alumno(alumno)
+            .curso(curso)
+            .anoEscolar(curso.getAnoEscolar())
+            .fechaMatricula(LocalDate.of(2026, 3, 1))
+            .estado(estado)
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.alumno;
 
+import com.schoolmate.api.common.busqueda.SoporteTrigramas;
 import com.schoolmate.api.dto.response.AlumnoPageResponse;
 import com.schoolmate.api.dto.response.AlumnoResponse;
 import com.schoolmate.api.entity.Alumno;
@@ -47,6 +48,8 @@ class ObtenerAlumnosTest {
     private MatriculaRepository matriculaRepository;
     @Mock
     private ApoderadoAlumnoRepository apoderadoAlumnoRepository;
+    @Mock
+    private SoporteTrigramas soporteTrigramas;
 
     @InjectMocks
     private ObtenerAlumnos useCase;
@@ -128,10 +131,11 @@ class ObtenerAlumnosTest {
     }
 
     @Test
-    void execute_conFiltroCursoSinCoincidencias_retornaPaginaVaciaSinConsultarAlumnos() {
+    void execute_conFiltroCursoSinCoincidencias_retornaPaginaVaciaSinCargarMatriculas() {
         UUID anoEscolarId = UUID.randomUUID();
         UUID cursoId = UUID.randomUUID();
-        when(matriculaRepository.findByCursoIdAndEstado(cursoId, EstadoMatricula.ACTIVA)).thenReturn(List.of());
+        when(alumnoRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of()));
 
         AlumnoPageResponse response = useCase.execute(
             anoEscolarId,
@@ -146,26 +150,24 @@ class ObtenerAlumnosTest {
 
         assertThat(response.getContent()).isEmpty();
         assertThat(response.getTotalElements()).isZero();
-        verify(alumnoRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verify(matriculaRepository, never()).findByCursoIdAndEstado(any(UUID.class), any(EstadoMatricula.class));
+        verify(matriculaRepository, never()).findByAlumnoIdInAndAnoEscolarIdAndEstado(anyList(), any(UUID.class), any(EstadoMatricula.class));
     }
 
     @Test
-    void execute_conFiltroGrado_consultaMatriculasPorAnoYGrado() {
+    void execute_conFiltroGrado_filtraEnLaConsultaDeAlumnosSinListarMatriculas() {
         UUID anoEscolarId = UUID.randomUUID();
         UUID gradoId = UUID.randomUUID();
         Alumno alumno = alumno(UUID.randomUUID(), "45612378-0", "Sofia", "Muñoz");
         Matricula matricula = matricula(alumno, anoEscolarId);
 
-        when(matriculaRepository.findByAnoEscolarIdAndCursoGradoIdAndEstado(
-            anoEscolarId, gradoId, EstadoMatricula.ACTIVA
-        )).thenReturn(List.of(matricula));
         when(alumnoRepository.findAll(any(Specification.class), any(Pageable.class)))
             .thenReturn(new PageImpl<>(List.of(alumno)));
         when(matriculaRepository.findByAlumnoIdInAndAnoEscolarIdAndEstado(anyList(), eq(anoEscolarId), eq(EstadoMatricula.ACTIVA)))
             .thenReturn(List.of(matricula));
         when(apoderadoAlumnoRepository.findByAlumnoIdsWithApoderado(anyList())).thenReturn(List.of());
 
-        useCase.execute(
+        AlumnoPageResponse response = useCase.execute(
             anoEscolarId,
             0,
             20,
@@ -176,12 +178,9 @@ class ObtenerAlumnosTest {
             null
         );
 
-        verify(matriculaRepository).findByAnoEscolarIdAndCursoGradoIdAndEstado(
-            anoEscolarId,
-            gradoId,
-            EstadoMatricula.ACTIVA
-        );
-        verify(matriculaRepository, never()).findByCursoIdAndEstado(any(UUID.class), eq(EstadoMatricula.ACTIVA));
+        assertThat(response.getContent()).extracting(AlumnoResponse::getId).containsExactly(alumno.getId());
+        verify(alumnoRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(matriculaRepository, never()).findByCursoIdAndEstado(any(UUID.class), any(EstadoMatricula.class));
     }
 
     @Test
@@ -244,6 +243,54 @@ class ObtenerAlumnosTest {
             .isEqualTo(Sort.Direction.ASC);
     }
 
+    @Test
+    void execute_conBusquedaYSortRelevanciaConTrigramas_noOrdenaEnElPageable() {
+        UUID anoEscolarId = UUID.randomUUID();
+        when(soporteTrigramas.disponible()).thenReturn(true);
+        when(alumnoRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of()));
+
+        AlumnoPageResponse response = useCase.execute(
+            anoEscolarId,
+            0,
+            20,
+            "relevancia",
+            "asc",
+            null,
+            null,
+            "Muñoz"
+        );
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(alumnoRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getSort().isUnsorted()).isTrue();
+        assertThat(response.getSortBy()).isEqualTo("relevancia");
+    }
+
+    @Test
+    void execute_conSortRelevanciaSinTrigramas_vuelveAApellido() {
+        UUID anoEscolarId = UUID.randomUUID();
+        when(soporteTrigramas.disponible()).thenReturn(false);
+        when(alumnoRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of()));
+
+        AlumnoPageResponse response = useCase.execute(
+            anoEscolarId,
+            0,
+            20,
+            "relevancia",
+            "asc",
+            null,
+            null,
+            "munoz"
+        );
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(alumnoRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getSort().getOrderFor("apellido")).isNotNull();
+        assertThat(response.getSortBy()).isEqualTo("apellido");
+    }
+
     @Test
     void execute_conVinculoNulo_mapeaVinculoComoOtro() {
         UUID anoEscolarId = UUID.randomUUID();
@@ -303,21 +350,19 @@ class ObtenerAlumnosTest {
     }
 
     @Test
-    void execute_conFiltroCurso_consultaRepositorioCursoEstado() {
+    void execute_conFiltroCurso_noMaterializaMatriculasDelCurso() {
         UUID anoEscolarId = UUID.randomUUID();
         UUID cursoId = UUID.randomUUID();
         Alumno alumno = alumno(UUID.randomUUID(), "74185296-3", "Nora", "Perez");
         Matricula matricula = matricula(alumno, anoEscolarId);
 
-        when(matriculaRepository.findByCursoIdAndEstado(cursoId, EstadoMatricula.ACTIVA))
-            .thenReturn(List.of(matricula));
         when(alumnoRepository.findAll(any(Specification.class), any(Pageable.class)))
             .thenReturn(new PageImpl<>(List.of(alumno)));
         when(matriculaRepository.findByAlumnoIdInAndAnoEscolarIdAndEstado(anyList(), eq(anoEscolarId), eq(EstadoMatricula.ACTIVA)))
             .thenReturn(List.of(matricula));
         when(apoderadoAlumnoRepository.findByAlumnoIdsWithApoderado(anyList())).thenReturn(List.of());
 
-        useCase.execute(
+        AlumnoPageResponse response = useCase.execute(
             anoEscolarId,
             0,
             20,
@@ -328,7 +373,8 @@ class ObtenerAlumnosTest {
             null
         );
 
-        verify(matriculaRepository).findByCursoIdAndEstado(cursoId, EstadoMatricula.ACTIVA);
+        assertThat(response.getContent()).hasSize(1);
+        verify(matriculaRepository, never()).findByCursoIdAndEstado(any(UUID.class), any(EstadoMatricula.class));
     }
 
     private static Alumno alumno(UUID id, String rut, String nombre, String apellido) {
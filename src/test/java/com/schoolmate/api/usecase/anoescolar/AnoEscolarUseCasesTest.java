@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.anoescolar;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.AnoEscolarRequest;
 import com.schoolmate.api.dto.response.AnoEscolarPageResponse;
@@ -39,6 +42,13 @@ class AnoEscolarUseCasesTest {
     private AnoEscolarRepository anoEscolarRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CatalogoCache catalogoCache;
+    @Mock
+    private CalendarioEscolar calendarioEscolar;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private ActualizarAnoEscolar actualizarAnoEscolar;
@@ -150,6 +160,7 @@ class AnoEscolarUseCasesTest {
         assertThat(response.getAno()).isEqualTo(2026);
         assertThat(response.getFechaInicio()).isEqualTo("2026-03-05");
         assertThat(response.getFechaFin()).isEqualTo("2026-12-30");
+        verify(calendarioEscolar).invalidar(id);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.apoderado;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
 import com.schoolmate.api.common.rut.RutValidationService;
 import com.schoolmate.api.dto.request.ApoderadoRequest;
 import com.schoolmate.api.entity.Alumno;
@@ -9,7 +10,6 @@ import com.schoolmate.api.repository.AlumnoRepository;
 import com.schoolmate.api.repository.AnoEscolarRepository;
 import com.schoolmate.api.repository.ApoderadoAlumnoRepository;
 import com.schoolmate.api.repository.ApoderadoRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import com.schoolmate.api.repository.RegistroAsistenciaRepository;
 import com.schoolmate.api.repository.UsuarioRepository;
@@ -54,7 +54,7 @@ class ApoderadoUseCasesMissingTest {
     @Mock
     private RegistroAsistenciaRepository registroAsistenciaRepository;
     @Mock
-    private DiaNoLectivoRepository diaNoLectivoRepository;
+    private CalendarioEscolar calendarioEscolar;
 
     @InjectMocks
     private BuscarApoderadoPorRut buscarApoderadoPorRut;
@@ -1,19 +1,19 @@
 package com.schoolmate.api.usecase.apoderado;
 
+import com.schoolmate.api.common.asistencia.ArchivoAsistencia;
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
 import com.schoolmate.api.dto.projection.RegistroConFecha;
 import com.schoolmate.api.dto.response.AsistenciaDiaResponse;
 import com.schoolmate.api.dto.response.AsistenciaMensualResponse;
 import com.schoolmate.api.entity.Alumno;
-import com.schoolmate.api.entity.AnoEscolar;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.enums.EstadoAsistencia;
 import com.schoolmate.api.enums.TipoDiaNoLectivo;
 import com.schoolmate.api.exception.BusinessException;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AlumnoRepository;
-import com.schoolmate.api.repository.AnoEscolarRepository;
 import com.schoolmate.api.repository.ApoderadoAlumnoRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.RegistroAsistenciaRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,9 +42,9 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
     @Mock
     private AlumnoRepository alumnoRepository;
     @Mock
-    private AnoEscolarRepository anoEscolarRepository;
+    private CalendarioEscolar calendarioEscolar;
     @Mock
-    private DiaNoLectivoRepository diaNoLectivoRepository;
+    private ArchivoAsistencia archivoAsistencia;
 
     @InjectMocks
     private ObtenerAsistenciaMensualAlumno useCase;
@@ -56,7 +57,7 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.of(ano(anoId)));
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario(LocalDate.of(2026, 3, 15), LocalDate.of(2026, 4, 2)));
         when(registroAsistenciaRepository.findByAlumnoIdAndFechaEntre(
             alumnoId,
             LocalDate.of(2026, 3, 1),
@@ -68,11 +69,6 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
             registro(alumnoId, EstadoAsistencia.AUSENTE, LocalDate.of(2026, 3, 2)),
             registro(alumnoId, EstadoAsistencia.PRESENTE, LocalDate.of(2026, 3, 1))
         ));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFechaBetweenOrderByFechaAsc(
-            anoId,
-            LocalDate.of(2026, 3, 1),
-            LocalDate.of(2026, 3, 31)
-        )).thenReturn(List.of(diaNoLectivo(anoId, LocalDate.of(2026, 3, 15))));
 
         AsistenciaMensualResponse response = useCase.execute(alumnoId, 3, 2026, apoderadoId, anoId);
 
@@ -106,7 +102,7 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
             .isInstanceOf(BusinessException.class)
             .hasMessage("Mes o anio invalido");
 
-        verifyNoInteractions(anoEscolarRepository, registroAsistenciaRepository, diaNoLectivoRepository);
+        verifyNoInteractions(calendarioEscolar, registroAsistenciaRepository);
     }
 
     @Test
@@ -129,7 +125,7 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoId)).thenThrow(new ResourceNotFoundException("Año escolar no encontrado"));
 
         assertThatThrownBy(() -> useCase.execute(alumnoId, 3, 2026, apoderadoId, anoId))
             .isInstanceOf(ResourceNotFoundException.class);
@@ -156,17 +152,12 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.of(ano(anoId)));
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario(LocalDate.of(2026, 4, 18)));
         when(registroAsistenciaRepository.findByAlumnoIdAndFechaEntre(
             alumnoId,
             LocalDate.of(2026, 4, 1),
             LocalDate.of(2026, 4, 30)
         )).thenReturn(List.of());
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFechaBetweenOrderByFechaAsc(
-            anoId,
-            LocalDate.of(2026, 4, 1),
-            LocalDate.of(2026, 4, 30)
-        )).thenReturn(List.of(diaNoLectivo(anoId, LocalDate.of(2026, 4, 18))));
 
         AsistenciaMensualResponse response = useCase.execute(alumnoId, 4, 2026, apoderadoId, anoId);
 
@@ -183,7 +174,7 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.of(ano(anoId)));
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario());
         when(registroAsistenciaRepository.findByAlumnoIdAndFechaEntre(
             alumnoId,
             LocalDate.of(2026, 5, 1),
@@ -192,11 +183,6 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
             registro(alumnoId, EstadoAsistencia.PRESENTE, LocalDate.of(2026, 5, 10)),
             registro(alumnoId, EstadoAsistencia.PRESENTE, LocalDate.of(2026, 5, 10))
         ));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFechaBetweenOrderByFechaAsc(
-            anoId,
-            LocalDate.of(2026, 5, 1),
-            LocalDate.of(2026, 5, 31)
-        )).thenReturn(List.of());
 
         AsistenciaMensualResponse response = useCase.execute(alumnoId, 5, 2026, apoderadoId, anoId);
 
@@ -206,6 +192,32 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
         assertThat(response.getDias().getFirst().getTotalBloques()).isEqualTo(2);
     }
 
+    @Test
+    void execute_conCursoArchivado_combinaRegistrosDelArchivo() {
+        UUID alumnoId = UUID.randomUUID();
+        UUID apoderadoId = UUID.randomUUID();
+        UUID anoId = UUID.randomUUID();
+        LocalDate inicioMes = LocalDate.of(2025, 11, 1);
+        LocalDate finMes = LocalDate.of(2025, 11, 30);
+
+        when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
+        when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario());
+        when(registroAsistenciaRepository.findByAlumnoIdAndFechaEntre(alumnoId, inicioMes, finMes)).thenReturn(List.of());
+        when(archivoAsistencia.registrosEntre(alumnoId, inicioMes, finMes)).thenReturn(List.of(
+            new RegistroConFecha(null, alumnoId, EstadoAsistencia.PRESENTE, LocalDate.of(2025, 11, 4)),
+            new RegistroConFecha(null, alumnoId, EstadoAsistencia.AUSENTE, LocalDate.of(2025, 11, 4))
+        ));
+
+        AsistenciaMensualResponse response = useCase.execute(alumnoId, 11, 2025, apoderadoId, anoId);
+
+        assertThat(response.getDias()).singleElement().satisfies(dia -> {
+            assertThat(dia.getFecha()).isEqualTo("2025-11-04");
+            assertThat(dia.getEstado()).isEqualTo("PARCIAL");
+            assertThat(dia.getTotalBloques()).isEqualTo(2);
+        });
+    }
+
     private static Alumno alumno(UUID id) {
         return Alumno.builder()
             .id(id)
@@ -217,27 +229,14 @@ class ObtenerAsistenciaMensualAlumnoBehaviorTest {
             .build();
     }
 
-    private static AnoEscolar ano(UUID id) {
-        return AnoEscolar.builder()
-            .id(id)
-            .ano(2026)
-            .fechaInicioPlanificacion(LocalDate.of(2026, 1, 1))
-            .fechaInicio(LocalDate.of(2026, 3, 1))
-            .fechaFin(LocalDate.of(2026, 12, 20))
-            .build();
+    private static CalendarioAnoEscolar calendario(LocalDate... diasNoLectivos) {
+        List<DiaNoLectivoCalendario> dias = Arrays.stream(diasNoLectivos)
+            .map(fecha -> new DiaNoLectivoCalendario(UUID.randomUUID(), fecha, TipoDiaNoLectivo.FERIADO_LEGAL, "Feriado"))
+            .toList();
+        return CalendarioAnoEscolar.de(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 20), dias);
     }
 
     private static RegistroConFecha registro(UUID alumnoId, EstadoAsistencia estado, LocalDate fecha) {
         return new RegistroConFecha(UUID.randomUUID(), alumnoId, estado, fecha);
     }
-
-    private static DiaNoLectivo diaNoLectivo(UUID anoId, LocalDate fecha) {
-        return DiaNoLectivo.builder()
-            .id(UUID.randomUUID())
-            .anoEscolar(AnoEscolar.builder().id(anoId).build())
-            .fecha(fecha)
-            .tipo(TipoDiaNoLectivo.FERIADO_LEGAL)
-            .descripcion("Feriado")
-            .build();
-    }
 }
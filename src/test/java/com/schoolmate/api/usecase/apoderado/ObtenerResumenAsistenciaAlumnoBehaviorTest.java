@@ -2,11 +2,12 @@ package com.schoolmate.api.usecase.apoderado;
 
 import com.schoolmate.api.dto.response.ResumenAsistenciaResponse;
 import com.schoolmate.api.entity.Alumno;
-import com.schoolmate.api.enums.EstadoAsistencia;
+import com.schoolmate.api.entity.ResumenAsistenciaAlumno;
+import com.schoolmate.api.entity.ResumenAsistenciaAlumnoId;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AlumnoRepository;
 import com.schoolmate.api.repository.ApoderadoAlumnoRepository;
-import com.schoolmate.api.repository.RegistroAsistenciaRepository;
+import com.schoolmate.api.repository.ResumenAsistenciaAlumnoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -27,7 +28,7 @@ class ObtenerResumenAsistenciaAlumnoBehaviorTest {
     @Mock
     private ApoderadoAlumnoRepository apoderadoAlumnoRepository;
     @Mock
-    private RegistroAsistenciaRepository registroAsistenciaRepository;
+    private ResumenAsistenciaAlumnoRepository resumenAsistenciaAlumnoRepository;
     @Mock
     private AlumnoRepository alumnoRepository;
 
@@ -42,10 +43,8 @@ class ObtenerResumenAsistenciaAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.PRESENTE, anoId))
-            .thenReturn(7L);
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.AUSENTE, anoId))
-            .thenReturn(2L);
+        when(resumenAsistenciaAlumnoRepository.findById(new ResumenAsistenciaAlumnoId(alumnoId, anoId)))
+            .thenReturn(Optional.of(resumen(alumnoId, anoId, 7, 2)));
 
         ResumenAsistenciaResponse response = useCase.execute(alumnoId, anoId, apoderadoId);
 
@@ -65,10 +64,8 @@ class ObtenerResumenAsistenciaAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.PRESENTE, anoId))
-            .thenReturn(0L);
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.AUSENTE, anoId))
-            .thenReturn(0L);
+        when(resumenAsistenciaAlumnoRepository.findById(new ResumenAsistenciaAlumnoId(alumnoId, anoId)))
+            .thenReturn(Optional.empty());
 
         ResumenAsistenciaResponse response = useCase.execute(alumnoId, anoId, apoderadoId);
 
@@ -99,10 +96,8 @@ class ObtenerResumenAsistenciaAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.PRESENTE, anoId))
-            .thenReturn(1L);
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.AUSENTE, anoId))
-            .thenReturn(2L);
+        when(resumenAsistenciaAlumnoRepository.findById(new ResumenAsistenciaAlumnoId(alumnoId, anoId)))
+            .thenReturn(Optional.of(resumen(alumnoId, anoId, 1, 2)));
 
         ResumenAsistenciaResponse response = useCase.execute(alumnoId, anoId, apoderadoId);
 
@@ -118,10 +113,8 @@ class ObtenerResumenAsistenciaAlumnoBehaviorTest {
 
         when(apoderadoAlumnoRepository.existsByApoderadoIdAndAlumnoId(apoderadoId, alumnoId)).thenReturn(true);
         when(alumnoRepository.findById(alumnoId)).thenReturn(Optional.of(alumno(alumnoId)));
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.PRESENTE, anoId))
-            .thenReturn(5L);
-        when(registroAsistenciaRepository.countByAlumnoIdAndEstadoAndAnoEscolarId(alumnoId, EstadoAsistencia.AUSENTE, anoId))
-            .thenReturn(0L);
+        when(resumenAsistenciaAlumnoRepository.findById(new ResumenAsistenciaAlumnoId(alumnoId, anoId)))
+            .thenReturn(Optional.of(resumen(alumnoId, anoId, 5, 0)));
 
         ResumenAsistenciaResponse response = useCase.execute(alumnoId, anoId, apoderadoId);
 
@@ -131,6 +124,14 @@ class ObtenerResumenAsistenciaAlumnoBehaviorTest {
         assertThat(response.getPorcentajeAsistencia()).isEqualTo(100.0);
     }
 
+    private static ResumenAsistenciaAlumno resumen(UUID alumnoId, UUID anoId, int presentes, int ausentes) {
+        return ResumenAsistenciaAlumno.builder()
+            .id(new ResumenAsistenciaAlumnoId(alumnoId, anoId))
+            .totalPresente(presentes)
+            .totalAusente(ausentes)
+            .build();
+    }
+
     private static Alumno alumno(UUID id) {
         return Alumno.builder()
             .id(id)
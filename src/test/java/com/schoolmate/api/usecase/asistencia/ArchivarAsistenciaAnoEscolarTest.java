@@ -0,0 +1,122 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.EjecutorArchivoAsistencia;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.response.ArchivoAsistenciaAnoResponse;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.ArchivoAsistenciaAno;
+import com.schoolmate.api.enums.EstadoArchivoAsistencia;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ConflictException;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.ArchivoAsistenciaAnoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivarAsistenciaAnoEscolarTest {
+
+    private static final UUID ANO_ID = UUID.randomUUID();
+
+    @Mock
+    private AnoEscolarRepository anoEscolarRepository;
+    @Mock
+    private ArchivoAsistenciaAnoRepository archivoRepository;
+    @Mock
+    private EjecutorArchivoAsistencia ejecutorArchivo;
+    @Mock
+    private ClockProvider clockProvider;
+
+    @InjectMocks
+    private ArchivarAsistenciaAnoEscolar useCase;
+
+    @Test
+    void execute_conAnoActivo_lanzaBusinessException() {
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.of(ano2025()));
+        when(clockProvider.today()).thenReturn(LocalDate.of(2025, 10, 1));
+
+        assertThatThrownBy(() -> useCase.execute(ANO_ID))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("Solo se puede archivar la asistencia de un año escolar cerrado");
+
+        verifyNoInteractions(archivoRepository, ejecutorArchivo);
+    }
+
+    @Test
+    void execute_conAnoCerrado_creaPendienteYLoEncola() {
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.of(ano2025()));
+        when(clockProvider.today()).thenReturn(LocalDate.of(2026, 1, 15));
+        when(archivoRepository.findByIdForUpdate(ANO_ID)).thenReturn(Optional.empty());
+        when(ejecutorArchivo.planificar(ANO_ID)).thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+        when(archivoRepository.save(any(ArchivoAsistenciaAno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ArchivoAsistenciaAnoResponse response = useCase.execute(ANO_ID);
+
+        assertThat(response.getAnoEscolarId()).isEqualTo(ANO_ID);
+        assertThat(response.getEstado()).isEqualTo("PENDIENTE");
+        assertThat(response.getCursosTotal()).isEqualTo(2);
+        verify(ejecutorArchivo).programar(ANO_ID);
+    }
+
+    @Test
+    void execute_conArchivoFallido_loReanuda() {
+        ArchivoAsistenciaAno fallido = ArchivoAsistenciaAno.builder()
+            .anoEscolarId(ANO_ID)
+            .estado(EstadoArchivoAsistencia.FALLIDO)
+            .cursosTotal(2)
+            .cursosProcesados(1)
+            .build();
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.of(ano2025()));
+        when(clockProvider.today()).thenReturn(LocalDate.of(2026, 1, 15));
+        when(archivoRepository.findByIdForUpdate(ANO_ID)).thenReturn(Optional.of(fallido));
+
+        ArchivoAsistenciaAnoResponse response = useCase.execute(ANO_ID);
+
+        assertThat(response.getEstado()).isEqualTo("PENDIENTE");
+        assertThat(response.getCursosProcesados()).isEqualTo(1);
+        verify(ejecutorArchivo).programar(ANO_ID);
+    }
+
+    @Test
+    void execute_conArchivoCompletado_lanzaConflict() {
+        ArchivoAsistenciaAno completado = ArchivoAsistenciaAno.builder()
+            .anoEscolarId(ANO_ID)
+            .estado(EstadoArchivoAsistencia.COMPLETADO)
+            .build();
+        when(anoEscolarRepository.findById(ANO_ID)).thenReturn(Optional.of(ano2025()));
+        when(clockProvider.today()).thenReturn(LocalDate.of(2026, 1, 15));
+        when(archivoRepository.findByIdForUpdate(ANO_ID)).thenReturn(Optional.of(completado));
+
+        assertThatThrownBy(() -> useCase.execute(ANO_ID))
+            .isInstanceOf(ConflictException.class)
+            .hasMessage("La asistencia de este año escolar ya está archivada");
+
+        verify(ejecutorArchivo, never()).programar(ANO_ID);
+    }
+
+    private static AnoEscolar ano2025() {
+        return AnoEscolar.builder()
+            .id(ANO_ID)
+            .ano(2025)
+            .fechaInicioPlanificacion(LocalDate.of(2025, 1, 10))
+            .fechaInicio(LocalDate.of(2025, 3, 3))
+            .fechaFin(LocalDate.of(2025, 12, 19))
+            .build();
+    }
+}
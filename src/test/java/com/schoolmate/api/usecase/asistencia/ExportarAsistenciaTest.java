@@ -0,0 +1,92 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.ExportacionAsistencia;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.exception.ResourceNotFoundException;
+import com.schoolmate.api.repository.CursoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportarAsistenciaTest {
+
+    private static final UUID ANO_ID = UUID.randomUUID();
+
+    @Mock
+    private CursoRepository cursoRepository;
+    @Mock
+    private ExportacionAsistencia exportacionAsistencia;
+
+    @InjectMocks
+    private ExportarAsistencia useCase;
+
+    @Test
+    void execute_sinFechas_usaElRangoDelAnoYEscribeAlEnviar() throws Exception {
+        ExportarAsistencia.Archivo archivo = useCase.execute(ano(), null, null, null);
+
+        assertThat(archivo.nombre()).isEqualTo("asistencia-2026-2026-03-02-2026-12-18.csv");
+        verifyNoInteractions(exportacionAsistencia);
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        archivo.contenido().writeTo(salida);
+        verify(exportacionAsistencia).escribirCsv(
+            ANO_ID, null, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 12, 18), salida);
+    }
+
+    @Test
+    void execute_conFinAnteriorAInicio_lanzaBusinessException() {
+        assertThatThrownBy(() -> useCase.execute(ano(), null, LocalDate.of(2026, 5, 10), LocalDate.of(2026, 5, 9)))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("La fecha de fin no puede ser anterior a la fecha de inicio");
+    }
+
+    @Test
+    void execute_conCursoInexistente_lanzaResourceNotFound() {
+        UUID cursoId = UUID.randomUUID();
+        when(cursoRepository.findById(cursoId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(ano(), cursoId, null, null))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessage("Curso no encontrado");
+    }
+
+    @Test
+    void execute_conCursoDeOtroAno_lanzaBusinessException() {
+        UUID cursoId = UUID.randomUUID();
+        Curso curso = Curso.builder()
+            .id(cursoId)
+            .anoEscolar(AnoEscolar.builder().id(UUID.randomUUID()).build())
+            .build();
+        when(cursoRepository.findById(cursoId)).thenReturn(Optional.of(curso));
+
+        assertThatThrownBy(() -> useCase.execute(ano(), cursoId, null, null))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("El curso no pertenece al año escolar indicado");
+    }
+
+    private static AnoEscolar ano() {
+        return AnoEscolar.builder()
+            .id(ANO_ID)
+            .ano(2026)
+            .fechaInicioPlanificacion(LocalDate.of(2026, 1, 10))
+            .fechaInicio(LocalDate.of(2026, 3, 2))
+            .fechaFin(LocalDate.of(2026, 12, 18))
+            .build();
+    }
+}
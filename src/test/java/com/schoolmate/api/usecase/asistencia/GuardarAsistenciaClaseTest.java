@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.asistencia;
 
+import com.schoolmate.api.common.asistencia.ResumenAsistenciaAlumnoAcumulador;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.GuardarAsistenciaRequest;
 import com.schoolmate.api.dto.request.RegistroAlumnoRequest;
@@ -69,6 +71,10 @@ class GuardarAsistenciaClaseTest {
     private UsuarioRepository usuarioRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+    @Mock
+    private ResumenAsistenciaAlumnoAcumulador resumenAsistenciaAcumulador;
 
     @InjectMocks
     private GuardarAsistenciaClase useCase;
@@ -537,6 +543,8 @@ class GuardarAsistenciaClaseTest {
             .map(r -> r.getAlumno().getId())
             .collect(Collectors.toList());
         assertThat(alumnoIds).containsExactly(alumnoA);
+        verify(resumenAsistenciaAcumulador).acumular(List.of(new ResumenAsistenciaAlumnoAcumulador.Delta(
+            alumnoB, bloque.getCurso().getAnoEscolar().getId(), 0, -1)));
     }
 
     @Test
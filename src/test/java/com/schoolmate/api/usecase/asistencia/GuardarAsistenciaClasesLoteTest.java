@@ -0,0 +1,300 @@
+package com.schoolmate.api.usecase.asistencia;
+
+import com.schoolmate.api.common.asistencia.ResumenAsistenciaAlumnoAcumulador;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.time.ClockProvider;
+import com.schoolmate.api.dto.request.GuardarAsistenciaLoteRequest;
+import com.schoolmate.api.dto.request.GuardarAsistenciaRequest;
+import com.schoolmate.api.dto.request.RegistroAlumnoRequest;
+import com.schoolmate.api.dto.response.GuardarAsistenciaLoteResponse;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.AsistenciaClase;
+import com.schoolmate.api.entity.BloqueHorario;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.DiaNoLectivo;
+import com.schoolmate.api.entity.Matricula;
+import com.schoolmate.api.entity.Profesor;
+import com.schoolmate.api.entity.RegistroAsistencia;
+import com.schoolmate.api.entity.Usuario;
+import com.schoolmate.api.enums.EstadoAsistencia;
+import com.schoolmate.api.enums.EstadoMatricula;
+import com.schoolmate.api.enums.Rol;
+import com.schoolmate.api.enums.TipoBloque;
+import com.schoolmate.api.enums.TipoDiaNoLectivo;
+import com.schoolmate.api.repository.AsistenciaClaseRepository;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import com.schoolmate.api.repository.DiaNoLectivoRepository;
+import com.schoolmate.api.repository.MatriculaRepository;
+import com.schoolmate.api.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GuardarAsistenciaClasesLoteTest {
+
+    private static final LocalDate HOY = LocalDate.of(2026, 3, 4); // miércoles
+
+    @Mock
+    private BloqueHorarioRepository bloqueHorarioRepository;
+    @Mock
+    private MatriculaRepository matriculaRepository;
+    @Mock
+    private AsistenciaClaseRepository asistenciaClaseRepository;
+    @Mock
+    private DiaNoLectivoRepository diaNoLectivoRepository;
+    @Mock
+    private UsuarioRepository usuarioRepository;
+    @Mock
+    private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+    @Mock
+    private ResumenAsistenciaAlumnoAcumulador resumenAsistenciaAcumulador;
+
+    @InjectMocks
+    private GuardarAsistenciaClasesLote useCase;
+
+    @Test
+    void execute_conVariosBloques_cargaEnConjuntoYGuardaTodosEnUnSaveAll() {
+        UUID profesorId = UUID.randomUUID();
+        UUID usuarioId = UUID.randomUUID();
+        Curso curso = curso();
+        BloqueHorario b1 = bloque(curso, profesorId, LocalTime.of(8, 0));
+        BloqueHorario b2 = bloque(curso, profesorId, LocalTime.of(9, 0));
+        UUID alumnoA = UUID.randomUUID();
+        UUID alumnoB = UUID.randomUUID();
+        RegistroAsistencia existenteA = RegistroAsistencia.builder()
+            .id(UUID.randomUUID())
+            .alumno(alumno(alumnoA))
+            .estado(EstadoAsistencia.AUSENTE)
+            .build();
+        AsistenciaClase existente = AsistenciaClase.builder()
+            .id(UUID.randomUUID())
+            .bloqueHorario(b2)
+            .fecha(HOY)
+            .createdAt(LocalDateTime.of(2026, 3, 4, 9, 5))
+            .updatedAt(LocalDateTime.of(2026, 3, 4, 9, 5))
+            .build();
+        existente.addRegistro(existenteA);
+
+        stubCargaBase(List.of(b1, b2), curso, List.of(alumnoA, alumnoB), List.of(existente), List.of());
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 23, 0));
+        when(usuarioRepository.getReferenceById(usuarioId))
+            .thenReturn(Usuario.builder().id(usuarioId).nombre("Admin").apellido("Schoolmate").build());
+
+        GuardarAsistenciaLoteResponse response = useCase.execute(
+            lote(
+                item(b1.getId(), HOY, alumnoA, alumnoB),
+                item(b2.getId(), HOY, alumnoA)
+            ),
+            null, usuarioId, Rol.ADMIN);
+
+        assertThat(response.getGuardadas()).isEqualTo(2);
+        assertThat(response.getRechazadas()).isZero();
+        assertThat(response.getResultados()).extracting(GuardarAsistenciaLoteResponse.ResultadoItem::getStatus)
+            .containsExactly(201, 200);
+        assertThat(response.getResultados().get(0).getAsistencia().getRegistros()).hasSize(2);
+        assertThat(response.getResultados().get(1).getAsistencia().getRegistradoPorNombre()).isEqualTo("Admin Schoolmate");
+        assertThat(existenteA.getEstado()).isEqualTo(EstadoAsistencia.PRESENTE);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<AsistenciaClase>> guardadas = ArgumentCaptor.forClass(Collection.class);
+        verify(asistenciaClaseRepository).saveAll(guardadas.capture());
+        assertThat(guardadas.getValue()).hasSize(2);
+        verify(cumplimientoDiaCache).registrarAsistencia(
+            eq(curso.getAnoEscolar().getId()), eq(HOY), eq(b1.getId()), any());
+        // b1 es nueva (A y B presentes); en b2 A pasa de ausente a presente.
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ResumenAsistenciaAlumnoAcumulador.Delta>> deltas =
+            ArgumentCaptor.forClass(Collection.class);
+        verify(resumenAsistenciaAcumulador).acumular(deltas.capture());
+        UUID anoId = curso.getAnoEscolar().getId();
+        assertThat(deltas.getValue()).containsExactlyInAnyOrder(
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumnoA, anoId, 1, 0),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumnoB, anoId, 1, 0),
+            new ResumenAsistenciaAlumnoAcumulador.Delta(alumnoA, anoId, 1, -1)
+        );
+    }
+
+    @Test
+    void execute_conItemsInvalidos_rechazaSoloEsosItems() {
+        UUID profesorId = UUID.randomUUID();
+        Curso curso = curso();
+        BloqueHorario valido = bloque(curso, profesorId, LocalTime.of(8, 0));
+        BloqueHorario otro = bloque(curso, profesorId, LocalTime.of(8, 0));
+        UUID alumnoId = UUID.randomUUID();
+        UUID bloqueInexistente = UUID.randomUUID();
+
+        stubCargaBase(List.of(valido, otro), curso, List.of(alumnoId), List.of(), List.of());
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 8, 10));
+
+        GuardarAsistenciaLoteResponse response = useCase.execute(
+            lote(
+                item(valido.getId(), HOY, alumnoId),
+                item(bloqueInexistente, HOY, alumnoId),
+                item(valido.getId(), HOY, alumnoId),
+                item(otro.getId(), HOY, UUID.randomUUID())
+            ),
+            profesorId, UUID.randomUUID(), Rol.PROFESOR);
+
+        assertThat(response.getGuardadas()).isEqualTo(1);
+        assertThat(response.getRechazadas()).isEqualTo(3);
+        assertThat(response.getResultados()).extracting(GuardarAsistenciaLoteResponse.ResultadoItem::getEstado)
+            .containsExactly("GUARDADA", "RECHAZADA", "RECHAZADA", "RECHAZADA");
+        assertThat(response.getResultados().get(1).getCode()).isEqualTo("RESOURCE_NOT_FOUND");
+        assertThat(response.getResultados().get(2).getMensaje())
+            .isEqualTo("El lote contiene más de una asistencia para el mismo bloque y fecha");
+        assertThat(response.getResultados().get(3).getStatus()).isEqualTo(400);
+        assertThat(response.getResultados().get(3).getDetails()).containsKey("alumnosInvalidos");
+    }
+
+    @Test
+    void execute_conProfesorSinOwnershipOFueraDeVentana_rechazaConCodigo() {
+        UUID profesorId = UUID.randomUUID();
+        Curso curso = curso();
+        BloqueHorario ajeno = bloque(curso, UUID.randomUUID(), LocalTime.of(8, 0));
+        BloqueHorario tarde = bloque(curso, profesorId, LocalTime.of(14, 0));
+        UUID alumnoId = UUID.randomUUID();
+
+        stubCargaBase(List.of(ajeno, tarde), curso, List.of(alumnoId), List.of(), List.of());
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 8, 10));
+
+        GuardarAsistenciaLoteResponse response = useCase.execute(
+            lote(item(ajeno.getId(), HOY, alumnoId), item(tarde.getId(), HOY, alumnoId)),
+            profesorId, UUID.randomUUID(), Rol.PROFESOR);
+
+        assertThat(response.getResultados()).extracting(GuardarAsistenciaLoteResponse.ResultadoItem::getCode)
+            .containsExactly("ACCESS_DENIED", "ASISTENCIA_CERRADA");
+        assertThat(response.getResultados().get(0).getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void execute_enDiaNoLectivo_rechazaItem() {
+        UUID profesorId = UUID.randomUUID();
+        Curso curso = curso();
+        BloqueHorario bloque = bloque(curso, profesorId, LocalTime.of(8, 0));
+        UUID alumnoId = UUID.randomUUID();
+        DiaNoLectivo feriado = DiaNoLectivo.builder()
+            .id(UUID.randomUUID())
+            .anoEscolar(curso.getAnoEscolar())
+            .fecha(HOY)
+            .tipo(TipoDiaNoLectivo.FERIADO_LEGAL)
+            .build();
+
+        stubCargaBase(List.of(bloque), curso, List.of(alumnoId), List.of(), List.of(feriado));
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 8, 10));
+
+        GuardarAsistenciaLoteResponse response = useCase.execute(
+            lote(item(bloque.getId(), HOY, alumnoId)), null, UUID.randomUUID(), Rol.ADMIN);
+
+        assertThat(response.getGuardadas()).isZero();
+        assertThat(response.getResultados().getFirst().getMensaje())
+            .isEqualTo("No se puede registrar asistencia. El día es no lectivo.");
+    }
+
+    private void stubCargaBase(
+        List<BloqueHorario> bloques,
+        Curso curso,
+        List<UUID> alumnosActivos,
+        List<AsistenciaClase> existentes,
+        List<DiaNoLectivo> diasNoLectivos
+    ) {
+        when(clockProvider.today()).thenReturn(HOY);
+        when(bloqueHorarioRepository.findAllByIdInWithCursoYAnoEscolar(anyCollection())).thenReturn(bloques);
+        when(diaNoLectivoRepository.findByAnoEscolarIdInAndFechaIn(anyCollection(), anyCollection()))
+            .thenReturn(diasNoLectivos);
+        List<Matricula> matriculas = new ArrayList<>();
+        for (UUID alumnoId : alumnosActivos) {
+            matriculas.add(Matricula.builder()
+                .id(UUID.randomUUID())
+                .alumno(alumno(alumnoId))
+                .curso(curso)
+                .anoEscolar(curso.getAnoEscolar())
+                .estado(EstadoMatricula.ACTIVA)
+                .build());
+        }
+        when(matriculaRepository.findByCursoIdInAndEstado(anyCollection(), eq(EstadoMatricula.ACTIVA)))
+            .thenReturn(matriculas);
+        when(asistenciaClaseRepository.findConRegistrosByBloqueIdsAndFechas(anyCollection(), anyCollection()))
+            .thenReturn(existentes);
+    }
+
+    private static GuardarAsistenciaLoteRequest lote(GuardarAsistenciaRequest... items) {
+        GuardarAsistenciaLoteRequest request = new GuardarAsistenciaLoteRequest();
+        request.setAsistencias(List.of(items));
+        return request;
+    }
+
+    private static GuardarAsistenciaRequest item(UUID bloqueId, LocalDate fecha, UUID... alumnoIds) {
+        List<RegistroAlumnoRequest> registros = new ArrayList<>();
+        for (UUID alumnoId : alumnoIds) {
+            RegistroAlumnoRequest registro = new RegistroAlumnoRequest();
+            registro.setAlumnoId(alumnoId);
+            registro.setEstado(EstadoAsistencia.PRESENTE);
+            registros.add(registro);
+        }
+        GuardarAsistenciaRequest request = new GuardarAsistenciaRequest();
+        request.setBloqueHorarioId(bloqueId);
+        request.setFecha(fecha);
+        request.setRegistros(registros);
+        return request;
+    }
+
+    private static Curso curso() {
+        AnoEscolar anoEscolar = AnoEscolar.builder()
+            .id(UUID.randomUUID())
+            .ano(2026)
+            .fechaInicioPlanificacion(LocalDate.of(2026, 1, 10))
+            .fechaInicio(LocalDate.of(2026, 3, 1))
+            .fechaFin(LocalDate.of(2026, 12, 15))
+            .build();
+        return Curso.builder()
+            .id(UUID.randomUUID())
+            .nombre("1° Básico A")
+            .anoEscolar(anoEscolar)
+            .build();
+    }
+
+    private static BloqueHorario bloque(Curso curso, UUID profesorId, LocalTime inicio) {
+        return BloqueHorario.builder()
+            .id(UUID.randomUUID())
+            .curso(curso)
+            .diaSemana(3)
+            .numeroBloque(1)
+            .horaInicio(inicio)
+            .horaFin(inicio.plusMinutes(45))
+            .tipo(TipoBloque.CLASE)
+            .profesor(Profesor.builder().id(profesorId).nombre("Carlos").apellido("Mota").build())
+            .activo(true)
+            .build();
+    }
+
+    private static Alumno alumno(UUID alumnoId) {
+        return Alumno.builder()
+            .id(alumnoId)
+            .nombre("María")
+            .apellido("López")
+            .activo(true)
+            .build();
+    }
+}
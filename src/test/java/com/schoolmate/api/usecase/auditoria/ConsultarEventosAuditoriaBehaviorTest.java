@@ -54,8 +54,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(evento)));
 
@@ -76,8 +76,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             eq(false), any(UUID.class),
             eq(true), eq("POST"),
             eq(true), eq("%/api/alumnos%"),
-            eq(true), eq(LocalDate.of(2026, 2, 1).atStartOfDay()),
-            eq(true), eq(LocalDate.of(2026, 3, 1).atStartOfDay()),
+            eq(LocalDate.of(2026, 2, 1).atStartOfDay()),
+            eq(LocalDate.of(2026, 3, 1).atStartOfDay()),
             any(Pageable.class)
         );
     }
@@ -88,8 +88,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(), PageRequest.of(1, 10), 0));
 
@@ -99,8 +99,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             eq(false), eq(UUID.fromString("00000000-0000-0000-0000-000000000000")),
             eq(false), eq("__SIN_FILTRO__"),
             eq(false), eq("__SIN_FILTRO__"),
-            eq(false), eq(LocalDateTime.of(1970, 1, 1, 0, 0)),
-            eq(false), eq(LocalDateTime.of(3000, 1, 1, 0, 0)),
+            eq(LocalDateTime.of(1970, 1, 1, 0, 0)),
+            eq(LocalDateTime.of(3000, 1, 1, 0, 0)),
             any(Pageable.class)
         );
         assertThat(response.getCurrentPage()).isEqualTo(1);
@@ -114,8 +114,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of()));
 
@@ -125,8 +125,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             eq(true), eq(usuarioId),
             eq(false), any(String.class),
             eq(false), any(String.class),
-            eq(false), any(LocalDateTime.class),
-            eq(false), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         );
     }
@@ -137,8 +137,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of()));
 
@@ -148,8 +148,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             eq(false), any(UUID.class),
             eq(false), eq("__SIN_FILTRO__"),
             eq(false), any(String.class),
-            eq(false), any(LocalDateTime.class),
-            eq(false), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         );
     }
@@ -160,8 +160,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of()));
 
@@ -171,8 +171,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             eq(false), any(UUID.class),
             eq(false), any(String.class),
             eq(true), eq("%/api/sistema/hora%"),
-            eq(false), any(LocalDateTime.class),
-            eq(false), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         );
     }
@@ -193,8 +193,8 @@ class ConsultarEventosAuditoriaBehaviorTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(evento), PageRequest.of(2, 5), 13));
 
@@ -51,8 +51,8 @@ class ConsultarEventosAuditoriaTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(evento)));
 
@@ -80,8 +80,8 @@ class ConsultarEventosAuditoriaTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(evento)));
 
@@ -107,8 +107,8 @@ class ConsultarEventosAuditoriaTest {
             any(Boolean.class), any(UUID.class),
             any(Boolean.class), any(String.class),
             any(Boolean.class), any(String.class),
-            any(Boolean.class), any(LocalDateTime.class),
-            any(Boolean.class), any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
             any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(evento)));
 
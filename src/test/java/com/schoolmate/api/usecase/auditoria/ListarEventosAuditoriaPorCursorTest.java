@@ -0,0 +1,95 @@
+package com.schoolmate.api.usecase.auditoria;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schoolmate.api.dto.response.EventoAuditoriaCursorResponse;
+import com.schoolmate.api.entity.EventoAuditoria;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.repository.EventoAuditoriaRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListarEventosAuditoriaPorCursorTest {
+
+    @Mock
+    private EventoAuditoriaRepository auditoriaRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ListarEventosAuditoriaPorCursor useCase;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_siHayMasQueSize_retornaCursorDelUltimoEntregado() {
+        List<EventoAuditoria> eventos = eventos(3);
+        when(auditoriaRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(eventos);
+
+        EventoAuditoriaCursorResponse response = useCase.execute(null, null, null, null, null, null, 2, false);
+
+        assertThat(response.getEventos()).hasSize(2);
+        assertThat(response.getHayMas()).isTrue();
+        assertThat(response.getTotalElements()).isNull();
+        CursorEventoAuditoria cursor = CursorEventoAuditoria.decodificar(response.getSiguienteCursor());
+        assertThat(cursor.id()).isEqualTo(eventos.get(1).getId());
+        assertThat(cursor.createdAt()).isEqualTo(eventos.get(1).getCreatedAt());
+        verify(auditoriaRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_ultimaPaginaConTotal_sinCursorYConConteo() {
+        when(auditoriaRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(eventos(1));
+        when(auditoriaRepository.count(any(Specification.class))).thenReturn(41L);
+
+        EventoAuditoriaCursorResponse response = useCase.execute(
+            UUID.randomUUID(), "post", "/api", null, null, null, 50, true
+        );
+
+        assertThat(response.getEventos()).hasSize(1);
+        assertThat(response.getHayMas()).isFalse();
+        assertThat(response.getSiguienteCursor()).isNull();
+        assertThat(response.getTotalElements()).isEqualTo(41L);
+    }
+
+    @Test
+    void execute_conCursorInvalido_lanzaBusinessException() {
+        assertThatThrownBy(() -> useCase.execute(null, null, null, null, null, "no-es-cursor", 50, false))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("Cursor de auditoría inválido");
+    }
+
+    private static List<EventoAuditoria> eventos(int cantidad) {
+        LocalDateTime base = LocalDateTime.of(2026, 6, 10, 12, 0);
+        return IntStream.range(0, cantidad)
+            .mapToObj(i -> EventoAuditoria.builder()
+                .id(UUID.randomUUID())
+                .usuarioEmail("admin@test.cl")
+                .usuarioRol("ADMIN")
+                .metodoHttp("POST")
+                .endpoint("/api/matriculas")
+                .responseStatus(201)
+                .createdAt(base.minusMinutes(i))
+                .build())
+            .toList();
+    }
+}
@@ -5,10 +5,15 @@ import com.schoolmate.api.dto.response.AuthResponse;
 import com.schoolmate.api.entity.SesionUsuario;
 import com.schoolmate.api.entity.Usuario;
 import com.schoolmate.api.enums.Rol;
+import com.schoolmate.api.exception.ApiException;
+import com.schoolmate.api.exception.ErrorCode;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.repository.SesionUsuarioRepository;
 import com.schoolmate.api.repository.UsuarioRepository;
 import com.schoolmate.api.security.JwtTokenProvider;
+import com.schoolmate.api.security.LimitadorLogin;
+import com.schoolmate.api.security.TokensRefresco;
+import com.schoolmate.api.security.VerificadorPassword;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,7 +21,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +31,7 @@ import java.time.LocalDateTime;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,7 +44,10 @@ class LoginUsuarioTest {
     private UsuarioRepository usuarioRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private VerificadorPassword verificadorPassword;
+
+    @Mock
+    private LimitadorLogin limitadorLogin;
 
     @Mock
     private JwtTokenProvider tokenProvider;
@@ -48,9 +58,15 @@ class LoginUsuarioTest {
     @Mock
     private ClockProvider clockProvider;
 
+    @Mock
+    private TokensRefresco tokensRefresco;
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Mock
+    private TransactionOperations transactionOperations;
+
     @InjectMocks
     private LoginUsuario loginUsuario;
 
@@ -62,29 +78,31 @@ class LoginUsuarioTest {
 
         Usuario usuario = buildUsuario("admin@schoolmate.cl");
 
+        when(limitadorLogin.permitir("admin@schoolmate.cl")).thenReturn(true);
         when(usuarioRepository.findByEmail("admin@schoolmate.cl")).thenReturn(Optional.of(usuario));
-        when(passwordEncoder.matches("secret", usuario.getPasswordHash())).thenReturn(true);
+        when(verificadorPassword.verificar("secret", usuario.getPasswordHash())).thenReturn(true);
         when(tokenProvider.generateToken(any())).thenReturn("access-token");
-        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(httpServletRequest.getHeader(anyString()))
+                .thenAnswer(invocation -> "User-Agent".equals(invocation.getArgument(0)) ? "Firefox" : null);
+        when(tokensRefresco.emitir(eq(usuario), any(UUID.class), eq("Firefox"))).thenReturn("refresh-token");
         when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 2, 20, 10, 0));
         when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
         when(sesionUsuarioRepository.save(any(SesionUsuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ejecutarTransaccionesEnLinea();
 
         AuthResponse response = loginUsuario.execute(request, httpServletRequest);
 
-        ArgumentCaptor<Usuario> captor = ArgumentCaptor.forClass(Usuario.class);
-        verify(usuarioRepository).save(captor.capture());
-
-        String persistedRefreshToken = captor.getValue().getRefreshToken();
-        assertThat(persistedRefreshToken).isNotBlank();
         assertThat(response.getAccessToken()).isEqualTo("access-token");
         assertThat(response.getToken()).isEqualTo("access-token");
-        assertThat(response.getRefreshToken()).isEqualTo(persistedRefreshToken);
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+        verify(usuarioRepository, never()).save(any(Usuario.class));
         verify(sesionUsuarioRepository).save(any(SesionUsuario.class));
+        verify(limitadorLogin).registrarExito("admin@schoolmate.cl");
+        verify(transactionOperations).execute(any());
     }
 
     @Test
-    void execute_segundoLoginDebeSobrescribirRefreshTokenAnterior() {
+    void execute_segundoLoginAbreOtraFamiliaSinInvalidarLaAnterior() {
         LoginRequest request = new LoginRequest();
         request.setIdentificador("admin@schoolmate.cl");
         request.setPassword("secret");
@@ -92,32 +110,29 @@ class LoginUsuarioTest {
         Usuario usuarioLogin1 = buildUsuario("admin@schoolmate.cl");
         Usuario usuarioLogin2 = buildUsuario("admin@schoolmate.cl");
 
+        when(limitadorLogin.permitir("admin@schoolmate.cl")).thenReturn(true);
         when(usuarioRepository.findByEmail("admin@schoolmate.cl"))
                 .thenReturn(Optional.of(usuarioLogin1), Optional.of(usuarioLogin2));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(verificadorPassword.verificar(anyString(), anyString())).thenReturn(true);
         when(tokenProvider.generateToken(any())).thenReturn("access-1", "access-2");
-        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tokensRefresco.emitir(any(Usuario.class), any(UUID.class), any())).thenReturn("refresh-1", "refresh-2");
         when(clockProvider.now()).thenReturn(
                 LocalDateTime.of(2026, 2, 20, 10, 0),
                 LocalDateTime.of(2026, 2, 20, 10, 5)
         );
         when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
         when(sesionUsuarioRepository.save(any(SesionUsuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ejecutarTransaccionesEnLinea();
 
         AuthResponse firstLogin = loginUsuario.execute(request, httpServletRequest);
         AuthResponse secondLogin = loginUsuario.execute(request, httpServletRequest);
 
-        ArgumentCaptor<Usuario> captor = ArgumentCaptor.forClass(Usuario.class);
-        verify(usuarioRepository, times(2)).save(captor.capture());
-
-        String firstRefreshToken = captor.getAllValues().get(0).getRefreshToken();
-        String secondRefreshToken = captor.getAllValues().get(1).getRefreshToken();
+        ArgumentCaptor<UUID> familias = ArgumentCaptor.forClass(UUID.class);
+        verify(tokensRefresco, times(2)).emitir(any(Usuario.class), familias.capture(), any());
 
-        assertThat(firstRefreshToken).isNotBlank();
-        assertThat(secondRefreshToken).isNotBlank();
-        assertThat(secondRefreshToken).isNotEqualTo(firstRefreshToken);
-        assertThat(firstLogin.getRefreshToken()).isEqualTo(firstRefreshToken);
-        assertThat(secondLogin.getRefreshToken()).isEqualTo(secondRefreshToken);
+        assertThat(familias.getAllValues().get(1)).isNotEqualTo(familias.getAllValues().get(0));
+        assertThat(firstLogin.getRefreshToken()).isEqualTo("refresh-1");
+        assertThat(secondLogin.getRefreshToken()).isEqualTo("refresh-2");
         verify(sesionUsuarioRepository, times(2)).save(any(SesionUsuario.class));
     }
 
@@ -129,12 +144,15 @@ class LoginUsuarioTest {
 
         Usuario usuario = buildUsuario("admin@schoolmate.cl");
 
+        when(limitadorLogin.permitir("admin@schoolmate.cl")).thenReturn(true);
         when(usuarioRepository.findByEmail("admin@schoolmate.cl")).thenReturn(Optional.of(usuario));
-        when(passwordEncoder.matches("bad-secret", usuario.getPasswordHash())).thenReturn(false);
+        when(verificadorPassword.verificar("bad-secret", usuario.getPasswordHash())).thenReturn(false);
 
         org.assertj.core.api.Assertions.assertThatThrownBy(() -> loginUsuario.execute(request, httpServletRequest))
                 .isInstanceOf(org.springframework.security.authentication.BadCredentialsException.class);
         verify(sesionUsuarioRepository, never()).save(any(SesionUsuario.class));
+        verify(limitadorLogin).permitir("admin@schoolmate.cl");
+        verify(limitadorLogin, never()).registrarExito(anyString());
     }
 
     @Test
@@ -145,13 +163,14 @@ class LoginUsuarioTest {
 
         Usuario usuario = buildUsuario("admin@schoolmate.cl");
 
+        when(limitadorLogin.permitir("admin@schoolmate.cl")).thenReturn(true);
         when(usuarioRepository.findByEmail("admin@schoolmate.cl")).thenReturn(Optional.of(usuario));
-        when(passwordEncoder.matches("secret", usuario.getPasswordHash())).thenReturn(true);
+        when(verificadorPassword.verificar("secret", usuario.getPasswordHash())).thenReturn(true);
         when(tokenProvider.generateToken(any())).thenReturn("access-token");
-        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 2, 20, 10, 0));
         when(httpServletRequest.getHeader("X-Forwarded-For")).thenReturn("203.0.113.8, 10.0.0.1");
         when(sesionUsuarioRepository.save(any(SesionUsuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ejecutarTransaccionesEnLinea();
 
         loginUsuario.execute(request, httpServletRequest);
 
@@ -160,6 +179,44 @@ class LoginUsuarioTest {
         assertThat(sesionCaptor.getValue().getIpAddress()).isEqualTo("203.0.113.8");
     }
 
+    @Test
+    void execute_identificadorLimitado_rechazaSinConsultarNiVerificar() {
+        LoginRequest request = new LoginRequest();
+        request.setIdentificador("admin@schoolmate.cl");
+        request.setPassword("secret");
+        when(limitadorLogin.permitir("admin@schoolmate.cl")).thenReturn(false);
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> loginUsuario.execute(request, httpServletRequest))
+                .isInstanceOf(ApiException.class)
+                .extracting(ex -> ((ApiException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        verify(usuarioRepository, never()).findByEmail(anyString());
+        verify(verificadorPassword, never()).verificar(anyString(), anyString());
+    }
+
+    @Test
+    void execute_passwordIncorrecta_noAbreTransaccion() {
+        LoginRequest request = new LoginRequest();
+        request.setIdentificador("admin@schoolmate.cl");
+        request.setPassword("bad-secret");
+
+        Usuario usuario = buildUsuario("admin@schoolmate.cl");
+        when(limitadorLogin.permitir("admin@schoolmate.cl")).thenReturn(true);
+        when(usuarioRepository.findByEmail("admin@schoolmate.cl")).thenReturn(Optional.of(usuario));
+        when(verificadorPassword.verificar("bad-secret", usuario.getPasswordHash())).thenReturn(false);
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> loginUsuario.execute(request, httpServletRequest))
+                .isInstanceOf(org.springframework.security.authentication.BadCredentialsException.class);
+        verify(transactionOperations, never()).execute(any());
+        verify(sesionUsuarioRepository, never()).save(any(SesionUsuario.class));
+        verify(tokensRefresco, never()).emitir(any(Usuario.class), any(UUID.class), any());
+    }
+
+    private void ejecutarTransaccionesEnLinea() {
+        when(transactionOperations.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     private Usuario buildUsuario(String email) {
         return Usuario.builder()
                 .id(UUID.randomUUID())
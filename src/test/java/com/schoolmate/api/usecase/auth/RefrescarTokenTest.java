@@ -1,84 +1,153 @@
 package com.schoolmate.api.usecase.auth;
 
+import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.RefreshTokenRequest;
 import com.schoolmate.api.dto.response.AuthResponse;
+import com.schoolmate.api.entity.TokenRefresco;
 import com.schoolmate.api.entity.Usuario;
 import com.schoolmate.api.enums.Rol;
 import com.schoolmate.api.exception.ApiException;
 import com.schoolmate.api.exception.ErrorCode;
-import com.schoolmate.api.repository.UsuarioRepository;
+import com.schoolmate.api.repository.TokenRefrescoRepository;
 import com.schoolmate.api.security.JwtTokenProvider;
+import com.schoolmate.api.security.TokensRefresco;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RefrescarTokenTest {
 
+    private static final LocalDateTime AHORA = LocalDateTime.of(2026, 6, 10, 10, 0);
+
+    @Mock
+    private TokenRefrescoRepository tokenRefrescoRepository;
+
     @Mock
-    private UsuarioRepository usuarioRepository;
+    private TokensRefresco tokensRefresco;
 
     @Mock
     private JwtTokenProvider tokenProvider;
 
+    @Mock
+    private ClockProvider clockProvider;
+
     @InjectMocks
     private RefrescarToken refrescarToken;
 
     @Test
     void execute_refreshValidoDebeRetornarNuevoAccessYRotarRefresh() {
-        Usuario usuario = Usuario.builder()
-                .id(UUID.randomUUID())
-                .email("docente@schoolmate.cl")
-                .passwordHash("hash")
-                .nombre("Doc")
-                .apellido("Uno")
-                .rol(Rol.PROFESOR)
-                .activo(true)
-                .refreshToken("refresh-old")
-                .build();
-
-        RefreshTokenRequest request = new RefreshTokenRequest();
-        request.setRefreshToken("refresh-old");
+        Usuario usuario = usuario(true);
+        TokenRefresco actual = token(usuario, null, AHORA.plusDays(10));
 
-        when(usuarioRepository.findByRefreshToken("refresh-old")).thenReturn(Optional.of(usuario));
-        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tokenRefrescoRepository.findByTokenHashForUpdate(TokensRefresco.hash("refresh-old")))
+                .thenReturn(Optional.of(actual));
+        when(clockProvider.now()).thenReturn(AHORA);
+        when(tokensRefresco.emitir(usuario, actual.getFamiliaId(), "Firefox")).thenReturn("refresh-new");
         when(tokenProvider.generateToken(any())).thenReturn("access-new");
 
-        AuthResponse response = refrescarToken.execute(request);
+        AuthResponse response = refrescarToken.execute(request("refresh-old"));
 
-        ArgumentCaptor<Usuario> captor = ArgumentCaptor.forClass(Usuario.class);
-        verify(usuarioRepository).save(captor.capture());
-
-        String rotatedRefreshToken = captor.getValue().getRefreshToken();
-        assertThat(rotatedRefreshToken).isNotBlank();
-        assertThat(rotatedRefreshToken).isNotEqualTo("refresh-old");
+        assertThat(actual.getUsadoEn()).isEqualTo(AHORA);
         assertThat(response.getAccessToken()).isEqualTo("access-new");
         assertThat(response.getToken()).isEqualTo("access-new");
-        assertThat(response.getRefreshToken()).isEqualTo(rotatedRefreshToken);
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-new");
     }
 
     @Test
     void execute_refreshInvalidoDebeRetornarSessionRevoked() {
-        RefreshTokenRequest request = new RefreshTokenRequest();
-        request.setRefreshToken("refresh-expirado-dispositivo-1");
+        when(tokenRefrescoRepository.findByTokenHashForUpdate(TokensRefresco.hash("refresh-expirado-dispositivo-1")))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refrescarToken.execute(request("refresh-expirado-dispositivo-1")))
+                .isInstanceOf(ApiException.class)
+                .extracting(ex -> ((ApiException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.SESSION_REVOKED);
+    }
+
+    @Test
+    void execute_tokenYaRotado_revocaLaFamiliaYRetornaSessionRevoked() {
+        TokenRefresco reutilizado = token(usuario(true), AHORA.minusMinutes(20), AHORA.plusDays(10));
+        when(tokenRefrescoRepository.findByTokenHashForUpdate(TokensRefresco.hash("refresh-copiado")))
+                .thenReturn(Optional.of(reutilizado));
+
+        assertThatThrownBy(() -> refrescarToken.execute(request("refresh-copiado")))
+                .isInstanceOf(ApiException.class)
+                .extracting(ex -> ((ApiException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.SESSION_REVOKED);
 
-        when(usuarioRepository.findByRefreshToken("refresh-expirado-dispositivo-1")).thenReturn(Optional.empty());
+        verify(tokenRefrescoRepository).deleteByFamiliaId(reutilizado.getFamiliaId());
+        verify(tokensRefresco, never()).emitir(any(), any(), any());
+    }
+
+    @Test
+    void execute_tokenExpirado_retornaSessionRevokedSinRotar() {
+        TokenRefresco expirado = token(usuario(true), null, AHORA.minusSeconds(1));
+        when(tokenRefrescoRepository.findByTokenHashForUpdate(TokensRefresco.hash("refresh-viejo")))
+                .thenReturn(Optional.of(expirado));
+        when(clockProvider.now()).thenReturn(AHORA);
+
+        assertThatThrownBy(() -> refrescarToken.execute(request("refresh-viejo")))
+                .isInstanceOf(ApiException.class)
+                .extracting(ex -> ((ApiException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.SESSION_REVOKED);
 
-        assertThatThrownBy(() -> refrescarToken.execute(request))
+        assertThat(expirado.getUsadoEn()).isNull();
+        verify(tokensRefresco, never()).emitir(any(), any(), any());
+    }
+
+    @Test
+    void execute_usuarioInactivo_retornaSessionRevoked() {
+        when(tokenRefrescoRepository.findByTokenHashForUpdate(TokensRefresco.hash("refresh-inactivo")))
+                .thenReturn(Optional.of(token(usuario(false), null, AHORA.plusDays(1))));
+        when(clockProvider.now()).thenReturn(AHORA);
+
+        assertThatThrownBy(() -> refrescarToken.execute(request("refresh-inactivo")))
                 .isInstanceOf(ApiException.class)
                 .extracting(ex -> ((ApiException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.SESSION_REVOKED);
     }
+
+    private static RefreshTokenRequest request(String refreshToken) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+
+    private static Usuario usuario(boolean activo) {
+        return Usuario.builder()
+                .id(UUID.randomUUID())
+                .email("docente@schoolmate.cl")
+                .passwordHash("hash")
+                .nombre("Doc")
+                .apellido("Uno")
+                .rol(Rol.PROFESOR)
+                .activo(activo)
+                .build();
+    }
+
+    private static TokenRefresco token(Usuario usuario, LocalDateTime usadoEn, LocalDateTime expiraEn) {
+        return TokenRefresco.builder()
+                .id(UUID.randomUUID())
+                .usuario(usuario)
+                .familiaId(UUID.randomUUID())
+                .dispositivo("Firefox")
+                .createdAt(AHORA.minusDays(1))
+                .expiraEn(expiraEn)
+                .usadoEn(usadoEn)
+                .build();
+    }
 }
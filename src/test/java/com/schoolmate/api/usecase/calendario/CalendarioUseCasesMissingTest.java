@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.calendario;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.CrearDiaNoLectivoRequest;
 import com.schoolmate.api.entity.AnoEscolar;
@@ -39,6 +42,13 @@ class CalendarioUseCasesMissingTest {
     private DiaNoLectivoRepository diaNoLectivoRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+    @Mock
+    private CalendarioEscolar calendarioEscolar;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private CrearDiasNoLectivos crearDiasNoLectivos;
@@ -182,6 +192,7 @@ class CalendarioUseCasesMissingTest {
         eliminarDiaNoLectivo.execute(diaId);
 
         verify(diaNoLectivoRepository).delete(dia);
+        verify(calendarioEscolar).quitarDiaNoLectivo(ano.getId(), LocalDate.of(2026, 6, 1));
     }
 
     private static DiaNoLectivo diaNoLectivo(UUID id, LocalDate fecha) {
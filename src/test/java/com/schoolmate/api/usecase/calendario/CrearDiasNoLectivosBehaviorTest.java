@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.calendario;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.CrearDiaNoLectivoRequest;
 import com.schoolmate.api.dto.response.DiaNoLectivoResponse;
@@ -38,6 +41,13 @@ class CrearDiasNoLectivosBehaviorTest {
     private DiaNoLectivoRepository diaNoLectivoRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+    @Mock
+    private CalendarioEscolar calendarioEscolar;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private CrearDiasNoLectivos useCase;
@@ -142,6 +152,7 @@ class CrearDiasNoLectivosBehaviorTest {
         verify(diaNoLectivoRepository).saveAll(captor.capture());
         assertThat(captor.getValue()).hasSize(3);
         assertThat(captor.getValue().get(0).getAnoEscolar().getId()).isEqualTo(anoId);
+        verify(calendarioEscolar).registrarDiasNoLectivos(anoId, captor.getValue());
     }
 
     private static AnoEscolar anoEscolar(UUID id) {
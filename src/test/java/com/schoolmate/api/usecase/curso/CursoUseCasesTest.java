@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.curso;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.CursoRequest;
 import com.schoolmate.api.dto.response.CursoPageResponse;
@@ -62,6 +63,9 @@ class CursoUseCasesTest {
     @Mock
     private MallaCurricularRepository mallaCurricularRepository;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+
     @InjectMocks
     private CrearCurso crearCurso;
     @InjectMocks
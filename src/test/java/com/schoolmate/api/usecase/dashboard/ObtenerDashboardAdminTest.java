@@ -1,35 +1,38 @@
 package com.schoolmate.api.usecase.dashboard;
 
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.DashboardAdminResponse;
 import com.schoolmate.api.entity.AsistenciaClase;
 import com.schoolmate.api.entity.BloqueHorario;
 import com.schoolmate.api.entity.Curso;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.entity.Profesor;
 import com.schoolmate.api.enums.TipoBloque;
 import com.schoolmate.api.enums.TipoDiaNoLectivo;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
 import com.schoolmate.api.repository.CursoRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,7 +50,9 @@ class ObtenerDashboardAdminTest {
     @Mock
     private AsistenciaClaseRepository asistenciaClaseRepository;
     @Mock
-    private DiaNoLectivoRepository diaNoLectivoRepository;
+    private CalendarioEscolar calendarioEscolar;
+    @Spy
+    private CumplimientoDiaCache cumplimientoDiaCache = new CumplimientoDiaCache();
 
     @InjectMocks
     private ObtenerDashboardAdmin useCase;
@@ -80,13 +85,8 @@ class ObtenerDashboardAdminTest {
         when(bloqueHorarioRepository.countProfesoresActivosConBloques(anoEscolarId)).thenReturn(3L);
         when(clockProvider.today()).thenReturn(hoy);
         when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 10, 0));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoEscolarId, hoy)).thenReturn(Optional.of(
-            DiaNoLectivo.builder()
-                .id(UUID.randomUUID())
-                .fecha(hoy)
-                .tipo(TipoDiaNoLectivo.FERIADO_LEGAL)
-                .descripcion("Día comunal")
-                .build()
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario(
+            new DiaNoLectivoCalendario(UUID.randomUUID(), hoy, TipoDiaNoLectivo.FERIADO_LEGAL, "Día comunal")
         ));
 
         DashboardAdminResponse response = useCase.execute(anoEscolarId);
@@ -108,7 +108,7 @@ class ObtenerDashboardAdminTest {
         when(bloqueHorarioRepository.countProfesoresActivosConBloques(anoEscolarId)).thenReturn(2L);
         when(clockProvider.today()).thenReturn(hoy);
         when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 10, 0));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoEscolarId, hoy)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario());
         when(bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId)).thenReturn(List.of());
 
         DashboardAdminResponse response = useCase.execute(anoEscolarId);
@@ -148,7 +148,7 @@ class ObtenerDashboardAdminTest {
         when(bloqueHorarioRepository.countProfesoresActivosConBloques(anoEscolarId)).thenReturn(2L);
         when(clockProvider.today()).thenReturn(hoy);
         when(clockProvider.now()).thenReturn(ahora);
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoEscolarId, hoy)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario());
         when(bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId))
             .thenReturn(List.of(b1, b2, b3, b4, b5, b6, b7));
         when(asistenciaClaseRepository.findByBloqueIdsAndFecha(any(), any())).thenReturn(List.of(asistenciaB1));
@@ -195,7 +195,7 @@ class ObtenerDashboardAdminTest {
         when(bloqueHorarioRepository.countProfesoresActivosConBloques(anoEscolarId)).thenReturn(1L);
         when(clockProvider.today()).thenReturn(hoy);
         when(clockProvider.now()).thenReturn(ahora);
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoEscolarId, hoy)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario());
         when(bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId)).thenReturn(List.of(b1, b2));
         when(asistenciaClaseRepository.findByBloqueIdsAndFecha(any(), eq(hoy))).thenReturn(List.of());
 
@@ -230,7 +230,7 @@ class ObtenerDashboardAdminTest {
         when(bloqueHorarioRepository.countProfesoresActivosConBloques(anoEscolarId)).thenReturn(2L);
         when(clockProvider.today()).thenReturn(hoy);
         when(clockProvider.now()).thenReturn(ahora);
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoEscolarId, hoy)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario());
         when(bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId)).thenReturn(List.of(bZ, bA));
         when(asistenciaClaseRepository.findByBloqueIdsAndFecha(any(), eq(hoy))).thenReturn(List.of());
 
@@ -241,6 +241,55 @@ class ObtenerDashboardAdminTest {
         assertThat(response.getCumplimientoHoy().getProfesores().get(1).getApellido()).isEqualTo("Zapata");
     }
 
+    @Test
+    void execute_segundaConsultaDelDia_reutilizaSnapshotSinConsultarBloques() {
+        UUID anoEscolarId = UUID.randomUUID();
+        LocalDate hoy = LocalDate.of(2026, 3, 4); // Wednesday
+        Profesor profesor = Profesor.builder().id(UUID.randomUUID()).nombre("Carlos").apellido("Mora").activo(true).build();
+        BloqueHorario b1 = bloque(UUID.randomUUID(), profesor, "3° Básico A", LocalTime.of(8, 0), LocalTime.of(8, 45));
+
+        when(clockProvider.today()).thenReturn(hoy);
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 10, 0));
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario());
+        when(bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId)).thenReturn(List.of(b1));
+        when(asistenciaClaseRepository.findByBloqueIdsAndFecha(any(), eq(hoy))).thenReturn(List.of());
+
+        useCase.execute(anoEscolarId);
+        DashboardAdminResponse response = useCase.execute(anoEscolarId);
+
+        assertThat(response.getCumplimientoHoy().getResumenGlobal().getPendientes()).isEqualTo(1);
+        verify(bloqueHorarioRepository, times(1)).findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId);
+        verify(asistenciaClaseRepository, times(1)).findByBloqueIdsAndFecha(any(), eq(hoy));
+    }
+
+    @Test
+    void execute_asistenciaRegistradaTrasSnapshot_seReflejaSinRecargar() {
+        UUID anoEscolarId = UUID.randomUUID();
+        LocalDate hoy = LocalDate.of(2026, 3, 4); // Wednesday
+        Profesor profesor = Profesor.builder().id(UUID.randomUUID()).nombre("Carlos").apellido("Mora").activo(true).build();
+        BloqueHorario b1 = bloque(UUID.randomUUID(), profesor, "3° Básico A", LocalTime.of(8, 0), LocalTime.of(8, 45));
+
+        when(clockProvider.today()).thenReturn(hoy);
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2026, 3, 4, 10, 0));
+        when(calendarioEscolar.obtener(anoEscolarId)).thenReturn(calendario());
+        when(bloqueHorarioRepository.findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId)).thenReturn(List.of(b1));
+        when(asistenciaClaseRepository.findByBloqueIdsAndFecha(any(), eq(hoy))).thenReturn(List.of());
+
+        useCase.execute(anoEscolarId);
+        cumplimientoDiaCache.registrarAsistencia(anoEscolarId, hoy, b1.getId(), LocalDateTime.of(2026, 3, 4, 9, 50));
+        DashboardAdminResponse response = useCase.execute(anoEscolarId);
+
+        DashboardAdminResponse.ProfesorCumplimiento cumplimiento = response.getCumplimientoHoy().getProfesores().getFirst();
+        assertThat(cumplimiento.getTomadas()).isEqualTo(1);
+        assertThat(cumplimiento.getPendientes()).isZero();
+        assertThat(cumplimiento.getUltimaActividadHora()).isEqualTo("09:50");
+        verify(bloqueHorarioRepository, times(1)).findAllBloquesClaseDelDiaConProfesor(3, anoEscolarId);
+    }
+
+    private static CalendarioAnoEscolar calendario(DiaNoLectivoCalendario... diasNoLectivos) {
+        return CalendarioAnoEscolar.de(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15), List.of(diasNoLectivos));
+    }
+
     private static BloqueHorario bloque(UUID id, Profesor profesor, String cursoNombre, LocalTime inicio, LocalTime fin) {
         return BloqueHorario.builder()
             .id(id)
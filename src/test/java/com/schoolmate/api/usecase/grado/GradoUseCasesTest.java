@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.grado;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
 import com.schoolmate.api.dto.response.GradoPageResponse;
 import com.schoolmate.api.dto.response.GradoResponse;
 import com.schoolmate.api.entity.Grado;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +24,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +33,8 @@ class GradoUseCasesTest {
 
     @Mock
     private GradoRepository gradoRepository;
+    @Spy
+    private CatalogoCache catalogoCache = new CatalogoCache(500, 600);
 
     @InjectMocks
     private ListarGrados listarGrados;
@@ -113,6 +118,26 @@ class GradoUseCasesTest {
         assertThat(response.getTotalPages()).isEqualTo(3);
     }
 
+    @Test
+    void listarGrados_mismaConsultaRepetida_usaCache() {
+        when(gradoRepository.findAll(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(Grado.builder().id(UUID.randomUUID()).nombre("1° Básico").nivel(1).build())));
+
+        GradoPageResponse primera = listarGrados.execute(0, 20, "asc");
+        GradoPageResponse segunda = listarGrados.execute(null, null, null);
+        listarGrados.execute(0, 20, "desc");
+
+        assertThat(segunda).isSameAs(primera);
+        verify(gradoRepository, times(2)).findAll(any(Pageable.class));
+        assertThat(catalogoCache.estadisticas())
+            .filteredOn(e -> e.region().equals("grados"))
+            .singleElement()
+            .satisfies(e -> {
+                assertThat(e.aciertos()).isEqualTo(1);
+                assertThat(e.fallos()).isEqualTo(2);
+            });
+    }
+
     @Test
     void obtenerGrado_siNoExiste_lanzaNotFound() {
         UUID id = UUID.randomUUID();
@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
 import com.schoolmate.api.entity.AnoEscolar;
@@ -33,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,6 +52,14 @@ class AsignarProfesorBloqueTest {
     private ProfesorRepository profesorRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+
+    @Mock
+    private IndiceHorarioProfesores indiceHorarioProfesores;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private AsignarProfesorBloque useCase;
@@ -254,6 +266,7 @@ class AsignarProfesorBloqueTest {
         assertThat(response.getProfesorId()).isEqualTo(profesorId);
         assertThat(response.getMateriaId()).isEqualTo(bloque.getMateria().getId());
         verify(bloqueHorarioRepository).save(bloque);
+        verify(indiceHorarioProfesores).actualizarBloque(any(), eq(bloque));
     }
 
     private static BloqueHorario bloqueConCurso(UUID cursoId, TipoBloque tipo, boolean activo) {
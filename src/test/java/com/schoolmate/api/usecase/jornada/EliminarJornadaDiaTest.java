@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.entity.Curso;
@@ -32,6 +35,14 @@ class EliminarJornadaDiaTest {
     private CursoRepository cursoRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+
+    @Mock
+    private IndiceHorarioProfesores indiceHorarioProfesores;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private EliminarJornadaDia useCase;
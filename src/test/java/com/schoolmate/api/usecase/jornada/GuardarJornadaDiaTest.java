@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.BloqueRequest;
 import com.schoolmate.api.dto.request.JornadaDiaRequest;
@@ -41,6 +44,14 @@ class GuardarJornadaDiaTest {
     private CursoRepository cursoRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+
+    @Mock
+    private IndiceHorarioProfesores indiceHorarioProfesores;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private GuardarJornadaDia useCase;
@@ -240,6 +251,7 @@ class GuardarJornadaDiaTest {
 
         verify(bloqueHorarioRepository).desactivarBloquesDia(cursoId, 1);
         verify(bloqueHorarioRepository).saveAll(anyList());
+        verify(revisionAgregados).incrementar(RevisionAgregados.Agregado.JORNADA_CURSO, cursoId);
 
         assertThat(response.getDiaSemana()).isEqualTo(1);
         assertThat(response.getNombreDia()).isEqualTo("Lunes");
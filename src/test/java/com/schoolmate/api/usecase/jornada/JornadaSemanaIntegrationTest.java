@@ -0,0 +1,176 @@
+package com.schoolmate.api.usecase.jornada;
+
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.dto.request.BloqueRequest;
+import com.schoolmate.api.dto.request.JornadaDiaRequest;
+import com.schoolmate.api.dto.request.JornadaSemanaRequest;
+import com.schoolmate.api.dto.response.JornadaCursoResponse;
+import com.schoolmate.api.dto.response.JornadaResumenResponse;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.Grado;
+import com.schoolmate.api.exception.BusinessException;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.BloqueHorarioRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import com.schoolmate.api.repository.GradoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:jornada-semana;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+    }
+)
+@ActiveProfiles("dev")
+class JornadaSemanaIntegrationTest {
+
+    @Autowired private GuardarJornadaSemana guardarJornadaSemana;
+    @Autowired private AplicarJornadaCursos aplicarJornadaCursos;
+    @Autowired private ObtenerJornadaCurso obtenerJornadaCurso;
+    @Autowired private AnoEscolarRepository anoEscolarRepository;
+    @Autowired private GradoRepository gradoRepository;
+    @Autowired private CursoRepository cursoRepository;
+    @Autowired private BloqueHorarioRepository bloqueHorarioRepository;
+
+    private Curso primeroA;
+    private Curso primeroB;
+    private Curso primeroC;
+
+    @BeforeEach
+    void setUp() {
+        TimeContext.setFixed(LocalDateTime.of(2026, 3, 10, 9, 0));
+        AnoEscolar ano = anoEscolarRepository.save(AnoEscolar.builder()
+            .ano(2026)
+            .fechaInicioPlanificacion(LocalDate.of(2026, 1, 1))
+            .fechaInicio(LocalDate.of(2026, 3, 1))
+            .fechaFin(LocalDate.of(2026, 12, 20))
+            .build());
+        Grado grado = gradoRepository.save(Grado.builder().nombre("1° Básico").nivel(1).build());
+        primeroA = curso(grado, ano, "A");
+        primeroB = curso(grado, ano, "B");
+        primeroC = curso(grado, ano, "C");
+    }
+
+    @AfterEach
+    void tearDown() {
+        bloqueHorarioRepository.deleteAllInBatch();
+        cursoRepository.deleteAllInBatch();
+        gradoRepository.deleteAllInBatch();
+        anoEscolarRepository.deleteAllInBatch();
+        TimeContext.reset();
+    }
+
+    @Test
+    void guardarSemana_reemplazaLosCincoDiasYRespondeLoMismoQueUnaLecturaPosterior() {
+        guardarJornadaSemana.execute(primeroA.getId(), semana(1, 2, 3, 4, 5));
+
+        JornadaCursoResponse response = guardarJornadaSemana.execute(primeroA.getId(), semana(1, 3));
+
+        assertThat(response.getResumen().getDiasConfigurados()).containsExactly(1, 3);
+        assertThat(response.getResumen().getTotalBloquesClaseSemana()).isEqualTo(6);
+        assertThat(response.getDias().get(1).getBloques()).hasSize(4)
+            .allSatisfy(bloque -> assertThat(bloque.getId()).isNotNull());
+
+        JornadaCursoResponse leida = obtenerJornadaCurso.execute(primeroA.getId(), null);
+        assertThat(leida.getResumen().getDiasConfigurados()).containsExactly(1, 3);
+        assertThat(leida.getDias().get(3).getBloques())
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(response.getDias().get(3).getBloques());
+        // Los bloques reemplazados se desactivan, no se borran.
+        assertThat(bloqueHorarioRepository.count()).isEqualTo(5 * 4 + 2 * 4);
+    }
+
+    @Test
+    void guardarSemana_conUnDiaInvalido_noModificaNingunDia() {
+        guardarJornadaSemana.execute(primeroA.getId(), semana(1, 2));
+        JornadaSemanaRequest invalida = semana(1);
+        invalida.getDias().put(2, new JornadaDiaRequest(List.of(
+            bloque(1, "08:00", "08:45", "RECREO"),
+            bloque(2, "08:45", "09:30", "CLASE"))));
+
+        assertThatThrownBy(() -> guardarJornadaSemana.execute(primeroA.getId(), invalida))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("El primer bloque del día debe ser de tipo CLASE");
+
+        assertThat(obtenerJornadaCurso.execute(primeroA.getId(), null).getResumen().getDiasConfigurados())
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    void aplicarACursos_copiaLaEstructuraSemanalYReemplazaLaDeLosDestinos() {
+        guardarJornadaSemana.execute(primeroA.getId(), semana(1, 2, 3, 4, 5));
+        guardarJornadaSemana.execute(primeroC.getId(), semana(4));
+
+        List<JornadaResumenResponse> resumenes = aplicarJornadaCursos.execute(
+            primeroA.getId(), List.of(primeroB.getId(), primeroC.getId()));
+
+        assertThat(resumenes).extracting(JornadaResumenResponse::getCursoId)
+            .containsExactly(primeroB.getId(), primeroC.getId());
+        assertThat(resumenes).allSatisfy(resumen -> {
+            assertThat(resumen.getDiasConfigurados()).containsExactly(1, 2, 3, 4, 5);
+            assertThat(resumen.getTotalBloquesClaseSemana()).isEqualTo(15);
+        });
+        JornadaCursoResponse leida = obtenerJornadaCurso.execute(primeroC.getId(), null);
+        assertThat(leida.getDias().get(5).getHoraInicio()).isEqualTo("08:00");
+        assertThat(leida.getDias().get(5).getHoraFin()).isEqualTo("10:45");
+        assertThat(leida.getResumen().getBloquesClasePorDia()).isEqualTo(Map.of(1, 3, 2, 3, 3, 3, 4, 3, 5, 3));
+    }
+
+    @Test
+    void aplicarACursos_conOrigenEnDestinos_lanzaBusinessException() {
+        guardarJornadaSemana.execute(primeroA.getId(), semana(1));
+
+        assertThatThrownBy(() -> aplicarJornadaCursos.execute(
+            primeroA.getId(), List.of(primeroB.getId(), primeroA.getId())))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("El curso origen no puede estar en los cursos destino");
+    }
+
+    private Curso curso(Grado grado, AnoEscolar ano, String letra) {
+        return cursoRepository.save(Curso.builder()
+            .nombre(grado.getNombre() + " " + letra)
+            .letra(letra)
+            .grado(grado)
+            .anoEscolar(ano)
+            .activo(true)
+            .build());
+    }
+
+    private static JornadaSemanaRequest semana(int... dias) {
+        Map<Integer, JornadaDiaRequest> porDia = new HashMap<>();
+        for (int dia : dias) {
+            porDia.put(dia, new JornadaDiaRequest(List.of(
+                bloque(1, "08:00", "08:45", "CLASE"),
+                bloque(2, "08:45", "09:15", "RECREO"),
+                bloque(3, "09:15", "10:00", "CLASE"),
+                bloque(4, "10:00", "10:45", "CLASE"))));
+        }
+        return new JornadaSemanaRequest(porDia);
+    }
+
+    private static BloqueRequest bloque(int numero, String inicio, String fin, String tipo) {
+        return new BloqueRequest(numero, inicio, fin, tipo);
+    }
+}
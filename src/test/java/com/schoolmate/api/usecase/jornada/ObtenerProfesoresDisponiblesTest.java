@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.jornada.HorarioProfesoresAno;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.jornada.OcupacionProfesor;
 import com.schoolmate.api.dto.response.ProfesoresDisponiblesResponse;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.entity.BloqueHorario;
@@ -23,9 +26,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +45,8 @@ class ObtenerProfesoresDisponiblesTest {
     private CursoRepository cursoRepository;
     @Mock
     private ProfesorRepository profesorRepository;
+    @Mock
+    private IndiceHorarioProfesores indiceHorarioProfesores;
 
     @InjectMocks
     private ObtenerProfesoresDisponibles useCase;
@@ -130,16 +135,14 @@ class ObtenerProfesoresDisponiblesTest {
 
         BloqueHorario bloqueAsignado = bloque(cursoId, TipoBloque.CLASE, true, true);
         bloqueAsignado.setProfesor(profesor);
+        bloqueAsignado.setDiaSemana(2);
         bloqueAsignado.setHoraInicio(LocalTime.of(8, 0));
         bloqueAsignado.setHoraFin(LocalTime.of(8, 45));
 
         when(cursoRepository.findByIdWithGradoAndAnoEscolar(cursoId)).thenReturn(Optional.of(curso(cursoId)));
         when(bloqueHorarioRepository.findDetalleById(bloque.getId())).thenReturn(Optional.of(bloque));
         when(profesorRepository.findByActivoTrueAndMaterias_Id(bloque.getMateria().getId())).thenReturn(List.of(profesor));
-        when(bloqueHorarioRepository.findBloquesClaseProfesoresEnAnoEscolarConProfesor(any(), any()))
-            .thenReturn(List.of(bloqueAsignado));
-        when(bloqueHorarioRepository.findColisionesProfesoresConCursoYMateria(any(), any(), any(), any(), any(), any()))
-            .thenReturn(List.of());
+        when(indiceHorarioProfesores.obtener(any())).thenReturn(horario(bloqueAsignado));
 
         ProfesoresDisponiblesResponse response = useCase.execute(cursoId, bloque.getId());
 
@@ -165,10 +168,7 @@ class ObtenerProfesoresDisponiblesTest {
         when(cursoRepository.findByIdWithGradoAndAnoEscolar(cursoId)).thenReturn(Optional.of(curso(cursoId)));
         when(bloqueHorarioRepository.findDetalleById(bloque.getId())).thenReturn(Optional.of(bloque));
         when(profesorRepository.findByActivoTrueAndMaterias_Id(bloque.getMateria().getId())).thenReturn(List.of(profesor));
-        when(bloqueHorarioRepository.findBloquesClaseProfesoresEnAnoEscolarConProfesor(any(), any()))
-            .thenReturn(List.of());
-        when(bloqueHorarioRepository.findColisionesProfesoresConCursoYMateria(any(), any(), any(), any(), any(), any()))
-            .thenReturn(List.of(conflicto));
+        when(indiceHorarioProfesores.obtener(any())).thenReturn(horario(conflicto));
 
         ProfesoresDisponiblesResponse response = useCase.execute(cursoId, bloque.getId());
 
@@ -188,10 +188,7 @@ class ObtenerProfesoresDisponiblesTest {
         when(cursoRepository.findByIdWithGradoAndAnoEscolar(cursoId)).thenReturn(Optional.of(curso(cursoId)));
         when(bloqueHorarioRepository.findDetalleById(bloque.getId())).thenReturn(Optional.of(bloque));
         when(profesorRepository.findByActivoTrueAndMaterias_Id(bloque.getMateria().getId())).thenReturn(List.of(profesor));
-        when(bloqueHorarioRepository.findBloquesClaseProfesoresEnAnoEscolarConProfesor(any(), any()))
-            .thenReturn(List.of());
-        when(bloqueHorarioRepository.findColisionesProfesoresConCursoYMateria(any(), any(), any(), any(), any(), any()))
-            .thenReturn(List.of());
+        when(indiceHorarioProfesores.obtener(any())).thenReturn(horario());
 
         ProfesoresDisponiblesResponse response = useCase.execute(cursoId, bloque.getId());
 
@@ -201,6 +198,10 @@ class ObtenerProfesoresDisponiblesTest {
         assertThat(item.getHorasPedagogicasContrato()).isNull();
     }
 
+    private static HorarioProfesoresAno horario(BloqueHorario... bloques) {
+        return HorarioProfesoresAno.de(Arrays.stream(bloques).map(OcupacionProfesor::from).toList());
+    }
+
     private static Curso curso(UUID cursoId) {
         return Curso.builder()
             .id(cursoId)
@@ -1,5 +1,8 @@
 package com.schoolmate.api.usecase.jornada;
 
+import com.schoolmate.api.common.cumplimiento.CumplimientoDiaCache;
+import com.schoolmate.api.common.jornada.IndiceHorarioProfesores;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.BloqueHorarioResponse;
 import com.schoolmate.api.entity.AnoEscolar;
@@ -41,6 +44,14 @@ class QuitarMateriaBloqueTest {
     private CursoRepository cursoRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CumplimientoDiaCache cumplimientoDiaCache;
+
+    @Mock
+    private IndiceHorarioProfesores indiceHorarioProfesores;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private QuitarMateriaBloque useCase;
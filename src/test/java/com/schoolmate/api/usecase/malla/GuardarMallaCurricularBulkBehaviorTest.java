@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.MallaCurricularBulkRequest;
 import com.schoolmate.api.dto.response.MallaCurricularResponse;
@@ -47,6 +49,11 @@ class GuardarMallaCurricularBulkBehaviorTest {
     private AnoEscolarRepository anoEscolarRepository;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private CatalogoCache catalogoCache;
+
+    @Mock
+    private RevisionAgregados revisionAgregados;
 
     @InjectMocks
     private GuardarMallaCurricularBulk useCase;
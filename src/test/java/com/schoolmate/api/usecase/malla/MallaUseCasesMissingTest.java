@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.malla;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.MallaCurricularBulkRequest;
 import com.schoolmate.api.dto.request.MallaCurricularRequest;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -52,6 +55,11 @@ class MallaUseCasesMissingTest {
     @Mock
     private ClockProvider clockProvider;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+    @Spy
+    private CatalogoCache catalogoCache = new CatalogoCache(500, 600);
+
     @InjectMocks
     private ActualizarMallaCurricular actualizarMallaCurricular;
     @InjectMocks
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.materia;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.entity.Grado;
 import com.schoolmate.api.entity.MallaCurricular;
@@ -36,6 +38,8 @@ class EliminarMateriaTest {
     @Mock private MallaCurricularRepository mallaCurricularRepository;
     @Mock private BloqueHorarioRepository bloqueHorarioRepository;
     @Mock private AsistenciaClaseRepository asistenciaClaseRepository;
+    @Mock private CatalogoCache catalogoCache;
+    @Mock private RevisionAgregados revisionAgregados;
 
     @InjectMocks private EliminarMateria eliminarMateria;
 
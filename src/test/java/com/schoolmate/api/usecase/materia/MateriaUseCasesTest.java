@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.materia;
 
+import com.schoolmate.api.common.catalogo.CatalogoCache;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.request.MateriaRequest;
 import com.schoolmate.api.dto.response.MateriaPageResponse;
 import com.schoolmate.api.dto.response.MateriaResponse;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,6 +36,11 @@ class MateriaUseCasesTest {
     @Mock
     private MateriaRepository materiaRepository;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+    @Spy
+    private CatalogoCache catalogoCache = new CatalogoCache(500, 600);
+
     @InjectMocks
     private ActualizarMateria actualizarMateria;
     @InjectMocks
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.matricula;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.dto.response.MatriculaResponse;
 import com.schoolmate.api.entity.Alumno;
 import com.schoolmate.api.entity.AnoEscolar;
@@ -35,6 +36,9 @@ class CambiarEstadoMatriculaTest {
     @Mock
     private MatriculaRepository matriculaRepository;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+
     @InjectMocks
     private CambiarEstadoMatricula useCase;
 
@@ -0,0 +1,281 @@
+package com.schoolmate.api.usecase.matricula;
+
+import com.schoolmate.api.common.time.TimeContext;
+import com.schoolmate.api.dto.request.MatriculaLoteRequest;
+import com.schoolmate.api.dto.request.PromocionAnoEscolarRequest;
+import com.schoolmate.api.dto.response.MatriculaLoteResponse;
+import com.schoolmate.api.dto.response.PromocionAnoEscolarResponse;
+import com.schoolmate.api.entity.Alumno;
+import com.schoolmate.api.entity.AnoEscolar;
+import com.schoolmate.api.entity.Curso;
+import com.schoolmate.api.entity.Grado;
+import com.schoolmate.api.entity.Matricula;
+import com.schoolmate.api.entity.PromocionAnoEscolar;
+import com.schoolmate.api.enums.EstadoMatricula;
+import com.schoolmate.api.enums.EstadoPromocion;
+import com.schoolmate.api.repository.AlumnoRepository;
+import com.schoolmate.api.repository.AnoEscolarRepository;
+import com.schoolmate.api.repository.CursoRepository;
+import com.schoolmate.api.repository.GradoRepository;
+import com.schoolmate.api.repository.MatriculaRepository;
+import com.schoolmate.api.repository.PromocionAnoEscolarRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:matricula-masiva;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+    }
+)
+@ActiveProfiles("dev")
+class MatriculaMasivaIntegrationTest {
+
+    private static final long ESPERA_MAXIMA_MS = 10_000;
+
+    @Autowired private MatricularAlumnosLote matricularAlumnosLote;
+    @Autowired private PromoverAnoEscolar promoverAnoEscolar;
+    @Autowired private ObtenerPromocionAnoEscolar obtenerPromocionAnoEscolar;
+    @Autowired private ReanudarPromocionAnoEscolar reanudarPromocionAnoEscolar;
+    @Autowired private AnoEscolarRepository anoEscolarRepository;
+    @Autowired private GradoRepository gradoRepository;
+    @Autowired private CursoRepository cursoRepository;
+    @Autowired private AlumnoRepository alumnoRepository;
+    @Autowired private MatriculaRepository matriculaRepository;
+    @Autowired private PromocionAnoEscolarRepository promocionRepository;
+
+    private AnoEscolar ano2026;
+    private AnoEscolar ano2027;
+    private Curso primeroA2026;
+    private Curso primeroB2026;
+    private Curso segundoA2026;
+    private Curso segundoA2027;
+    private Curso terceroA2027;
+    private List<Alumno> alumnosPrimeroA;
+    private int secuenciaRut;
+
+    @BeforeEach
+    void setUp() {
+        TimeContext.setFixed(LocalDateTime.of(2026, 12, 15, 9, 0));
+        limpiar();
+
+        ano2026 = anoEscolarRepository.save(ano(2026));
+        ano2027 = anoEscolarRepository.save(ano(2027));
+        Grado primero = gradoRepository.save(Grado.builder().nombre("1° Básico").nivel(1).build());
+        Grado segundo = gradoRepository.save(Grado.builder().nombre("2° Básico").nivel(2).build());
+        Grado tercero = gradoRepository.save(Grado.builder().nombre("3° Básico").nivel(3).build());
+
+        primeroA2026 = curso(primero, ano2026, "A");
+        primeroB2026 = curso(primero, ano2026, "B");
+        segundoA2026 = curso(segundo, ano2026, "A");
+        Curso terceroA2026 = curso(tercero, ano2026, "A");
+        segundoA2027 = curso(segundo, ano2027, "A");
+        terceroA2027 = curso(tercero, ano2027, "A");
+
+        alumnosPrimeroA = alumnos(3);
+        matricular(alumnosPrimeroA, primeroA2026);
+        matricular(alumnos(1), primeroB2026);
+        matricular(alumnos(2), segundoA2026);
+        matricular(alumnos(1), terceroA2026);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiar();
+        TimeContext.reset();
+    }
+
+    @Test
+    void matricularLote_informaOmitidosYMatriculaAlRestoEnElCurso() {
+        List<Alumno> nuevos = alumnos(3);
+        Alumno inactivo = alumno(false);
+        Alumno yaMatriculado = alumnos(1).getFirst();
+        matricular(List.of(yaMatriculado), primeroB2026);
+        UUID inexistente = UUID.randomUUID();
+
+        MatriculaLoteResponse response = matricularAlumnosLote.execute(MatriculaLoteRequest.builder()
+            .cursoId(primeroA2026.getId())
+            .alumnoIds(List.of(
+                nuevos.get(0).getId(), nuevos.get(1).getId(), inactivo.getId(), yaMatriculado.getId(),
+                inexistente, nuevos.get(2).getId(), nuevos.get(0).getId()))
+            .fechaMatricula("2026-12-15")
+            .build(), ano2026.getId());
+
+        assertThat(response.getSolicitados()).isEqualTo(6);
+        assertThat(response.getMatriculados()).isEqualTo(3);
+        assertThat(response.getYaMatriculados()).containsExactly(yaMatriculado.getId());
+        assertThat(response.getNoEncontrados()).containsExactly(inactivo.getId(), inexistente);
+        assertThat(matriculaRepository.findAlumnoIdsConMatriculaActiva(
+            nuevos.stream().map(Alumno::getId).toList(), ano2026.getId())).hasSize(3);
+    }
+
+    @Test
+    void promover_matriculaEnElGradoSiguienteYRepetirNoDuplica() {
+        matricular(List.of(alumnosPrimeroA.getFirst()), segundoA2027);
+
+        PromocionAnoEscolarResponse primera = esperarFin(promoverAnoEscolar.execute(request()).getId());
+
+        assertThat(primera.getEstado()).isEqualTo("COMPLETADA");
+        assertThat(primera.getCursosTotal()).isEqualTo(4);
+        assertThat(primera.getCursosProcesados()).isEqualTo(4);
+        // 1° B no tiene curso equivalente en 2027; 3° A egresa.
+        assertThat(primera.getCursosSinDestino()).isEqualTo(1);
+        assertThat(primera.getMatriculasCreadas()).isEqualTo(4);
+        assertThat(primera.getFechaMatricula()).isEqualTo("2027-03-01");
+        assertThat(activasEn(segundoA2027)).isEqualTo(3);
+        assertThat(activasEn(terceroA2027)).isEqualTo(2);
+
+        PromocionAnoEscolarResponse segunda = esperarFin(promoverAnoEscolar.execute(request()).getId());
+
+        assertThat(segunda.getEstado()).isEqualTo("COMPLETADA");
+        assertThat(segunda.getMatriculasCreadas()).isZero();
+        assertThat(activasEn(segundoA2027)).isEqualTo(3);
+    }
+
+    @Test
+    void reanudar_continuaDesdeElUltimoCursoProcesado() {
+        PromocionAnoEscolar fallida = promocionRepository.save(PromocionAnoEscolar.builder()
+            .anoOrigenId(ano2026.getId())
+            .anoDestinoId(ano2027.getId())
+            .estado(EstadoPromocion.FALLIDA)
+            .fechaMatricula(LocalDate.of(2027, 3, 1))
+            .cursosTotal(4)
+            .cursosProcesados(2)
+            .ultimoCursoOrigenId(primeroB2026.getId())
+            .ultimoError("conexion cerrada")
+            .build());
+
+        PromocionAnoEscolarResponse response = esperarFin(reanudarPromocionAnoEscolar.execute(fallida.getId()).getId());
+
+        // Orden del plan: 1° A, 1° B, 2° A, 3° A. Se retoma en 2° A.
+        assertThat(response.getEstado()).isEqualTo("COMPLETADA");
+        assertThat(response.getCursosProcesados()).isEqualTo(4);
+        assertThat(response.getMatriculasCreadas()).isEqualTo(2);
+        assertThat(activasEn(segundoA2027)).isZero();
+        assertThat(activasEn(terceroA2027)).isEqualTo(2);
+    }
+
+    @Test
+    void reanudar_conElUltimoCursoProcesadoDesactivado_noSaltaElSiguiente() {
+        primeroA2026.setActivo(false);
+        cursoRepository.save(primeroA2026);
+        PromocionAnoEscolar fallida = promocionRepository.save(PromocionAnoEscolar.builder()
+            .anoOrigenId(ano2026.getId())
+            .anoDestinoId(ano2027.getId())
+            .estado(EstadoPromocion.FALLIDA)
+            .fechaMatricula(LocalDate.of(2027, 3, 1))
+            .cursosTotal(4)
+            .cursosProcesados(1)
+            .ultimoCursoOrigenId(primeroA2026.getId())
+            .ultimoError("conexion cerrada")
+            .build());
+
+        PromocionAnoEscolarResponse response = esperarFin(reanudarPromocionAnoEscolar.execute(fallida.getId()).getId());
+
+        // El plan recalculado ya no incluye 1° A; se retoma en 1° B (sin destino), 2° A y 3° A.
+        assertThat(response.getEstado()).isEqualTo("COMPLETADA");
+        assertThat(response.getCursosProcesados()).isEqualTo(4);
+        assertThat(response.getCursosSinDestino()).isEqualTo(1);
+        assertThat(response.getMatriculasCreadas()).isEqualTo(2);
+        assertThat(activasEn(terceroA2027)).isEqualTo(2);
+    }
+
+    private PromocionAnoEscolarResponse esperarFin(UUID promocionId) {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+        while (true) {
+            PromocionAnoEscolarResponse actual = obtenerPromocionAnoEscolar.execute(promocionId);
+            boolean activa = actual.getEstado().equals("PENDIENTE") || actual.getEstado().equals("EN_CURSO");
+            if (!activa || System.currentTimeMillis() > limite) {
+                return actual;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return actual;
+            }
+        }
+    }
+
+    private PromocionAnoEscolarRequest request() {
+        return new PromocionAnoEscolarRequest(ano2026.getId(), ano2027.getId(), null);
+    }
+
+    private long activasEn(Curso curso) {
+        return matriculaRepository.findAll().stream()
+            .filter(m -> m.getCurso().getId().equals(curso.getId()) && m.getEstado() == EstadoMatricula.ACTIVA)
+            .count();
+    }
+
+    private void limpiar() {
+        promocionRepository.deleteAllInBatch();
+        matriculaRepository.deleteAllInBatch();
+        alumnoRepository.deleteAllInBatch();
+        cursoRepository.deleteAllInBatch();
+        gradoRepository.deleteAllInBatch();
+        anoEscolarRepository.deleteAllInBatch();
+    }
+
+    private static AnoEscolar ano(int ano) {
+        return AnoEscolar.builder()
+            .ano(ano)
+            .fechaInicioPlanificacion(LocalDate.of(ano - 1, 12, 1))
+            .fechaInicio(LocalDate.of(ano, 3, 1))
+            .fechaFin(LocalDate.of(ano, 12, 20))
+            .build();
+    }
+
+    private Curso curso(Grado grado, AnoEscolar ano, String letra) {
+        return cursoRepository.save(Curso.builder()
+            .nombre(grado.getNombre() + " " + letra)
+            .letra(letra)
+            .grado(grado)
+            .anoEscolar(ano)
+            .activo(true)
+            .build());
+    }
+
+    private List<Alumno> alumnos(int cantidad) {
+        return IntStream.range(0, cantidad).mapToObj(i -> alumno(true)).toList();
+    }
+
+    private Alumno alumno(boolean activo) {
+        int n = ++secuenciaRut;
+        return alumnoRepository.save(Alumno.builder()
+            .rut("2" + String.format("%07d", n) + "-" + (n % 10))
+            .nombre("Alumno")
+            .apellido("Prueba " + n)
+            .fechaNacimiento(LocalDate.of(2018, 1, 1))
+            .activo(activo)
+            .build());
+    }
+
+    private void matricular(List<Alumno> alumnos, Curso curso) {
+        alumnos.forEach(alumno -> matriculaRepository.save(Matricula.builder()
+            .alumno(alumno)
+            .curso(curso)
+            .anoEscolar(curso.getAnoEscolar())
+            .fechaMatricula(curso.getAnoEscolar().getFechaInicio())
+            .estado(EstadoMatricula.ACTIVA)
+            .build()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.schoolmate.api.usecase.matricula;
 
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.MatriculaRequest;
 import com.schoolmate.api.dto.response.MatriculaResponse;
@@ -46,6 +47,9 @@ class MatricularAlumnoTest {
     @Mock
     private ClockProvider clockProvider;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+
     @InjectMocks
     private MatricularAlumno useCase;
 
@@ -188,6 +192,7 @@ class MatricularAlumnoTest {
         assertThat(response.getGradoNombre()).isEqualTo("1° Básico");
 
         verify(matriculaRepository).save(any(Matricula.class));
+        verify(revisionAgregados).incrementar(RevisionAgregados.Agregado.MATRICULAS_CURSO, curso.getId());
     }
 
     @Test
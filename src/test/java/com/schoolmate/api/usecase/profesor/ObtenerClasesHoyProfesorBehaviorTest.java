@@ -1,12 +1,14 @@
 package com.schoolmate.api.usecase.profesor;
 
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.ClasesHoyResponse;
 import com.schoolmate.api.dto.response.EstadoClaseHoy;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.entity.BloqueHorario;
 import com.schoolmate.api.entity.Curso;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.entity.Grado;
 import com.schoolmate.api.entity.Materia;
 import com.schoolmate.api.entity.Profesor;
@@ -16,9 +18,7 @@ import com.schoolmate.api.enums.TipoBloque;
 import com.schoolmate.api.enums.TipoDiaNoLectivo;
 import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
-import com.schoolmate.api.repository.AnoEscolarRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import com.schoolmate.api.security.UserPrincipal;
 import org.junit.jupiter.api.Test;
@@ -31,7 +31,6 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,15 +45,13 @@ class ObtenerClasesHoyProfesorBehaviorTest {
     @Mock
     private ClockProvider clockProvider;
     @Mock
-    private AnoEscolarRepository anoEscolarRepository;
+    private CalendarioEscolar calendarioEscolar;
     @Mock
     private BloqueHorarioRepository bloqueHorarioRepository;
     @Mock
     private MatriculaRepository matriculaRepository;
     @Mock
     private AsistenciaClaseRepository asistenciaClaseRepository;
-    @Mock
-    private DiaNoLectivoRepository diaNoLectivoRepository;
 
     @InjectMocks
     private ObtenerClasesHoyProfesor useCase;
@@ -68,7 +65,7 @@ class ObtenerClasesHoyProfesorBehaviorTest {
 
         assertThat(response.getClases()).isEmpty();
         assertThat(response.getNombreDia()).isEqualTo("Sábado");
-        verifyNoInteractions(anoEscolarRepository, bloqueHorarioRepository, matriculaRepository, asistenciaClaseRepository);
+        verifyNoInteractions(calendarioEscolar, bloqueHorarioRepository, matriculaRepository, asistenciaClaseRepository);
     }
 
     @Test
@@ -105,8 +102,7 @@ class ObtenerClasesHoyProfesorBehaviorTest {
 
         when(clockProvider.today()).thenReturn(LocalDate.of(2026, 3, 4));
         when(clockProvider.now()).thenReturn(LocalDate.of(2026, 3, 4).atTime(10, 10));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.of(ano));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoId, LocalDate.of(2026, 3, 4))).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario(ano));
         when(bloqueHorarioRepository.findClasesProfesorEnDia(profesorId, 3, anoId)).thenReturn(List.of(bloque));
         when(matriculaRepository.countActivasByCursoIds(List.of(cursoId), EstadoMatricula.ACTIVA))
             .thenReturn(Collections.singletonList(new Object[]{cursoId, 25L}));
@@ -134,15 +130,8 @@ class ObtenerClasesHoyProfesorBehaviorTest {
             .build();
 
         when(clockProvider.today()).thenReturn(LocalDate.of(2026, 3, 4));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.of(ano));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoId, LocalDate.of(2026, 3, 4))).thenReturn(Optional.of(
-            DiaNoLectivo.builder()
-                .id(UUID.randomUUID())
-                .fecha(LocalDate.of(2026, 3, 4))
-                .tipo(TipoDiaNoLectivo.FERIADO_LEGAL)
-                .descripcion("Feriado comunal")
-                .build()
-        ));
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario(ano, new DiaNoLectivoCalendario(
+            UUID.randomUUID(), LocalDate.of(2026, 3, 4), TipoDiaNoLectivo.FERIADO_LEGAL, "Feriado comunal")));
         when(bloqueHorarioRepository.findClasesProfesorEnDia(profesorId, 3, anoId)).thenReturn(List.of());
 
         ClasesHoyResponse response = useCase.execute(principal, anoId);
@@ -203,8 +192,7 @@ class ObtenerClasesHoyProfesorBehaviorTest {
 
         when(clockProvider.today()).thenReturn(LocalDate.of(2026, 3, 4));
         when(clockProvider.now()).thenReturn(LocalDate.of(2026, 3, 4).atTime(9, 30));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.of(ano));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoId, LocalDate.of(2026, 3, 4))).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario(ano));
         when(bloqueHorarioRepository.findClasesProfesorEnDia(profesorId, 3, anoId)).thenReturn(List.of(pendiente, expirada));
         when(matriculaRepository.countActivasByCursoIds(List.of(cursoId), EstadoMatricula.ACTIVA))
             .thenReturn(Collections.singletonList(new Object[]{cursoId, 18L}));
@@ -232,13 +220,17 @@ class ObtenerClasesHoyProfesorBehaviorTest {
         UserPrincipal principal = principal(UUID.randomUUID());
 
         when(clockProvider.today()).thenReturn(LocalDate.of(2026, 3, 4));
-        when(anoEscolarRepository.findById(anoId)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoId)).thenThrow(new ResourceNotFoundException("Año escolar no encontrado"));
 
         assertThatThrownBy(() -> useCase.execute(principal, anoId))
             .isInstanceOf(ResourceNotFoundException.class)
             .hasMessage("Año escolar no encontrado");
 
-        verifyNoInteractions(diaNoLectivoRepository, bloqueHorarioRepository, matriculaRepository, asistenciaClaseRepository);
+        verifyNoInteractions(bloqueHorarioRepository, matriculaRepository, asistenciaClaseRepository);
+    }
+
+    private static CalendarioAnoEscolar calendario(AnoEscolar ano, DiaNoLectivoCalendario... diasNoLectivos) {
+        return CalendarioAnoEscolar.de(ano.getFechaInicio(), ano.getFechaFin(), List.of(diasNoLectivos));
     }
 
     private static UserPrincipal principal(UUID profesorId) {
@@ -1,12 +1,14 @@
 package com.schoolmate.api.usecase.profesor;
 
+import com.schoolmate.api.common.calendario.CalendarioAnoEscolar;
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.calendario.DiaNoLectivoCalendario;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.response.CumplimientoAsistenciaResponse;
 import com.schoolmate.api.entity.AsistenciaClase;
 import com.schoolmate.api.entity.AnoEscolar;
 import com.schoolmate.api.entity.BloqueHorario;
 import com.schoolmate.api.entity.Curso;
-import com.schoolmate.api.entity.DiaNoLectivo;
 import com.schoolmate.api.entity.Grado;
 import com.schoolmate.api.entity.Materia;
 import com.schoolmate.api.entity.Profesor;
@@ -17,7 +19,6 @@ import com.schoolmate.api.enums.TipoBloque;
 import com.schoolmate.api.enums.TipoDiaNoLectivo;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import com.schoolmate.api.repository.ProfesorRepository;
 import com.schoolmate.api.repository.RegistroAsistenciaRepository;
@@ -55,7 +56,7 @@ class ObtenerCumplimientoAsistenciaProfesorBehaviorTest {
     @Mock
     private MatriculaRepository matriculaRepository;
     @Mock
-    private DiaNoLectivoRepository diaNoLectivoRepository;
+    private CalendarioEscolar calendarioEscolar;
 
     @InjectMocks
     private ObtenerCumplimientoAsistenciaProfesor useCase;
@@ -110,7 +111,7 @@ class ObtenerCumplimientoAsistenciaProfesorBehaviorTest {
             .build();
 
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoId, LocalDate.of(2026, 3, 4))).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario());
         when(bloqueHorarioRepository.findBloquesClaseByProfesorAndDia(profesorId, 3, anoId)).thenReturn(List.of(bloque));
         when(asistenciaClaseRepository.findByBloqueIdsAndFecha(List.of(bloqueId), LocalDate.of(2026, 3, 4))).thenReturn(List.of(asistencia));
         when(registroAsistenciaRepository.countByEstadoGroupedByAsistenciaClaseId(List.of(asistenciaId)))
@@ -140,14 +141,8 @@ class ObtenerCumplimientoAsistenciaProfesorBehaviorTest {
 
         Profesor profesor = Profesor.builder().id(profesorId).nombre("Ana").apellido("Diaz").activo(true).build();
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoId, fecha)).thenReturn(Optional.of(
-            DiaNoLectivo.builder()
-                .id(UUID.randomUUID())
-                .fecha(fecha)
-                .tipo(TipoDiaNoLectivo.ADMINISTRATIVO)
-                .descripcion("Jornada administrativa")
-                .build()
-        ));
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario(new DiaNoLectivoCalendario(
+            UUID.randomUUID(), fecha, TipoDiaNoLectivo.ADMINISTRATIVO, "Jornada administrativa")));
         when(bloqueHorarioRepository.findBloquesClaseByProfesorAndDia(profesorId, 3, anoId)).thenReturn(List.of());
 
         CumplimientoAsistenciaResponse response = useCase.execute(profesorId, fecha, anoId);
@@ -220,7 +215,7 @@ class ObtenerCumplimientoAsistenciaProfesorBehaviorTest {
             .build();
 
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor));
-        when(diaNoLectivoRepository.findByAnoEscolarIdAndFecha(anoId, fecha)).thenReturn(Optional.empty());
+        when(calendarioEscolar.obtener(anoId)).thenReturn(calendario());
         when(bloqueHorarioRepository.findBloquesClaseByProfesorAndDia(profesorId, 3, anoId))
             .thenReturn(List.of(noTomada, enCurso, programada));
         when(asistenciaClaseRepository.findByBloqueIdsAndFecha(
@@ -242,4 +237,8 @@ class ObtenerCumplimientoAsistenciaProfesorBehaviorTest {
         assertThat(response.getBloques()).extracting(CumplimientoAsistenciaResponse.BloqueCumplimiento::getEstadoCumplimiento)
             .containsExactly(EstadoCumplimiento.NO_TOMADA, EstadoCumplimiento.EN_CURSO, EstadoCumplimiento.PROGRAMADA);
     }
+
+    private static CalendarioAnoEscolar calendario(DiaNoLectivoCalendario... diasNoLectivos) {
+        return CalendarioAnoEscolar.de(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15), List.of(diasNoLectivos));
+    }
 }
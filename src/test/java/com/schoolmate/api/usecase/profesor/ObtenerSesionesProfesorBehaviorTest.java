@@ -73,7 +73,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor(profesorId)));
         when(usuarioRepository.findByProfesorId(profesorId)).thenReturn(Optional.of(usuario(usuarioId)));
         when(sesionUsuarioRepository.findByUsuarioIdAndFechas(
-            eq(usuarioId), eq(false), any(LocalDateTime.class), eq(false), any(LocalDateTime.class), any(PageRequest.class)
+            eq(usuarioId), any(LocalDateTime.class), any(LocalDateTime.class), any(PageRequest.class)
         )).thenReturn(new PageImpl<>(List.of(), PageRequest.of(1, 10), 0));
 
         useCase.execute(profesorId, null, null, 1, 10);
@@ -82,9 +82,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         ArgumentCaptor<LocalDateTime> hastaCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
         verify(sesionUsuarioRepository).findByUsuarioIdAndFechas(
             eq(usuarioId),
-            eq(false),
             desdeCaptor.capture(),
-            eq(false),
             hastaCaptor.capture(),
             eq(PageRequest.of(1, 10))
         );
@@ -102,7 +100,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor(profesorId)));
         when(usuarioRepository.findByProfesorId(profesorId)).thenReturn(Optional.of(usuario(usuarioId)));
         when(sesionUsuarioRepository.findByUsuarioIdAndFechas(
-            eq(usuarioId), eq(true), any(LocalDateTime.class), eq(false), any(LocalDateTime.class), any(PageRequest.class)
+            eq(usuarioId), any(LocalDateTime.class), any(LocalDateTime.class), any(PageRequest.class)
         )).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
 
         useCase.execute(profesorId, desde, null, 0, 20);
@@ -111,9 +109,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         ArgumentCaptor<LocalDateTime> hastaCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
         verify(sesionUsuarioRepository).findByUsuarioIdAndFechas(
             eq(usuarioId),
-            eq(true),
             desdeCaptor.capture(),
-            eq(false),
             hastaCaptor.capture(),
             eq(PageRequest.of(0, 20))
         );
@@ -131,7 +127,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor(profesorId)));
         when(usuarioRepository.findByProfesorId(profesorId)).thenReturn(Optional.of(usuario(usuarioId)));
         when(sesionUsuarioRepository.findByUsuarioIdAndFechas(
-            eq(usuarioId), eq(false), any(LocalDateTime.class), eq(true), any(LocalDateTime.class), any(PageRequest.class)
+            eq(usuarioId), any(LocalDateTime.class), any(LocalDateTime.class), any(PageRequest.class)
         )).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
 
         useCase.execute(profesorId, null, hasta, 0, 20);
@@ -140,9 +136,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         ArgumentCaptor<LocalDateTime> hastaCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
         verify(sesionUsuarioRepository).findByUsuarioIdAndFechas(
             eq(usuarioId),
-            eq(false),
             desdeCaptor.capture(),
-            eq(true),
             hastaCaptor.capture(),
             eq(PageRequest.of(0, 20))
         );
@@ -170,7 +164,7 @@ class ObtenerSesionesProfesorBehaviorTest {
         when(profesorRepository.findById(profesorId)).thenReturn(Optional.of(profesor(profesorId)));
         when(usuarioRepository.findByProfesorId(profesorId)).thenReturn(Optional.of(usuario(usuarioId)));
         when(sesionUsuarioRepository.findByUsuarioIdAndFechas(
-            eq(usuarioId), eq(false), any(LocalDateTime.class), eq(false), any(LocalDateTime.class), any(PageRequest.class)
+            eq(usuarioId), any(LocalDateTime.class), any(LocalDateTime.class), any(PageRequest.class)
         )).thenReturn(new PageImpl<>(List.of(sesion), PageRequest.of(2, 5), 11));
 
         SesionProfesorPageResponse response = useCase.execute(profesorId, null, null, 2, 5);
@@ -1,5 +1,7 @@
 package com.schoolmate.api.usecase.profesor;
 
+import com.schoolmate.api.common.calendario.CalendarioEscolar;
+import com.schoolmate.api.common.revision.RevisionAgregados;
 import com.schoolmate.api.common.rut.RutValidationService;
 import com.schoolmate.api.common.time.ClockProvider;
 import com.schoolmate.api.dto.request.ProfesorRequest;
@@ -15,7 +17,6 @@ import com.schoolmate.api.exception.ResourceNotFoundException;
 import com.schoolmate.api.repository.AnoEscolarRepository;
 import com.schoolmate.api.repository.AsistenciaClaseRepository;
 import com.schoolmate.api.repository.BloqueHorarioRepository;
-import com.schoolmate.api.repository.DiaNoLectivoRepository;
 import com.schoolmate.api.repository.MateriaRepository;
 import com.schoolmate.api.repository.MatriculaRepository;
 import com.schoolmate.api.repository.ProfesorRepository;
@@ -71,12 +72,15 @@ class ProfesorUseCasesMissingTest {
     @Mock
     private AsistenciaClaseRepository asistenciaClaseRepository;
     @Mock
-    private DiaNoLectivoRepository diaNoLectivoRepository;
+    private CalendarioEscolar calendarioEscolar;
     @Mock
     private RegistroAsistenciaRepository registroAsistenciaRepository;
     @Mock
     private SesionUsuarioRepository sesionUsuarioRepository;
 
+    @Mock
+    private RevisionAgregados revisionAgregados;
+
     @InjectMocks
     private ActualizarProfesor actualizarProfesor;
     @InjectMocks